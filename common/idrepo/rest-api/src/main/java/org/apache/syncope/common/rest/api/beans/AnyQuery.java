@@ -23,6 +23,9 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.ws.rs.DefaultValue;
 import jakarta.ws.rs.QueryParam;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.commons.lang3.builder.EqualsBuilder;
 import org.apache.commons.lang3.builder.HashCodeBuilder;
@@ -60,6 +63,24 @@ public class AnyQuery extends AbstractQuery {
 
             return this;
         }
+
+        public Builder cursor(final String cursor) {
+            getInstance().setCursor(cursor);
+
+            return this;
+        }
+
+        public Builder fields(final Collection<String> fields) {
+            getInstance().getFields().addAll(fields);
+
+            return this;
+        }
+
+        public Builder plainAttrs(final Collection<String> plainAttrs) {
+            getInstance().getPlainAttrs().addAll(plainAttrs);
+
+            return this;
+        }
     }
 
     private String realm;
@@ -70,6 +91,12 @@ public class AnyQuery extends AbstractQuery {
 
     private String fiql;
 
+    private String cursor;
+
+    private List<String> fields = new ArrayList<>();
+
+    private List<String> plainAttrs = new ArrayList<>();
+
     @Parameter(name = JAXRSService.PARAM_REALM, description = "realms define a hierarchical security domain tree, "
             + "primarily meant for containing Users, Groups and Any Objects", schema =
             @Schema(implementation = String.class, defaultValue = SyncopeConstants.ROOT_REALM, externalDocs =
@@ -126,6 +153,45 @@ public class AnyQuery extends AbstractQuery {
         this.fiql = fiql;
     }
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_CURSOR, description = "opaque continuation token, as found in the next link "
+            + "of a previous search result: when provided, results are sorted by key and returned starting right "
+            + "after the last one of the previous result, irrespective of page and orderby; total count is not "
+            + "computed and reported as -1", schema =
+            @Schema(implementation = String.class))
+    @QueryParam(JAXRSService.PARAM_CURSOR)
+    public void setCursor(final String cursor) {
+        this.cursor = cursor;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_FIELDS, description = "when provided, only the given fields are read and "
+            + "returned, among key, realm, status, creator, creationDate, lastModifier, lastChangeDate and the ones "
+            + "specific to each any type, as username or name; details is ignored", schema =
+            @Schema(implementation = String.class))
+    public List<String> getFields() {
+        return fields;
+    }
+
+    @QueryParam(JAXRSService.PARAM_FIELDS)
+    public void setFields(final List<String> fields) {
+        this.fields = fields;
+    }
+
+    @Parameter(name = JAXRSService.PARAM_PLAIN_ATTRS, description = "when provided, only the plain attributes for "
+            + "the given schemas are read and returned, together with the requested fields; details is ignored",
+            schema = @Schema(implementation = String.class))
+    public List<String> getPlainAttrs() {
+        return plainAttrs;
+    }
+
+    @QueryParam(JAXRSService.PARAM_PLAIN_ATTRS)
+    public void setPlainAttrs(final List<String> plainAttrs) {
+        this.plainAttrs = plainAttrs;
+    }
+
     @Override
     public boolean equals(final Object obj) {
         if (this == obj) {
@@ -143,6 +209,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm, other.realm).
                 append(details, other.details).
                 append(fiql, other.fiql).
+                append(cursor, other.cursor).
+                append(fields, other.fields).
+                append(plainAttrs, other.plainAttrs).
                 build();
     }
 
@@ -153,6 +222,9 @@ public class AnyQuery extends AbstractQuery {
                 append(realm).
                 append(details).
                 append(fiql).
+                append(cursor).
+                append(fields).
+                append(plainAttrs).
                 build();
     }
 }
@@ -28,6 +28,12 @@ public interface JAXRSService {
 
     String PARAM_ORDERBY = "orderby";
 
+    String PARAM_CURSOR = "cursor";
+
+    String PARAM_FIELDS = "fields";
+
+    String PARAM_PLAIN_ATTRS = "plainAttrs";
+
     String PARAM_KEYWORD = "keyword";
 
     String PARAM_RESOURCE = "resource";
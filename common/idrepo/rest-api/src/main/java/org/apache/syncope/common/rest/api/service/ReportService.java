@@ -122,6 +122,7 @@ public interface ReportService extends ExecutableService {
 
     /**
      * Exports the report execution with matching key in the requested format.
+     * A single byte range can be requested via the {@code Range} HTTP header, to resume interrupted downloads.
      *
      * @param executionKey key of execution report to be selected
      * @return a stream for content download
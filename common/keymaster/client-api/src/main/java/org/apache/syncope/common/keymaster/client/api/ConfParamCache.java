@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.common.keymaster.client.api;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Node-local, read-through cache of configuration parameter values, for use by {@link ConfParamOps} implementations;
+ * entries are kept until invalidated or expired, whichever comes first.
+ */
+public class ConfParamCache {
+
+    protected record Key(String domain, String key) {
+
+    }
+
+    protected record Entry(JsonNode value, long expiresAt) {
+
+    }
+
+    protected final long ttlMillis;
+
+    protected final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    protected final AtomicLong version = new AtomicLong();
+
+    protected final LongAdder hits = new LongAdder();
+
+    protected final LongAdder misses = new LongAdder();
+
+    public ConfParamCache(final long ttlSeconds) {
+        this.ttlMillis = ttlSeconds * 1000;
+    }
+
+    public boolean isEnabled() {
+        return ttlMillis > 0;
+    }
+
+    /**
+     * Returns the cached value for the given parameter, or loads it - {@code null} meaning missing.
+     *
+     * @param domain domain
+     * @param key parameter key
+     * @param loader how to read the value from the underlying storage
+     * @return parameter value, or {@code null} if not found
+     */
+    public JsonNode get(final String domain, final String key, final Supplier<JsonNode> loader) {
+        if (!isEnabled()) {
+            return loader.get();
+        }
+
+        Key cacheKey = new Key(domain, key);
+        Entry entry = entries.get(cacheKey);
+        if (entry != null && entry.expiresAt() >= System.currentTimeMillis()) {
+            hits.increment();
+            return entry.value();
+        }
+
+        misses.increment();
+        long loadVersion = version.get();
+        JsonNode value = loader.get();
+
+        Entry loaded = new Entry(value, System.currentTimeMillis() + ttlMillis);
+        entries.put(cacheKey, loaded);
+        // do not keep what was loaded if anything was invalidated meanwhile
+        if (loadVersion != version.get()) {
+            entries.remove(cacheKey, loaded);
+        }
+
+        return value;
+    }
+
+    public void invalidate(final String domain, final String key) {
+        version.incrementAndGet();
+        entries.remove(new Key(domain, key));
+    }
+
+    public void invalidateAll() {
+        version.incrementAndGet();
+        entries.clear();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.syncope.common.keymaster.client.api;
 
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * Operations available for configuration parameters.
@@ -32,4 +33,11 @@ public interface ConfParamOps {
     <T> void set(String domain, String key, T value);
 
     void remove(String domain, String key);
+
+    /**
+     * @return the local cache used by this instance, if any
+     */
+    default Optional<ConfParamCache> getCache() {
+        return Optional.empty();
+    }
 }
@@ -35,6 +35,11 @@ public class KeymasterProperties {
 
     private boolean enableAutoRegistration = true;
 
+    /**
+     * How long, in seconds, configuration parameter values are cached locally; 0 disables caching.
+     */
+    private long confParamCacheSeconds = 60;
+
     public String getAddress() {
         return address;
     }
@@ -82,4 +87,12 @@ public class KeymasterProperties {
     public void setEnableAutoRegistration(final boolean enableAutoRegistration) {
         this.enableAutoRegistration = enableAutoRegistration;
     }
+
+    public long getConfParamCacheSeconds() {
+        return confParamCacheSeconds;
+    }
+
+    public void setConfParamCacheSeconds(final long confParamCacheSeconds) {
+        this.confParamCacheSeconds = confParamCacheSeconds;
+    }
 }
@@ -22,16 +22,23 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
 import org.apache.curator.framework.CuratorFramework;
+import org.apache.curator.framework.state.ConnectionState;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
 import org.apache.zookeeper.KeeperException;
+import org.apache.zookeeper.WatchedEvent;
+import org.apache.zookeeper.Watcher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
 
 /**
  * Implements {@link ConfParamOps} via Apache Curator / Zookeeper.
+ * Values read are cached locally and invalidated by Zookeeper watches; the whole cache is discarded upon any
+ * connection state change, as watches might have been lost meanwhile.
  */
 public class ZookeeperConfParamOps implements ConfParamOps {
 
@@ -43,12 +50,64 @@ public class ZookeeperConfParamOps implements ConfParamOps {
 
     protected final CuratorFramework client;
 
+    protected final ConfParamCache cache;
+
+    protected final Watcher watcher = this::invalidate;
+
     protected static String buildConfPath(final String... parts) {
         return CONF_PATH + '/' + String.join("/", parts);
     }
 
-    public ZookeeperConfParamOps(final CuratorFramework client) {
+    public ZookeeperConfParamOps(final CuratorFramework client, final ConfParamCache cache) {
         this.client = client;
+        this.cache = cache;
+
+        client.getConnectionStateListenable().addListener((c, newState) -> {
+            if (newState != ConnectionState.CONNECTED) {
+                LOG.debug("Connection state is now {}, invalidating cache", newState);
+                cache.invalidateAll();
+            }
+        });
+    }
+
+    protected void invalidate(final WatchedEvent event) {
+        if (event.getType() == Watcher.Event.EventType.None
+                || event.getPath() == null
+                || !event.getPath().startsWith(CONF_PATH + '/')) {
+
+            return;
+        }
+
+        String[] parts = event.getPath().substring(CONF_PATH.length() + 1).split("/", 2);
+        if (parts.length == 2) {
+            LOG.debug("Received {} for {}, invalidating cache", event.getType(), event.getPath());
+            cache.invalidate(parts[0], parts[1]);
+        }
+    }
+
+    protected JsonNode read(final String domain, final String key) {
+        String path = buildConfPath(domain, key);
+        try {
+            return MAPPER.readTree(client.getData().usingWatcher(watcher).forPath(path));
+        } catch (KeeperException.NoNodeException e) {
+            LOG.debug("Node {} was not found", path);
+        } catch (Exception e) {
+            throw new KeymasterException(e);
+        }
+
+        // watch for node creation, unless created meanwhile
+        try {
+            return client.checkExists().usingWatcher(watcher).forPath(path) == null
+                    ? null
+                    : MAPPER.readTree(client.getData().usingWatcher(watcher).forPath(path));
+        } catch (Exception e) {
+            throw new KeymasterException(e);
+        }
+    }
+
+    @Override
+    public Optional<ConfParamCache> getCache() {
+        return Optional.of(cache);
     }
 
     @Override
@@ -71,11 +130,14 @@ public class ZookeeperConfParamOps implements ConfParamOps {
 
     @Override
     public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
-        T value = null;
+        JsonNode node = cache.get(domain, key, () -> read(domain, key));
+        if (node == null) {
+            return defaultValue;
+        }
+
+        T value;
         try {
-            value = MAPPER.readValue(client.getData().forPath(buildConfPath(domain, key)), reference);
-        } catch (KeeperException.NoNodeException e) {
-            LOG.debug("Node {} was not found", buildConfPath(domain, key));
+            value = MAPPER.treeToValue(node, reference);
         } catch (Exception e) {
             throw new KeymasterException(e);
         }
@@ -96,6 +158,8 @@ public class ZookeeperConfParamOps implements ConfParamOps {
                 client.setData().forPath(buildConfPath(domain, key), MAPPER.writeValueAsBytes(value));
             } catch (Exception e) {
                 throw new KeymasterException(e);
+            } finally {
+                cache.invalidate(domain, key);
             }
         }
     }
@@ -106,6 +170,8 @@ public class ZookeeperConfParamOps implements ConfParamOps {
             client.delete().forPath(buildConfPath(domain, key));
         } catch (Exception e) {
             throw new KeymasterException(e);
+        } finally {
+            cache.invalidate(domain, key);
         }
     }
 }
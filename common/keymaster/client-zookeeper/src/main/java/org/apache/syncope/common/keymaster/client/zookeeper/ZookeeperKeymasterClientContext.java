@@ -28,6 +28,7 @@ import org.apache.curator.framework.CuratorFramework;
 import org.apache.curator.framework.CuratorFrameworkFactory;
 import org.apache.curator.framework.api.ACLProvider;
 import org.apache.curator.retry.ExponentialBackoffRetry;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.KeymasterProperties;
@@ -126,8 +127,8 @@ public class ZookeeperKeymasterClientContext {
 
     @Conditional(ZookeeperCondition.class)
     @Bean
-    public ConfParamOps selfConfParamOps(final CuratorFramework client) {
-        return new ZookeeperConfParamOps(client);
+    public ConfParamOps selfConfParamOps(final CuratorFramework client, final KeymasterProperties props) {
+        return new ZookeeperConfParamOps(client, new ConfParamCache(props.getConfParamCacheSeconds()));
     }
 
     @Conditional(ZookeeperCondition.class)
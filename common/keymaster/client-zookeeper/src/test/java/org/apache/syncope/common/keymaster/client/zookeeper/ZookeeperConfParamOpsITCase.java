@@ -28,6 +28,7 @@ import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import org.apache.curator.framework.CuratorFramework;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -41,6 +42,9 @@ public class ZookeeperConfParamOpsITCase {
     @Autowired
     private ConfParamOps confParamOps;
 
+    @Autowired
+    private CuratorFramework client;
+
     @Test
     public void list() {
         Map<String, Object> confParams = confParamOps.list(DOMAIN);
@@ -119,4 +123,28 @@ public class ZookeeperConfParamOpsITCase {
         assertNull(confParamOps.get(DOMAIN, key, null, String.class));
         assertEquals("defaultValue", confParamOps.get(DOMAIN, key, "defaultValue", String.class));
     }
+
+    @Test
+    public void cacheInvalidatedByExternalChange() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        confParamOps.set(DOMAIN, key, "before");
+        assertEquals("before", confParamOps.get(DOMAIN, key, null, String.class));
+        long hits = confParamOps.getCache().orElseThrow().getHits();
+        assertEquals("before", confParamOps.get(DOMAIN, key, null, String.class));
+        assertEquals(hits + 1, confParamOps.getCache().orElseThrow().getHits());
+
+        // change the value behind the back of confParamOps, as another node would do
+        client.setData().forPath(ZookeeperConfParamOps.buildConfPath(DOMAIN, key), "\"after\"".getBytes());
+
+        String value = null;
+        for (int i = 0; i < 50 && !"after".equals(value); i++) {
+            Thread.sleep(100);
+            value = confParamOps.get(DOMAIN, key, null, String.class);
+        }
+        assertEquals("after", value);
+
+        confParamOps.remove(DOMAIN, key);
+        assertNull(confParamOps.get(DOMAIN, key, null, String.class));
+    }
 }
@@ -26,6 +26,7 @@ import org.apache.syncope.core.logic.wa.ImpersonationLogic;
 import org.apache.syncope.core.logic.wa.MfaTrusStorageLogic;
 import org.apache.syncope.core.logic.wa.WAClientAppLogic;
 import org.apache.syncope.core.logic.wa.WAConfigLogic;
+import org.apache.syncope.core.logic.wa.WAPushClient;
 import org.apache.syncope.core.logic.wa.WebAuthnRegistrationLogic;
 import org.apache.syncope.core.persistence.api.dao.AttrRepoDAO;
 import org.apache.syncope.core.persistence.api.dao.AuthModuleDAO;
@@ -101,6 +102,12 @@ public class AMLogicContext {
         return new AuthProfileLogic(authProfileDataBinder, authProfileDAO, entityFactory);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public WAPushClient waPushClient(final ServiceOps serviceOps, final SecurityProperties securityProperties) {
+        return new WAPushClient(serviceOps, securityProperties);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public ClientAppLogic clientAppLogic(
@@ -109,7 +116,8 @@ public class AMLogicContext {
             final ClientAppDataBinder binder,
             final CASSPClientAppDAO casSPClientAppDAO,
             final OIDCRPClientAppDAO oidcRPClientAppDAO,
-            final SAML2SPClientAppDAO saml2SPClientAppDAO) {
+            final SAML2SPClientAppDAO saml2SPClientAppDAO,
+            final WAPushClient waPushClient) {
 
         return new ClientAppLogic(
                 serviceOps,
@@ -117,7 +125,8 @@ public class AMLogicContext {
                 binder,
                 casSPClientAppDAO,
                 oidcRPClientAppDAO,
-                saml2SPClientAppDAO);
+                saml2SPClientAppDAO,
+                waPushClient);
     }
 
     @ConditionalOnMissingBean
@@ -206,12 +215,11 @@ public class AMLogicContext {
     @ConditionalOnMissingBean
     @Bean
     public WAConfigLogic waConfigLogic(
-            final ServiceOps serviceOps,
-            final SecurityProperties securityProperties,
+            final WAPushClient waPushClient,
             final WAConfigDataBinder binder,
             final WAConfigDAO waConfigDAO) {
 
-        return new WAConfigLogic(serviceOps, binder, waConfigDAO, securityProperties);
+        return new WAConfigLogic(waPushClient, binder, waConfigDAO);
     }
 
     @ConditionalOnMissingBean
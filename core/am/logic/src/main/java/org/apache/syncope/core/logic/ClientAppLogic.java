@@ -22,12 +22,15 @@ import java.lang.reflect.Method;
 import java.util.List;
 import java.util.stream.Stream;
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.syncope.common.keymaster.client.api.KeymasterException;
 import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.to.ClientAppTO;
 import org.apache.syncope.common.lib.types.AMEntitlement;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.lib.types.ClientExceptionType;
+import org.apache.syncope.core.logic.wa.WAPushClient;
 import org.apache.syncope.core.persistence.api.dao.CASSPClientAppDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.OIDCRPClientAppDAO;
@@ -41,6 +44,8 @@ import org.apache.syncope.core.persistence.api.entity.am.SAML2SPClientApp;
 import org.apache.syncope.core.provisioning.api.data.ClientAppDataBinder;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
 
@@ -56,13 +61,16 @@ public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
 
     protected final SAML2SPClientAppDAO saml2SPClientAppDAO;
 
+    protected final WAPushClient waPushClient;
+
     public ClientAppLogic(
             final ServiceOps serviceOps,
             final ClientAppUtilsFactory clientAppUtilsFactory,
             final ClientAppDataBinder binder,
             final CASSPClientAppDAO casSPClientAppDAO,
             final OIDCRPClientAppDAO oidcRPClientAppDAO,
-            final SAML2SPClientAppDAO saml2SPClientAppDAO) {
+            final SAML2SPClientAppDAO saml2SPClientAppDAO,
+            final WAPushClient waPushClient) {
 
         this.serviceOps = serviceOps;
         this.clientAppUtilsFactory = clientAppUtilsFactory;
@@ -70,6 +78,37 @@ public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
         this.casSPClientAppDAO = casSPClientAppDAO;
         this.oidcRPClientAppDAO = oidcRPClientAppDAO;
         this.saml2SPClientAppDAO = saml2SPClientAppDAO;
+        this.waPushClient = waPushClient;
+    }
+
+    protected void pushToWA() {
+        List<NetworkService> instances;
+        try {
+            instances = waPushClient.instances();
+        } catch (KeymasterException e) {
+            LOG.debug("No WA instance to notify about client application changes", e);
+            return;
+        }
+
+        instances.forEach(wa -> waPushClient.registeredServices(wa.getAddress()));
+    }
+
+    /**
+     * Makes WA instances reload their registered services once the current transaction is committed, so that
+     * client application changes are seen without waiting for the next scheduled reload.
+     */
+    protected void notifyWA() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    pushToWA();
+                }
+            });
+        } else {
+            pushToWA();
+        }
     }
 
     @PreAuthorize("hasRole('" + AMEntitlement.CLIENTAPP_LIST + "')")
@@ -133,6 +172,7 @@ public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
     @PreAuthorize("hasRole('" + AMEntitlement.CLIENTAPP_CREATE + "')")
     public <T extends ClientAppTO> T create(final ClientAppType type, final ClientAppTO clientAppTO) {
         checkType(type, clientAppUtilsFactory.getInstance(clientAppTO));
+        notifyWA();
 
         switch (type) {
             case OIDCRP:
@@ -148,6 +188,7 @@ public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
     @PreAuthorize("hasRole('" + AMEntitlement.CLIENTAPP_UPDATE + "')")
     public <T extends ClientAppTO> T update(final ClientAppType type, final ClientAppTO clientAppTO) {
         checkType(type, clientAppUtilsFactory.getInstance(clientAppTO));
+        notifyWA();
 
         switch (type) {
             case OIDCRP:
@@ -203,6 +244,7 @@ public class ClientAppLogic extends AbstractTransactionalLogic<ClientAppTO> {
                 deleted = binder.getClientAppTO(saml2sp);
         }
 
+        notifyWA();
         return deleted;
     }
 
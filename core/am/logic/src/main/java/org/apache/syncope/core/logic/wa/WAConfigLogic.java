@@ -18,17 +18,10 @@
  */
 package org.apache.syncope.core.logic.wa;
 
-import jakarta.ws.rs.core.HttpHeaders;
 import java.lang.reflect.Method;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
 import java.util.List;
-import org.apache.commons.lang3.Strings;
-import org.apache.cxf.transport.http.auth.DefaultBasicAuthSupplier;
+import java.util.concurrent.CompletableFuture;
 import org.apache.syncope.common.keymaster.client.api.KeymasterException;
-import org.apache.syncope.common.keymaster.client.api.ServiceOps;
 import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.to.EntityTO;
@@ -40,31 +33,26 @@ import org.apache.syncope.core.logic.UnresolvedReferenceException;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.WAConfigDAO;
 import org.apache.syncope.core.provisioning.api.data.WAConfigDataBinder;
-import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.CollectionUtils;
 
 public class WAConfigLogic extends AbstractTransactionalLogic<EntityTO> {
 
-    protected final ServiceOps serviceOps;
+    protected final WAPushClient waPushClient;
 
     protected final WAConfigDataBinder binder;
 
     protected final WAConfigDAO waConfigDAO;
 
-    protected final SecurityProperties securityProperties;
-
     public WAConfigLogic(
-            final ServiceOps serviceOps,
+            final WAPushClient waPushClient,
             final WAConfigDataBinder binder,
-            final WAConfigDAO waConfigDAO,
-            final SecurityProperties securityProperties) {
+            final WAConfigDAO waConfigDAO) {
 
-        this.serviceOps = serviceOps;
+        this.waPushClient = waPushClient;
         this.binder = binder;
         this.waConfigDAO = waConfigDAO;
-        this.securityProperties = securityProperties;
     }
 
     @PreAuthorize("hasRole('" + AMEntitlement.WA_CONFIG_LIST + "') or hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
@@ -91,49 +79,22 @@ public class WAConfigLogic extends AbstractTransactionalLogic<EntityTO> {
         waConfigDAO.deleteById(key);
     }
 
-    protected void registeredServices(final HttpClient client, final String serviceAddress) {
-        String target = Strings.CS.appendIfMissing(serviceAddress, "/") + "actuator/registeredServices";
-        client.sendAsync(
-                HttpRequest.newBuilder(URI.create(target)).
-                        header(HttpHeaders.AUTHORIZATION, DefaultBasicAuthSupplier.getBasicAuthHeader(
-                                securityProperties.getAnonymousUser(), securityProperties.getAnonymousKey())).
-                        GET().build(),
-                HttpResponse.BodyHandlers.discarding()).
-                thenAcceptAsync(response -> LOG.info(
-                "Pushed to {} with HTTP status: {}", target, response.statusCode()));
-    }
-
-    protected void refresh(final HttpClient client, final String serviceAddress) {
-        String target = Strings.CS.appendIfMissing(serviceAddress, "/") + "actuator/refresh";
-        client.sendAsync(
-                HttpRequest.newBuilder(URI.create(target)).
-                        header(HttpHeaders.AUTHORIZATION, DefaultBasicAuthSupplier.getBasicAuthHeader(
-                                securityProperties.getAnonymousUser(), securityProperties.getAnonymousKey())).
-                        POST(HttpRequest.BodyPublishers.noBody()).build(),
-                HttpResponse.BodyHandlers.discarding()).
-                thenAcceptAsync(response -> LOG.info(
-                "Pushed to {} with HTTP status: {}", target, response.statusCode()));
-    }
-
     @PreAuthorize("hasRole('" + AMEntitlement.WA_CONFIG_PUSH + "')")
     public void pushToWA(final WAConfigService.PushSubject subject, final List<String> services) {
-        try (HttpClient client = HttpClient.newHttpClient()) {
-            serviceOps.list(NetworkService.Type.WA).stream().
-                    filter(wa -> CollectionUtils.isEmpty(services) || services.contains(wa.getAddress())).
-                    forEach(wa -> {
-                        switch (subject) {
-                            case clientApps:
-                                registeredServices(client, wa.getAddress());
-                                break;
-
-                            case conf:
-                            default:
-                                refresh(client, wa.getAddress());
-                        }
-                    });
+        List<NetworkService> instances;
+        try {
+            instances = waPushClient.instances();
         } catch (KeymasterException e) {
             throw new NotFoundException("Could not find any WA instance", e);
         }
+
+        CompletableFuture.allOf(instances.stream().
+                filter(wa -> CollectionUtils.isEmpty(services) || services.contains(wa.getAddress())).
+                map(wa -> subject == WAConfigService.PushSubject.clientApps
+                ? waPushClient.registeredServices(wa.getAddress())
+                : waPushClient.refresh(wa.getAddress())).
+                toArray(CompletableFuture[]::new)).
+                join();
     }
 
     @Override
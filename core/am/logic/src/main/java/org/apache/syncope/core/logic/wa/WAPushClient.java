@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.logic.wa;
+
+import jakarta.ws.rs.core.HttpHeaders;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import org.apache.commons.lang3.Strings;
+import org.apache.cxf.transport.http.auth.DefaultBasicAuthSupplier;
+import org.apache.syncope.common.keymaster.client.api.KeymasterException;
+import org.apache.syncope.common.keymaster.client.api.ServiceOps;
+import org.apache.syncope.common.keymaster.client.api.model.NetworkService;
+import org.apache.syncope.core.spring.security.SecurityProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+/**
+ * Asks WA instances to reload their registered services or configuration, via their actuator endpoints; a single
+ * HTTP client is shared by all requests and closed on shutdown.
+ */
+public class WAPushClient implements DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(WAPushClient.class);
+
+    protected final ServiceOps serviceOps;
+
+    protected final SecurityProperties securityProperties;
+
+    protected final HttpClient client = HttpClient.newHttpClient();
+
+    public WAPushClient(final ServiceOps serviceOps, final SecurityProperties securityProperties) {
+        this.serviceOps = serviceOps;
+        this.securityProperties = securityProperties;
+    }
+
+    /**
+     * @return WA instances currently registered
+     * @throws KeymasterException if no WA instance is registered
+     */
+    public List<NetworkService> instances() {
+        return serviceOps.list(NetworkService.Type.WA);
+    }
+
+    protected CompletableFuture<Void> send(final String serviceAddress, final String endpoint, final boolean post) {
+        String target = Strings.CS.appendIfMissing(serviceAddress, "/") + "actuator/" + endpoint;
+
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(target)).
+                header(HttpHeaders.AUTHORIZATION, DefaultBasicAuthSupplier.getBasicAuthHeader(
+                        securityProperties.getAnonymousUser(), securityProperties.getAnonymousKey()));
+        if (post) {
+            request.POST(HttpRequest.BodyPublishers.noBody());
+        } else {
+            request.GET();
+        }
+
+        return client.sendAsync(request.build(), HttpResponse.BodyHandlers.discarding()).
+                handle((response, error) -> {
+                    if (error == null) {
+                        LOG.info("Pushed to {} with HTTP status: {}", target, response.statusCode());
+                    } else {
+                        LOG.warn("Could not push to {}", target, error);
+                    }
+                    return null;
+                });
+    }
+
+    /**
+     * Makes the given WA instance reload its registered services.
+     *
+     * @param serviceAddress WA instance address
+     * @return completed once the WA instance has responded, never exceptionally
+     */
+    public CompletableFuture<Void> registeredServices(final String serviceAddress) {
+        return send(serviceAddress, "registeredServices", false);
+    }
+
+    /**
+     * Makes the given WA instance refresh its configuration.
+     *
+     * @param serviceAddress WA instance address
+     * @return completed once the WA instance has responded, never exceptionally
+     */
+    public CompletableFuture<Void> refresh(final String serviceAddress) {
+        return send(serviceAddress, "refresh", true);
+    }
+
+    @Override
+    public void destroy() {
+        client.close();
+    }
+}
@@ -18,10 +18,14 @@
  */
 package org.apache.syncope.core.logic;
 
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.SyncopeClientException;
 import org.apache.syncope.common.lib.request.AnyCR;
 import org.apache.syncope.common.lib.request.AnyObjectCR;
@@ -38,6 +42,9 @@ import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.CountedPageRequest;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.spring.implementation.ImplementationManager;
 import org.springframework.data.domain.Page;
@@ -52,6 +59,24 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
 
     protected static final String REST_CONTEXT = "REST";
 
+    /**
+     * Keyset slices are not counted, as a full count would cost as much as the deep offset paging they avoid; pages
+     * whose total was already counted by the caller are not counted again.
+     *
+     * @param pageable requested page
+     * @param counter computes the total count
+     * @return total count, or {@code -1} for keyset slices
+     */
+    protected static long count(final Pageable pageable, final LongSupplier counter) {
+        if (pageable instanceof KeysetPageRequest) {
+            return -1;
+        }
+        if (pageable instanceof CountedPageRequest counted) {
+            return counted.getTotal();
+        }
+        return counter.getAsLong();
+    }
+
     protected final RealmSearchDAO realmSearchDAO;
 
     protected final AnyTypeDAO anyTypeDAO;
@@ -225,6 +250,91 @@ public abstract class AbstractAnyLogic<TO extends AnyTO, C extends AnyCR, U exte
             boolean recursive,
             boolean details);
 
+    /**
+     * Counts the matches of the given search, without reading any of them.
+     *
+     * @param searchCond search condition
+     * @param realm base realm
+     * @param recursive whether to search in sub-realms too
+     * @return number of matching any objects
+     */
+    public abstract long count(SearchCond searchCond, String realm, boolean recursive);
+
+    /**
+     * Sets the given projected field, not shared by all any types, on the given TO.
+     *
+     * @param anyTO TO to fill
+     * @param field projected field
+     * @param value projected value
+     */
+    protected void setProjectedField(final TO anyTO, final String field, final Object value) {
+        // nothing to do by default
+    }
+
+    /**
+     * Fills the given (empty) TO with the values read by the given projection, without loading any entity.
+     *
+     * @param anyTO TO to fill
+     * @param projection projection row
+     * @return the given TO, filled
+     */
+    protected TO toTO(final TO anyTO, final AnyProjection projection) {
+        anyTO.setKey(projection.key());
+
+        projection.fields().forEach((field, value) -> {
+            switch (field) {
+                case "key" -> {
+                }
+
+                case "realm" ->
+                    anyTO.setRealm((String) value);
+
+                case "status" ->
+                    anyTO.setStatus((String) value);
+
+                case "creator" ->
+                    anyTO.setCreator((String) value);
+
+                case "creationDate" ->
+                    anyTO.setCreationDate((OffsetDateTime) value);
+
+                case "lastModifier" ->
+                    anyTO.setLastModifier((String) value);
+
+                case "lastChangeDate" ->
+                    anyTO.setLastChangeDate((OffsetDateTime) value);
+
+                default ->
+                    setProjectedField(anyTO, field, value);
+            }
+        });
+
+        projection.plainAttrs().forEach((schema, values) -> anyTO.getPlainAttrs().
+                add(new Attr.Builder(schema).values(values).build()));
+
+        return anyTO;
+    }
+
+    /**
+     * Same as {@link #search(SearchCond, Pageable, String, boolean, boolean)}, but only reading the given fields and
+     * plain attributes: the returned TOs are partially populated.
+     *
+     * @param searchCond search condition
+     * @param pageable page request
+     * @param realm base realm
+     * @param recursive whether to search in sub-realms too
+     * @param fields fields to read
+     * @param plainSchemas plain schemas whose attributes shall be read
+     * @return page of partially populated TOs
+     */
+    public abstract Page<TO> project(
+            SearchCond searchCond,
+            Pageable pageable,
+            String realm,
+            boolean recursive,
+            Collection<String> fields,
+            Collection<String> plainSchemas);
+
     public abstract ProvisioningResult<TO> update(U updateReq, boolean nullPriorityAsync);
 
     public abstract ProvisioningResult<TO> delete(String key, boolean nullPriorityAsync);
@@ -33,6 +33,7 @@ import org.apache.syncope.core.persistence.api.entity.AccessToken;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -48,16 +49,20 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
 
     protected final AccessTokenDAO accessTokenDAO;
 
+    protected final JWTAuthCache jwtAuthCache;
+
     public AccessTokenLogic(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
             final AccessTokenDataBinder binder,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final JWTAuthCache jwtAuthCache) {
 
         this.securityProperties = securityProperties;
         this.encryptorManager = encryptorManager;
         this.binder = binder;
         this.accessTokenDAO = accessTokenDAO;
+        this.jwtAuthCache = jwtAuthCache;
     }
 
     protected String getAuthorities() {
@@ -112,6 +117,7 @@ public class AccessTokenLogic extends AbstractTransactionalLogic<AccessTokenTO>
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ACCESS_TOKEN_DELETE + "')")
     public void delete(final String key) {
         accessTokenDAO.deleteById(key);
+        jwtAuthCache.evictToken(AuthContextUtils.getDomain(), key);
     }
 
     @Override
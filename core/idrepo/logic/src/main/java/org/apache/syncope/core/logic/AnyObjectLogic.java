@@ -123,7 +123,8 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
                 AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
                 realm);
 
-        long count = searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT));
 
         List<AnyObject> matching = searchDAO.search(
                 base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT);
@@ -134,6 +135,72 @@ public class AnyObjectLogic extends AbstractAnyLogic<AnyObjectTO, AnyObjectCR, A
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public long count(final SearchCond searchCond, final String realm, final boolean recursive) {
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        return searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT);
+    }
+
+    @Override
+    protected void setProjectedField(final AnyObjectTO anyObjectTO, final String field, final Object value) {
+        switch (field) {
+            case "name" ->
+                anyObjectTO.setName((String) value);
+
+            case "type" ->
+                anyObjectTO.setType((String) value);
+
+            default -> {
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Page<AnyObjectTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final Collection<String> plainSchemas) {
+
+        if (searchCond.hasAnyTypeCond() == null) {
+            throw new UnsupportedOperationException("Need to specify " + AnyType.class.getSimpleName());
+        }
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(AnyEntitlement.SEARCH.getFor(searchCond.hasAnyTypeCond())),
+                realm);
+
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, searchCond, AnyTypeKind.ANY_OBJECT));
+
+        List<AnyObjectTO> result = searchDAO.project(
+                base, recursive, authRealms, searchCond, pageable, AnyTypeKind.ANY_OBJECT, fields, plainSchemas).
+                stream().map(projection -> {
+                    AnyObjectTO anyObjectTO = new AnyObjectTO();
+                    anyObjectTO.setType(searchCond.hasAnyTypeCond());
+                    return toTO(anyObjectTO, projection);
+                }).toList();
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
     public ProvisioningResult<AnyObjectTO> create(final AnyObjectCR createReq, final boolean nullPriorityAsync) {
         BeforeResult<AnyObjectCR> before = beforeCreate(createReq);
 
@@ -131,6 +131,7 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         }
         audit.setActive(auditTO.isActive());
         auditConfDAO.save(audit);
+        auditManager.auditConfChanged(AuthContextUtils.getDomain());
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_DELETE + "')")
@@ -138,6 +139,7 @@ public class AuditLogic extends AbstractTransactionalLogic<AuditConfTO> {
         AuditConf audit = auditConfDAO.findById(key).
                 orElseThrow(() -> new NotFoundException("AuditConf " + key));
         auditConfDAO.delete(audit);
+        auditManager.auditConfChanged(AuthContextUtils.getDomain());
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.AUDIT_LIST + "') "
@@ -174,7 +174,8 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
 
         SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP);
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP));
 
         List<Group> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP);
@@ -185,6 +186,64 @@ public class GroupLogic extends AbstractAnyLogic<GroupTO, GroupCR, GroupUR> {
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public long count(final SearchCond searchCond, final String realm, final boolean recursive) {
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        return searchDAO.count(
+                base,
+                recursive,
+                authRealms,
+                searchCond == null ? searchDAO.getAllMatchingCond() : searchCond,
+                AnyTypeKind.GROUP);
+    }
+
+    @Override
+    protected void setProjectedField(final GroupTO groupTO, final String field, final Object value) {
+        if ("name".equals(field)) {
+            groupTO.setName((String) value);
+        }
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<GroupTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final Collection<String> plainSchemas) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.GROUP_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
+
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.GROUP));
+
+        List<GroupTO> result = searchDAO.project(
+                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.GROUP, fields, plainSchemas).
+                stream().map(projection -> {
+                    GroupTO groupTO = new GroupTO();
+                    groupTO.setType(AnyTypeKind.GROUP.name());
+                    return toTO(groupTO, projection);
+                }).toList();
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.GROUP_CREATE + "')")
     public ProvisioningResult<GroupTO> create(final GroupCR createReq, final boolean nullPriorityAsync) {
         BeforeResult<GroupCR> before = beforeCreate(createReq);
@@ -92,6 +92,7 @@ import org.apache.syncope.core.provisioning.api.propagation.PropagationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.api.rules.RuleProvider;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -146,9 +147,10 @@ public class IdRepoLogicContext {
             final AccessTokenDataBinder binder,
             final AccessTokenDAO accessTokenDAO,
             final SecurityProperties securityProperties,
-            final EncryptorManager encryptorManager) {
+            final EncryptorManager encryptorManager,
+            final JWTAuthCache jwtAuthCache) {
 
-        return new AccessTokenLogic(securityProperties, encryptorManager, binder, accessTokenDAO);
+        return new AccessTokenLogic(securityProperties, encryptorManager, binder, accessTokenDAO, jwtAuthCache);
     }
 
     @ConditionalOnMissingBean
@@ -319,9 +321,10 @@ public class IdRepoLogicContext {
             final JobManager jobManager,
             final JobStatusDAO jobStatusDAO,
             final SyncopeTaskScheduler scheduler,
-            final NotificationDAO notificationDAO) {
+            final NotificationDAO notificationDAO,
+            final NotificationManager notificationManager) {
 
-        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder);
+        return new NotificationLogic(jobManager, scheduler, jobStatusDAO, notificationDAO, binder, notificationManager);
     }
 
     @ConditionalOnMissingBean
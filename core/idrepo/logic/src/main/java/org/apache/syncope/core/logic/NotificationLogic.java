@@ -32,8 +32,10 @@ import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.provisioning.api.data.NotificationDataBinder;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
+import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.java.job.SyncopeTaskScheduler;
 import org.apache.syncope.core.provisioning.java.job.notification.NotificationJob;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,17 +45,21 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
     protected final NotificationDataBinder binder;
 
+    protected final NotificationManager notificationManager;
+
     public NotificationLogic(
             final JobManager jobManager,
             final SyncopeTaskScheduler scheduler,
             final JobStatusDAO jobStatusDAO,
             final NotificationDAO notificationDAO,
-            final NotificationDataBinder binder) {
+            final NotificationDataBinder binder,
+            final NotificationManager notificationManager) {
 
         super(jobManager, scheduler, jobStatusDAO);
 
         this.notificationDAO = notificationDAO;
         this.binder = binder;
+        this.notificationManager = notificationManager;
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.NOTIFICATION_READ + "')")
@@ -73,7 +79,10 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.NOTIFICATION_CREATE + "')")
     public NotificationTO create(final NotificationTO notificationTO) {
-        return binder.getNotificationTO(notificationDAO.save(binder.create(notificationTO)));
+        Notification notification = notificationDAO.save(binder.create(notificationTO));
+        notificationManager.notificationChanged(AuthContextUtils.getDomain());
+
+        return binder.getNotificationTO(notification);
     }
 
     @PreAuthorize("hasRole('" + IdRepoEntitlement.NOTIFICATION_UPDATE + "')")
@@ -83,6 +92,7 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
         binder.update(notification, notificationTO);
         notification = notificationDAO.save(notification);
+        notificationManager.notificationChanged(AuthContextUtils.getDomain());
 
         return binder.getNotificationTO(notification);
     }
@@ -94,6 +104,7 @@ public class NotificationLogic extends AbstractJobLogic<NotificationTO> {
 
         NotificationTO deleted = binder.getNotificationTO(notification);
         notificationDAO.deleteById(key);
+        notificationManager.notificationChanged(AuthContextUtils.getDomain());
         return deleted;
     }
 
@@ -26,6 +26,8 @@ import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
 import java.util.zip.ZipInputStream;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.Strings;
@@ -202,36 +204,130 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
                 + Strings.CS.removeStart(reportExec.getReport().getFileExt(), ".");
     }
 
-    @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
-    @Transactional(readOnly = true)
-    public void exportExecutionResult(
-            final OutputStream os,
-            final String executionKey) {
-
+    protected ReportExec findExportable(final String executionKey, final List<Integer> chunkLengths) {
         ReportExec reportExec = reportExecDAO.findById(executionKey).
                 orElseThrow(() -> new NotFoundException("ReportExec " + executionKey));
 
-        if (reportExec.getExecResult() == null || !ReportJob.Status.SUCCESS.name().equals(reportExec.getStatus())) {
+        chunkLengths.addAll(reportExecDAO.findResultChunkLengths(reportExec));
+        boolean noData = chunkLengths.isEmpty() && reportExec.getExecResult() == null;
+        if (noData || !ReportJob.Status.SUCCESS.name().equals(reportExec.getStatus())) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidReportExec);
-            sce.getElements().add(reportExec.getExecResult() == null
+            sce.getElements().add(noData
                     ? "No report data produced"
                     : "Report did not run successfully");
             throw sce;
         }
 
-        // streaming output from a compressed byte array stream
-        try (ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
-                ZipInputStream zis = new ZipInputStream(bais)) {
+        return reportExec;
+    }
+
+    /**
+     * Returns the size of the result of the given report execution, or {@code -1} when not known upfront,
+     * as for results stored by former versions, as a single compressed archive.
+     *
+     * @param executionKey report execution key
+     * @return size of the result of the given report execution, or {@code -1} if not known
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
+    @Transactional(readOnly = true)
+    public long getResultLength(final String executionKey) {
+        List<Integer> chunkLengths = new ArrayList<>();
+        findExportable(executionKey, chunkLengths);
 
-            // a single ZipEntry in the ZipInputStream
-            zis.getNextEntry();
+        return chunkLengths.isEmpty()
+                ? -1
+                : chunkLengths.stream().mapToLong(Integer::longValue).sum();
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
+    @Transactional(readOnly = true)
+    public void exportExecutionResult(
+            final OutputStream os,
+            final String executionKey) {
+
+        exportExecutionResult(os, executionKey, 0, -1);
+    }
 
-            zis.transferTo(os);
+    /**
+     * Streams the requested range of the result of the given report execution.
+     *
+     * @param os where to stream the result
+     * @param executionKey report execution key
+     * @param offset position of the first byte to stream
+     * @param length number of bytes to stream, {@code -1} to stream until the end
+     */
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_READ + "')")
+    @Transactional(readOnly = true)
+    public void exportExecutionResult(
+            final OutputStream os,
+            final String executionKey,
+            final long offset,
+            final long length) {
+
+        List<Integer> chunkLengths = new ArrayList<>();
+        ReportExec reportExec = findExportable(executionKey, chunkLengths);
+
+        long end = length < 0 ? Long.MAX_VALUE : offset + length;
+        try {
+            if (chunkLengths.isEmpty()) {
+                // streaming output from a compressed byte array stream
+                try (ByteArrayInputStream bais = new ByteArrayInputStream(reportExec.getExecResult());
+                        ZipInputStream zis = new ZipInputStream(bais)) {
+
+                    // a single ZipEntry in the ZipInputStream
+                    zis.getNextEntry();
+
+                    zis.skipNBytes(offset);
+                    byte[] buffer = new byte[8192];
+                    long remaining = end - offset;
+                    int read;
+                    while (remaining > 0
+                            && (read = zis.read(buffer, 0, (int) Math.min(buffer.length, remaining))) != -1) {
+
+                        os.write(buffer, 0, read);
+                        remaining -= read;
+                    }
+                }
+            } else {
+                // streaming output chunk by chunk, only inflating the ones overlapping the requested range
+                long position = 0;
+                for (int seq = 0; seq < chunkLengths.size() && position < end; seq++) {
+                    int chunkLength = chunkLengths.get(seq);
+                    if (position + chunkLength > offset) {
+                        byte[] chunk = inflate(
+                                reportExecDAO.findResultChunk(reportExec, seq).
+                                        orElseThrow(() -> new NotFoundException("ReportExec chunk")),
+                                chunkLength);
+
+                        int from = (int) Math.max(0, offset - position);
+                        int to = (int) Math.min(chunkLength, end - position);
+                        os.write(chunk, from, to - from);
+                    }
+                    position += chunkLength;
+                }
+            }
         } catch (Exception e) {
             LOG.error("While exporting content", e);
         }
     }
 
+    protected static byte[] inflate(final byte[] compressed, final int length) throws DataFormatException {
+        byte[] chunk = new byte[length];
+
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(compressed);
+            int inflated = 0;
+            while (inflated < length && !inflater.finished() && !inflater.needsInput()) {
+                inflated += inflater.inflate(chunk, inflated, length - inflated);
+            }
+        } finally {
+            inflater.end();
+        }
+
+        return chunk;
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.REPORT_DELETE + "')")
     public ReportTO delete(final String key) {
         Report report = reportDAO.findById(key).
@@ -239,6 +335,7 @@ public class ReportLogic extends AbstractExecutableLogic<ReportTO> {
 
         ReportTO deletedReport = binder.getReportTO(report);
         jobManager.unregister(report);
+        report.getExecs().forEach(reportExecDAO::deleteResultChunks);
         reportDAO.delete(report);
         return deletedReport;
     }
@@ -181,7 +181,8 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
 
         SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
 
-        long count = searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER);
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER));
 
         List<User> matching = searchDAO.search(
                 base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER);
@@ -192,6 +193,83 @@ public class UserLogic extends AbstractAnyLogic<UserTO, UserCR, UserUR> {
         return new SyncopePage<>(result, pageable, count);
     }
 
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public long count(final SearchCond searchCond, final String realm, final boolean recursive) {
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        return searchDAO.count(
+                base,
+                recursive,
+                authRealms,
+                searchCond == null ? searchDAO.getAllMatchingCond() : searchCond,
+                AnyTypeKind.USER);
+    }
+
+    @Override
+    protected void setProjectedField(final UserTO userTO, final String field, final Object value) {
+        switch (field) {
+            case "username" ->
+                userTO.setUsername((String) value);
+
+            case "failedLogins" ->
+                userTO.setFailedLogins((Integer) value);
+
+            case "lastLoginDate" ->
+                userTO.setLastLoginDate((OffsetDateTime) value);
+
+            case "changePwdDate" ->
+                userTO.setChangePwdDate((OffsetDateTime) value);
+
+            case "suspended" ->
+                userTO.setSuspended(Boolean.TRUE.equals(value));
+
+            case "mustChangePassword" ->
+                userTO.setMustChangePassword(Boolean.TRUE.equals(value));
+
+            default -> {
+            }
+        }
+    }
+
+    @PreAuthorize("hasRole('" + IdRepoEntitlement.USER_SEARCH + "')")
+    @Transactional(readOnly = true)
+    @Override
+    public Page<UserTO> project(
+            final SearchCond searchCond,
+            final Pageable pageable,
+            final String realm,
+            final boolean recursive,
+            final Collection<String> fields,
+            final Collection<String> plainSchemas) {
+
+        Realm base = realmSearchDAO.findByFullPath(realm).
+                orElseThrow(() -> new NotFoundException("Realm " + realm));
+
+        Set<String> authRealms = RealmUtils.getEffective(
+                AuthContextUtils.getAuthorizations().get(IdRepoEntitlement.USER_SEARCH), realm);
+
+        SearchCond effectiveCond = searchCond == null ? searchDAO.getAllMatchingCond() : searchCond;
+
+        long count = count(
+                pageable, () -> searchDAO.count(base, recursive, authRealms, effectiveCond, AnyTypeKind.USER));
+
+        List<UserTO> result = searchDAO.project(
+                base, recursive, authRealms, effectiveCond, pageable, AnyTypeKind.USER, fields, plainSchemas).
+                stream().map(projection -> {
+                    UserTO userTO = new UserTO();
+                    userTO.setType(AnyTypeKind.USER.name());
+                    return toTO(userTO, projection);
+                }).toList();
+
+        return new SyncopePage<>(result, pageable, count);
+    }
+
     @PreAuthorize("hasRole('" + IdRepoEntitlement.ANONYMOUS + "')")
     public ProvisioningResult<UserTO> selfCreate(final UserCR createReq, final boolean nullPriorityAsync) {
         return doCreate(createReq, true, nullPriorityAsync);
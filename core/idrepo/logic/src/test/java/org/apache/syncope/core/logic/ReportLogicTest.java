@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.logic;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -97,6 +98,16 @@ public class ReportLogicTest extends AbstractTest {
         os.close();
         byte[] entity = os.toByteArray();
         assertTrue(entity.length > 0);
+        assertEquals(entity.length, logic.getResultLength(execKey));
+    }
+
+    private void checkExportRange(final String execKey) throws IOException {
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+
+        logic.exportExecutionResult(os, execKey, 1, 2);
+
+        os.close();
+        assertEquals("es", os.toString());
     }
 
     @Test
@@ -124,5 +135,6 @@ public class ReportLogicTest extends AbstractTest {
         String execKey = report.getExecutions().getFirst().getKey();
 
         checkExport(execKey);
+        checkExportRange(execKey);
     }
 }
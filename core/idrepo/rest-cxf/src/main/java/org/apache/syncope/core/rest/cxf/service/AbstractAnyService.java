@@ -20,7 +20,10 @@ package org.apache.syncope.core.rest.cxf.service;
 
 import jakarta.ws.rs.BadRequestException;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import java.nio.charset.StandardCharsets;
 import java.time.OffsetDateTime;
+import java.util.Base64;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -55,9 +58,11 @@ import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR extends AnyUR>
         extends AbstractSearchService<AnySearchCondVisitor>
@@ -120,13 +125,30 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
                 ? null
                 : getSearchCond(anyQuery.getFiql());
         try {
-            Page<TO> result = getAnyLogic().search(
-                    searchCond,
-                    pageable(anyQuery),
-                    realm,
-                    anyQuery.getRecursive(),
-                    anyQuery.getDetails());
-            return buildPagedResult(result);
+            Pageable pageable = anyQuery.getCursor() == null
+                    ? pageable(anyQuery)
+                    : KeysetPageRequest.of(decodeCursor(anyQuery.getCursor()), anyQuery.getSize());
+
+            List<String> fields = Optional.ofNullable(anyQuery.getFields()).orElseGet(List::of);
+            List<String> plainAttrs = Optional.ofNullable(anyQuery.getPlainAttrs()).orElseGet(List::of);
+
+            // only read what was asked for, when fields or plain attributes are explicitly requested
+            Page<TO> result = fields.isEmpty() && plainAttrs.isEmpty()
+                    ? getAnyLogic().search(
+                            searchCond,
+                            pageable,
+                            realm,
+                            anyQuery.getRecursive(),
+                            anyQuery.getDetails())
+                    : getAnyLogic().project(
+                            searchCond,
+                            pageable,
+                            realm,
+                            anyQuery.getRecursive(),
+                            fields,
+                            plainAttrs);
+
+            return anyQuery.getCursor() == null ? buildPagedResult(result) : buildKeysetPagedResult(result);
         } catch (IllegalArgumentException e) {
             SyncopeClientException sce = SyncopeClientException.build(ClientExceptionType.InvalidSearchParameters);
             sce.getElements().add(anyQuery.getFiql());
@@ -135,6 +157,45 @@ public abstract class AbstractAnyService<TO extends AnyTO, CR extends AnyCR, UR
         }
     }
 
+    protected static String encodeCursor(final String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    protected static String decodeCursor(final String cursor) {
+        if (StringUtils.isBlank(cursor)) {
+            return null;
+        }
+
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    protected PagedResult<TO> buildKeysetPagedResult(final Page<TO> page) {
+        PagedResult<TO> result = new PagedResult<>();
+        result.getResult().addAll(page.get().toList());
+
+        result.setPage(1);
+        result.setSize(result.getResult().size());
+        result.setTotalCount(page.getTotalElements());
+
+        // a full slice means that there might be more: point to the slice right after the last key returned
+        if (!result.getResult().isEmpty() && result.getSize() == page.getSize()) {
+            UriBuilder builder = uriInfo.getAbsolutePathBuilder();
+            uriInfo.getQueryParameters().forEach((key, value) -> builder.queryParam(key, value.toArray()));
+
+            result.setNext(builder.
+                    replaceQueryParam(PARAM_PAGE).
+                    replaceQueryParam(PARAM_SIZE, page.getSize()).
+                    replaceQueryParam(PARAM_CURSOR, encodeCursor(result.getResult().getLast().getKey())).
+                    build());
+        }
+
+        return result;
+    }
+
     protected OffsetDateTime findLastChange(final String key) {
         return getAnyDAO().findLastChange(key).
                 orElseThrow(() -> new NotFoundException("User, Group or Any Object for " + key));
@@ -23,6 +23,9 @@ import jakarta.ws.rs.core.Response;
 import jakarta.ws.rs.core.StreamingOutput;
 import java.net.URI;
 import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import org.apache.syncope.common.lib.to.ReportTO;
 import org.apache.syncope.common.rest.api.RESTHeaders;
 import org.apache.syncope.common.rest.api.service.ReportService;
@@ -31,6 +34,14 @@ import org.apache.syncope.core.logic.ReportLogic;
 
 public class ReportServiceImpl extends AbstractExecutableService implements ReportService {
 
+    protected static final String RANGE = "Range";
+
+    protected static final String ACCEPT_RANGES = "Accept-Ranges";
+
+    protected static final String CONTENT_RANGE = "Content-Range";
+
+    protected static final Pattern BYTE_RANGE = Pattern.compile("^bytes=(\\d{0,18})-(\\d{0,18})$");
+
     protected final ReportLogic logic;
 
     public ReportServiceImpl(final ReportLogic logic) {
@@ -69,9 +80,43 @@ public class ReportServiceImpl extends AbstractExecutableService implements Repo
     @Override
     public Response exportExecutionResult(final String executionKey) {
         String filename = logic.getFilename(executionKey);
-        StreamingOutput sout = os -> logic.exportExecutionResult(os, executionKey);
+        long length = logic.getResultLength(executionKey);
+
+        Response.ResponseBuilder builder;
+        Matcher range = Optional.ofNullable(messageContext.getHttpServletRequest().getHeader(RANGE)).
+                filter(header -> length >= 0).
+                map(header -> BYTE_RANGE.matcher(header.trim())).
+                filter(matcher -> matcher.matches() && !(matcher.group(1).isEmpty() && matcher.group(2).isEmpty())).
+                orElse(null);
+        if (range == null) {
+            StreamingOutput sout = os -> logic.exportExecutionResult(os, executionKey);
+            builder = Response.ok(sout);
+            if (length >= 0) {
+                builder.header(ACCEPT_RANGES, "bytes").header(HttpHeaders.CONTENT_LENGTH, length);
+            }
+        } else {
+            // a single range is supported: first-last, first- or -suffix
+            long first = range.group(1).isEmpty()
+                    ? Math.max(0, length - Long.parseLong(range.group(2)))
+                    : Long.parseLong(range.group(1));
+            long last = range.group(1).isEmpty() || range.group(2).isEmpty()
+                    ? length - 1
+                    : Math.min(Long.parseLong(range.group(2)), length - 1);
+
+            if (first > last) {
+                return Response.status(Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE).
+                        header(CONTENT_RANGE, "bytes */" + length).
+                        build();
+            }
+
+            StreamingOutput sout = os -> logic.exportExecutionResult(os, executionKey, first, last - first + 1);
+            builder = Response.status(Response.Status.PARTIAL_CONTENT).entity(sout).
+                    header(ACCEPT_RANGES, "bytes").
+                    header(CONTENT_RANGE, "bytes " + first + '-' + last + '/' + length).
+                    header(HttpHeaders.CONTENT_LENGTH, last - first + 1);
+        }
 
-        return Response.ok(sout).
+        return builder.
                 header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename).
                 build();
     }
@@ -19,6 +19,7 @@
 package org.apache.syncope.core.provisioning.java.propagation;
 
 import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import java.util.Collection;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
@@ -33,6 +34,7 @@ import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.springframework.context.ApplicationEventPublisher;
@@ -57,14 +59,35 @@ public class InstrumentedPriorityPropagationTaskExecutor extends PriorityPropaga
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
             final AsyncTaskExecutor taskExecutor,
+            final int batchSize,
+            final PropagationBulkheadProperties bulkheadProperties,
+            final boolean coalescing,
             final MeterRegistry meterRegistry) {
 
         super(connectorManager, connObjectUtils, taskDAO, resourceDAO, plainSchemaDAO, notificationManager,
                 auditManager, taskDataBinder, anyUtilsFactory, taskUtilsFactory, outboundMatcher, validator, publisher,
-                taskExecutor);
+                taskExecutor, batchSize, bulkheadProperties, coalescing);
         this.meterRegistry = meterRegistry;
     }
 
+    @Override
+    protected PropagationBulkhead newBulkhead(final String domain, final String resource) {
+        PropagationBulkhead bulkhead = super.newBulkhead(domain, resource);
+
+        Gauge.builder("syncope.propagation.inflight", bulkhead, PropagationBulkhead::getInFlight).
+                description("The number of propagation batches currently running").
+                tag("domain", domain).
+                tag("resource", resource).
+                register(meterRegistry);
+        Gauge.builder("syncope.propagation.queued", bulkhead, PropagationBulkhead::getQueued).
+                description("The number of propagations currently waiting to be executed").
+                tag("domain", domain).
+                tag("resource", resource).
+                register(meterRegistry);
+
+        return bulkhead;
+    }
+
     @Override
     public PropagationReporter execute(
             final Collection<PropagationTaskInfo> taskInfos,
@@ -88,12 +88,13 @@ public class InstrumentedAuthDataAccessor extends AuthDataAccessor {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final JWTAuthCache jwtAuthCache,
             final List<JWTSSOProvider> jwtSSOProviders,
             final MeterRegistry meterRegistry) {
 
         super(securityProperties, encryptorManager, realmSearchDAO, userDAO, groupDAO, anySearchDAO, accessTokenDAO,
                 confParamOps, roleDAO, delegationDAO, resourceDAO, connectorManager, auditManager, mappingManager,
-                jwtSSOProviders);
+                jwtAuthCache, jwtSSOProviders);
         this.meterRegistry = meterRegistry;
     }
 
@@ -133,23 +134,32 @@ public class InstrumentedAuthDataAccessor extends AuthDataAccessor {
         }
     }
 
+    protected void countJWT(final JWTAuthResult result) {
+        if (MUST_CHANGE_PASSWORD_AUTHORITIES.equals(result.authorities())) {
+            Counter.builder(JWT.apply(MUST_CHANGE_PASSWORD_TYPE)).
+                    description(MUST_CHANGE_PASSWORD_DESC.apply("JWT")).
+                    register(meterRegistry).
+                    increment();
+        } else {
+            Counter.builder(JWT.apply(SUCCESS_TYPE)).
+                    description(SUCCESS_DESC.apply("JWT")).
+                    register(meterRegistry).
+                    increment();
+        }
+    }
+
+    @Override
+    public Optional<JWTAuthResult> authenticateCached(final JWTAuthentication authentication) {
+        Optional<JWTAuthResult> result = super.authenticateCached(authentication);
+        result.ifPresent(this::countJWT);
+        return result;
+    }
+
     @Override
     public JWTAuthResult authenticate(final JWTAuthentication authentication) {
         try {
             JWTAuthResult result = super.authenticate(authentication);
-
-            if (MUST_CHANGE_PASSWORD_AUTHORITIES.equals(result.authorities())) {
-                Counter.builder(JWT.apply(MUST_CHANGE_PASSWORD_TYPE)).
-                        description(MUST_CHANGE_PASSWORD_DESC.apply("JWT")).
-                        register(meterRegistry).
-                        increment();
-            } else {
-                Counter.builder(JWT.apply(SUCCESS_TYPE)).
-                        description(SUCCESS_DESC.apply("JWT")).
-                        register(meterRegistry).
-                        increment();
-            }
-
+            countJWT(result);
             return result;
         } catch (AuthenticationCredentialsNotFoundException e) {
             Counter.builder(JWT.apply(NOT_FOUND_TYPE)).
@@ -18,7 +18,12 @@
  */
 package org.apache.syncope.core.starter;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import org.apache.cxf.metrics.MetricsFeature;
 import org.apache.cxf.metrics.MetricsProvider;
@@ -30,7 +35,9 @@ import org.apache.cxf.metrics.micrometer.provider.StandardTags;
 import org.apache.cxf.metrics.micrometer.provider.StandardTagsProvider;
 import org.apache.cxf.metrics.micrometer.provider.jaxrs.JaxrsOperationTagsCustomizer;
 import org.apache.cxf.metrics.micrometer.provider.jaxrs.JaxrsTags;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.EncryptorManager;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AccessTokenDAO;
@@ -38,6 +45,7 @@ import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
 import org.apache.syncope.core.persistence.api.dao.DelegationDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RoleDAO;
@@ -51,11 +59,15 @@ import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.data.TaskDataBinder;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskExecutor;
+import org.apache.syncope.core.provisioning.java.DefaultAuditManager;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.provisioning.java.propagation.InstrumentedPriorityPropagationTaskExecutor;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.AuthDataAccessor;
 import org.apache.syncope.core.spring.security.InstrumentedAuthDataAccessor;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.JWTSSOProvider;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.springframework.beans.factory.annotation.Qualifier;
@@ -98,6 +110,7 @@ public class MetricsContext {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final JWTAuthCache jwtAuthCache,
             final List<JWTSSOProvider> jwtSSOProviders,
             final MeterRegistry meterRegistry) {
 
@@ -116,10 +129,59 @@ public class MetricsContext {
                 connectorManager,
                 auditManager,
                 mappingManager,
+                jwtAuthCache,
                 jwtSSOProviders,
                 meterRegistry);
     }
 
+    @ConditionalOnMissingBean(name = "auditManagerMetrics")
+    @Bean
+    public MeterBinder auditManagerMetrics(final AuditManager auditManager) {
+        return meterRegistry -> {
+            if (auditManager instanceof DefaultAuditManager defaultAuditManager) {
+                Gauge.builder("syncope.audit.buffered", defaultAuditManager, DefaultAuditManager::getBuffered).
+                        description("The number of audit events currently waiting to be written").
+                        register(meterRegistry);
+                FunctionCounter.builder("syncope.audit.dropped", defaultAuditManager, DefaultAuditManager::getDropped).
+                        description("The total number of audit events discarded because of full buffer").
+                        register(meterRegistry);
+            }
+        };
+    }
+
+    @ConditionalOnMissingBean(name = "confParamOpsMetrics")
+    @Bean
+    public MeterBinder confParamOpsMetrics(final ConfParamOps confParamOps) {
+        return meterRegistry -> confParamOps.getCache().ifPresent(cache -> {
+            FunctionCounter.builder("syncope.confparam.cache.hits", cache, ConfParamCache::getHits).
+                    description("The total number of configuration parameter reads served by local cache").
+                    register(meterRegistry);
+            FunctionCounter.builder("syncope.confparam.cache.misses", cache, ConfParamCache::getMisses).
+                    description("The total number of configuration parameter reads not served by local cache").
+                    register(meterRegistry);
+        });
+    }
+
+    @ConditionalOnMissingBean(name = "indexOutboxMetrics")
+    @Bean
+    public MeterBinder indexOutboxMetrics(final IndexOutboxDAO indexOutboxDAO, final DomainHolder<?> domainHolder) {
+        return meterRegistry -> domainHolder.getDomains().keySet().forEach(domain -> {
+            Gauge.builder("syncope.index.outbox.pending", () -> AuthContextUtils.callAsAdmin(
+                    domain, indexOutboxDAO::count)).
+                    description("The number of index operations waiting to be sent to the external search engine").
+                    tag("domain", domain).
+                    register(meterRegistry);
+            Gauge.builder("syncope.index.outbox.lag", () -> AuthContextUtils.callAsAdmin(
+                    domain, () -> indexOutboxDAO.findOldestCreationDate().
+                            map(oldest -> oldest.until(OffsetDateTime.now(), ChronoUnit.MILLIS)).
+                            orElse(0L))).
+                    description("The age of the oldest index operation waiting to be sent, in milliseconds").
+                    tag("domain", domain).
+                    baseUnit("milliseconds").
+                    register(meterRegistry);
+        });
+    }
+
     @ConditionalOnMissingBean(name = "instrumentedPropagationTaskExecutor")
     @Bean(name = { "propagationTaskExecutor", "instrumentedPropagationTaskExecutor" })
     public PropagationTaskExecutor propagationTaskExecutor(
@@ -138,6 +200,7 @@ public class MetricsContext {
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
+            final ProvisioningProperties provisioningProperties,
             final MeterRegistry meterRegistry) {
 
         return new InstrumentedPriorityPropagationTaskExecutor(
@@ -155,6 +218,9 @@ public class MetricsContext {
                 validator,
                 publisher,
                 propagationTaskExecutorAsyncExecutor,
+                provisioningProperties.getPropagationBatchSize(),
+                provisioningProperties.getPropagationBulkhead(),
+                provisioningProperties.isPropagationCoalescing(),
                 meterRegistry);
     }
 }
@@ -46,6 +46,36 @@ public interface AnyDAO<A extends Any> extends DAO<A> {
 
     Page<? extends A> findAll(Pageable pageable);
 
+    /**
+     * Keyset pagination over all keys, in ascending order: allows to scan disjoint key ranges concurrently.
+     *
+     * @param after lower bound (exclusive), null for no lower bound
+     * @param before upper bound (exclusive), null for no upper bound
+     * @param size maximum number of keys to return
+     * @return keys strictly between the given bounds
+     */
+    List<String> findKeys(String after, String before, int size);
+
+    /**
+     * Offset pagination over all keys, in ascending order: allows to split all keys in ranges of about the same size,
+     * whatever their distribution.
+     *
+     * @param offset position of the first key to return, starting from 0
+     * @param size maximum number of keys to return
+     * @return keys starting at the given position
+     */
+    List<String> findKeysAt(int offset, int size);
+
+    /**
+     * Keyset pagination over the keys of entities created or changed since the given instant, in ascending order.
+     *
+     * @param since lower bound (inclusive) for creation or last change date
+     * @param after key of the last entity returned by the previous slice, null to start from the beginning
+     * @param size maximum number of keys to return
+     * @return keys of entities created or changed since the given instant
+     */
+    List<String> findKeysChangedSince(OffsetDateTime since, String after, int size);
+
     /**
      * @return the search condition to match all entities
      */
@@ -18,6 +18,7 @@
  */
 package org.apache.syncope.core.persistence.api.dao;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -26,6 +27,7 @@ import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -100,6 +102,53 @@ public interface AnySearchDAO {
             Pageable pageable,
             AnyTypeKind kind);
 
+    /**
+     * Keyset (seek) pagination: results are sorted by key and returned starting right after the given key, so that
+     * each slice costs the same irrespective of its position in the whole result set.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param after key of the last any object returned by the previous slice, null to start from the beginning
+     * @param size maximum number of results to return
+     * @param kind any type kind
+     * @param <T> any
+     * @return the list of any objects matching the given search condition, whose key follows the given one
+     */
+    <T extends Any> List<T> search(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            String after,
+            int size,
+            AnyTypeKind kind);
+
+    /**
+     * Same as {@link #search(Realm, boolean, Set, SearchCond, Pageable, AnyTypeKind)} but only reads the given fields
+     * and plain attributes of matching any objects, where possible without loading entities at all.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition the search condition
+     * @param pageable paging information
+     * @param kind any type kind
+     * @param fields fields to read, see {@link AnyProjection#isProjectable(AnyTypeKind, String)}
+     * @param plainSchemas plain schemas to read values for
+     * @return the projections of any objects matching the given search condition (in the given page)
+     */
+    List<AnyProjection> project(
+            Realm base,
+            boolean recursive,
+            Set<String> adminRealms,
+            SearchCond searchCondition,
+            Pageable pageable,
+            AnyTypeKind kind,
+            Collection<String> fields,
+            Collection<String> plainSchemas);
+
     /**
      * @return the search condition to match all entities
      */
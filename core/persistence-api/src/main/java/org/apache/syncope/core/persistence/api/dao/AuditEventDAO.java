@@ -29,6 +29,10 @@ public interface AuditEventDAO {
 
     AuditEvent save(AuditEvent auditEvent);
 
+    default void saveAll(List<AuditEvent> auditEvents) {
+        auditEvents.forEach(this::save);
+    }
+
     long count(
             String entityKey,
             OpEvent.CategoryType type,
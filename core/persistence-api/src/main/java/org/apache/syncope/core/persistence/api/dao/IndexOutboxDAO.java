@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.dao;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+
+public interface IndexOutboxDAO {
+
+    IndexOutboxEntry save(IndexOutboxEntry entry);
+
+    /**
+     * Returns the oldest pending entries, in sequence order.
+     *
+     * @param max maximum number of entries to return
+     * @return oldest pending entries
+     */
+    List<? extends IndexOutboxEntry> findOldest(int max);
+
+    long count();
+
+    Optional<OffsetDateTime> findOldestCreationDate();
+
+    void deleteAll(Collection<String> keys);
+}
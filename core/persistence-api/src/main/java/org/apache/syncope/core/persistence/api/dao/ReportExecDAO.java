@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.api.dao;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.springframework.data.domain.Pageable;
@@ -39,4 +40,12 @@ public interface ReportExecDAO extends DAO<ReportExec> {
             OffsetDateTime before,
             OffsetDateTime after,
             Pageable pageable);
+
+    void saveResultChunk(ReportExec execution, int seq, int contentLength, byte[] content);
+
+    List<Integer> findResultChunkLengths(ReportExec execution);
+
+    Optional<byte[]> findResultChunk(ReportExec execution, int seq);
+
+    void deleteResultChunks(ReportExec execution);
 }
@@ -56,6 +56,18 @@ public interface TaskDAO extends DAO<Task<?>> {
 
     <T extends Task<T>> List<T> findToExec(TaskType type);
 
+    /**
+     * Keyset (seek) variant of {@link #findToExec(TaskType)}: tasks are sorted by key and returned starting right
+     * after the given key, so that they can be claimed in slices.
+     *
+     * @param <T> task
+     * @param type task type
+     * @param after key of the last task returned by the previous slice, null to start from the beginning
+     * @param size maximum number of tasks to return
+     * @return the tasks to be executed, whose key follows the given one
+     */
+    <T extends Task<T>> List<T> findToExec(TaskType type, String after, int size);
+
     <T extends Task<T>> List<T> findAll(TaskType type);
 
     <T extends Task<T>> List<T> findAll(
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.entity;
+
+import java.time.OffsetDateTime;
+
+/**
+ * Pending operation on an external search index, recorded in the same transaction as the change it mirrors.
+ */
+public interface IndexOutboxEntry extends Entity {
+
+    /**
+     * Number allocated by the database when this entry is first saved: entries saved later get greater numbers,
+     * regardless of the clock of the node saving them.
+     *
+     * @return sequence number, null if not saved yet
+     */
+    Long getSequence();
+
+    String getIndex();
+
+    void setIndex(String index);
+
+    String getDocumentKey();
+
+    void setDocumentKey(String documentKey);
+
+    boolean isDeletion();
+
+    void setDeletion(boolean deletion);
+
+    String getDocument();
+
+    void setDocument(String document);
+
+    OffsetDateTime getCreationDate();
+
+    void setCreationDate(OffsetDateTime creationDate);
+
+    int getAttempts();
+
+    void setAttempts(int attempts);
+}
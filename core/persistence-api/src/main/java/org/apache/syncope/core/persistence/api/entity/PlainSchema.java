@@ -24,6 +24,12 @@ import org.apache.syncope.common.lib.types.CipherAlgorithm;
 
 public interface PlainSchema extends Schema {
 
+    /**
+     * Maximum length of the values of indexed String or Enum schemas, as longer values cannot be indexed by all
+     * supported databases.
+     */
+    int INDEXED_VALUE_MAX_LENGTH = 255;
+
     CipherAlgorithm getCipherAlgorithm();
 
     void setCipherAlgorithm(CipherAlgorithm cipherAlgorithm);
@@ -59,4 +65,8 @@ public interface PlainSchema extends Schema {
     void setReadonly(boolean readonly);
 
     void setUniqueConstraint(boolean uniquevalue);
+
+    boolean isIndexed();
+
+    void setIndexed(boolean indexed);
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+
+/**
+ * Lightweight search result row, only reporting the requested fields and plain attribute values of a matching
+ * any object.
+ *
+ * @param key any object key
+ * @param fields values of requested fields, by field name
+ * @param plainAttrs values of requested plain attributes, by schema key
+ */
+public record AnyProjection(String key, Map<String, Object> fields, Map<String, List<String>> plainAttrs) {
+
+    private static final Set<String> ANY_FIELDS = Set.of(
+            "key", "realm", "status", "creator", "creationDate", "lastModifier", "lastChangeDate");
+
+    private static final Set<String> USER_FIELDS = Set.of(
+            "username", "failedLogins", "lastLoginDate", "changePwdDate", "suspended", "mustChangePassword");
+
+    private static final Set<String> GROUP_FIELDS = Set.of("name");
+
+    private static final Set<String> ANY_OBJECT_FIELDS = Set.of("name", "type");
+
+    /**
+     * Fields which can be projected: sensitive fields, as well as collections, are never included.
+     *
+     * @param kind any type kind
+     * @param field field name
+     * @return whether the given field can be projected for the given any type kind
+     */
+    public static boolean isProjectable(final AnyTypeKind kind, final String field) {
+        return ANY_FIELDS.contains(field) || switch (kind) {
+            case USER -> USER_FIELDS.contains(field);
+            case GROUP -> GROUP_FIELDS.contains(field);
+            case ANY_OBJECT -> ANY_OBJECT_FIELDS.contains(field);
+        };
+    }
+}
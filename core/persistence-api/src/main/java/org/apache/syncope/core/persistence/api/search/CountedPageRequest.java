@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for a search whose total number of matches was already counted by the caller, so that it does not
+ * need to be counted again when reading the requested page.
+ */
+public class CountedPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = 5186407512981357046L;
+
+    public static CountedPageRequest of(final int page, final int size, final Sort sort, final long total) {
+        return new CountedPageRequest(page, size, sort, total);
+    }
+
+    private final long total;
+
+    protected CountedPageRequest(final int page, final int size, final Sort sort, final long total) {
+        super(page, size, sort);
+        this.total = total;
+    }
+
+    /**
+     * @return total number of matches, as already counted
+     */
+    public long getTotal() {
+        return total;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        CountedPageRequest other = (CountedPageRequest) obj;
+        return new EqualsBuilder().
+                appendSuper(super.equals(obj)).
+                append(total, other.total).
+                build();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                appendSuper(super.hashCode()).
+                append(total).
+                build();
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.api.search;
+
+import java.util.Optional;
+import org.apache.commons.lang3.builder.EqualsBuilder;
+import org.apache.commons.lang3.builder.HashCodeBuilder;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Page request for keyset (seek) pagination: instead of skipping a number of rows, results are read starting
+ * right after the given key, always sorted by key ascending; this makes the cost of fetching each slice independent
+ * of how deep it is into the whole result set.
+ */
+public class KeysetPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = -1740563185213474626L;
+
+    public static final String KEY = "id";
+
+    public static KeysetPageRequest of(final String after, final int size) {
+        return new KeysetPageRequest(after, size);
+    }
+
+    private final String after;
+
+    protected KeysetPageRequest(final String after, final int size) {
+        super(0, size, Sort.by(Sort.Direction.ASC, KEY));
+        this.after = after;
+    }
+
+    /**
+     * @return key of the last item of the previous slice, empty when requesting the first slice
+     */
+    public Optional<String> getAfter() {
+        return Optional.ofNullable(after);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        KeysetPageRequest other = (KeysetPageRequest) obj;
+        return new EqualsBuilder().
+                appendSuper(super.equals(obj)).
+                append(after, other.after).
+                build();
+    }
+
+    @Override
+    public int hashCode() {
+        return new HashCodeBuilder().
+                appendSuper(super.hashCode()).
+                append(after).
+                build();
+    }
+}
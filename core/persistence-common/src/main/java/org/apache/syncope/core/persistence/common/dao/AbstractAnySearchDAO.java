@@ -19,9 +19,14 @@
 package org.apache.syncope.core.persistence.common.dao;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -44,6 +49,10 @@ import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.api.entity.group.Group;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.PageRequest;
@@ -61,6 +70,21 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
 
     protected static final Set<String> RELATIONSHIP_FIELDS = Set.of("realm", "uManager", "gManager");
 
+    /**
+     * Tells whether the realm with the given full path is the same as, or a descendant of, the realm with the given
+     * ancestor full path.
+     *
+     * @param fullPath realm full path
+     * @param ancestorFullPath candidate ancestor realm full path
+     * @return whether the given realm is the same as, or a descendant of, the given ancestor realm
+     */
+    protected static boolean isSameOrDescendant(final String fullPath, final String ancestorFullPath) {
+        return fullPath.equals(ancestorFullPath)
+                || fullPath.startsWith(SyncopeConstants.ROOT_REALM.equals(ancestorFullPath)
+                        ? SyncopeConstants.ROOT_REALM
+                        : ancestorFullPath + "/");
+    }
+
     protected static SearchCond buildEffectiveCond(
             final SearchCond cond,
             final Set<Pair<AnyTypeKind, String>> managed,
@@ -233,19 +257,27 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
                 toList();
 
         // sort anys according to keys' sorting, as their ordering is same as raw, e.g. the actual query results
-        List<Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
-                sorted(Comparator.comparing(any -> keys.indexOf(any.getKey()))).toList();
+        Map<String, Any> anys = anyUtilsFactory.getInstance(kind).dao().findByKeys(keys).stream().
+                collect(Collectors.toMap(Any::getKey, Function.identity(), (a1, a2) -> a1));
 
-        keys.stream().filter(key -> anys.stream().noneMatch(any -> key.equals(any.getKey()))).
-                forEach(key -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key));
+        List<Any> result = new ArrayList<>(anys.size());
+        keys.forEach(key -> Optional.ofNullable(anys.get(key)).ifPresentOrElse(
+                result::add,
+                () -> LOG.error("Could not find {} with id {}, even if returned by native query", kind, key)));
 
-        return (List<T>) anys;
+        return (List<T>) result;
     }
 
-    @Override
-    public <T extends Any> List<T> search(
-            final Realm base,
-            final boolean recursive,
+    /**
+     * Validates the given search request, then computes the condition and paging to actually search with.
+     *
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param cond search condition
+     * @param pageable paging information, possibly {@link KeysetPageRequest}
+     * @param kind any type kind
+     * @return effective search condition and paging, or empty if nothing could ever match
+     */
+    protected Optional<Pair<SearchCond, Pageable>> prepareSearch(
             final Set<String> adminRealms,
             final SearchCond cond,
             final Pageable pageable,
@@ -253,13 +285,25 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
 
         if (CollectionUtils.isEmpty(adminRealms)) {
             LOG.error("No realms provided");
-            return List.of();
+            return Optional.empty();
         }
 
         LOG.debug("Search condition:\n{}", cond);
         if (cond == null || !cond.isValid()) {
             LOG.error("Invalid search condition:\n{}", cond);
-            return List.of();
+            return Optional.empty();
+        }
+
+        if (pageable instanceof KeysetPageRequest keyset) {
+            String after = keyset.getAfter().orElse(null);
+            if (after != null && !SyncopeConstants.UUID_PATTERN.matcher(after).matches()) {
+                throw new IllegalArgumentException("Invalid key to search after: " + after);
+            }
+
+            // always sort by key, which is both unique and indexed, so that the seek condition is consistent
+            return Optional.of(Pair.of(
+                    after == null ? cond : SearchCond.and(cond, buildKeysetCond(after)),
+                    PageRequest.of(0, keyset.getPageSize(), Sort.by(Sort.Direction.ASC, KeysetPageRequest.KEY))));
         }
 
         List<Sort.Order> effectiveOrderBy;
@@ -272,14 +316,155 @@ public abstract class AbstractAnySearchDAO extends AbstractSearchDAO implements
                     toList();
         }
 
-        return doSearch(
-                base,
-                recursive,
-                adminRealms,
+        return Optional.of(Pair.of(
                 cond,
                 pageable.isUnpaged()
                 ? Pageable.unpaged(Sort.by(effectiveOrderBy))
-                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy)),
-                kind);
+                : PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(effectiveOrderBy))));
+    }
+
+    @Override
+    public <T extends Any> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        return prepareSearch(adminRealms, cond, pageable, kind).
+                map(prepared -> this.<T>doSearch(
+                base, recursive, adminRealms, prepared.getLeft(), prepared.getRight(), kind)).
+                orElseGet(List::of);
+    }
+
+    /**
+     * Builds the condition restricting results to the ones following the given key; meant to be overridden by
+     * implementations providing a more efficient way to express the same.
+     *
+     * @param after key of the last any object returned by the previous slice
+     * @return seek condition
+     */
+    protected SearchCond buildKeysetCond(final String after) {
+        AnyCond keyCond = new AnyCond(AttrCond.Type.GT);
+        keyCond.setSchema(KeysetPageRequest.KEY);
+        keyCond.setExpression(after);
+        return SearchCond.of(keyCond);
+    }
+
+    @Override
+    public <T extends Any> List<T> search(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final String after,
+            final int size,
+            final AnyTypeKind kind) {
+
+        return search(base, recursive, adminRealms, cond, KeysetPageRequest.of(after, size), kind);
+    }
+
+    protected static Object getProjectedField(final Any any, final String field) {
+        return switch (field) {
+            case "key" ->
+                any.getKey();
+            case "realm" ->
+                any.getRealm().getFullPath();
+            case "status" ->
+                any.getStatus();
+            case "creator" ->
+                any.getCreator();
+            case "creationDate" ->
+                any.getCreationDate();
+            case "lastModifier" ->
+                any.getLastModifier();
+            case "lastChangeDate" ->
+                any.getLastChangeDate();
+            case "type" ->
+                any.getType().getKey();
+            case "name" ->
+                any instanceof Group group ? group.getName() : ((AnyObject) any).getName();
+            case "username" ->
+                ((User) any).getUsername();
+            case "failedLogins" ->
+                ((User) any).getFailedLogins();
+            case "lastLoginDate" ->
+                ((User) any).getLastLoginDate();
+            case "changePwdDate" ->
+                ((User) any).getChangePwdDate();
+            case "suspended" ->
+                ((User) any).isSuspended();
+            case "mustChangePassword" ->
+                ((User) any).isMustChangePassword();
+            default ->
+                throw new IllegalArgumentException("Field " + field + " cannot be projected");
+        };
+    }
+
+    /**
+     * Reads the given fields and plain attributes of the any objects matching the given (effective) search
+     * condition; by default entities are loaded, implementations are expected to provide more efficient means.
+     *
+     * @param base Realm to start searching from
+     * @param recursive whether search should recursively include results from child Realms
+     * @param adminRealms realms for which the caller owns the proper entitlement(s)
+     * @param searchCondition effective search condition
+     * @param pageable effective paging information
+     * @param kind any type kind
+     * @param fields projectable fields to read
+     * @param plainSchemas plain schemas to read values for
+     * @return the projections of any objects matching the given search condition
+     */
+    protected List<AnyProjection> doProject(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond searchCondition,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final Set<String> fields,
+            final Set<String> plainSchemas) {
+
+        List<Any> matching = doSearch(base, recursive, adminRealms, searchCondition, pageable, kind);
+        return matching.stream().map(any -> {
+            Map<String, Object> projected = new HashMap<>();
+            fields.forEach(field -> projected.put(field, getProjectedField(any, field)));
+
+            Map<String, List<String>> attrs = new HashMap<>();
+            plainSchemas.forEach(schema -> any.getPlainAttr(schema).
+                    ifPresent(attr -> attrs.put(schema, attr.getValuesAsStrings())));
+
+            return new AnyProjection(any.getKey(), projected, attrs);
+        }).toList();
+    }
+
+    @Override
+    public List<AnyProjection> project(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final Collection<String> fields,
+            final Collection<String> plainSchemas) {
+
+        Set<String> projectedFields = new HashSet<>();
+        fields.forEach(field -> {
+            if (AnyProjection.isProjectable(kind, field)) {
+                projectedFields.add(field);
+            } else {
+                LOG.warn("Ignoring {} field {}, as it cannot be projected", kind, field);
+            }
+        });
+        Set<String> projectedSchemas = plainSchemas.stream().
+                filter(plainSchemaDAO::existsById).collect(Collectors.toSet());
+
+        return prepareSearch(adminRealms, cond, pageable, kind).
+                map(prepared -> doProject(
+                base, recursive, adminRealms, prepared.getLeft(), prepared.getRight(), kind,
+                projectedFields, projectedSchemas)).
+                orElseGet(List::of);
     }
 }
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.common.validation;
 import jakarta.validation.ConstraintValidatorContext;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.apache.commons.lang3.mutable.MutableObject;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.ApplicationContextProvider;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
@@ -60,6 +61,20 @@ public class AttributableValidator extends AbstractValidator<AttributableCheck,
                         getTemplate(EntityViolationType.InvalidValueList,
                                 "Invalid values " + attr.getValuesAsStrings())).
                         addPropertyNode(attr.getSchema()).addConstraintViolation();
+            } else if (schema.isIndexed()
+                    && (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum)
+                    && attr.getValuesAsStrings().stream().
+                            anyMatch(value -> value.length() > PlainSchema.INDEXED_VALUE_MAX_LENGTH)) {
+
+                isValid = false;
+
+                LOG.error("Values too long for indexed attribute schema={}", attr.getSchema());
+
+                context.buildConstraintViolationWithTemplate(
+                        getTemplate(EntityViolationType.InvalidValueList,
+                                "Values of indexed schemas cannot be longer than "
+                                + PlainSchema.INDEXED_VALUE_MAX_LENGTH + " characters")).
+                        addPropertyNode(attr.getSchema()).addConstraintViolation();
             }
         }
 
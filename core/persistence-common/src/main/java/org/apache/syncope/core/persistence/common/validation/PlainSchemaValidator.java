@@ -19,11 +19,17 @@
 package org.apache.syncope.core.persistence.common.validation;
 
 import jakarta.validation.ConstraintValidatorContext;
+import java.util.EnumSet;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.EntityViolationType;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class PlainSchemaValidator extends AbstractValidator<PlainSchemaCheck, PlainSchema> {
 
+    public static final Set<AttrSchemaType> INDEXABLE_TYPES = EnumSet.of(
+            AttrSchemaType.String, AttrSchemaType.Enum, AttrSchemaType.Long, AttrSchemaType.Double);
+
     @Override
     public boolean isValid(final PlainSchema schema, final ConstraintValidatorContext context) {
         switch (schema.getType()) {
@@ -70,6 +76,15 @@ public class PlainSchemaValidator extends AbstractValidator<PlainSchemaCheck, Pl
             return false;
         }
 
+        if (schema.isIndexed() && (schema.isMultivalue() || !INDEXABLE_TYPES.contains(schema.getType()))) {
+            context.disableDefaultConstraintViolation();
+            context.buildConstraintViolationWithTemplate(
+                    getTemplate(EntityViolationType.InvalidSchema,
+                            "Only single-valued " + INDEXABLE_TYPES + " schemas can be indexed")).
+                    addPropertyNode("indexed").addConstraintViolation();
+            return false;
+        }
+
         return true;
     }
 }
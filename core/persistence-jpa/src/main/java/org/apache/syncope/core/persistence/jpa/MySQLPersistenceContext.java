@@ -20,6 +20,8 @@ package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
 import java.util.TimeZone;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -31,6 +33,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.dao.MySQLJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.MySQLJPARealmSearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.repo.MySQLPlainSchemaRepoExtImpl;
@@ -84,7 +87,8 @@ public class MySQLPersistenceContext {
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache anySearchQueryCache) {
 
         return new MySQLJPAAnySearchDAO(
                 realmSearchDAO,
@@ -95,7 +99,8 @@ public class MySQLPersistenceContext {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                anySearchQueryCache);
     }
 
     @ConditionalOnMissingBean
@@ -124,8 +129,9 @@ public class MySQLPersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        return new MySQLPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new MySQLPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, domainHolder, entityManager);
     }
 }
@@ -19,6 +19,8 @@
 package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -30,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.dao.OracleJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.OracleJPARealmSearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.repo.OraclePlainSchemaRepoExtImpl;
@@ -63,7 +66,8 @@ public class OraclePersistenceContext {
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache anySearchQueryCache) {
 
         return new OracleJPAAnySearchDAO(
                 realmSearchDAO,
@@ -74,7 +78,8 @@ public class OraclePersistenceContext {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                anySearchQueryCache);
     }
 
     @ConditionalOnMissingBean
@@ -104,8 +109,10 @@ public class OraclePersistenceContext {
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
             final @Lazy PlainSchemaDAO plainSchemaDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        return new OraclePlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, plainSchemaDAO, entityManager);
+        return new OraclePlainSchemaRepoExtImpl(
+                anyUtilsFactory, resourceDAO, plainSchemaDAO, domainHolder, entityManager);
     }
 }
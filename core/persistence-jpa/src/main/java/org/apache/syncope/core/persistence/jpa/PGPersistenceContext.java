@@ -19,6 +19,8 @@
 package org.apache.syncope.core.persistence.jpa;
 
 import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
@@ -30,6 +32,7 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.dao.PGJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.PGJPARealmSearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.repo.PGPlainSchemaRepoExtImpl;
@@ -64,7 +67,8 @@ public class PGPersistenceContext {
             final @Lazy EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache anySearchQueryCache) {
 
         return new PGJPAAnySearchDAO(
                 realmSearchDAO,
@@ -75,7 +79,8 @@ public class PGPersistenceContext {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                anySearchQueryCache);
     }
 
     @ConditionalOnMissingBean
@@ -104,8 +109,9 @@ public class PGPersistenceContext {
     public PlainSchemaRepoExt plainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final @Lazy ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        return new PGPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, entityManager);
+        return new PGPlainSchemaRepoExtImpl(anyUtilsFactory, resourceDAO, domainHolder, entityManager);
     }
 }
@@ -52,6 +52,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.FIQLQueryDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.dao.MailTemplateDAO;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
@@ -87,10 +88,12 @@ import org.apache.syncope.core.persistence.common.CommonPersistenceContext;
 import org.apache.syncope.core.persistence.common.RuntimeDomainLoader;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentExporter;
 import org.apache.syncope.core.persistence.jpa.content.XMLContentLoader;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAnyMatchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAAuditEventDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPABatchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAEntityCacheDAO;
+import org.apache.syncope.core.persistence.jpa.dao.JPAIndexOutboxDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAJobStatusDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAOIDCJWKSDAO;
 import org.apache.syncope.core.persistence.jpa.dao.JPAPersistenceInfoDAO;
@@ -399,6 +402,12 @@ public class PersistenceContext {
                 entityFactory);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public AnySearchQueryCache anySearchQueryCache(final PersistenceProperties props) {
+        return new AnySearchQueryCache(props.getAnySearchQueryCacheSize());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public AnyObjectRepoExt anyObjectRepoExt(
@@ -534,6 +543,12 @@ public class PersistenceContext {
         return new JPABatchDAO(entityManager);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public IndexOutboxDAO indexOutboxDAO(final EntityManager entityManager) {
+        return new JPAIndexOutboxDAO(entityManager);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public CASSPClientAppRepoExt casSPClientAppRepoExt(final EntityManager entityManager) {
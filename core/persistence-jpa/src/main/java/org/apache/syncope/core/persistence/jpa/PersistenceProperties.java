@@ -34,6 +34,8 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
 
     private String viewsXML = "classpath:META-INF/views.xml";
 
+    private int anySearchQueryCacheSize = 1000;
+
     public String getCacheProvider() {
         return cacheProvider;
     }
@@ -57,4 +59,12 @@ public class PersistenceProperties extends AbstractPersistenceProperties<DomainP
     public void setViewsXML(final String viewsXML) {
         this.viewsXML = viewsXML;
     }
+
+    public int getAnySearchQueryCacheSize() {
+        return anySearchQueryCacheSize;
+    }
+
+    public void setAnySearchQueryCacheSize(final int anySearchQueryCacheSize) {
+        this.anySearchQueryCacheSize = anySearchQueryCacheSize;
+    }
 }
@@ -74,8 +74,11 @@ import org.apache.syncope.core.persistence.common.content.AbstractXMLContentExpo
 import org.apache.syncope.core.persistence.common.content.MultiParentNode;
 import org.apache.syncope.core.persistence.common.content.MultiParentNodeOp;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.apache.syncope.core.persistence.jpa.entity.JPAIndexOutboxEntry;
 import org.apache.syncope.core.persistence.jpa.entity.JPAJobStatus;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealmClosure;
+import org.apache.syncope.core.persistence.jpa.entity.JPAReportExecChunk;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.datasource.DataSourceUtils;
@@ -89,7 +92,9 @@ import org.xml.sax.helpers.AttributesImpl;
  */
 public class XMLContentExporter extends AbstractXMLContentExporter {
 
-    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(JPAJobStatus.TABLE, JPAAuditEvent.TABLE);
+    protected static final Set<String> TABLE_PREFIXES_TO_BE_EXCLUDED = Set.of(
+            JPAJobStatus.TABLE, JPAAuditEvent.TABLE, JPARealmClosure.TABLE, JPAIndexOutboxEntry.TABLE,
+            JPAReportExecChunk.TABLE);
 
     protected static BiFunction<Map<String, EntityType<?>>, Type<?>, String> GET_KEY =
             (entities, type) -> entities.entrySet().stream().
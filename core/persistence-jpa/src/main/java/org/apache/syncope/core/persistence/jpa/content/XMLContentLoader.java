@@ -20,11 +20,17 @@ package org.apache.syncope.core.persistence.jpa.content;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Properties;
 import javax.sql.DataSource;
 import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.common.content.AbstractXMLContentLoader;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealmClosure;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.PropertiesLoaderUtils;
@@ -114,4 +120,50 @@ public class XMLContentLoader extends AbstractXMLContentLoader {
             LOG.debug("[{}] Default content successfully loaded", domain);
         }
     }
+
+    /**
+     * Populates the realm closure table when empty, as happens after loading default content or when upgrading from
+     * a release which did not feature it; afterwards, the closure table is maintained by RealmDAO.
+     *
+     * @param domain domain
+     */
+    protected void populateRealmClosure(final String domain) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(domainHolder.getDomains().get(domain));
+        try {
+            if (jdbcTemplate.queryForObject("SELECT COUNT(0) FROM " + JPARealmClosure.TABLE, Integer.class) > 0) {
+                return;
+            }
+
+            Map<String, String> parents = new HashMap<>();
+            jdbcTemplate.query(
+                    "SELECT id, parent_id FROM " + JPARealm.TABLE,
+                    rs -> {
+                        parents.put(rs.getString(1), rs.getString(2));
+                    });
+
+            List<Object[]> rows = new ArrayList<>();
+            parents.keySet().forEach(descendant -> {
+                int depth = 0;
+                for (String ancestor = descendant; ancestor != null; ancestor = parents.get(ancestor)) {
+                    rows.add(new Object[] {
+                        SecureRandomUtils.generateRandomUUID().toString(), ancestor, descendant, depth++ });
+                }
+            });
+
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO " + JPARealmClosure.TABLE + "(id, ancestor_id, descendant_id, depth) "
+                    + "VALUES (?, ?, ?, ?)",
+                    rows);
+            LOG.info("[{}] Realm closure populated with {} rows", domain, rows.size());
+        } catch (DataAccessException e) {
+            LOG.error("[{}] Could not populate {}", domain, JPARealmClosure.TABLE, e);
+        }
+    }
+
+    @Override
+    public void load(final String domain) {
+        super.load(domain);
+
+        populateRealmClosure(domain);
+    }
 }
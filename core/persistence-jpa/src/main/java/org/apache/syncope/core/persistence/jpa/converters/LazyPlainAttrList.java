@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.converters;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * List of plain attributes as read from the database, decoded only when first accessed: as long as this does not
+ * happen, the original JSON is returned as is when writing back to the database.
+ * The original JSON is parsed once, into a tree for each attribute: lookups by schema via
+ * {@link #find(List, String, Predicate)} then only bind the trees for that schema.
+ */
+public class LazyPlainAttrList extends AbstractList<PlainAttr> implements Serializable {
+
+    private static final long serialVersionUID = 5473614476394325614L;
+
+    private String serialized;
+
+    private List<PlainAttr> plainAttrs;
+
+    private List<JsonNode> elements;
+
+    private Map<String, List<JsonNode>> elementsBySchema;
+
+    private final Map<String, List<PlainAttr>> bySchema = new HashMap<>();
+
+    private final Map<JsonNode, PlainAttr> bound = new IdentityHashMap<>();
+
+    /**
+     * Looks up the first attribute for the given schema matching the given filter; if the given list is a
+     * {@link LazyPlainAttrList} not decoded yet, only attributes for the given schema are decoded.
+     *
+     * @param plainAttrs plain attributes
+     * @param schema plain schema key
+     * @param filter further condition on matching attributes, e.g. membership or relationship
+     * @return matching attribute, if any
+     */
+    public static Optional<PlainAttr> find(
+            final List<PlainAttr> plainAttrs,
+            final String schema,
+            final Predicate<PlainAttr> filter) {
+
+        List<PlainAttr> candidates = plainAttrs instanceof LazyPlainAttrList lazy && !lazy.isDecoded()
+                ? lazy.decoded(schema)
+                : plainAttrs;
+        return candidates.stream().
+                filter(attr -> schema.equals(attr.getSchema()) && filter.test(attr)).
+                findFirst();
+    }
+
+    private static Optional<PlainAttr> bind(final JsonNode element) {
+        return Optional.ofNullable(POJOHelper.deserialize(element, PlainAttr.class)).
+                filter(PlainAttr::isValid).
+                map(attr -> {
+                    attr.getValues().forEach(value -> value.setAttr(attr));
+                    Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
+                    return attr;
+                });
+    }
+
+    private static String schema(final JsonNode element) {
+        return element.path("schema").asString();
+    }
+
+    public LazyPlainAttrList(final String serialized) {
+        this.serialized = serialized;
+    }
+
+    public boolean isDecoded() {
+        return plainAttrs != null;
+    }
+
+    /**
+     * Tells whether no attribute was decoded, hence the original JSON still reflects the content of this list.
+     *
+     * @return whether no attribute was decoded
+     */
+    public boolean isUntouched() {
+        return plainAttrs == null && bySchema.isEmpty();
+    }
+
+    public Optional<String> getSerialized() {
+        return Optional.ofNullable(serialized);
+    }
+
+    protected List<JsonNode> elements() {
+        if (elements == null) {
+            elements = Optional.ofNullable(serialized).map(POJOHelper::readElements).orElseGet(List::of);
+            elementsBySchema = elements.stream().collect(Collectors.groupingBy(LazyPlainAttrList::schema));
+        }
+        return elements;
+    }
+
+    protected List<PlainAttr> decoded(final String schema) {
+        return bySchema.computeIfAbsent(schema, k -> {
+            elements();
+
+            List<PlainAttr> decoded = new ArrayList<>();
+            elementsBySchema.getOrDefault(schema, List.of()).forEach(element -> bind(element).ifPresent(attr -> {
+                bound.put(element, attr);
+                decoded.add(attr);
+            }));
+            return decoded;
+        });
+    }
+
+    /**
+     * Binds all attributes, in the original order; attributes already decoded by schema are kept, as they might have
+     * been modified meanwhile.
+     *
+     * @return all attributes
+     */
+    protected List<PlainAttr> bindAll() {
+        List<PlainAttr> decoded = new ArrayList<>();
+        elements().forEach(element -> {
+            if (bySchema.containsKey(schema(element))) {
+                Optional.ofNullable(bound.get(element)).ifPresent(decoded::add);
+            } else {
+                bind(element).ifPresent(decoded::add);
+            }
+        });
+        return decoded;
+    }
+
+    protected List<PlainAttr> decoded() {
+        if (plainAttrs == null) {
+            plainAttrs = bindAll();
+
+            serialized = null;
+            elements = null;
+            elementsBySchema = null;
+            bySchema.clear();
+            bound.clear();
+        }
+        return plainAttrs;
+    }
+
+    @Override
+    public PlainAttr get(final int index) {
+        return decoded().get(index);
+    }
+
+    @Override
+    public int size() {
+        return decoded().size();
+    }
+
+    @Override
+    public PlainAttr set(final int index, final PlainAttr element) {
+        return decoded().set(index, element);
+    }
+
+    @Override
+    public void add(final int index, final PlainAttr element) {
+        decoded().add(index, element);
+        modCount++;
+    }
+
+    @Override
+    public PlainAttr remove(final int index) {
+        modCount++;
+        return decoded().remove(index);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        // avoid decoding when comparing with another untouched list, as when checking for changes
+        if (obj instanceof LazyPlainAttrList other && isUntouched() && other.isUntouched()
+                && serialized != null && serialized.equals(other.serialized)) {
+
+            return true;
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    public int hashCode() {
+        // bind from the trees already parsed, without switching to decoded: the original JSON can still be written back
+        return isDecoded() ? plainAttrs.hashCode() : bindAll().hashCode();
+    }
+}
@@ -20,34 +20,29 @@ package org.apache.syncope.core.persistence.jpa.converters;
 
 import jakarta.persistence.AttributeConverter;
 import jakarta.persistence.Converter;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
-import tools.jackson.core.type.TypeReference;
 
 @Converter
 public class PlainAttrListConverter implements AttributeConverter<List<PlainAttr>, String> {
 
-    protected static final TypeReference<List<PlainAttr>> TYPEREF = new TypeReference<List<PlainAttr>>() {
-    };
-
     @Override
     public String convertToDatabaseColumn(final List<PlainAttr> attribute) {
-        return Optional.ofNullable(attribute).map(POJOHelper::serialize).orElse(null);
+        if (attribute == null) {
+            return null;
+        }
+
+        // untouched attributes are written back as read
+        if (attribute instanceof LazyPlainAttrList lazy && lazy.isUntouched()) {
+            return lazy.getSerialized().orElseGet(() -> POJOHelper.serialize(List.of()));
+        }
+
+        return POJOHelper.serialize(attribute);
     }
 
     @Override
     public List<PlainAttr> convertToEntityAttribute(final String dbData) {
-        List<PlainAttr> plainAttrs = new ArrayList<>();
-
-        Optional.ofNullable(dbData).map(data -> POJOHelper.deserialize(data, TYPEREF)).
-                ifPresent(attrs -> attrs.stream().filter(PlainAttr::isValid).peek(attr -> {
-            attr.getValues().forEach(value -> value.setAttr(attr));
-            Optional.ofNullable(attr.getUniqueValue()).ifPresent(value -> value.setAttr(attr));
-        }).forEach(plainAttrs::add));
-
-        return plainAttrs;
+        return new LazyPlainAttrList(dbData);
     }
 }
@@ -20,11 +20,19 @@ package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
+import java.sql.Clob;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -42,6 +50,7 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AbstractSearchCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyCond;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
@@ -60,8 +69,13 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.Realm;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.common.dao.AbstractAnySearchDAO;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealmClosure;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 
@@ -82,16 +96,46 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
     }
 
+    protected record IndexedAttrCond(String operator, Object value) {
+
+    }
+
     protected static final String SELECT_COLS_FROM_VIEW =
             "any_id,creationContext,creationDate,creator,lastChangeContext,"
             + "lastChangeDate,lastModifier,status,changePwdDate,cipherAlgorithm,failedLogins,"
             + "lastLoginDate,mustChangePassword,suspended,username";
 
+    protected static final int PROJECTION_BATCH_SIZE = 500;
+
+    /**
+     * Leaves for which the generated query text does not depend on the values to look for, besides {@link AnyCond} and
+     * {@link AttrCond}.
+     */
+    protected static final List<Class<? extends AbstractSearchCond>> TEMPLATE_LEAVES = List.of(
+            AnyTypeCond.class,
+            AuxClassCond.class,
+            RelationshipTypeCond.class,
+            RoleCond.class,
+            ResourceCond.class);
+
     protected static int setParameter(final List<Object> parameters, final Object parameter) {
         parameters.add(parameter);
         return parameters.size();
     }
 
+    /**
+     * Returns the value to compare with JSON attribute values, for the given condition.
+     *
+     * @param attrValue validated value
+     * @param cond condition
+     * @return value to compare with JSON attribute values
+     */
+    protected static String jsonAttrValue(final PlainAttrValue attrValue, final AttrCond cond) {
+        return Optional.ofNullable(attrValue.getDateValue()).
+                map(DateTimeFormatter.ISO_OFFSET_DATE_TIME::format).
+                orElseGet(cond::getExpression);
+    }
+
     protected static void fillWithParameters(final Query query, final List<Object> parameters) {
         for (int i = 0; i < parameters.size(); i++) {
             if (parameters.get(i) instanceof Boolean aBoolean) {
@@ -104,6 +148,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
     protected final EntityManager entityManager;
 
+    protected final AnySearchQueryCache queryCache;
+
     protected AbstractJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
@@ -113,7 +159,8 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache queryCache) {
 
         super(
                 realmSearchDAO,
@@ -125,6 +172,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                 anyUtilsFactory,
                 validator);
         this.entityManager = entityManager;
+        this.queryCache = queryCache;
     }
 
     protected SearchSupport.SearchView defaultSV(final SearchSupport svs) {
@@ -207,7 +255,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                             map(anyCond -> getQuery(anyCond, not, parameters, svs)).
                             or(() -> cond.asLeaf(AttrCond.class).
                             map(attrCond -> {
-                                CheckResult<AttrCond> checked = check(attrCond);
+                                CheckResult<AttrCond> checked = check(attrCond, svs);
                                 AttrCondQuery query = getQuery(attrCond, not, checked, parameters, svs);
                                 if (query.addPlainSchemas()) {
                                     plainSchemas.add(checked.schema().getKey());
@@ -577,25 +625,77 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             List<Object> parameters,
             SearchSupport svs);
 
+    /**
+     * Appends to the given shape whatever, besides the condition type and the schema definition, the query text
+     * generated by {@link #getQuery(AttrCond, boolean, CheckResult, List, SearchSupport)} depends on.
+     * Query templates can be cached for the given condition only if the values to look for are all bound as
+     * parameters, by {@link #bind(AttrCond, boolean, CheckResult, List)}.
+     *
+     * @param cond attribute condition
+     * @param not whether the condition is negated
+     * @param checked outcome of checking the condition
+     * @param shape builder receiving the shape
+     * @return whether a query template can be cached for the given condition
+     */
+    protected boolean shape(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final StringBuilder shape) {
+
+        return false;
+    }
+
+    /**
+     * Binds the parameter values which {@link #getQuery(AttrCond, boolean, CheckResult, List, SearchSupport)} would
+     * bind for the given condition, in the same order, without generating any query text.
+     *
+     * @param cond attribute condition
+     * @param not whether the condition is negated
+     * @param checked outcome of checking the condition
+     * @param parameters parameter values
+     */
+    protected void bind(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final List<Object> parameters) {
+
+        throw new UnsupportedOperationException("No query template can be cached for " + cond);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected CheckResult<AnyCond> check(final AnyCond cond, final SearchSupport svs) {
+        return (CheckResult<AnyCond>) svs.checked.computeIfAbsent(cond, c -> {
+            if (JAXRSService.PARAM_REALM.equals(cond.getSchema())
+                    && !SyncopeConstants.UUID_PATTERN.matcher(cond.getExpression()).matches()) {
+
+                Realm realm = realmSearchDAO.findByFullPath(cond.getExpression()).
+                        orElseThrow(() -> new IllegalArgumentException(
+                        "Invalid Realm full path: " + cond.getExpression()));
+                cond.setExpression(realm.getKey());
+            }
+
+            return check(
+                    cond,
+                    anyUtilsFactory.getInstance(svs.anyTypeKind).getField(cond.getSchema()).
+                            orElseThrow(() -> new IllegalArgumentException("Invalid schema " + cond.getSchema())),
+                    RELATIONSHIP_FIELDS);
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    protected CheckResult<AttrCond> check(final AttrCond cond, final SearchSupport svs) {
+        return (CheckResult<AttrCond>) svs.checked.computeIfAbsent(cond, c -> check(cond));
+    }
+
     protected AnySearchNode getQuery(
             final AnyCond cond,
             final boolean not,
             final List<Object> parameters,
             final SearchSupport svs) {
 
-        if (JAXRSService.PARAM_REALM.equals(cond.getSchema())
-                && !SyncopeConstants.UUID_PATTERN.matcher(cond.getExpression()).matches()) {
-
-            Realm realm = realmSearchDAO.findByFullPath(cond.getExpression()).
-                    orElseThrow(() -> new IllegalArgumentException("Invalid Realm full path: " + cond.getExpression()));
-            cond.setExpression(realm.getKey());
-        }
-
-        CheckResult<AnyCond> checked = check(
-                cond,
-                anyUtilsFactory.getInstance(svs.anyTypeKind).getField(cond.getSchema()).
-                        orElseThrow(() -> new IllegalArgumentException("Invalid schema " + cond.getSchema())),
-                RELATIONSHIP_FIELDS);
+        CheckResult<AnyCond> checked = check(cond, svs);
 
         return switch (checked.cond().getType()) {
             case ISNULL ->
@@ -622,6 +722,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
     protected AnySearchNode.Leaf buildAdminRealmsFilter(
             final Set<String> realmKeys,
+            final boolean descendants,
             final SearchSupport svs,
             final List<Object> parameters) {
 
@@ -632,7 +733,12 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         String realmKeysArg = realmKeys.stream().
                 map(realmKey -> "?" + setParameter(parameters, realmKey)).
                 collect(Collectors.joining(","));
-        return new AnySearchNode.Leaf(defaultSV(svs), "realm_id IN (" + realmKeysArg + ")");
+        return new AnySearchNode.Leaf(
+                defaultSV(svs),
+                descendants
+                        ? "realm_id IN (SELECT descendant_id FROM " + JPARealmClosure.TABLE
+                        + " WHERE ancestor_id IN (" + realmKeysArg + "))"
+                        : "realm_id IN (" + realmKeysArg + ")");
     }
 
     protected AdminRealmsFilter getAdminRealmsFilter(
@@ -656,8 +762,12 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
                             return noRealm;
                         });
 
-                        realmKeys.addAll(realmSearchDAO.findDescendants(realm.getFullPath(), base.getFullPath()).
-                                stream().map(Realm::getKey).toList());
+                        // the subtree shared by admin realm and base is rooted at the deeper of the two, if any
+                        if (isSameOrDescendant(realm.getFullPath(), base.getFullPath())) {
+                            realmKeys.add(realm.getKey());
+                        } else if (isSameOrDescendant(base.getFullPath(), realm.getFullPath())) {
+                            realmKeys.add(base.getKey());
+                        }
                     }));
         } else {
             if (adminRealms.stream().anyMatch(r -> r.startsWith(base.getFullPath()))) {
@@ -665,7 +775,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             }
         }
 
-        return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, svs, parameters), managed);
+        return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, recursive, svs, parameters), managed);
     }
 
     protected void visitNode(
@@ -758,6 +868,218 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return queryString;
     }
 
+    /**
+     * Appends the shape of the given search condition - e.g. its tree where values to look for are left out - to the
+     * provided builder, as long as the query text generated for each of its leaves does not depend on such values.
+     *
+     * @param cond search condition
+     * @param shape builder receiving the shape
+     * @param svs search support
+     * @return whether a query template can be cached for the given search condition
+     */
+    protected boolean shape(final SearchCond cond, final StringBuilder shape, final SearchSupport svs) {
+        switch (cond.getType()) {
+            case LEAF, NOT_LEAF -> {
+                boolean not = cond.getType() == SearchCond.Type.NOT_LEAF;
+                if (not) {
+                    shape.append('!');
+                }
+
+                Optional<AnyCond> anyCond = cond.asLeaf(AnyCond.class);
+                if (anyCond.isPresent()) {
+                    shape.append(AnyCond.class.getSimpleName()).
+                            append('(').append(anyCond.get().getType()).
+                            append(',').append(anyCond.get().getSchema()).append(')');
+                    return true;
+                }
+
+                Optional<AttrCond> attrCond = cond.asLeaf(AttrCond.class);
+                if (attrCond.isPresent()) {
+                    // the schema definition may change over time
+                    CheckResult<AttrCond> checked = check(attrCond.get(), svs);
+                    shape.append(AttrCond.class.getSimpleName()).
+                            append('(').append(attrCond.get().getType()).
+                            append(',').append(checked.schema().getKey()).
+                            append(',').append(checked.schema().getType()).
+                            append(',').append(checked.schema().isUniqueConstraint()).
+                            append(',').append(checked.schema().isMultivalue()).
+                            append(',').append(checked.schema().isIndexed());
+                    boolean cacheable = shape(attrCond.get(), not, checked, shape);
+                    shape.append(')');
+                    return cacheable;
+                }
+
+                Optional<Class<? extends AbstractSearchCond>> leaf = TEMPLATE_LEAVES.stream().
+                        filter(clazz -> cond.asLeaf(clazz).isPresent()).findFirst();
+                leaf.ifPresent(clazz -> shape.append(clazz.getSimpleName()));
+                return leaf.isPresent();
+            }
+
+            default -> {
+                shape.append(cond.getType()).append('(');
+                if (!shape(cond.getLeft(), shape, svs)) {
+                    return false;
+                }
+                shape.append(',');
+                if (!shape(cond.getRight(), shape, svs)) {
+                    return false;
+                }
+                shape.append(')');
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Binds the parameter values which {@link #getQuery(AnyCond, boolean, List, SearchSupport)} would bind for the
+     * given condition, in the same order, without generating any query text.
+     *
+     * @param cond any condition
+     * @param parameters parameter values
+     * @param svs search support
+     */
+    protected void bind(final AnyCond cond, final List<Object> parameters, final SearchSupport svs) {
+        CheckResult<AnyCond> checked = check(cond, svs);
+
+        switch (checked.cond().getType()) {
+            case ISNULL, ISNOTNULL -> {
+            }
+
+            case LIKE, ILIKE -> {
+                if (checked.schema().getType() == AttrSchemaType.String
+                        || checked.schema().getType() == AttrSchemaType.Enum) {
+
+                    parameters.add(checked.cond().getExpression());
+                }
+            }
+
+            default ->
+                parameters.add(checked.value().getValue());
+        }
+    }
+
+    /**
+     * Binds the values from the leaves of the given search condition to the provided parameters, in the same order as
+     * {@link #getQuery(SearchCond, List, SearchSupport)} would, without generating any query text: only invoked for
+     * search conditions whose shape could be computed.
+     *
+     * @param cond search condition
+     * @param parameters parameter values
+     * @param svs search support
+     */
+    protected void bind(final SearchCond cond, final List<Object> parameters, final SearchSupport svs) {
+        switch (cond.getType()) {
+            case AND, OR -> {
+                bind(cond.getLeft(), parameters, svs);
+                bind(cond.getRight(), parameters, svs);
+            }
+
+            default -> {
+                boolean not = cond.getType() == SearchCond.Type.NOT_LEAF;
+
+                cond.asLeaf(AnyTypeCond.class).
+                        filter(leaf -> AnyTypeKind.ANY_OBJECT == svs.anyTypeKind).
+                        ifPresent(leaf -> parameters.add(leaf.getAnyTypeKey()));
+
+                cond.asLeaf(AuxClassCond.class).
+                        ifPresent(leaf -> parameters.add(leaf.getAuxClass()));
+
+                cond.asLeaf(RelationshipTypeCond.class).ifPresent(leaf -> {
+                    parameters.add(leaf.getRelationshipTypeKey());
+                    parameters.add(leaf.getRelationshipTypeKey());
+                });
+
+                cond.asLeaf(RoleCond.class).
+                        filter(leaf -> AnyTypeKind.USER == svs.anyTypeKind).
+                        ifPresent(leaf -> parameters.add(leaf.getRole()));
+
+                cond.asLeaf(ResourceCond.class).ifPresent(leaf -> {
+                    parameters.add(leaf.getResource());
+                    if (svs.anyTypeKind == AnyTypeKind.USER || svs.anyTypeKind == AnyTypeKind.ANY_OBJECT) {
+                        parameters.add(leaf.getResource());
+                    }
+                });
+
+                cond.asLeaf(AnyCond.class).ifPresentOrElse(
+                        anyCond -> bind(anyCond, parameters, svs),
+                        () -> cond.asLeaf(AttrCond.class).
+                                ifPresent(attrCond -> bind(attrCond, not, check(attrCond, svs), parameters)));
+            }
+        }
+    }
+
+    protected Optional<AnySearchQueryCache.Key> queryCacheKey(
+            final SearchCond cond,
+            final boolean recursive,
+            final int filterParameters,
+            final List<Sort.Order> orderBy,
+            final SearchSupport svs) {
+
+        // ordering by plain schemas depends on their current definition
+        AnyUtils anyUtils = anyUtilsFactory.getInstance(svs.anyTypeKind);
+        if (orderBy != null && orderBy.stream().anyMatch(clause -> anyUtils.getField(clause.getProperty()).isEmpty())) {
+            return Optional.empty();
+        }
+
+        StringBuilder shape = new StringBuilder();
+        if (!shape(cond, shape, svs)) {
+            return Optional.empty();
+        }
+
+        return Optional.of(new AnySearchQueryCache.Key(
+                AuthContextUtils.getDomain(),
+                svs.anyTypeKind,
+                shape.toString(),
+                recursive,
+                filterParameters,
+                orderBy));
+    }
+
+    /**
+     * Looks for a query template matching the given key: if found, binds the values from the given search condition
+     * to the provided parameters, without generating any query text.
+     *
+     * @param key cache key
+     * @param cond search condition
+     * @param parameters parameter values, already holding the ones for the admin realms filter
+     * @param svs search support
+     * @return query text, if a matching template was found
+     */
+    protected Optional<String> cachedQuery(
+            final AnySearchQueryCache.Key key,
+            final SearchCond cond,
+            final List<Object> parameters,
+            final SearchSupport svs) {
+
+        return queryCache.get(key).flatMap(template -> {
+            bind(cond, parameters, svs);
+            if (parameters.size() - key.filterParameters() == template.parameters()) {
+                LOG.debug("Cached query: {}, parameters: {}", template.query(), parameters);
+                return Optional.of(template.query());
+            }
+
+            LOG.debug("Binding plan mismatch for {}, generating query", key);
+            parameters.subList(key.filterParameters(), parameters.size()).clear();
+            return Optional.empty();
+        });
+    }
+
+    /**
+     * Caches the query text just generated for the given key, along with the number of parameters bound for the
+     * search condition while generating it.
+     *
+     * @param key cache key
+     * @param query query text
+     * @param parameters parameter values
+     */
+    protected void cacheQuery(
+            final AnySearchQueryCache.Key key,
+            final String query,
+            final List<Object> parameters) {
+
+        queryCache.put(key, new AnySearchQueryCache.Template(query, parameters.size() - key.filterParameters()));
+    }
+
     @Override
     protected long doCount(
             final Realm base,
@@ -772,24 +1094,31 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
         // 1. get admin realms filter
         AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+        SearchCond effectiveCond = buildEffectiveCond(cond, filter.managed(), kind);
+
+        // 2. look for a cached query template, binding parameters
+        Optional<AnySearchQueryCache.Key> cacheKey =
+                queryCacheKey(effectiveCond, recursive, parameters.size(), null, svs);
+        String queryString = cacheKey.flatMap(key -> cachedQuery(key, effectiveCond, parameters, svs)).orElse(null);
+        if (queryString == null) {
+            // 3. transform search condition
+            QueryInfo queryInfo = getQuery(effectiveCond, parameters, svs).orElse(null);
+            if (queryInfo == null) {
+                LOG.error("Invalid search condition: {}", cond);
+                return 0;
+            }
 
-        // 2. transform search condition
-        QueryInfo queryInfo = getQuery(
-                buildEffectiveCond(cond, filter.managed(), kind), parameters, svs).
-                orElse(null);
-        if (queryInfo == null) {
-            LOG.error("Invalid search condition: {}", cond);
-            return 0;
+            // 4. generate the query string
+            String generated = buildCountQuery(queryInfo, filter.filter(), parameters, svs);
+            cacheKey.ifPresent(key -> cacheQuery(key, generated, parameters));
+            queryString = generated;
         }
 
-        // 3. generate the query string
-        String queryString = buildCountQuery(queryInfo, filter.filter(), parameters, svs);
-
-        // 4. populate the search query with parameter values
+        // 5. populate the search query with parameter values
         Query countQuery = entityManager.createNativeQuery(queryString);
         fillWithParameters(countQuery, parameters);
 
-        // 5. execute the query and return the result
+        // 6. execute the query and return the result
         return ((Number) countQuery.getSingleResult()).intValue();
     }
 
@@ -921,9 +1250,7 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
         return queryString.toString();
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    protected <T extends Any> List<T> doSearch(
+    protected List<Object> searchKeys(
             final Realm base,
             final boolean recursive,
             final Set<String> adminRealms,
@@ -937,20 +1264,28 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
 
         // 1. get admin realms filter
         AdminRealmsFilter filter = getAdminRealmsFilter(base, recursive, adminRealms, parameters, svs);
+        SearchCond effectiveCond = buildEffectiveCond(cond, filter.managed(), kind);
+        List<Sort.Order> orderBy = pageable.getSort().toList();
+
+        // 2. look for a cached query template, binding parameters
+        Optional<AnySearchQueryCache.Key> cacheKey =
+                queryCacheKey(effectiveCond, recursive, parameters.size(), orderBy, svs);
+        String queryString = cacheKey.flatMap(key -> cachedQuery(key, effectiveCond, parameters, svs)).orElse(null);
+        if (queryString == null) {
+            // 3. transform search condition
+            QueryInfo queryInfo = getQuery(effectiveCond, parameters, svs).orElse(null);
+            if (queryInfo == null) {
+                LOG.error("Invalid search condition: {}", cond);
+                return List.of();
+            }
 
-        // 2. transform search condition
-        QueryInfo queryInfo = getQuery(
-                buildEffectiveCond(cond, filter.managed(), kind), parameters, svs).
-                orElse(null);
-        if (queryInfo == null) {
-            LOG.error("Invalid search condition: {}", cond);
-            return List.of();
+            // 4. generate the query string
+            String generated = buildSearchQuery(queryInfo, filter.filter(), parameters, svs, orderBy);
+            cacheKey.ifPresent(key -> cacheQuery(key, generated, parameters));
+            queryString = generated;
         }
 
-        // 3. generate the query string
-        String queryString = buildSearchQuery(queryInfo, filter.filter(), parameters, svs, pageable.getSort().toList());
-
-        // 4. prepare the search query
+        // 5. prepare the search query
         Query query = entityManager.createNativeQuery(queryString);
 
         if (pageable.isPaged()) {
@@ -958,10 +1293,145 @@ abstract class AbstractJPAAnySearchDAO extends AbstractAnySearchDAO {
             query.setMaxResults(pageable.getPageSize());
         }
 
-        // 5. populate the search query with parameter values
+        // 6. populate the search query with parameter values
         fillWithParameters(query, parameters);
 
-        // 6. prepare the result (avoiding duplicates)
-        return buildResult(query.getResultList(), kind);
+        @SuppressWarnings("unchecked")
+        List<Object> result = query.getResultList();
+        return result;
+    }
+
+    @Override
+    protected <T extends Any> List<T> doSearch(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind) {
+
+        // prepare the result (avoiding duplicates)
+        return buildResult(searchKeys(base, recursive, adminRealms, cond, pageable, kind), kind);
+    }
+
+    protected static String projectedColumn(final String field) {
+        return switch (field) {
+            case "key" ->
+                "e.id";
+            case "realm" ->
+                "r.fullPath";
+            case "type" ->
+                "e.type_id";
+            default ->
+                "e." + field;
+        };
+    }
+
+    protected static Object projectedValue(final String field, final Object value) {
+        if (value == null) {
+            return null;
+        }
+
+        if ("suspended".equals(field) || "mustChangePassword".equals(field)) {
+            return value instanceof Number number ? number.intValue() == 1 : Boolean.valueOf(value.toString());
+        }
+
+        return switch (value) {
+            case OffsetDateTime offsetDateTime ->
+                offsetDateTime;
+            case Timestamp timestamp ->
+                timestamp.toInstant().atOffset(ZoneOffset.UTC);
+            case Instant instant ->
+                instant.atOffset(ZoneOffset.UTC);
+            case Number number ->
+                number.intValue();
+            default ->
+                value.toString();
+        };
+    }
+
+    protected static String projectedJSON(final Object value) {
+        if (value instanceof Clob clob) {
+            try {
+                return clob.getSubString(1, (int) clob.length());
+            } catch (SQLException e) {
+                throw new IllegalStateException("While reading plain attributes", e);
+            }
+        }
+        return value == null ? null : value.toString();
+    }
+
+    /**
+     * Reads the requested columns straight from the any table, for the keys returned by the search query: neither
+     * entities nor their relations are loaded; plain attributes are decoded from their JSON column.
+     */
+    @Override
+    protected List<AnyProjection> doProject(
+            final Realm base,
+            final boolean recursive,
+            final Set<String> adminRealms,
+            final SearchCond cond,
+            final Pageable pageable,
+            final AnyTypeKind kind,
+            final Set<String> fields,
+            final Set<String> plainSchemas) {
+
+        List<String> keys = searchKeys(base, recursive, adminRealms, cond, pageable, kind).stream().
+                map(key -> key instanceof Object[] array ? (String) array[0] : (String) key).
+                distinct().
+                toList();
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        SearchSupport svs = new SearchViewSupport(kind);
+
+        List<String> projected = List.copyOf(fields);
+        StringBuilder select = new StringBuilder("SELECT e.id");
+        projected.forEach(field -> select.append(',').append(projectedColumn(field)));
+        if (!plainSchemas.isEmpty()) {
+            select.append(",e.plainAttrs");
+        }
+        select.append(" FROM ").append(svs.table().name()).append(" e");
+        if (fields.contains("realm")) {
+            select.append(" LEFT OUTER JOIN ").append(JPARealm.TABLE).append(" r ON e.realm_id=r.id");
+        }
+
+        Map<String, AnyProjection> projections = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += PROJECTION_BATCH_SIZE) {
+            List<String> batch = keys.subList(from, Math.min(keys.size(), from + PROJECTION_BATCH_SIZE));
+
+            List<Object> parameters = new ArrayList<>();
+            String queryString = select + " WHERE e.id IN ("
+                    + batch.stream().map(key -> "?" + setParameter(parameters, key)).collect(Collectors.joining(","))
+                    + ")";
+            LOG.debug("Query: {}, parameters: {}", queryString, parameters);
+
+            Query query = entityManager.createNativeQuery(queryString);
+            fillWithParameters(query, parameters);
+
+            @SuppressWarnings("unchecked")
+            List<Object> rows = query.getResultList();
+            for (Object result : rows) {
+                // a single selected column is not returned as array
+                Object[] row = result instanceof Object[] array ? array : new Object[] { result };
+
+                Map<String, Object> values = new HashMap<>();
+                for (int i = 0; i < projected.size(); i++) {
+                    values.put(projected.get(i), projectedValue(projected.get(i), row[i + 1]));
+                }
+
+                Map<String, List<String>> attrs = new HashMap<>();
+                Optional.ofNullable(projectedJSON(plainSchemas.isEmpty() ? null : row[projected.size() + 1])).
+                        ifPresent(json -> new LazyPlainAttrList(json).stream().
+                        filter(attr -> attr.getMembership() == null && attr.getRelationship() == null
+                        && plainSchemas.contains(attr.getSchema())).
+                        forEach(attr -> attrs.put(attr.getSchema(), attr.getValuesAsStrings())));
+
+                projections.put((String) row[0], new AnyProjection((String) row[0], values, attrs));
+            }
+        }
+
+        return keys.stream().map(projections::get).filter(Objects::nonNull).toList();
     }
 }
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.springframework.data.domain.Sort;
+
+/**
+ * Bounded cache of the native query templates generated by {@link AbstractJPAAnySearchDAO}.
+ *
+ * Templates are only built for search conditions whose query text does not depend on the values to look for: each
+ * template holds the query text, with positional placeholders, and the number of parameters expected from the search
+ * condition; parameter values are never cached, but bound again for each search, without generating any query text.
+ */
+public class AnySearchQueryCache {
+
+    /**
+     * Cache key.
+     *
+     * @param domain domain
+     * @param kind any type kind
+     * @param shape shape of the search condition, e.g. its tree where values to look for are left out
+     * @param recursive whether the admin realms filter includes descendant realms
+     * @param filterParameters number of realms in the admin realms filter
+     * @param orderBy ordering clauses, null for count queries
+     */
+    public record Key(
+            String domain,
+            AnyTypeKind kind,
+            String shape,
+            boolean recursive,
+            int filterParameters,
+            List<Sort.Order> orderBy) {
+
+    }
+
+    /**
+     * Query template.
+     *
+     * @param query query text, with positional placeholders
+     * @param parameters number of parameters expected from the search condition, besides the admin realms filter's
+     */
+    public record Template(String query, int parameters) {
+
+    }
+
+    protected final Map<Key, Template> templates;
+
+    public AnySearchQueryCache(final int maxSize) {
+        this.templates = new LinkedHashMap<>(16, 0.75f, true) {
+
+            private static final long serialVersionUID = 4009651497018066617L;
+
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Key, Template> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Optional<Template> get(final Key key) {
+        synchronized (templates) {
+            return Optional.ofNullable(templates.get(key));
+        }
+    }
+
+    public void put(final Key key, final Template template) {
+        synchronized (templates) {
+            templates.put(key, template);
+        }
+    }
+
+    public int size() {
+        synchronized (templates) {
+            return templates.size();
+        }
+    }
+
+    public void clear() {
+        synchronized (templates) {
+            templates.clear();
+        }
+    }
+}
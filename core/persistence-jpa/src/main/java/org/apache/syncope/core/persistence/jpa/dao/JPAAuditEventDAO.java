@@ -30,6 +30,7 @@ import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAuditEvent;
+import org.hibernate.Session;
 import org.springframework.data.domain.Pageable;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -107,6 +108,20 @@ public class JPAAuditEventDAO implements AuditEventDAO {
         return entityManager.merge(auditEvent);
     }
 
+    @Transactional
+    @Override
+    public void saveAll(final List<AuditEvent> auditEvents) {
+        Session session = entityManager.unwrap(Session.class);
+        Integer jdbcBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(auditEvents.size());
+        try {
+            auditEvents.forEach(entityManager::persist);
+            entityManager.flush();
+        } finally {
+            session.setJdbcBatchSize(jdbcBatchSize);
+        }
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
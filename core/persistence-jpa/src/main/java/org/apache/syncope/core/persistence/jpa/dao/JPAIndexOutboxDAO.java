@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.dao;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import jakarta.persistence.TypedQuery;
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.apache.syncope.core.persistence.jpa.entity.JPAIndexOutboxEntry;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class JPAIndexOutboxDAO implements IndexOutboxDAO {
+
+    protected final EntityManager entityManager;
+
+    public JPAIndexOutboxDAO(final EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public IndexOutboxEntry save(final IndexOutboxEntry entry) {
+        return entityManager.merge(entry);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<? extends IndexOutboxEntry> findOldest(final int max) {
+        TypedQuery<IndexOutboxEntry> query = entityManager.createQuery(
+                "SELECT e FROM " + JPAIndexOutboxEntry.class.getSimpleName() + " e "
+                + "ORDER BY e.id", IndexOutboxEntry.class);
+        query.setMaxResults(max);
+        return query.getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long count() {
+        Query query = entityManager.createQuery(
+                "SELECT COUNT(e) FROM " + JPAIndexOutboxEntry.class.getSimpleName() + " e");
+        return ((Number) query.getSingleResult()).longValue();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<OffsetDateTime> findOldestCreationDate() {
+        TypedQuery<OffsetDateTime> query = entityManager.createQuery(
+                "SELECT MIN(e.creationDate) FROM " + JPAIndexOutboxEntry.class.getSimpleName() + " e",
+                OffsetDateTime.class);
+        return Optional.ofNullable(query.getSingleResult());
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Query query = entityManager.createQuery(
+                "DELETE FROM " + JPAIndexOutboxEntry.class.getSimpleName() + " e WHERE e.id IN :keys");
+        query.setParameter("keys", keys.stream().map(Long::valueOf).toList());
+        query.executeUpdate();
+    }
+}
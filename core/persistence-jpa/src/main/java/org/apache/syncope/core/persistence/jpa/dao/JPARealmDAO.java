@@ -46,8 +46,10 @@ import org.apache.syncope.core.persistence.api.entity.policy.ProvisioningPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.TicketExpirationPolicy;
 import org.apache.syncope.core.persistence.api.search.SyncopePage;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
+import org.apache.syncope.core.persistence.jpa.entity.JPARealmClosure;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -211,6 +213,40 @@ public class JPARealmDAO implements RealmDAO {
         return new SyncopePage<>(query.getResultList(), pageable, count());
     }
 
+    protected JPARealmClosure newClosure(final JPARealm ancestor, final JPARealm descendant, final int depth) {
+        JPARealmClosure closure = new JPARealmClosure();
+        closure.setKey(SecureRandomUtils.generateRandomUUID().toString());
+        closure.setAncestor(ancestor);
+        closure.setDescendant(descendant);
+        closure.setDepth(depth);
+        return closure;
+    }
+
+    /**
+     * Rebuilds the ancestry rows of the given realm from the ones of its parent; rows having the given realm as
+     * ancestor are left untouched, as they remain valid when the realm is moved along with its subtree.
+     *
+     * @param realm realm to link
+     */
+    protected void linkClosure(final JPARealm realm) {
+        entityManager.createQuery(
+                "DELETE FROM " + JPARealmClosure.class.getSimpleName() + " e WHERE e.descendant=:realm").
+                setParameter("realm", realm).
+                executeUpdate();
+
+        entityManager.persist(newClosure(realm, realm, 0));
+
+        if (realm.getParent() != null) {
+            TypedQuery<JPARealmClosure> query = entityManager.createQuery(
+                    "SELECT e FROM " + JPARealmClosure.class.getSimpleName() + " e WHERE e.descendant=:parent",
+                    JPARealmClosure.class);
+            query.setParameter("parent", realm.getParent());
+
+            query.getResultList().forEach(parentClosure -> entityManager.persist(
+                    newClosure(parentClosure.getAncestor(), realm, parentClosure.getDepth() + 1)));
+        }
+    }
+
     @Override
     public <S extends Realm> S save(final S realm) {
         realmChecker.checkBeforeSave(realm);
@@ -226,6 +262,8 @@ public class JPARealmDAO implements RealmDAO {
         S merged = entityManager.merge(realm);
 
         if (!fullPathAfter.equals(fullPathBefore)) {
+            linkClosure((JPARealm) merged);
+
             realmSearchDAO.findChildren(realm).forEach(this::save);
         }
 
@@ -246,7 +284,14 @@ public class JPARealmDAO implements RealmDAO {
             return;
         }
 
-        realmSearchDAO.findDescendants(realm.getFullPath(), null).forEach(toBeDeleted -> {
+        List<Realm> descendants = realmSearchDAO.findDescendants(realm.getFullPath(), null);
+
+        entityManager.createQuery(
+                "DELETE FROM " + JPARealmClosure.class.getSimpleName() + " e WHERE e.descendant IN :realms").
+                setParameter("realms", descendants).
+                executeUpdate();
+
+        descendants.forEach(toBeDeleted -> {
             roleDAO.findByRealms(toBeDeleted).forEach(role -> role.getRealms().remove(toBeDeleted));
 
             toBeDeleted.setParent(null);
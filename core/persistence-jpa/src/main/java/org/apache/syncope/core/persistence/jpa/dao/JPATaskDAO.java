@@ -230,9 +230,7 @@ public class JPATaskDAO implements TaskDAO {
         return builder.append(' ');
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
+    protected StringBuilder buildFindToExecQuery(final TaskType type) {
         StringBuilder queryString = buildFindAllQuery(type).append("AND ");
 
         if (type == TaskType.NOTIFICATION) {
@@ -240,12 +238,36 @@ public class JPATaskDAO implements TaskDAO {
         } else {
             queryString.append("t.executions IS EMPTY ");
         }
-        queryString.append("ORDER BY t.id DESC");
+
+        return queryString;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
+        StringBuilder queryString = buildFindToExecQuery(type).append("ORDER BY t.id DESC");
 
         Query query = entityManager.createQuery(queryString.toString());
         return query.getResultList();
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Task<T>> List<T> findToExec(final TaskType type, final String after, final int size) {
+        StringBuilder queryString = buildFindToExecQuery(type);
+        if (after != null) {
+            queryString.append("AND t.id > :after ");
+        }
+        queryString.append("ORDER BY t.id ASC");
+
+        Query query = entityManager.createQuery(queryString.toString());
+        if (after != null) {
+            query.setParameter("after", after);
+        }
+        query.setMaxResults(size);
+        return query.getResultList();
+    }
+
     @Override
     public List<? extends Task<?>> findAll() {
         throw new UnsupportedOperationException();
@@ -19,14 +19,18 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
 
@@ -39,7 +43,8 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache queryCache) {
 
         super(
                 realmSearchDAO,
@@ -50,6 +55,18 @@ public class MariaDBJPAAnySearchDAO extends MySQLJPAAnySearchDAO {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                queryCache);
+    }
+
+    @Override
+    protected Optional<IndexedAttrCond> indexedAttrFilter(
+            final PlainSchema schema,
+            final PlainAttrValue attrValue,
+            final AttrCond cond,
+            final boolean not) {
+
+        // MariaDB does not support functional indexes
+        return Optional.empty();
     }
 }
@@ -19,9 +19,9 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Optional;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -40,6 +40,33 @@ import org.springframework.data.domain.Sort;
 
 public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
+    /**
+     * Builds the expression extracting the value of the given indexed schema from the {@code plainAttrs} JSON column,
+     * if the type of the given schema is supported by functional indexes; the same expression is used both for
+     * creating the index and for querying, so that the former can be used by the latter.
+     *
+     * @param schema indexed plain schema
+     * @return expression extracting the value of the given indexed schema
+     */
+    public static Optional<String> indexedAttrExpression(final PlainSchema schema) {
+        // the position of the given schema's attribute is looked up, then its schema member is replaced by the value's
+        String path = "REPLACE(JSON_UNQUOTE(JSON_SEARCH(plainAttrs, 'one', '"
+                + schema.getKey().replace("_", "!_") + "', '!', '$[*].schema')), '.schema', '."
+                + (schema.isUniqueConstraint() ? "uniqueValue" : "\"values\"[0]") + '.' + key(schema.getType()) + "')";
+        String value = "JSON_UNQUOTE(JSON_EXTRACT(plainAttrs, " + path + "))";
+
+        return switch (schema.getType()) {
+            case String, Enum ->
+                Optional.of("(CAST(" + value + " AS CHAR(" + PlainSchema.INDEXED_VALUE_MAX_LENGTH + ")))");
+
+            case Long ->
+                Optional.of("(CAST(" + value + " AS SIGNED))");
+
+            default ->
+                Optional.empty();
+        };
+    }
+
     public MySQLJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
@@ -49,7 +76,8 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache queryCache) {
 
         super(
                 realmSearchDAO,
@@ -60,7 +88,8 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                queryCache);
     }
 
     @Override
@@ -102,9 +131,7 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
         String key = key(schema.getType());
 
-        String value = Optional.ofNullable(attrValue.getDateValue()).
-                map(DateTimeFormatter.ISO_OFFSET_DATE_TIME::format).
-                orElseGet(cond::getExpression);
+        String value = jsonAttrValue(attrValue, cond);
 
         boolean lower = (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum)
                 && (cond.getType() == AttrCond.Type.IEQ || cond.getType() == AttrCond.Type.ILIKE);
@@ -174,6 +201,95 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return new AnySearchNode.Leaf(from, clause.toString());
     }
 
+    /**
+     * Builds the filter letting the functional index on the given schema restrict the candidates; as the index follows
+     * the database collation, such filter only complements the actual condition.
+     * Besides equality, the index can serve prefix matches and, for Long schemas, ranges: string ranges would follow
+     * the database collation, rather than JSON comparison, hence are not served.
+     *
+     * @param schema plain schema
+     * @param attrValue value to look for
+     * @param cond condition
+     * @param not whether the condition is negated
+     * @return operator and value to use with the functional index on the given schema, if applicable
+     */
+    protected Optional<IndexedAttrCond> indexedAttrFilter(
+            final PlainSchema schema,
+            final PlainAttrValue attrValue,
+            final AttrCond cond,
+            final boolean not) {
+
+        if (!schema.isIndexed() || not || indexedAttrExpression(schema).isEmpty()) {
+            return Optional.empty();
+        }
+
+        boolean isLong = schema.getType() == AttrSchemaType.Long;
+
+        String operator;
+        Object value;
+        switch (cond.getType()) {
+            case EQ -> {
+                operator = "=";
+                value = attrValue.getValue();
+            }
+
+            case LIKE -> {
+                String prefix = StringUtils.removeEnd(cond.getExpression(), "%");
+                if (isLong
+                        || prefix.equals(cond.getExpression())
+                        || StringUtils.containsAny(prefix, '%', '_', '\\')) {
+
+                    return Optional.empty();
+                }
+                operator = "LIKE";
+                value = prefix + '%';
+            }
+
+            case GE, GT, LE, LT -> {
+                if (!isLong) {
+                    return Optional.empty();
+                }
+                operator = switch (cond.getType()) {
+                    case GE ->
+                        ">=";
+                    case GT ->
+                        ">";
+                    case LE ->
+                        "<=";
+                    default ->
+                        "<";
+                };
+                value = attrValue.getValue();
+            }
+
+            default -> {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.ofNullable(value).map(v -> new IndexedAttrCond(operator, v));
+    }
+
+    protected String indexedAttrFilter(
+            final PlainSchema schema,
+            final IndexedAttrCond indexed,
+            final List<Object> parameters) {
+
+        return indexedAttrExpression(schema).orElseThrow()
+                + ' ' + indexed.operator() + " ?" + setParameter(parameters, indexed.value()) + " AND ";
+    }
+
+    protected static String jsonContains(final CheckResult<AttrCond> checked) {
+        PlainAttr container = new PlainAttr();
+        container.setPlainSchema(checked.schema());
+        if (checked.schema().isUniqueConstraint()) {
+            container.setUniqueValue(checked.value());
+        } else {
+            container.add(checked.value());
+        }
+        return POJOHelper.serialize(List.of(container));
+    }
+
     @Override
     protected AttrCondQuery getQuery(
             final AttrCond cond,
@@ -210,19 +326,17 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
 
             default -> {
                 if (!not && cond.getType() == AttrCond.Type.EQ) {
-                    PlainAttr container = new PlainAttr();
-                    container.setPlainSchema(checked.schema());
-                    if (checked.schema().isUniqueConstraint()) {
-                        container.setUniqueValue(checked.value());
-                    } else {
-                        container.add(checked.value());
-                    }
+                    StringBuilder clause = new StringBuilder();
 
-                    return new AttrCondQuery(true, new AnySearchNode.Leaf(
-                            svs.field(),
-                            "JSON_CONTAINS("
-                            + "plainAttrs, '" + POJOHelper.serialize(List.of(container)).replace("'", "''")
-                            + "')"));
+                    // let the functional index restrict the candidates, if available
+                    indexedAttrFilter(checked.schema(), checked.value(), cond, not).
+                            ifPresent(indexed -> clause.append(indexedAttrFilter(checked.schema(), indexed, parameters)));
+
+                    clause.append("JSON_CONTAINS(plainAttrs, ?").
+                            append(setParameter(parameters, jsonContains(checked))).
+                            append(')');
+
+                    return new AttrCondQuery(true, new AnySearchNode.Leaf(svs.field(), clause.toString()));
                 } else {
                     AnySearchNode.Leaf node;
                     if (not && checked.schema().isMultivalue()) {
@@ -240,6 +354,10 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                                 + " WHERE " + notNode.getClause().replace(notNode.getFrom().alias() + ".", "")
                                 + ")");
                     } else {
+                        // let the functional index restrict the candidates, if available
+                        Optional<String> filter = indexedAttrFilter(checked.schema(), checked.value(), cond, not).
+                                map(indexed -> indexedAttrFilter(checked.schema(), indexed, parameters));
+
                         node = filJSONAttrQuery(
                                 svs.field(),
                                 checked.value(),
@@ -247,10 +365,50 @@ public class MySQLJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                                 cond,
                                 not,
                                 parameters);
+                        if (filter.isPresent()) {
+                            node = new AnySearchNode.Leaf(node.getFrom(), filter.get() + node.getClause());
+                        }
                     }
                     return new AttrCondQuery(true, node);
                 }
             }
         }
     }
+
+    @Override
+    protected boolean shape(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final StringBuilder shape) {
+
+        // whether the functional index can be used depends on the value to look for, as for prefix matches
+        shape.append(',').append(indexedAttrFilter(checked.schema(), checked.value(), cond, not).isPresent());
+        return true;
+    }
+
+    @Override
+    protected void bind(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final List<Object> parameters) {
+
+        switch (cond.getType()) {
+            case ISNULL, ISNOTNULL -> {
+            }
+
+            default -> {
+                indexedAttrFilter(checked.schema(), checked.value(), cond, not).
+                        ifPresent(indexed -> parameters.add(indexed.value()));
+
+                if (!not && cond.getType() == AttrCond.Type.EQ) {
+                    parameters.add(jsonContains(checked));
+                } else {
+                    parameters.add(cond.getSchema());
+                    parameters.add(jsonAttrValue(checked.value(), cond));
+                }
+            }
+        }
+    }
 }
@@ -19,10 +19,8 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
-import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
@@ -66,7 +64,8 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache queryCache) {
 
         super(
                 realmSearchDAO,
@@ -77,7 +76,8 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                queryCache);
     }
 
     @Override
@@ -131,9 +131,7 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final boolean not,
             final List<Object> parameters) {
 
-        String value = Optional.ofNullable(attrValue.getDateValue()).
-                map(DateTimeFormatter.ISO_OFFSET_DATE_TIME::format).
-                orElseGet(cond::getExpression);
+        String value = jsonAttrValue(attrValue, cond);
 
         boolean lower = (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum)
                 && (cond.getType() == AttrCond.Type.IEQ || cond.getType() == AttrCond.Type.ILIKE);
@@ -264,6 +262,28 @@ public class OracleJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         }
     }
 
+    @Override
+    protected boolean shape(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final StringBuilder shape) {
+
+        return true;
+    }
+
+    @Override
+    protected void bind(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final List<Object> parameters) {
+
+        if (cond.getType() != AttrCond.Type.ISNULL && cond.getType() != AttrCond.Type.ISNOTNULL) {
+            parameters.add(jsonAttrValue(checked.value(), cond));
+        }
+    }
+
     @Override
     protected void visitNode(
             final AnySearchNode node,
@@ -19,7 +19,6 @@
 package org.apache.syncope.core.persistence.jpa.dao;
 
 import jakarta.persistence.EntityManager;
-import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
@@ -49,15 +48,40 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         for (char toEscape : REGEX_CHARS.toCharArray()) {
             output = output.replace(String.valueOf(toEscape), "\\" + toEscape);
         }
-        return output.replace("'", "''");
+        return output;
     }
 
     protected static String escapeIfString(final String value, final boolean isStr) {
         return isStr
-                ? new StringBuilder().append('"').append(value.replace("'", "''")).append('"').toString()
+                ? new StringBuilder().append('"').append(value).append('"').toString()
                 : value;
     }
 
+    /**
+     * Builds the expression extracting the value of the given indexed schema from the provided JSON column; the same
+     * expression is used both for creating the index and for querying, so that the former can be used by the latter.
+     *
+     * @param schema indexed plain schema
+     * @param plainAttrs JSON column holding plain attributes
+     * @return expression extracting the value of the given indexed schema
+     */
+    public static String indexedAttrExpression(final PlainSchema schema, final String plainAttrs) {
+        String value = "(jsonb_path_query_first(" + plainAttrs + ", '$[*] ? (@.schema == \"" + schema.getKey() + "\")."
+                + (schema.isUniqueConstraint() ? "\"uniqueValue\"" : "\"values\"[0]") + '.' + key(schema.getType())
+                + "') #>> '{}')";
+
+        return switch (schema.getType()) {
+            case Long ->
+                '(' + value + "::bigint)";
+
+            case Double ->
+                '(' + value + "::double precision)";
+
+            default ->
+                value;
+        };
+    }
+
     public PGJPAAnySearchDAO(
             final RealmSearchDAO realmSearchDAO,
             final UserDAO userDAO,
@@ -67,7 +91,8 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             final EntityFactory entityFactory,
             final AnyUtilsFactory anyUtilsFactory,
             final PlainAttrValidationManager validator,
-            final EntityManager entityManager) {
+            final EntityManager entityManager,
+            final AnySearchQueryCache queryCache) {
 
         super(
                 realmSearchDAO,
@@ -78,7 +103,8 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 entityFactory,
                 anyUtilsFactory,
                 validator,
-                entityManager);
+                entityManager,
+                queryCache);
     }
 
     @Override
@@ -122,18 +148,19 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         item.orderBy = svs.table().alias() + '.' + fieldName + ' ' + clause.getDirection().name();
     }
 
-    protected AnySearchNode.Leaf filJSONAttrQuery(
-            final SearchSupport.SearchView from,
-            final PlainAttrValue attrValue,
-            final PlainSchema schema,
-            final AttrCond cond,
-            final boolean not) {
-
+    /**
+     * Builds the JSON path matching the given condition; such path is bound as parameter, rather than being part of
+     * the query text, as it embeds the value to look for.
+     *
+     * @param attrValue value to look for
+     * @param schema plain schema
+     * @param cond condition
+     * @return JSON path matching the given condition, if the condition is compatible with the given schema
+     */
+    protected Optional<String> jsonPath(final PlainAttrValue attrValue, final PlainSchema schema, final AttrCond cond) {
         String key = key(schema.getType());
 
-        String value = Optional.ofNullable(attrValue.getDateValue()).
-                map(DateTimeFormatter.ISO_OFFSET_DATE_TIME::format).
-                orElseGet(cond::getExpression);
+        String value = jsonAttrValue(attrValue, cond);
 
         boolean isStr = true;
         boolean lower = false;
@@ -165,65 +192,69 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
             }
         }
 
-        StringBuilder clause = new StringBuilder();
+        StringBuilder path = new StringBuilder("$[*] ? (@.").append(key);
         switch (cond.getType()) {
             case ILIKE:
             case LIKE:
-                // jsonb_path_exists(Nome, '$[*] ? (@.stringValue like_regex "EL.*" flag "i")')
+                // $[*] ? (@.stringValue like_regex "EL.*" flag "i")
                 if (schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum) {
-                    clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                            append("(@.").append(key).append(" like_regex \"").
+                    path.append(" like_regex \"").
                             append(escapeForLikeRegex(value).replace("%", ".*")).
                             append("\"").
-                            append(lower ? " flag \"i\"" : "").append(")')");
+                            append(lower ? " flag \"i\"" : "");
                 } else {
                     LOG.error("LIKE is only compatible with string or enum schemas");
-                    clause.append(' ').append(ALWAYS_FALSE_CLAUSE);
+                    return Optional.empty();
                 }
                 break;
 
             case IEQ:
             case EQ:
             default:
-                clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                        append("(@.").append(key);
-
                 if (StringUtils.containsAny(value, REGEX_CHARS) || lower) {
-                    clause.append(" like_regex \"^").
-                            append(escapeForLikeRegex(value).replace("'", "''")).
+                    path.append(" like_regex \"^").
+                            append(escapeForLikeRegex(value)).
                             append("$\"");
                 } else {
-                    clause.append(" == ").append(escapeIfString(value, isStr));
+                    path.append(" == ").append(escapeIfString(value, isStr));
                 }
 
-                clause.append(lower ? " flag \"i\"" : "").append(")')");
+                path.append(lower ? " flag \"i\"" : "");
                 break;
 
             case GE:
-                clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                        append("(@.").append(key).append(" >= ").
-                        append(escapeIfString(value, isStr)).append(")')");
+                path.append(" >= ").append(escapeIfString(value, isStr));
                 break;
 
             case GT:
-                clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                        append("(@.").append(key).append(" > ").
-                        append(escapeIfString(value, isStr)).append(")')");
+                path.append(" > ").append(escapeIfString(value, isStr));
                 break;
 
             case LE:
-                clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                        append("(@.").append(key).append(" <= ").
-                        append(escapeIfString(value, isStr)).append(")')");
+                path.append(" <= ").append(escapeIfString(value, isStr));
                 break;
 
             case LT:
-                clause.append("jsonb_path_exists(").append(schema.getKey()).append(", '$[*] ? ").
-                        append("(@.").append(key).append(" < ").
-                        append(escapeIfString(value, isStr)).append(")')");
+                path.append(" < ").append(escapeIfString(value, isStr));
                 break;
         }
 
+        return Optional.of(path.append(')').toString());
+    }
+
+    protected AnySearchNode.Leaf filJSONAttrQuery(
+            final SearchSupport.SearchView from,
+            final PlainAttrValue attrValue,
+            final PlainSchema schema,
+            final AttrCond cond,
+            final boolean not,
+            final List<Object> parameters) {
+
+        StringBuilder clause = jsonPath(attrValue, schema, cond).
+                map(path -> new StringBuilder("jsonb_path_exists(").append(schema.getKey()).
+                append(", CAST(?").append(setParameter(parameters, path)).append(" AS jsonpath))")).
+                orElseGet(() -> new StringBuilder(" ").append(ALWAYS_FALSE_CLAUSE));
+
         if (not) {
             clause.insert(0, "NOT ");
         }
@@ -231,6 +262,74 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
         return new AnySearchNode.Leaf(from, clause.toString());
     }
 
+    /**
+     * Tells whether the index on the given schema can be used for the given condition, and how.
+     *
+     * @param attrValue value to look for
+     * @param schema plain schema
+     * @param cond condition
+     * @param not whether the condition is negated
+     * @return operator and value to use with the index on the given schema, if applicable
+     */
+    protected Optional<IndexedAttrCond> indexedAttrCond(
+            final PlainAttrValue attrValue,
+            final PlainSchema schema,
+            final AttrCond cond,
+            final boolean not) {
+
+        if (!schema.isIndexed() || not) {
+            return Optional.empty();
+        }
+
+        boolean isNumber = schema.getType() == AttrSchemaType.Long || schema.getType() == AttrSchemaType.Double;
+
+        String operator;
+        Object value;
+        switch (cond.getType()) {
+            case EQ -> {
+                operator = "=";
+                value = attrValue.getValue();
+            }
+
+            case LIKE -> {
+                // only prefix matches can take advantage of the index
+                String prefix = StringUtils.removeEnd(cond.getExpression(), "%");
+                if (isNumber
+                        || prefix.equals(cond.getExpression())
+                        || StringUtils.containsAny(prefix, '%', '_', '\\')) {
+
+                    return Optional.empty();
+                }
+                operator = "LIKE";
+                value = prefix + '%';
+            }
+
+            // string ranges would follow database collation, rather than JSON path comparison
+            case GE, GT, LE, LT -> {
+                if (!isNumber) {
+                    return Optional.empty();
+                }
+                operator = switch (cond.getType()) {
+                    case GE ->
+                        ">=";
+                    case GT ->
+                        ">";
+                    case LE ->
+                        "<=";
+                    default ->
+                        "<";
+                };
+                value = attrValue.getValue();
+            }
+
+            default -> {
+                return Optional.empty();
+            }
+        }
+
+        return Optional.ofNullable(value).map(v -> new IndexedAttrCond(operator, v));
+    }
+
     @Override
     protected AttrCondQuery getQuery(
             final AttrCond cond,
@@ -260,15 +359,52 @@ public class PGJPAAnySearchDAO extends AbstractJPAAnySearchDAO {
                 "NOT jsonb_path_exists(" + checked.schema().getKey() + ",'$[*]')"));
 
             default ->
-                new AttrCondQuery(true, filJSONAttrQuery(
+                indexedAttrCond(checked.value(), checked.schema(), cond, not).
+                map(indexed -> new AttrCondQuery(false, new AnySearchNode.Leaf(
+                svs.table(),
+                indexedAttrExpression(checked.schema(), svs.table().alias() + ".plainAttrs")
+                + ' ' + indexed.operator() + " ?" + setParameter(parameters, indexed.value())))).
+                orElseGet(() -> new AttrCondQuery(true, filJSONAttrQuery(
                 svs.table(),
                 checked.value(),
                 checked.schema(),
                 cond,
-                not));
+                not,
+                parameters)));
         };
     }
 
+    @Override
+    protected boolean shape(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final StringBuilder shape) {
+
+        // whether the index can be used depends on the value to look for, as for prefix matches
+        shape.append(',').append(indexedAttrCond(checked.value(), checked.schema(), cond, not).isPresent());
+        return true;
+    }
+
+    @Override
+    protected void bind(
+            final AttrCond cond,
+            final boolean not,
+            final CheckResult<AttrCond> checked,
+            final List<Object> parameters) {
+
+        switch (cond.getType()) {
+            case ISNULL, ISNOTNULL -> {
+            }
+
+            default ->
+                indexedAttrCond(checked.value(), checked.schema(), cond, not).
+                        map(IndexedAttrCond::value).
+                        or(() -> jsonPath(checked.value(), checked.schema(), cond)).
+                        ifPresent(parameters::add);
+        }
+    }
+
     @Override
     protected void visitNode(
             final AnySearchNode node,
@@ -18,7 +18,11 @@
  */
 package org.apache.syncope.core.persistence.jpa.dao;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.common.dao.AbstractSearchDAO;
 import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
@@ -33,6 +37,11 @@ public class SearchSupport {
 
     protected boolean nonMandatorySchemas = false;
 
+    /**
+     * Outcome of checking each attribute condition involved in the current search, so that it is only checked once.
+     */
+    protected final Map<AttrCond, AbstractSearchDAO.CheckResult<?>> checked = new IdentityHashMap<>();
+
     public SearchSupport(final AnyTypeKind anyTypeKind) {
         this.anyTypeKind = anyTypeKind;
     }
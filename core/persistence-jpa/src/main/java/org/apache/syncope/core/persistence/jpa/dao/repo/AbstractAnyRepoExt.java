@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.dao.AnyChecker;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
@@ -106,6 +108,44 @@ public abstract class AbstractAnyRepoExt<A extends Any> implements AnyRepoExt<A>
                 key);
     }
 
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeys(final String after, final String before, final int size) {
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(anyUtils.anyClass().getSimpleName()).append(" e WHERE 1=1");
+        Optional.ofNullable(after).ifPresent(a -> queryString.append(" AND e.id > :after"));
+        Optional.ofNullable(before).ifPresent(b -> queryString.append(" AND e.id < :before"));
+        queryString.append(" ORDER BY e.id");
+
+        TypedQuery<String> query = entityManager.createQuery(queryString.toString(), String.class);
+        Optional.ofNullable(after).ifPresent(a -> query.setParameter("after", a));
+        Optional.ofNullable(before).ifPresent(b -> query.setParameter("before", b));
+        return query.setMaxResults(size).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeysAt(final int offset, final int size) {
+        TypedQuery<String> query = entityManager.createQuery(
+                "SELECT e.id FROM " + anyUtils.anyClass().getSimpleName() + " e ORDER BY e.id", String.class);
+        return query.setFirstResult(offset).setMaxResults(size).getResultList();
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<String> findKeysChangedSince(final OffsetDateTime since, final String after, final int size) {
+        StringBuilder queryString = new StringBuilder("SELECT e.id FROM ").
+                append(anyUtils.anyClass().getSimpleName()).
+                append(" e WHERE (e.creationDate >= :since OR e.lastChangeDate >= :since)");
+        Optional.ofNullable(after).ifPresent(a -> queryString.append(" AND e.id > :after"));
+        queryString.append(" ORDER BY e.id");
+
+        TypedQuery<String> query = entityManager.createQuery(queryString.toString(), String.class);
+        query.setParameter("since", since);
+        Optional.ofNullable(after).ifPresent(a -> query.setParameter("after", a));
+        return query.setMaxResults(size).getResultList();
+    }
+
     protected abstract void securityChecks(A any);
 
     @SuppressWarnings("unchecked")
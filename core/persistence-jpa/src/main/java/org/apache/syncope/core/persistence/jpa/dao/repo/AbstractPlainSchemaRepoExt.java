@@ -19,11 +19,19 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
 import jakarta.persistence.Query;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyTypeClass;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
@@ -34,24 +42,40 @@ import org.apache.syncope.core.persistence.jpa.entity.anyobject.JPAAnyObject;
 import org.apache.syncope.core.persistence.jpa.entity.group.JPAGroup;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPALinkedAccount;
 import org.apache.syncope.core.persistence.jpa.entity.user.JPAUser;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implements PlainSchemaRepoExt {
 
+    protected static final Logger LOG = LoggerFactory.getLogger(PlainSchemaRepoExt.class);
+
     protected static final List<String> TABLES = List.of(
             JPAUser.TABLE, JPAGroup.TABLE, JPAAnyObject.TABLE, JPALinkedAccount.TABLE, JPARealm.TABLE);
 
+    protected static final List<String> INDEXED_TABLES = List.of(JPAUser.TABLE, JPAGroup.TABLE, JPAAnyObject.TABLE);
+
     protected final AnyUtilsFactory anyUtilsFactory;
 
     protected final ExternalResourceDAO resourceDAO;
 
+    protected final DomainHolder<DataSource> domainHolder;
+
     protected AbstractPlainSchemaRepoExt(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
         super(entityManager);
         this.anyUtilsFactory = anyUtilsFactory;
         this.resourceDAO = resourceDAO;
+        this.domainHolder = domainHolder;
     }
 
     @Override
@@ -69,6 +93,162 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
         return ((Number) query.getSingleResult()).longValue() > 0;
     }
 
+    /**
+     * Executes the given DDL action once the current transaction has committed, on a dedicated auto-commit connection
+     * to the current domain's database: some databases implicitly commit the ongoing transaction on DDL, others lock
+     * the table being indexed until the transaction ends.
+     * Failures are logged, as the schema change is already committed by then.
+     *
+     * @param ddl DDL action
+     */
+    protected void executeDDL(final Consumer<JdbcTemplate> ddl) {
+        DataSource dataSource = domainHolder.getDomains().get(AuthContextUtils.getDomain());
+        Runnable action = () -> {
+            try (Connection conn = dataSource.getConnection()) {
+                conn.setAutoCommit(true);
+                // wrap the connection, otherwise JdbcTemplate would pick up the one bound to the committed transaction
+                ddl.accept(new JdbcTemplate(new SingleConnectionDataSource(conn, true)));
+            } catch (SQLException | DataAccessException e) {
+                LOG.error("While executing index DDL", e);
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * Executes the given DDL statements once the current transaction has committed.
+     *
+     * @param statements DDL statements
+     * @see #executeDDL(java.util.function.Consumer)
+     */
+    protected void executeDDL(final List<String> statements) {
+        executeDDL(jdbcTemplate -> statements.forEach(jdbcTemplate::execute));
+    }
+
+    /**
+     * Creates the database indexes supporting searches on the given indexed schema, if not already present.
+     * Does nothing by default, as not all supported databases can index the values of a single plain schema.
+     *
+     * @param schema indexed plain schema
+     */
+    protected void createIndexes(final PlainSchema schema) {
+        // nothing to do
+    }
+
+    /**
+     * Drops the database indexes supporting searches on the given schema, if present.
+     * Does nothing by default, matching {@link #createIndexes(PlainSchema)}.
+     *
+     * @param schema plain schema
+     */
+    protected void dropIndexes(final PlainSchema schema) {
+        // nothing to do
+    }
+
+    /**
+     * Builds the name of the index on the given table for the given schema, bounded to the given length in bytes:
+     * longer names are truncated and made unique by a short hash of table and schema key.
+     *
+     * @param table indexed table
+     * @param schema indexed plain schema
+     * @param maxLength maximum identifier length, in bytes
+     * @return index name
+     */
+    protected static String indexName(final String table, final PlainSchema schema, final int maxLength) {
+        String name = table + '_' + schema.getKey() + "_idx";
+
+        if (name.getBytes(StandardCharsets.UTF_8).length > maxLength) {
+            String suffix = '_' + UUID.nameUUIDFromBytes((table + '.' + schema.getKey()).
+                    getBytes(StandardCharsets.UTF_8)).toString().replace("-", "").substring(0, 12) + "_idx";
+
+            StringBuilder prefix = new StringBuilder();
+            int length = suffix.length();
+            for (int codePoint : name.codePoints().toArray()) {
+                length += new String(Character.toChars(codePoint)).getBytes(StandardCharsets.UTF_8).length;
+                if (length > maxLength) {
+                    break;
+                }
+                prefix.appendCodePoint(codePoint);
+            }
+            name = prefix + suffix;
+        }
+
+        return name;
+    }
+
+    /**
+     * Indexing flags as currently persisted for a plain schema.
+     *
+     * @param indexed whether the schema is indexed
+     * @param uniqueConstraint whether the schema has unique constraint, which determines where values are stored
+     */
+    protected record PersistedIndexing(boolean indexed, boolean uniqueConstraint) {
+
+    }
+
+    protected static boolean toBoolean(final Object value) {
+        return switch (value) {
+            case null ->
+                false;
+            case Boolean bool ->
+                bool;
+            case Number number ->
+                number.intValue() == 1;
+            default ->
+                Boolean.parseBoolean(value.toString());
+        };
+    }
+
+    /**
+     * Reads the indexing flags as currently persisted for the given schema, without flushing: the instance being saved
+     * might be the managed one, already carrying the new values.
+     *
+     * @param key plain schema key
+     * @return indexing flags currently persisted for the given schema
+     */
+    protected PersistedIndexing persistedIndexing(final String key) {
+        List<?> result = entityManager.createNativeQuery(
+                "SELECT indexed, uniqueConstraint FROM " + JPAPlainSchema.TABLE + " WHERE id=?1").
+                setFlushMode(FlushModeType.COMMIT).
+                setParameter(1, key).
+                getResultList();
+
+        return result.stream().findFirst().
+                map(Object[].class::cast).
+                map(row -> new PersistedIndexing(toBoolean(row[0]), toBoolean(row[1]))).
+                orElseGet(() -> new PersistedIndexing(false, false));
+    }
+
+    @Override
+    public <S extends PlainSchema> S save(final S schema) {
+        PersistedIndexing persisted = persistedIndexing(schema.getKey());
+
+        S merged = entityManager.merge(schema);
+
+        // only run DDL when the indexed flag actually changes, or when the indexed expression does
+        if (merged.isIndexed() && !persisted.indexed()) {
+            createIndexes(merged);
+        } else if (!merged.isIndexed() && persisted.indexed()) {
+            dropIndexes(merged);
+        } else if (merged.isIndexed() && merged.isUniqueConstraint() != persisted.uniqueConstraint()) {
+            dropIndexes(merged);
+            createIndexes(merged);
+        }
+
+        return merged;
+    }
+
     @Override
     public void deleteById(final String key) {
         PlainSchema schema = entityManager.find(JPAPlainSchema.class, key);
@@ -80,6 +260,10 @@ abstract class AbstractPlainSchemaRepoExt extends AbstractSchemaRepoExt implemen
 
         Optional.ofNullable(schema.getAnyTypeClass()).ifPresent(c -> c.getPlainSchemas().remove(schema));
 
+        if (schema.isIndexed()) {
+            dropIndexes(schema);
+        }
+
         entityManager.remove(schema);
     }
 }
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import java.time.OffsetDateTime;
 import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
@@ -29,6 +30,12 @@ public interface AnyRepoExt<A extends Any> {
 
     Optional<OffsetDateTime> findLastChange(String key);
 
+    List<String> findKeys(String after, String before, int size);
+
+    List<String> findKeysAt(int offset, int size);
+
+    List<String> findKeysChangedSince(OffsetDateTime since, String after, int size);
+
     A authFind(String key);
 
     Collection<String> findAllResourceKeys(String key);
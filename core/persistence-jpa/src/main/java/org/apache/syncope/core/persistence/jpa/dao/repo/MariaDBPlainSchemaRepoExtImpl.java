@@ -19,16 +19,30 @@
 package org.apache.syncope.core.persistence.jpa.dao.repo;
 
 import jakarta.persistence.EntityManager;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
+import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 
 public class MariaDBPlainSchemaRepoExtImpl extends MySQLPlainSchemaRepoExtImpl {
 
     public MariaDBPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, domainHolder, entityManager);
+    }
+
+    @Override
+    protected void createIndexes(final PlainSchema schema) {
+        // MariaDB does not support functional indexes
+    }
+
+    @Override
+    protected void dropIndexes(final PlainSchema schema) {
+        // no index was created
     }
 }
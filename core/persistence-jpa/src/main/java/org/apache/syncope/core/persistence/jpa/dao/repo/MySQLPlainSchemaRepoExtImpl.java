@@ -21,15 +21,19 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.util.List;
+import javax.sql.DataSource;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.MySQLJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.SearchSupport;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.springframework.jdbc.core.JdbcTemplate;
 
 public class MySQLPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
 
@@ -41,9 +45,49 @@ public class MySQLPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
     public MySQLPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, domainHolder, entityManager);
+    }
+
+    /**
+     * Maximum length of MySQL identifiers.
+     */
+    protected static final int MAX_IDENTIFIER_LENGTH = 64;
+
+    protected static boolean indexExists(final JdbcTemplate jdbcTemplate, final String table, final String name) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.statistics "
+                + "WHERE table_schema = DATABASE() AND table_name = ? AND index_name = ?",
+                Integer.class, table, name) > 0;
+    }
+
+    /**
+     * Creates, if not already present, the functional indexes on the expression returned by
+     * {@link MySQLJPAAnySearchDAO#indexedAttrExpression(PlainSchema)}, only covering the values of the given schema.
+     *
+     * @param schema indexed plain schema
+     */
+    @Override
+    protected void createIndexes(final PlainSchema schema) {
+        MySQLJPAAnySearchDAO.indexedAttrExpression(schema).ifPresent(expression -> executeDDL(
+                jdbcTemplate -> INDEXED_TABLES.stream().
+                        filter(table -> !indexExists(jdbcTemplate, table, indexName(table, schema))).
+                        forEach(table -> jdbcTemplate.execute(
+                        "CREATE INDEX `" + indexName(table, schema) + "` ON " + table + " (" + expression + ")"))));
+    }
+
+    @Override
+    protected void dropIndexes(final PlainSchema schema) {
+        executeDDL(jdbcTemplate -> INDEXED_TABLES.stream().
+                filter(table -> indexExists(jdbcTemplate, table, indexName(table, schema))).
+                forEach(table -> jdbcTemplate.execute(
+                "DROP INDEX `" + indexName(table, schema) + "` ON " + table)));
+    }
+
+    protected static String indexName(final String table, final PlainSchema schema) {
+        return indexName(table, schema, MAX_IDENTIFIER_LENGTH);
     }
 
     @Override
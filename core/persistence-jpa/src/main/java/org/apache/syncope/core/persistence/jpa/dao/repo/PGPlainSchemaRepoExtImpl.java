@@ -21,13 +21,17 @@ package org.apache.syncope.core.persistence.jpa.dao.repo;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
 import java.util.List;
+import javax.sql.DataSource;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.common.lib.types.AttrSchemaType;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.AnyUtilsFactory;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.jpa.dao.PGJPAAnySearchDAO;
 import org.apache.syncope.core.persistence.jpa.dao.SearchSupport;
 import org.apache.syncope.core.persistence.jpa.entity.JPARealm;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
@@ -40,9 +44,45 @@ public class PGPlainSchemaRepoExtImpl extends AbstractPlainSchemaRepoExt {
     public PGPlainSchemaRepoExtImpl(
             final AnyUtilsFactory anyUtilsFactory,
             final ExternalResourceDAO resourceDAO,
+            final DomainHolder<DataSource> domainHolder,
             final EntityManager entityManager) {
 
-        super(anyUtilsFactory, resourceDAO, entityManager);
+        super(anyUtilsFactory, resourceDAO, domainHolder, entityManager);
+    }
+
+    /**
+     * Maximum length, in bytes, of PostgreSQL identifiers: longer ones are silently truncated.
+     */
+    protected static final int MAX_IDENTIFIER_LENGTH = 63;
+
+    protected static String indexName(final String table, final PlainSchema schema) {
+        return '"' + indexName(table, schema, MAX_IDENTIFIER_LENGTH) + '"';
+    }
+
+    /**
+     * Creates the expression indexes without blocking writes on the indexed tables; being built concurrently,
+     * they are only used by the planner once valid.
+     *
+     * @param schema indexed plain schema
+     */
+    @Override
+    protected void createIndexes(final PlainSchema schema) {
+        // text_pattern_ops allows the index to serve prefix LIKE as well as equality
+        String opclass = schema.getType() == AttrSchemaType.String || schema.getType() == AttrSchemaType.Enum
+                ? " text_pattern_ops"
+                : StringUtils.EMPTY;
+
+        executeDDL(INDEXED_TABLES.stream().map(table -> "CREATE INDEX CONCURRENTLY IF NOT EXISTS "
+                + indexName(table, schema) + " ON " + table
+                + " (" + PGJPAAnySearchDAO.indexedAttrExpression(schema, "plainAttrs") + opclass + ")").
+                toList());
+    }
+
+    @Override
+    protected void dropIndexes(final PlainSchema schema) {
+        executeDDL(INDEXED_TABLES.stream().
+                map(table -> "DROP INDEX CONCURRENTLY IF EXISTS " + indexName(table, schema)).
+                toList());
     }
 
     @Override
@@ -35,5 +35,7 @@ public interface PlainSchemaRepoExt {
 
     boolean existsPlainAttrUniqueValue(AnyUtils anyUtils, String anyKey, PlainSchema schema, PlainAttrValue attrValue);
 
+    <S extends PlainSchema> S save(S schema);
+
     void deleteById(String key);
 }
@@ -28,6 +28,8 @@ import java.util.stream.Stream;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.entity.JPAReportExec;
+import org.apache.syncope.core.persistence.jpa.entity.JPAReportExecChunk;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.ReflectionUtils;
@@ -164,6 +166,56 @@ public class ReportExecRepoExtImpl implements ReportExecRepoExt {
     public void delete(final ReportExec execution) {
         Optional.ofNullable(execution.getReport()).ifPresent(report -> report.getExecs().remove(execution));
 
+        deleteResultChunks(execution);
         entityManager.remove(execution);
     }
+
+    @Override
+    public void saveResultChunk(
+            final ReportExec execution,
+            final int seq,
+            final int contentLength,
+            final byte[] content) {
+
+        JPAReportExecChunk chunk = new JPAReportExecChunk();
+        chunk.setKey(SecureRandomUtils.generateRandomUUID().toString());
+        chunk.setExecKey(execution.getKey());
+        chunk.setSeq(seq);
+        chunk.setContentLength(contentLength);
+        chunk.setContent(content);
+
+        // write through and evict right away, not to keep the whole result in the persistence context
+        entityManager.persist(chunk);
+        entityManager.flush();
+        entityManager.detach(chunk);
+    }
+
+    @Override
+    public List<Integer> findResultChunkLengths(final ReportExec execution) {
+        TypedQuery<Integer> query = entityManager.createQuery(
+                "SELECT e.contentLength FROM " + JPAReportExecChunk.class.getSimpleName() + " e "
+                + "WHERE e.execKey=:execKey ORDER BY e.seq ASC", Integer.class);
+        query.setParameter("execKey", execution.getKey());
+
+        return query.getResultList();
+    }
+
+    @Override
+    public Optional<byte[]> findResultChunk(final ReportExec execution, final int seq) {
+        TypedQuery<byte[]> query = entityManager.createQuery(
+                "SELECT e.content FROM " + JPAReportExecChunk.class.getSimpleName() + " e "
+                + "WHERE e.execKey=:execKey AND e.seq=:seq", byte[].class);
+        query.setParameter("execKey", execution.getKey());
+        query.setParameter("seq", seq);
+
+        return query.getResultList().stream().findFirst();
+    }
+
+    @Override
+    public void deleteResultChunks(final ReportExec execution) {
+        Query query = entityManager.createQuery(
+                "DELETE FROM " + JPAReportExecChunk.class.getSimpleName() + " e WHERE e.execKey=:execKey");
+        query.setParameter("execKey", execution.getKey());
+        query.executeUpdate();
+    }
 }
@@ -34,6 +34,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.FIQLQuery;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 import org.apache.syncope.core.persistence.api.entity.MailTemplate;
 import org.apache.syncope.core.persistence.api.entity.Notification;
@@ -243,6 +244,8 @@ abstract class AbstractEntityFactory implements EntityFactory {
             result = (E) new JPARemediation();
         } else if (reference.equals(Batch.class)) {
             result = (E) new JPABatch();
+        } else if (reference.equals(IndexOutboxEntry.class)) {
+            result = (E) new JPAIndexOutboxEntry();
         } else if (reference.equals(Delegation.class)) {
             result = (E) new JPADelegation();
         } else if (reference.equals(FIQLQuery.class)) {
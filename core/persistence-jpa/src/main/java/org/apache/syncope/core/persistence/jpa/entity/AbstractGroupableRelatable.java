@@ -26,6 +26,7 @@ import org.apache.syncope.core.persistence.api.entity.Membership;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
 
 public abstract class AbstractGroupableRelatable<
         L extends Any, 
@@ -44,18 +45,14 @@ public abstract class AbstractGroupableRelatable<
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema) {
-        return plainAttrs().stream().
-                filter(attr -> attr.getMembership() == null && attr.getRelationship() == null
-                && plainSchema.equals(attr.getSchema())).
-                findFirst();
+        return LazyPlainAttrList.find(
+                plainAttrs(), plainSchema, attr -> attr.getMembership() == null && attr.getRelationship() == null);
     }
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema, final Membership<?> membership) {
-        return plainAttrs().stream().
-                filter(attr -> plainSchema.equals(attr.getSchema())
-                && membership.getKey().equals(attr.getMembership())).
-                findFirst();
+        return LazyPlainAttrList.find(
+                plainAttrs(), plainSchema, attr -> membership.getKey().equals(attr.getMembership()));
     }
 
     @Override
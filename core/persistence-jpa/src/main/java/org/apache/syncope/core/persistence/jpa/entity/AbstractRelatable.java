@@ -26,6 +26,7 @@ import org.apache.syncope.core.persistence.api.entity.Relatable;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
 import org.apache.syncope.core.persistence.api.entity.RelationshipType;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
 
 public abstract class AbstractRelatable<
         L extends Any,
@@ -38,10 +39,8 @@ public abstract class AbstractRelatable<
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema, final Relationship<?, ?> relationship) {
-        return plainAttrs().stream().
-                filter(attr -> plainSchema.equals(attr.getSchema())
-                && relationship.getKey().equals(attr.getRelationship())).
-                findFirst();
+        return LazyPlainAttrList.find(
+                plainAttrs(), plainSchema, attr -> relationship.getKey().equals(attr.getRelationship()));
     }
 
     @Override
@@ -31,6 +31,7 @@ import jakarta.persistence.Table;
 import jakarta.validation.constraints.NotNull;
 import java.util.HashMap;
 import java.util.Map;
+import org.apache.commons.lang3.BooleanUtils;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.CipherAlgorithm;
 import org.apache.syncope.common.lib.types.IdRepoImplementationType;
@@ -71,6 +72,8 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
 
     private Boolean readonly = false;
 
+    private Boolean indexed = false;
+
     @Column(nullable = true)
     private String conversionPattern;
 
@@ -155,6 +158,16 @@ public class JPAPlainSchema extends AbstractSchema implements PlainSchema {
         this.readonly = readonly;
     }
 
+    @Override
+    public boolean isIndexed() {
+        return BooleanUtils.isTrue(indexed);
+    }
+
+    @Override
+    public void setIndexed(final boolean indexed) {
+        this.indexed = indexed;
+    }
+
     @Override
     public Implementation getValidator() {
         return validator;
@@ -52,6 +52,7 @@ import org.apache.syncope.core.persistence.api.entity.policy.AuthPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.PasswordPolicy;
 import org.apache.syncope.core.persistence.api.entity.policy.TicketExpirationPolicy;
 import org.apache.syncope.core.persistence.common.validation.RealmCheck;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
 import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAAccessPolicy;
 import org.apache.syncope.core.persistence.jpa.entity.policy.JPAAccountPolicy;
@@ -172,9 +173,7 @@ public class JPARealm extends AbstractAttributable implements Realm {
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema) {
-        return plainAttrs.stream().
-                filter(attr -> plainSchema.equals(attr.getSchema())).
-                findFirst();
+        return LazyPlainAttrList.find(plainAttrs, plainSchema, attr -> true);
     }
 
     @Override
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+
+/**
+ * Materialized realm ancestry: one row for each (ancestor, descendant) pair, including the realm itself at depth 0.
+ * Maintained by {@link org.apache.syncope.core.persistence.jpa.dao.JPARealmDAO}.
+ */
+@Entity
+@Table(name = JPARealmClosure.TABLE, uniqueConstraints =
+        @UniqueConstraint(columnNames = { "ancestor_id", "descendant_id" }))
+public class JPARealmClosure extends AbstractGeneratedKeyEntity {
+
+    private static final long serialVersionUID = -3437608207462098357L;
+
+    public static final String TABLE = "RealmClosure";
+
+    @NotNull
+    @ManyToOne
+    private JPARealm ancestor;
+
+    @NotNull
+    @ManyToOne
+    private JPARealm descendant;
+
+    private int depth;
+
+    public JPARealm getAncestor() {
+        return ancestor;
+    }
+
+    public void setAncestor(final JPARealm ancestor) {
+        this.ancestor = ancestor;
+    }
+
+    public JPARealm getDescendant() {
+        return descendant;
+    }
+
+    public void setDescendant(final JPARealm descendant) {
+        this.descendant = descendant;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    public void setDepth(final int depth) {
+        this.depth = depth;
+    }
+}
@@ -47,6 +47,7 @@ import org.apache.syncope.core.persistence.api.entity.group.GRelationship;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.group.GroupTypeExtension;
 import org.apache.syncope.core.persistence.common.validation.GroupCheck;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
 import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractRelatable;
 import org.apache.syncope.core.persistence.jpa.entity.JPAAnyTypeClass;
@@ -145,9 +146,7 @@ public class JPAGroup
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema) {
-        return plainAttrs.stream().
-                filter(attr -> attr.getRelationship() == null && plainSchema.equals(attr.getSchema())).
-                findFirst();
+        return LazyPlainAttrList.find(plainAttrs, plainSchema, attr -> attr.getRelationship() == null);
     }
 
     @Override
@@ -38,6 +38,7 @@ import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.user.LinkedAccount;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
 import org.apache.syncope.core.persistence.jpa.converters.PlainAttrListConverter;
 import org.apache.syncope.core.persistence.jpa.entity.AbstractAttributable;
 import org.apache.syncope.core.persistence.jpa.entity.JPAExternalResource;
@@ -189,8 +190,6 @@ public class JPALinkedAccount extends AbstractAttributable implements LinkedAcco
 
     @Override
     public Optional<PlainAttr> getPlainAttr(final String plainSchema) {
-        return plainAttrs.stream().
-                filter(attr -> plainSchema.equals(attr.getSchema())).
-                findFirst();
+        return LazyPlainAttrList.find(plainAttrs, plainSchema, attr -> true);
     }
 }
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.text.ParseException;
+import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -59,13 +60,17 @@ import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.AnyUtils;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.dao.AnySearchQueryCache;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SyncopeAuthenticationDetails;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
@@ -114,6 +119,9 @@ public class AnySearchTest extends AbstractTest {
     @Autowired
     private PlainAttrValidationManager validator;
 
+    @Autowired
+    private AnySearchQueryCache queryCache;
+
     @BeforeEach
     public void adjustLoginDateForLocalSystem() throws ParseException {
         User rossini = userDAO.findByUsername("rossini").orElseThrow();
@@ -376,6 +384,35 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchByKeyset() {
+        SearchCond cond = searchDAO.getAllMatchingCond();
+
+        List<String> expected = searchDAO.<User>search(
+                cond, List.of(Sort.Order.asc(KeysetPageRequest.KEY)), AnyTypeKind.USER).stream().
+                map(User::getKey).toList();
+        assertTrue(expected.size() > 2);
+
+        List<String> actual = new ArrayList<>();
+        String after = null;
+        List<User> slice;
+        do {
+            slice = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, after, 2, AnyTypeKind.USER);
+            assertTrue(slice.size() <= 2);
+            slice.forEach(user -> actual.add(user.getKey()));
+            after = slice.isEmpty() ? null : slice.getLast().getKey();
+        } while (slice.size() == 2);
+
+        assertEquals(expected, actual);
+
+        List<User> fromPageRequest = searchDAO.search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                KeysetPageRequest.of(expected.getFirst(), 1), AnyTypeKind.USER);
+        assertEquals(1, fromPageRequest.size());
+        assertEquals(expected.get(1), fromPageRequest.getFirst().getKey());
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
@@ -464,6 +501,64 @@ public class AnySearchTest extends AbstractTest {
         assertEquals(1, users.size());
     }
 
+    @Test
+    public void searchSameShapeFromCachedTemplate() {
+        queryCache.clear();
+
+        List.of("rossini", "verdi", "vivaldi").forEach(username -> {
+            AnyCond usernameCond = new AnyCond(AnyCond.Type.EQ);
+            usernameCond.setSchema("username");
+            usernameCond.setExpression(username);
+
+            ResourceCond resourceCond = new ResourceCond();
+            resourceCond.setResource("ws-target-resource-nonexisting");
+
+            SearchCond searchCondition = SearchCond.and(
+                    SearchCond.of(usernameCond),
+                    SearchCond.negate(resourceCond));
+
+            assertEquals(1, searchDAO.count(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchCondition, AnyTypeKind.USER));
+
+            List<User> matching = searchDAO.search(searchCondition, AnyTypeKind.USER);
+            assertEquals(1, matching.size());
+            assertEquals(username, matching.getFirst().getUsername());
+        });
+
+        // one template for count, one for search, reused with different values
+        assertEquals(2, queryCache.size());
+
+        // attribute conditions are cached as well, with values bound as parameters
+        List.of("Rossini", "Verdi", "Vivaldi", "D'Annunzio").forEach(surname -> {
+            AttrCond surnameCond = new AttrCond(AttrCond.Type.EQ);
+            surnameCond.setSchema("surname");
+            surnameCond.setExpression(surname);
+
+            AttrCond fullnameCond = new AttrCond(AttrCond.Type.ILIKE);
+            fullnameCond.setSchema("fullname");
+            fullnameCond.setExpression("%" + surname.toLowerCase() + "%");
+
+            SearchCond searchCondition = SearchCond.and(SearchCond.of(surnameCond), SearchCond.of(fullnameCond));
+
+            List<User> matching = searchDAO.search(searchCondition, AnyTypeKind.USER);
+            if ("D'Annunzio".equals(surname)) {
+                assertTrue(matching.isEmpty());
+            } else {
+                assertEquals(1, matching.size());
+                assertEquals(surname.toLowerCase(), matching.getFirst().getUsername());
+            }
+        });
+        assertEquals(3, queryCache.size());
+
+        // negated conditions take a different shape
+        AttrCond surnameCond = new AttrCond(AttrCond.Type.EQ);
+        surnameCond.setSchema("surname");
+        surnameCond.setExpression("Verdi");
+        assertFalse(searchDAO.search(SearchCond.negate(surnameCond), AnyTypeKind.USER).stream().
+                anyMatch(user -> "verdi".equals(user.getUsername())));
+        assertEquals(4, queryCache.size());
+    }
+
     @Test
     public void searchByBooleanAttrCond() {
         AttrCond booleanCond = new AttrCond(AnyCond.Type.EQ);
@@ -496,6 +591,40 @@ public class AnySearchTest extends AbstractTest {
         assertEquals("1417acbe-cbf6-4277-9372-e75e04f97000", matching.getFirst().getKey());
     }
 
+    @Test
+    public void searchByIndexedSchema() {
+        PlainSchema fullname = plainSchemaDAO.findById("fullname").orElseThrow();
+        fullname.setIndexed(true);
+        plainSchemaDAO.save(fullname);
+        entityManager.flush();
+
+        AttrCond eqCond = new AttrCond(AttrCond.Type.EQ);
+        eqCond.setSchema("fullname");
+        eqCond.setExpression("Gioacchino Rossini");
+
+        List<User> users = searchDAO.search(SearchCond.of(eqCond), AnyTypeKind.USER);
+        assertEquals(1, users.size());
+        assertEquals("rossini", users.getFirst().getUsername());
+
+        AttrCond likeCond = new AttrCond(AttrCond.Type.LIKE);
+        likeCond.setSchema("fullname");
+        likeCond.setExpression("Gioacchino%");
+
+        users = searchDAO.search(SearchCond.of(likeCond), AnyTypeKind.USER);
+        assertEquals(1, users.size());
+        assertEquals("rossini", users.getFirst().getUsername());
+
+        users = searchDAO.search(SearchCond.negate(likeCond), AnyTypeKind.USER);
+        assertFalse(users.stream().anyMatch(user -> "rossini".equals(user.getUsername())));
+
+        fullname.setIndexed(false);
+        plainSchemaDAO.save(fullname);
+        entityManager.flush();
+
+        users = searchDAO.search(SearchCond.of(eqCond), AnyTypeKind.USER);
+        assertEquals(1, users.size());
+    }
+
     @Test
     public void searchByGroupNameAndKey() {
         AnyCond groupNameLeafCond = new AnyCond(AnyCond.Type.EQ);
@@ -590,6 +719,87 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(printers.isEmpty());
     }
 
+    @Test
+    public void project() {
+        AttrCond surnameCond = new AttrCond(AttrCond.Type.EQ);
+        surnameCond.setSchema("surname");
+        surnameCond.setExpression("Rossini");
+
+        List<AnyProjection> users = searchDAO.project(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(surnameCond),
+                Pageable.unpaged(), AnyTypeKind.USER,
+                List.of("username", "realm", "creationDate", "suspended", "password"),
+                List.of("firstname", "surname", "unexisting"));
+        assertEquals(1, users.size());
+
+        AnyProjection rossini = users.getFirst();
+        assertEquals("1417acbe-cbf6-4277-9372-e75e04f97000", rossini.key());
+        assertEquals(Set.of("username", "realm", "creationDate", "suspended"), rossini.fields().keySet());
+        assertEquals("rossini", rossini.fields().get("username"));
+        assertEquals("/even", rossini.fields().get("realm"));
+        assertTrue(rossini.fields().get("creationDate") instanceof OffsetDateTime);
+        assertEquals(Boolean.FALSE, rossini.fields().get("suspended"));
+        assertEquals(List.of("Gioacchino"), rossini.plainAttrs().get("firstname"));
+        assertEquals(List.of("Rossini"), rossini.plainAttrs().get("surname"));
+        assertFalse(rossini.plainAttrs().containsKey("unexisting"));
+
+        // same ordering as search
+        List<String> searched = searchDAO.<User>search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "username")), AnyTypeKind.USER).stream().
+                map(User::getKey).toList();
+        List<String> projected = searchDAO.project(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, searchDAO.getAllMatchingCond(),
+                PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "username")), AnyTypeKind.USER,
+                List.of(), List.of()).stream().
+                map(AnyProjection::key).toList();
+        assertEquals(searched, projected);
+
+        AnyTypeCond tcond = new AnyTypeCond();
+        tcond.setAnyTypeKey("PRINTER");
+        List<AnyProjection> printers = searchDAO.project(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, SearchCond.of(tcond),
+                Pageable.unpaged(), AnyTypeKind.ANY_OBJECT, List.of("name", "type"), List.of("location"));
+        assertEquals(3, printers.size());
+        assertTrue(printers.stream().allMatch(printer -> "PRINTER".equals(printer.fields().get("type"))));
+        assertTrue(printers.stream().anyMatch(printer -> "HP LJ 1300n".equals(printer.fields().get("name"))
+                && List.of("1st floor").equals(printer.plainAttrs().get("location"))));
+    }
+
+    @Test
+    public void searchByAdminRealmsAfterRealmMove() {
+        AnyTypeCond tcond = new AnyTypeCond();
+        tcond.setAnyTypeKey("PRINTER");
+        SearchCond searchCondition = SearchCond.of(tcond);
+
+        // Epson Stylus Color is in /even/two
+        List<AnyObject> printers = searchDAO.search(
+                realmDAO.getRoot(), true, Set.of("/even"), searchCondition, Pageable.unpaged(),
+                AnyTypeKind.ANY_OBJECT);
+        assertTrue(printers.stream().anyMatch(p -> "9e1d130c-d6a3-48b1-98b3-182477ed0688".equals(p.getKey())));
+
+        printers = searchDAO.search(
+                realmSearchDAO.findByFullPath("/odd").orElseThrow(), true, Set.of("/"),
+                searchCondition, Pageable.unpaged(), AnyTypeKind.ANY_OBJECT);
+        assertTrue(printers.stream().noneMatch(p -> "9e1d130c-d6a3-48b1-98b3-182477ed0688".equals(p.getKey())));
+
+        Realm two = realmSearchDAO.findByFullPath("/even/two").orElseThrow();
+        two.setParent(realmSearchDAO.findByFullPath("/odd").orElseThrow());
+        realmDAO.save(two);
+
+        entityManager.flush();
+
+        printers = searchDAO.search(
+                realmDAO.getRoot(), true, Set.of("/even"), searchCondition, Pageable.unpaged(),
+                AnyTypeKind.ANY_OBJECT);
+        assertTrue(printers.stream().noneMatch(p -> "9e1d130c-d6a3-48b1-98b3-182477ed0688".equals(p.getKey())));
+
+        printers = searchDAO.search(
+                realmSearchDAO.findByFullPath("/odd").orElseThrow(), true, Set.of("/"),
+                searchCondition, Pageable.unpaged(), AnyTypeKind.ANY_OBJECT);
+        assertTrue(printers.stream().anyMatch(p -> "9e1d130c-d6a3-48b1-98b3-182477ed0688".equals(p.getKey())));
+    }
+
     @Test
     public void searchByRelationshipType() {
         // 1. first search for printers involved in "inclusion" relationship
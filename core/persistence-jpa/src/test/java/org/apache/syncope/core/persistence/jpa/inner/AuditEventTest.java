@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class AuditEventTest extends AbstractTest {
+
+    @Autowired
+    private AuditEventDAO auditEventDAO;
+
+    @Test
+    public void saveAll() {
+        OpEvent opEvent = new OpEvent(
+                OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS);
+
+        long before = auditEventDAO.count(
+                null, opEvent.getType(), opEvent.getCategory(), null, opEvent.getOp(), opEvent.getOutcome(),
+                null, null);
+
+        List<AuditEvent> auditEvents = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+            auditEvent.setOpEvent(opEvent.toString());
+            auditEvent.setWho("admin");
+            auditEvent.setWhen(OffsetDateTime.now());
+            auditEvent.setOutput("{\"key\":\"" + i + "\"}");
+            auditEvents.add(auditEvent);
+        }
+        auditEventDAO.saveAll(auditEvents);
+
+        assertEquals(before + 5, auditEventDAO.count(
+                null, opEvent.getType(), opEvent.getCategory(), null, opEvent.getOp(), opEvent.getOutcome(),
+                null, null));
+    }
+}
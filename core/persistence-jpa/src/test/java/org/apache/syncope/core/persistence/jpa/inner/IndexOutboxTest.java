@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.jpa.inner;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class IndexOutboxTest extends AbstractTest {
+
+    @Autowired
+    private IndexOutboxDAO indexOutboxDAO;
+
+    private IndexOutboxEntry create(final String documentKey, final boolean deletion, final long minusSeconds) {
+        IndexOutboxEntry entry = entityFactory.newEntity(IndexOutboxEntry.class);
+        entry.setIndex("master_user");
+        entry.setDocumentKey(documentKey);
+        entry.setDeletion(deletion);
+        entry.setDocument(deletion ? null : "{\"username\":\"" + documentKey + "\"}");
+        entry.setCreationDate(OffsetDateTime.now().minusSeconds(minusSeconds));
+
+        return indexOutboxDAO.save(entry);
+    }
+
+    @Test
+    public void findOldestAndDelete() {
+        assertEquals(0, indexOutboxDAO.count());
+        assertTrue(indexOutboxDAO.findOldestCreationDate().isEmpty());
+
+        IndexOutboxEntry first = create("rossini", false, 30);
+        IndexOutboxEntry second = create("verdi", false, 20);
+        IndexOutboxEntry third = create("rossini", true, 10);
+        entityManager.flush();
+
+        // sequence numbers are allocated in saving order
+        assertTrue(first.getSequence() < second.getSequence());
+        assertTrue(second.getSequence() < third.getSequence());
+
+        assertEquals(3, indexOutboxDAO.count());
+        assertEquals(
+                first.getCreationDate().toInstant().getEpochSecond(),
+                indexOutboxDAO.findOldestCreationDate().orElseThrow().toInstant().getEpochSecond());
+
+        List<? extends IndexOutboxEntry> oldest = indexOutboxDAO.findOldest(2);
+        assertEquals(List.of(first.getKey(), second.getKey()), oldest.stream().map(IndexOutboxEntry::getKey).toList());
+
+        indexOutboxDAO.deleteAll(List.of(first.getKey(), second.getKey()));
+        entityManager.clear();
+
+        oldest = indexOutboxDAO.findOldest(10);
+        assertEquals(1, oldest.size());
+        assertEquals(third.getKey(), oldest.getFirst().getKey());
+        assertTrue(oldest.getFirst().isDeletion());
+        assertEquals(0, oldest.getFirst().getAttempts());
+    }
+}
@@ -19,9 +19,11 @@
 package org.apache.syncope.core.persistence.jpa.inner;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -29,6 +31,7 @@ import jakarta.validation.ValidationException;
 import java.io.UnsupportedEncodingException;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Random;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
@@ -41,9 +44,12 @@ import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.PlainAttrValue;
 import org.apache.syncope.core.persistence.api.entity.PlainSchema;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
+import org.apache.syncope.core.persistence.jpa.converters.LazyPlainAttrList;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -67,6 +73,53 @@ public class PlainAttrTest extends AbstractTest {
     @Autowired
     private EncryptorManager encryptorManager;
 
+    @Test
+    public void decodeBySchema() {
+        PlainAttr firstname = new PlainAttr();
+        firstname.setSchema("firstname");
+        firstname.add(new PlainAttrValue());
+        firstname.getValues().getFirst().setStringValue("Gioacchino");
+        PlainAttr surname = new PlainAttr();
+        surname.setSchema("surname");
+        surname.add(new PlainAttrValue());
+        surname.getValues().getFirst().setStringValue("Rossini");
+
+        LazyPlainAttrList plainAttrs = new LazyPlainAttrList(POJOHelper.serialize(List.of(firstname, surname)));
+
+        PlainAttr found = LazyPlainAttrList.find(plainAttrs, "firstname", attr -> true).orElseThrow();
+        assertEquals(List.of("Gioacchino"), found.getValuesAsStrings());
+        assertFalse(plainAttrs.isDecoded());
+        assertFalse(plainAttrs.isUntouched());
+        assertTrue(LazyPlainAttrList.find(plainAttrs, "email", attr -> true).isEmpty());
+
+        // hashing does not require full decoding
+        int hashCode = plainAttrs.hashCode();
+        assertFalse(plainAttrs.isDecoded());
+
+        // full decoding keeps the instances already decoded by schema, in the original order
+        assertEquals(2, plainAttrs.size());
+        assertSame(found, plainAttrs.getFirst());
+        assertEquals("surname", plainAttrs.get(1).getSchema());
+        assertEquals(hashCode, plainAttrs.hashCode());
+    }
+
+    @Test
+    public void updateDecodedBySchema() {
+        entityManager.clear();
+
+        User user = userDAO.findById("1417acbe-cbf6-4277-9372-e75e04f97000").orElseThrow();
+        user.getPlainAttr("fullname").orElseThrow().getUniqueValue().setStringValue("G. Rossini");
+        userDAO.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        user = userDAO.findById("1417acbe-cbf6-4277-9372-e75e04f97000").orElseThrow();
+        assertEquals(
+                List.of("G. Rossini"),
+                user.getPlainAttr("fullname").orElseThrow().getValuesAsStrings());
+        assertEquals(6, user.getPlainAttrs().size());
+    }
+
     @Test
     public void save() throws ClassNotFoundException {
         PlainSchema emailSchema = plainSchemaDAO.findById("email").orElseThrow();
@@ -139,6 +139,18 @@ public class PlainSchemaTest extends AbstractTest {
         });
     }
 
+    @Test
+    public void saveIndexedNonValid() {
+        PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+        schema.setKey("secondaryEmail");
+        schema.setType(AttrSchemaType.String);
+        schema.setMandatoryCondition("false");
+        schema.setMultivalue(true);
+        schema.setIndexed(true);
+
+        assertThrows(InvalidEntityException.class, () -> plainSchemaDAO.save(schema));
+    }
+
     @Test
     public void checkForEnumType() {
         PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
@@ -18,16 +18,20 @@
  */
 package org.apache.syncope.core.persistence.jpa.inner;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import jakarta.ws.rs.core.MediaType;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.UUID;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.entity.Report;
+import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.jpa.AbstractTest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -39,6 +43,9 @@ public class ReportTest extends AbstractTest {
     @Autowired
     private ReportDAO reportDAO;
 
+    @Autowired
+    private ReportExecDAO reportExecDAO;
+
     @Autowired
     private ImplementationDAO implementationDAO;
 
@@ -85,4 +92,32 @@ public class ReportTest extends AbstractTest {
 
         assertTrue(reportDAO.findById("0062ea9c-924d-4ecf-9961-4492a8cc6d1b").isEmpty());
     }
+
+    @Test
+    public void resultChunks() {
+        Report report = reportDAO.findById("0062ea9c-924d-4ecf-9961-4492a8cc6d1b").orElseThrow();
+
+        ReportExec exec = entityFactory.newEntity(ReportExec.class);
+        exec.setStart(OffsetDateTime.now());
+        exec.setEnd(OffsetDateTime.now());
+        exec.setStatus("SUCCESS");
+        exec.setExecutor("admin");
+        exec.setReport(report);
+
+        reportExecDAO.saveResultChunk(exec, 0, 3, new byte[] { 1, 2, 3 });
+        reportExecDAO.saveResultChunk(exec, 1, 1, new byte[] { 4 });
+
+        report.add(exec);
+        reportDAO.save(report);
+        entityManager.flush();
+
+        assertEquals(List.of(3, 1), reportExecDAO.findResultChunkLengths(exec));
+        assertArrayEquals(new byte[] { 4 }, reportExecDAO.findResultChunk(exec, 1).orElseThrow());
+        assertTrue(reportExecDAO.findResultChunk(exec, 2).isEmpty());
+
+        reportExecDAO.deleteById(exec.getKey());
+        entityManager.flush();
+
+        assertTrue(reportExecDAO.findResultChunkLengths(exec).isEmpty());
+    }
 }
@@ -95,6 +95,23 @@ public class TaskTest extends AbstractTest {
         assertEquals(3, tasks.size());
     }
 
+    @Test
+    public void findWithoutExecsByKeyset() {
+        List<PropagationTask> all = taskDAO.findToExec(TaskType.PROPAGATION);
+
+        List<PropagationTask> first = taskDAO.findToExec(TaskType.PROPAGATION, null, 2);
+        assertEquals(2, first.size());
+        assertTrue(first.getFirst().getKey().compareTo(first.getLast().getKey()) < 0);
+
+        List<PropagationTask> second = taskDAO.findToExec(TaskType.PROPAGATION, first.getLast().getKey(), 2);
+        assertEquals(1, second.size());
+
+        Set<String> keys = new HashSet<>();
+        first.forEach(task -> keys.add(task.getKey()));
+        second.forEach(task -> keys.add(task.getKey()));
+        assertEquals(all.stream().map(PropagationTask::getKey).collect(Collectors.toSet()), keys);
+    }
+
     @Test
     public void findPaginated() {
         List<PropagationTask> tasks = taskDAO.findAll(
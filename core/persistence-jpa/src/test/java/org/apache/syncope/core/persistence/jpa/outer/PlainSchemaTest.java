@@ -26,16 +26,19 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import jakarta.persistence.EntityExistsException;
 import jakarta.persistence.OptimisticLockException;
+import java.sql.Connection;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import javax.sql.DataSource;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.Item;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.AttrSchemaType;
 import org.apache.syncope.common.lib.types.IdMEntitlement;
 import org.apache.syncope.common.lib.types.IdRepoEntitlement;
+import org.apache.syncope.core.persistence.api.DomainHolder;
 import org.apache.syncope.core.persistence.api.dao.AnyTypeClassDAO;
 import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
@@ -49,10 +52,13 @@ import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Transactional
 public class PlainSchemaTest extends AbstractTest {
@@ -72,6 +78,12 @@ public class PlainSchemaTest extends AbstractTest {
     @Autowired
     private AnyTypeClassDAO anyTypeClassDAO;
 
+    @Autowired
+    private DomainHolder<DataSource> domainHolder;
+
+    @Autowired
+    private TransactionTemplate domainTransactionTemplate;
+
     @BeforeAll
     public static void setAuthContext() {
         List<GrantedAuthority> authorities = Stream.concat(
@@ -129,6 +141,111 @@ public class PlainSchemaTest extends AbstractTest {
                 toList();
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void indexesAfterCommit() throws Exception {
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        boolean postgreSQL;
+        try (Connection conn = dataSource.getConnection()) {
+            postgreSQL = "PostgreSQL".equals(conn.getMetaData().getDatabaseProductName());
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String countIndexes = "SELECT COUNT(*) FROM pg_indexes WHERE indexname LIKE '%_indexedAttr_idx'";
+
+        PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+        schema.setKey("indexedAttr");
+        schema.setType(AttrSchemaType.String);
+        schema.setIndexed(true);
+        domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.save(schema));
+
+        // the indexes are only created once the schema is committed
+        if (postgreSQL) {
+            assertEquals(3, jdbcTemplate.queryForObject(countIndexes, Integer.class));
+        }
+
+        domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.deleteById("indexedAttr"));
+        assertTrue(plainSchemaDAO.findById("indexedAttr").isEmpty());
+
+        if (postgreSQL) {
+            assertEquals(0, jdbcTemplate.queryForObject(countIndexes, Integer.class));
+        }
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void indexNamesWithinIdentifierLimit() throws Exception {
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        try (Connection conn = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(conn.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String countIndexes = "SELECT COUNT(*) FROM pg_indexes WHERE indexname LIKE '%_indexedAttrWithLongKey%'";
+
+        // keys only differing after PostgreSQL's identifier limit
+        List<String> keys = Stream.of("1", "2").
+                map(suffix -> "indexedAttrWithLongKeyExceedingTheIdentifierLengthLimit" + suffix).
+                toList();
+        keys.forEach(key -> {
+            PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+            schema.setKey(key);
+            schema.setType(AttrSchemaType.String);
+            schema.setIndexed(true);
+            domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.save(schema));
+        });
+        assertEquals(6, jdbcTemplate.queryForObject(countIndexes, Integer.class));
+
+        // saving again without changing the indexed flag leaves indexes untouched
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema schema = plainSchemaDAO.findById(keys.getFirst()).orElseThrow();
+            schema.setMandatoryCondition("true");
+            plainSchemaDAO.save(schema);
+        });
+        assertEquals(6, jdbcTemplate.queryForObject(countIndexes, Integer.class));
+
+        keys.forEach(key -> domainTransactionTemplate.executeWithoutResult(
+                status -> plainSchemaDAO.deleteById(key)));
+        assertEquals(0, jdbcTemplate.queryForObject(countIndexes, Integer.class));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildIndexesOnUniqueConstraintChange() throws Exception {
+        DataSource dataSource = domainHolder.getDomains().get(SyncopeConstants.MASTER_DOMAIN);
+        try (Connection conn = dataSource.getConnection()) {
+            if (!"PostgreSQL".equals(conn.getMetaData().getDatabaseProductName())) {
+                return;
+            }
+        }
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        String indexDefs = "SELECT indexdef FROM pg_indexes WHERE indexname LIKE '%_indexedUnique_idx'";
+
+        PlainSchema schema = entityFactory.newEntity(PlainSchema.class);
+        schema.setKey("indexedUnique");
+        schema.setType(AttrSchemaType.String);
+        schema.setIndexed(true);
+        domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.save(schema));
+
+        List<String> defs = jdbcTemplate.queryForList(indexDefs, String.class);
+        assertEquals(3, defs.size());
+        assertTrue(defs.stream().allMatch(def -> def.contains("values")));
+
+        // values are moved elsewhere by the unique constraint, hence the indexed expression changes
+        domainTransactionTemplate.executeWithoutResult(status -> {
+            PlainSchema unique = plainSchemaDAO.findById("indexedUnique").orElseThrow();
+            unique.setUniqueConstraint(true);
+            plainSchemaDAO.save(unique);
+        });
+
+        defs = jdbcTemplate.queryForList(indexDefs, String.class);
+        assertEquals(3, defs.size());
+        assertTrue(defs.stream().allMatch(def -> def.contains("uniqueValue")));
+
+        domainTransactionTemplate.executeWithoutResult(status -> plainSchemaDAO.deleteById("indexedUnique"));
+        assertEquals(0, jdbcTemplate.queryForList(indexDefs, String.class).size());
+    }
+
     @Test
     public void deleteFullname() {
         // fullname is mapped as ConnObjectKey for various resources, need to swap it otherwise validation errors 
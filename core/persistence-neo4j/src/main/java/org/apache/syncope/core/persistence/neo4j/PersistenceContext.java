@@ -54,6 +54,7 @@ import org.apache.syncope.core.persistence.api.dao.ExternalResourceDAO;
 import org.apache.syncope.core.persistence.api.dao.FIQLQueryDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.ImplementationDAO;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.dao.JobStatusDAO;
 import org.apache.syncope.core.persistence.api.dao.MailTemplateDAO;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
@@ -97,6 +98,7 @@ import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAnySearchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jAuditEventDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jBatchDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jEntityCacheDAO;
+import org.apache.syncope.core.persistence.neo4j.dao.Neo4jIndexOutboxDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jJobStatusDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jOIDCJWKSDAO;
 import org.apache.syncope.core.persistence.neo4j.dao.Neo4jPersistenceInfoDAO;
@@ -737,6 +739,16 @@ public class PersistenceContext {
         return new Neo4jBatchDAO(neo4jTemplate, neo4jClient, nodeValidator);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public IndexOutboxDAO indexOutboxDAO(
+            final Neo4jTemplate neo4jTemplate,
+            final Neo4jClient neo4jClient,
+            final NodeValidator nodeValidator) {
+
+        return new Neo4jIndexOutboxDAO(neo4jTemplate, neo4jClient, nodeValidator);
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public CASSPClientAppRepoExt casSPClientAppRepoExt(
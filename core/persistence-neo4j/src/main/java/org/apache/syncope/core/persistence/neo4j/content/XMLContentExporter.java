@@ -40,8 +40,10 @@ import org.apache.syncope.core.persistence.common.content.MultiParentNode;
 import org.apache.syncope.core.persistence.common.content.MultiParentNodeOp;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jAuditEvent;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jImplementationRelationship;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jIndexOutboxEntry;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jJobStatus;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jRealm;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jReportExecChunk;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jSchema;
 import org.apache.syncope.core.persistence.neo4j.entity.policy.Neo4jPolicy;
 import org.apache.syncope.core.persistence.neo4j.entity.task.Neo4jInboundTask;
@@ -64,7 +66,7 @@ public class XMLContentExporter extends AbstractXMLContentExporter {
 
     protected static final Set<String> LABELS_TO_BE_EXCLUDED = Set.of(
             Neo4jSchema.NODE, Neo4jPolicy.NODE, Neo4jProvisioningTask.NODE, Neo4jInboundTask.NODE,
-            Neo4jJobStatus.NODE, Neo4jAuditEvent.NODE);
+            Neo4jJobStatus.NODE, Neo4jAuditEvent.NODE, Neo4jIndexOutboxEntry.NODE, Neo4jReportExecChunk.NODE);
 
     protected static final Comparator<Record> REALM_COMPARATOR =
             Comparator.comparing(record -> record.get("n").asNode().get("fullPath").asString());
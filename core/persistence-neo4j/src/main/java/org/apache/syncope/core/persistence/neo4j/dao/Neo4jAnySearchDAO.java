@@ -182,12 +182,18 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
 
     protected String buildAdminRealmsFilter(
             final Set<String> realmKeys,
+            final boolean descendants,
             final Map<String, Object> parameters) {
 
         if (realmKeys.isEmpty()) {
             return "(n)-[]-(:" + Neo4jRealm.NODE + ")";
         }
 
+        if (descendants) {
+            return "(n)-[]-(:" + Neo4jRealm.NODE + ")-[:" + Neo4jRealm.PARENT_REL + "*0..]->"
+                    + "(r:" + Neo4jRealm.NODE + ") WHERE r.id IN $" + setParameter(parameters, realmKeys);
+        }
+
         return "(n)-[]-(r:" + Neo4jRealm.NODE + ") WHERE r.id IN $" + setParameter(parameters, realmKeys);
     }
 
@@ -211,8 +217,12 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
                             return noRealm;
                         });
 
-                        realmKeys.addAll(realmSearchDAO.findDescendants(realm.getFullPath(), base.getFullPath()).
-                                stream().map(Realm::getKey).toList());
+                        // the subtree shared by admin realm and base is rooted at the deeper of the two, if any
+                        if (isSameOrDescendant(realm.getFullPath(), base.getFullPath())) {
+                            realmKeys.add(realm.getKey());
+                        } else if (isSameOrDescendant(base.getFullPath(), realm.getFullPath())) {
+                            realmKeys.add(base.getKey());
+                        }
                     }));
         } else {
             if (adminRealms.stream().anyMatch(r -> r.startsWith(base.getFullPath()))) {
@@ -220,7 +230,7 @@ public class Neo4jAnySearchDAO extends AbstractAnySearchDAO {
             }
         }
 
-        return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, parameters), managed);
+        return new AdminRealmsFilter(buildAdminRealmsFilter(realmKeys, recursive, parameters), managed);
     }
 
     protected String getQuery(
@@ -119,6 +119,12 @@ public class Neo4jAuditEventDAO implements AuditEventDAO {
         return neo4jTemplate.save(nodeValidator.validate(auditEvent));
     }
 
+    @Transactional
+    @Override
+    public void saveAll(final List<AuditEvent> auditEvents) {
+        neo4jTemplate.saveAll(auditEvents.stream().map(nodeValidator::validate).toList());
+    }
+
     protected AuditEventCriteriaBuilder criteriaBuilder(final String entityKey) {
         return new AuditEventCriteriaBuilder().entityKey(entityKey);
     }
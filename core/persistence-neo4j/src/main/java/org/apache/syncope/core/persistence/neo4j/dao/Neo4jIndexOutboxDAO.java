@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.dao;
+
+import java.time.OffsetDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jIndexOutboxEntry;
+import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
+import org.springframework.data.neo4j.core.Neo4jClient;
+import org.springframework.data.neo4j.core.Neo4jTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional(rollbackFor = Throwable.class)
+public class Neo4jIndexOutboxDAO implements IndexOutboxDAO {
+
+    protected final Neo4jTemplate neo4jTemplate;
+
+    protected final Neo4jClient neo4jClient;
+
+    protected final NodeValidator nodeValidator;
+
+    public Neo4jIndexOutboxDAO(
+            final Neo4jTemplate neo4jTemplate,
+            final Neo4jClient neo4jClient,
+            final NodeValidator nodeValidator) {
+
+        this.neo4jTemplate = neo4jTemplate;
+        this.neo4jClient = neo4jClient;
+        this.nodeValidator = nodeValidator;
+    }
+
+    /**
+     * Increments the counter node in the current transaction: concurrent transactions wait for the lock on such node
+     * to be released, hence get greater numbers.
+     *
+     * @return next sequence number
+     */
+    protected long nextSequence() {
+        return neo4jClient.query(
+                "MERGE (s:" + Neo4jIndexOutboxEntry.SEQUENCE_NODE + " {id: $id}) "
+                + "ON CREATE SET s.value = 0 "
+                + "SET s.value = s.value + 1 "
+                + "RETURN s.value").
+                bindAll(Map.of("id", Neo4jIndexOutboxEntry.NODE)).fetchAs(Long.class).one().orElseThrow();
+    }
+
+    @Override
+    public IndexOutboxEntry save(final IndexOutboxEntry entry) {
+        if (entry.getSequence() == null) {
+            ((Neo4jIndexOutboxEntry) entry).setSequence(nextSequence());
+        }
+        return neo4jTemplate.save(nodeValidator.validate(entry));
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public List<? extends IndexOutboxEntry> findOldest(final int max) {
+        return neo4jTemplate.findAll(
+                "MATCH (n:" + Neo4jIndexOutboxEntry.NODE + ") "
+                + "RETURN n ORDER BY n.sequence LIMIT $max",
+                Map.of("max", max),
+                Neo4jIndexOutboxEntry.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public long count() {
+        return neo4jTemplate.count(Neo4jIndexOutboxEntry.class);
+    }
+
+    @Transactional(readOnly = true)
+    @Override
+    public Optional<OffsetDateTime> findOldestCreationDate() {
+        return findOldest(1).stream().findFirst().map(IndexOutboxEntry::getCreationDate);
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        neo4jClient.query(
+                "MATCH (n:" + Neo4jIndexOutboxEntry.NODE + ") WHERE n.id IN $keys DETACH DELETE n").
+                bindAll(Map.of("keys", keys)).run();
+    }
+}
@@ -229,10 +229,7 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
                 Neo4jMacroTask.NODE, Neo4jImplementation.NODE, command.getKey(), Neo4jMacroTask.class, null);
     }
 
-    @Override
-    @SuppressWarnings("unchecked")
-    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
-        TaskUtils taskUtils = taskUtilsFactory.getInstance(type);
+    protected StringBuilder findToExecQuery(final TaskType type, final TaskUtils taskUtils) {
         StringBuilder query = new StringBuilder("MATCH (n:" + taskUtils.getTaskStorage() + ") WHERE ");
 
         if (type == TaskType.NOTIFICATION) {
@@ -240,7 +237,15 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
         } else {
             query.append("(n)-[:").append(execRelationship(type)).append("]-() ");
         }
-        query.append("RETURN n.id ORDER BY n.id DESC");
+
+        return query;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Task<T>> List<T> findToExec(final TaskType type) {
+        TaskUtils taskUtils = taskUtilsFactory.getInstance(type);
+        StringBuilder query = findToExecQuery(type, taskUtils).append("RETURN n.id ORDER BY n.id DESC");
 
         return toList(neo4jClient.query(query.toString()).fetch().all(),
                 "n.id",
@@ -248,6 +253,25 @@ public class Neo4jTaskDAO extends AbstractDAO implements TaskDAO {
                 null);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Task<T>> List<T> findToExec(final TaskType type, final String after, final int size) {
+        TaskUtils taskUtils = taskUtilsFactory.getInstance(type);
+        StringBuilder query = findToExecQuery(type, taskUtils);
+
+        Map<String, Object> parameters = new HashMap<>();
+        if (after != null) {
+            query.append("AND n.id > $after ");
+            parameters.put("after", after);
+        }
+        query.append("RETURN n.id ORDER BY n.id ASC LIMIT ").append(size);
+
+        return toList(neo4jClient.query(query.toString()).bindAll(parameters).fetch().all(),
+                "n.id",
+                (Class<AbstractTask<?>>) taskUtils.getTaskEntity(),
+                null);
+    }
+
     @Override
     public List<? extends Task<?>> findAll() {
         throw new UnsupportedOperationException();
@@ -21,6 +21,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 import java.time.OffsetDateTime;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -124,6 +125,52 @@ public abstract class AbstractAnyRepoExt<A extends Any, N extends AbstractAny>
         });
     }
 
+    @Override
+    public List<String> findKeys(final String after, final String before, final int size) {
+        StringBuilder query = new StringBuilder("MATCH (n:").
+                append(AnyRepoExt.node(anyUtils.anyTypeKind())).append(") WHERE true");
+        Map<String, Object> parameters = new HashMap<>();
+        Optional.ofNullable(after).ifPresent(a -> {
+            query.append(" AND n.id > $after");
+            parameters.put("after", a);
+        });
+        Optional.ofNullable(before).ifPresent(b -> {
+            query.append(" AND n.id < $before");
+            parameters.put("before", b);
+        });
+        query.append(" RETURN n.id ORDER BY n.id LIMIT $size");
+        parameters.put("size", size);
+
+        return neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("n.id").toString()).toList();
+    }
+
+    @Override
+    public List<String> findKeysAt(final int offset, final int size) {
+        return neo4jClient.query("MATCH (n:" + AnyRepoExt.node(anyUtils.anyTypeKind()) + ") "
+                + "RETURN n.id ORDER BY n.id SKIP $offset LIMIT $size").
+                bindAll(Map.of("offset", offset, "size", size)).fetch().all().stream().
+                map(found -> found.get("n.id").toString()).toList();
+    }
+
+    @Override
+    public List<String> findKeysChangedSince(final OffsetDateTime since, final String after, final int size) {
+        StringBuilder query = new StringBuilder("MATCH (n:").
+                append(AnyRepoExt.node(anyUtils.anyTypeKind())).
+                append(") WHERE (n.creationDate >= $since OR n.lastChangeDate >= $since)");
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("since", since);
+        Optional.ofNullable(after).ifPresent(a -> {
+            query.append(" AND n.id > $after");
+            parameters.put("after", a);
+        });
+        query.append(" RETURN n.id ORDER BY n.id LIMIT $size");
+        parameters.put("size", size);
+
+        return neo4jClient.query(query.toString()).bindAll(parameters).fetch().all().stream().
+                map(found -> found.get("n.id").toString()).toList();
+    }
+
     protected abstract void securityChecks(A any);
 
     @SuppressWarnings("unchecked")
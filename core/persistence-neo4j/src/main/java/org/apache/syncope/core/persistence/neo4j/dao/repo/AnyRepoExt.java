@@ -73,6 +73,12 @@ public interface AnyRepoExt<A extends Any> {
 
     Optional<OffsetDateTime> findLastChange(String key);
 
+    List<String> findKeys(String after, String before, int size);
+
+    List<String> findKeysAt(int offset, int size);
+
+    List<String> findKeysChangedSince(OffsetDateTime since, String after, int size);
+
     A authFind(String key);
 
     Collection<String> findAllResourceKeys(String key);
@@ -20,6 +20,7 @@ package org.apache.syncope.core.persistence.neo4j.dao.repo;
 
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.springframework.data.domain.Pageable;
@@ -43,4 +44,12 @@ public interface ReportExecRepoExt {
     void deleteById(String key);
 
     void delete(ReportExec execution);
+
+    void saveResultChunk(ReportExec execution, int seq, int contentLength, byte[] content);
+
+    List<Integer> findResultChunkLengths(ReportExec execution);
+
+    Optional<byte[]> findResultChunk(ReportExec execution, int seq);
+
+    void deleteResultChunks(ReportExec execution);
 }
@@ -29,7 +29,9 @@ import org.apache.syncope.core.persistence.api.entity.ReportExec;
 import org.apache.syncope.core.persistence.neo4j.dao.AbstractDAO;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jReport;
 import org.apache.syncope.core.persistence.neo4j.entity.Neo4jReportExec;
+import org.apache.syncope.core.persistence.neo4j.entity.Neo4jReportExecChunk;
 import org.apache.syncope.core.persistence.neo4j.spring.NodeValidator;
+import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.neo4j.core.Neo4jClient;
@@ -166,6 +168,49 @@ public class ReportExecRepoExtImpl extends AbstractDAO implements ReportExecRepo
     @Override
     public void delete(final ReportExec execution) {
         Optional.ofNullable(execution.getReport()).ifPresent(report -> report.getExecs().remove(execution));
+        deleteResultChunks(execution);
         neo4jTemplate.deleteById(execution.getKey(), Neo4jReportExec.class);
     }
+
+    @Override
+    public void saveResultChunk(
+            final ReportExec execution,
+            final int seq,
+            final int contentLength,
+            final byte[] content) {
+
+        Neo4jReportExecChunk chunk = new Neo4jReportExecChunk();
+        chunk.setKey(SecureRandomUtils.generateRandomUUID().toString());
+        chunk.setExecKey(execution.getKey());
+        chunk.setSeq(seq);
+        chunk.setContentLength(contentLength);
+        chunk.setContent(content);
+
+        neo4jTemplate.save(nodeValidator.validate(chunk));
+    }
+
+    @Override
+    public List<Integer> findResultChunkLengths(final ReportExec execution) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jReportExecChunk.NODE + " {execKey: $execKey}) "
+                + "RETURN n.contentLength ORDER BY n.seq ASC").
+                bindAll(Map.of("execKey", execution.getKey())).fetch().all().stream().
+                map(found -> ((Number) found.get("n.contentLength")).intValue()).
+                toList();
+    }
+
+    @Override
+    public Optional<byte[]> findResultChunk(final ReportExec execution, final int seq) {
+        return neo4jClient.query(
+                "MATCH (n:" + Neo4jReportExecChunk.NODE + " {execKey: $execKey, seq: $seq}) RETURN n.content").
+                bindAll(Map.of("execKey", execution.getKey(), "seq", seq)).fetch().one().
+                map(found -> (byte[]) found.get("n.content"));
+    }
+
+    @Override
+    public void deleteResultChunks(final ReportExec execution) {
+        neo4jClient.query(
+                "MATCH (n:" + Neo4jReportExecChunk.NODE + " {execKey: $execKey}) DETACH DELETE n").
+                bindAll(Map.of("execKey", execution.getKey())).run();
+    }
 }
@@ -35,6 +35,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.persistence.api.entity.FIQLQuery;
 import org.apache.syncope.core.persistence.api.entity.Implementation;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
 import org.apache.syncope.core.persistence.api.entity.JobStatus;
 import org.apache.syncope.core.persistence.api.entity.MailTemplate;
 import org.apache.syncope.core.persistence.api.entity.Notification;
@@ -244,6 +245,8 @@ public class Neo4jEntityFactory implements EntityFactory {
             result = (E) new Neo4jRemediation();
         } else if (reference.equals(Batch.class)) {
             result = (E) new Neo4jBatch();
+        } else if (reference.equals(IndexOutboxEntry.class)) {
+            result = (E) new Neo4jIndexOutboxEntry();
         } else if (reference.equals(Delegation.class)) {
             result = (E) new Neo4jDelegation();
         } else if (reference.equals(FIQLQuery.class)) {
@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.entity;
+
+import jakarta.validation.constraints.NotNull;
+import java.time.OffsetDateTime;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.springframework.data.neo4j.core.schema.Node;
+
+@Node(Neo4jIndexOutboxEntry.NODE)
+public class Neo4jIndexOutboxEntry extends AbstractGeneratedKeyNode implements IndexOutboxEntry {
+
+    private static final long serialVersionUID = -2304728011596640364L;
+
+    public static final String NODE = "IndexOutbox";
+
+    public static final String SEQUENCE_NODE = "IndexOutboxSequence";
+
+    private Long sequence;
+
+    @NotNull
+    private String indexName;
+
+    @NotNull
+    private String documentKey;
+
+    @NotNull
+    private Boolean deletion = false;
+
+    private String document;
+
+    @NotNull
+    private OffsetDateTime creationDate;
+
+    private int attempts;
+
+    @Override
+    public Long getSequence() {
+        return sequence;
+    }
+
+    public void setSequence(final Long sequence) {
+        this.sequence = sequence;
+    }
+
+    @Override
+    public String getIndex() {
+        return indexName;
+    }
+
+    @Override
+    public void setIndex(final String index) {
+        this.indexName = index;
+    }
+
+    @Override
+    public String getDocumentKey() {
+        return documentKey;
+    }
+
+    @Override
+    public void setDocumentKey(final String documentKey) {
+        this.documentKey = documentKey;
+    }
+
+    @Override
+    public boolean isDeletion() {
+        return deletion;
+    }
+
+    @Override
+    public void setDeletion(final boolean deletion) {
+        this.deletion = deletion;
+    }
+
+    @Override
+    public String getDocument() {
+        return document;
+    }
+
+    @Override
+    public void setDocument(final String document) {
+        this.document = document;
+    }
+
+    @Override
+    public OffsetDateTime getCreationDate() {
+        return creationDate;
+    }
+
+    @Override
+    public void setCreationDate(final OffsetDateTime creationDate) {
+        this.creationDate = creationDate;
+    }
+
+    @Override
+    public int getAttempts() {
+        return attempts;
+    }
+
+    @Override
+    public void setAttempts(final int attempts) {
+        this.attempts = attempts;
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.persistence.neo4j.entity;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.data.neo4j.core.schema.Node;
+
+/**
+ * Slice of the result of a report execution, independently deflated.
+ */
+@Node(Neo4jReportExecChunk.NODE)
+public class Neo4jReportExecChunk extends AbstractGeneratedKeyNode {
+
+    private static final long serialVersionUID = 5162392736489402312L;
+
+    public static final String NODE = "ReportExecChunk";
+
+    @NotNull
+    private String execKey;
+
+    @NotNull
+    private Integer seq;
+
+    @NotNull
+    private Integer contentLength;
+
+    private byte[] content;
+
+    public String getExecKey() {
+        return execKey;
+    }
+
+    public void setExecKey(final String execKey) {
+        this.execKey = execKey;
+    }
+
+    public int getSeq() {
+        return seq;
+    }
+
+    public void setSeq(final int seq) {
+        this.seq = seq;
+    }
+
+    public int getContentLength() {
+        return contentLength;
+    }
+
+    public void setContentLength(final int contentLength) {
+        this.contentLength = contentLength;
+    }
+
+    public byte[] getContent() {
+        return content;
+    }
+
+    public void setContent(final byte[] content) {
+        this.content = content;
+    }
+}
@@ -64,6 +64,7 @@ import org.apache.syncope.core.persistence.api.entity.anyobject.AMembership;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.apache.syncope.core.persistence.api.utils.FormatUtils;
 import org.apache.syncope.core.persistence.api.utils.RealmUtils;
 import org.apache.syncope.core.persistence.neo4j.AbstractTest;
@@ -405,6 +406,35 @@ public class AnySearchTest extends AbstractTest {
         assertTrue(users.isEmpty());
     }
 
+    @Test
+    public void searchByKeyset() {
+        SearchCond cond = searchDAO.getAllMatchingCond();
+
+        List<String> expected = searchDAO.<User>search(
+                cond, List.of(Sort.Order.asc(KeysetPageRequest.KEY)), AnyTypeKind.USER).stream().
+                map(User::getKey).toList();
+        assertTrue(expected.size() > 2);
+
+        List<String> actual = new ArrayList<>();
+        String after = null;
+        List<User> slice;
+        do {
+            slice = searchDAO.search(
+                    realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond, after, 2, AnyTypeKind.USER);
+            assertTrue(slice.size() <= 2);
+            slice.forEach(user -> actual.add(user.getKey()));
+            after = slice.isEmpty() ? null : slice.getLast().getKey();
+        } while (slice.size() == 2);
+
+        assertEquals(expected, actual);
+
+        List<User> fromPageRequest = searchDAO.search(
+                realmDAO.getRoot(), true, SyncopeConstants.FULL_ADMIN_REALMS, cond,
+                KeysetPageRequest.of(expected.getFirst(), 1), AnyTypeKind.USER);
+        assertEquals(1, fromPageRequest.size());
+        assertEquals(expected.get(1), fromPageRequest.getFirst().getKey());
+    }
+
     @Test
     public void searchByGroup() {
         MembershipCond groupCond = new MembershipCond();
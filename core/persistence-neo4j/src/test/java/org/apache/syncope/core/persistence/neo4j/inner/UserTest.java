@@ -105,6 +105,34 @@ public class UserTest extends AbstractTest {
         assertEquals(5, count);
     }
 
+    @Test
+    public void findKeys() {
+        List<String> keys = userDAO.findKeys(null, null, 10);
+        assertEquals(5, keys.size());
+        assertEquals(keys.stream().sorted().toList(), keys);
+
+        assertEquals(keys.subList(0, 2), userDAO.findKeys(null, null, 2));
+        assertEquals(keys.subList(2, 4), userDAO.findKeys(keys.get(1), keys.get(4), 10));
+        assertEquals(keys.subList(3, 5), userDAO.findKeys(keys.get(2), null, 10));
+
+        assertEquals(keys.subList(1, 3), userDAO.findKeysAt(1, 2));
+        assertEquals(keys.subList(4, 5), userDAO.findKeysAt(4, 2));
+        assertTrue(userDAO.findKeysAt(5, 2).isEmpty());
+    }
+
+    @Test
+    public void findKeysChangedSince() {
+        OffsetDateTime since = OffsetDateTime.now().minusMinutes(1);
+        assertTrue(userDAO.findKeysChangedSince(since, null, 10).isEmpty());
+
+        User user = userDAO.findByUsername("rossini").orElseThrow();
+        user.setLastChangeDate(OffsetDateTime.now());
+        userDAO.save(user);
+
+        assertEquals(List.of(user.getKey()), userDAO.findKeysChangedSince(since, null, 10));
+        assertTrue(userDAO.findKeysChangedSince(since, user.getKey(), 10).isEmpty());
+    }
+
     @Test
     public void findByKey() {
         assertTrue(userDAO.findById("1417acbe-cbf6-4277-9372-e75e04f97000").isPresent());
@@ -42,6 +42,13 @@ public interface AuditManager {
             String subcategory,
             String op);
 
+    /**
+     * Discards what is known about audit configuration for the given domain, as it was just changed.
+     *
+     * @param domain domain
+     */
+    void auditConfChanged(String domain);
+
     /**
      * Create audit entries according to the provided event.
      *
@@ -21,21 +21,22 @@ package org.apache.syncope.core.provisioning.api.jexl;
 import java.beans.IntrospectionException;
 import java.beans.Introspector;
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Field;
 import java.time.temporal.TemporalAccessor;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Set;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.Attr;
 import org.apache.syncope.common.lib.to.AnyTO;
 import org.apache.syncope.common.lib.to.RealmTO;
@@ -53,93 +54,135 @@ public class JexlContextBuilder {
 
     private static final String[] IGNORE_FIELDS = { "password", "clearPassword", "serialVersionUID", "class" };
 
-    private static final Map<Class<?>, Set<Pair<PropertyDescriptor, Field>>> FIELD_CACHE =
-            Collections.synchronizedMap(new HashMap<>());
+    /**
+     * Readable property, with its declared type.
+     *
+     * @param type property type
+     * @param getter handle reading the property value out of an instance
+     */
+    protected record Property(Class<?> type, MethodHandle getter) {
 
-    protected final JexlContext jexlContext = new MapContext();
-
-    public JexlContextBuilder with(final String name, final Object value) {
-        jexlContext.set(name, value);
-        return this;
     }
 
-    public JexlContextBuilder fields(final Object object) {
-        if (object == null) {
-            return this;
-        }
+    private static final Map<Class<?>, Map<String, Property>> PROPERTY_CACHE = new ConcurrentHashMap<>();
 
-        Set<Pair<PropertyDescriptor, Field>> cached = FIELD_CACHE.get(object.getClass());
-        if (cached == null) {
-            FIELD_CACHE.put(object.getClass(), Collections.synchronizedSet(new HashSet<>()));
+    protected static Optional<MethodHandle> getter(final Class<?> clazz, final PropertyDescriptor desc) {
+        try {
+            if (desc.getReadMethod() != null) {
+                ReflectionUtils.makeAccessible(desc.getReadMethod());
+                return Optional.of(MethodHandles.lookup().unreflect(desc.getReadMethod()));
+            }
 
-            List<Class<?>> classes = ClassUtils.getAllSuperclasses(object.getClass());
-            classes.add(object.getClass());
-            classes.forEach(clazz -> {
+            Field field = clazz.getDeclaredField(desc.getName());
+            ReflectionUtils.makeAccessible(field);
+            return Optional.of(MethodHandles.lookup().unreflectGetter(field));
+        } catch (NoSuchFieldException | IllegalAccessException | RuntimeException e) {
+            LOG.debug("Could not get accessor for {} from {}", desc.getName(), clazz.getName(), e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Returns the readable, non-multivalued properties of the given class, introspected once per class.
+     *
+     * @param clazz class
+     * @return readable properties, by name
+     */
+    protected static Map<String, Property> properties(final Class<?> clazz) {
+        return PROPERTY_CACHE.computeIfAbsent(clazz, k -> {
+            Map<String, Property> properties = new HashMap<>();
+
+            List<Class<?>> classes = ClassUtils.getAllSuperclasses(k);
+            classes.add(k);
+            classes.forEach(c -> {
                 try {
-                    for (PropertyDescriptor desc : Introspector.getBeanInfo(clazz).getPropertyDescriptors()) {
+                    for (PropertyDescriptor desc : Introspector.getBeanInfo(c).getPropertyDescriptors()) {
                         if (!desc.getName().startsWith("pc")
                                 && !ArrayUtils.contains(IGNORE_FIELDS, desc.getName())
                                 && !Collection.class.isAssignableFrom(desc.getPropertyType())
                                 && !Map.class.isAssignableFrom(desc.getPropertyType())
                                 && !desc.getPropertyType().isArray()) {
 
-                            Field field = null;
-                            try {
-                                field = clazz.getDeclaredField(desc.getName());
-                            } catch (NoSuchFieldException | SecurityException e) {
-                                LOG.debug("Could not get field {} from {}", desc.getName(), clazz.getName(), e);
-                            }
-
-                            FIELD_CACHE.get(object.getClass()).add(Pair.of(desc, field));
+                            getter(c, desc).ifPresent(getter -> properties.put(
+                                    desc.getName(), new Property(desc.getPropertyType(), getter)));
                         }
                     }
                 } catch (IntrospectionException e) {
-                    LOG.warn("Could not introspect {}", clazz.getName(), e);
+                    LOG.warn("Could not introspect {}", c.getName(), e);
                 }
             });
 
-            cached = FIELD_CACHE.get(object.getClass());
+            return properties;
+        });
+    }
+
+    /**
+     * Reads the given property out of the given object, as to be made available to JEXL.
+     *
+     * @param name property name
+     * @param property property
+     * @param object object
+     * @return property value, empty string if null; or {@code null} if the property could not be read
+     */
+    protected static Object value(final String name, final Property property, final Object object) {
+        try {
+            Object value = property.getter().invoke(object);
+            if (value == null) {
+                value = StringUtils.EMPTY;
+            } else if (TemporalAccessor.class.isAssignableFrom(property.type())) {
+                value = FormatUtils.format((TemporalAccessor) value);
+            }
+
+            LOG.debug("Add field {} with value {}", name, value);
+            return value;
+        } catch (Throwable t) {
+            LOG.error("Reading '{}' value error", name, t);
+            return null;
         }
+    }
 
-        cached.forEach(fd -> {
-            String fieldName = fd.getLeft().getName();
-            Class<?> fieldType = fd.getLeft().getPropertyType();
+    /**
+     * Returns the value of the given variable out of the given object, when this is a realm or realm member.
+     *
+     * @param name variable name
+     * @param object object
+     * @return realm full path for {@code realm} (realm members) or {@code fullPath} (realms), {@code null} otherwise
+     */
+    protected static String realm(final String name, final Object object) {
+        return switch (name) {
+            case "realm" -> object instanceof final Any any && any.getRealm() != null
+                    ? any.getRealm().getFullPath()
+                    : object instanceof final AnyTO anyTO ? anyTO.getRealm() : null;
+
+            case "fullPath" -> object instanceof final Realm realm
+                    ? realm.getFullPath()
+                    : object instanceof final RealmTO realmTO ? realmTO.getFullPath() : null;
+
+            default -> null;
+        };
+    }
 
-            try {
-                Object fieldValue = null;
-                if (fd.getLeft().getReadMethod() == null) {
-                    if (fd.getRight() != null) {
-                        ReflectionUtils.makeAccessible(fd.getRight());
-                        fieldValue = fd.getRight().get(object);
-                    }
-                } else {
-                    fieldValue = fd.getLeft().getReadMethod().invoke(object);
-                }
-                if (fieldValue == null) {
-                    fieldValue = StringUtils.EMPTY;
-                } else {
-                    fieldValue = TemporalAccessor.class.isAssignableFrom(fieldType)
-                            ? FormatUtils.format((TemporalAccessor) fieldValue)
-                            : fieldValue;
-                }
+    protected final JexlContext jexlContext = new MapContext();
+
+    public JexlContextBuilder with(final String name, final Object value) {
+        jexlContext.set(name, value);
+        return this;
+    }
 
-                jexlContext.set(fieldName, fieldValue);
+    public JexlContextBuilder fields(final Object object) {
+        if (object == null) {
+            return this;
+        }
 
-                LOG.debug("Add field {} with value {}", fieldName, fieldValue);
-            } catch (Exception iae) {
-                LOG.error("Reading '{}' value error", fieldName, iae);
+        properties(object.getClass()).forEach((name, property) -> {
+            Object value = value(name, property, object);
+            if (value != null) {
+                jexlContext.set(name, value);
             }
         });
 
-        if (object instanceof final Any any && any.getRealm() != null) {
-            jexlContext.set("realm", any.getRealm().getFullPath());
-        } else if (object instanceof final AnyTO anyTO && anyTO.getRealm() != null) {
-            jexlContext.set("realm", anyTO.getRealm());
-        } else if (object instanceof Realm realm) {
-            jexlContext.set("fullPath", realm.getFullPath());
-        } else if (object instanceof RealmTO realmTO) {
-            jexlContext.set("fullPath", realmTO.getFullPath());
-        }
+        Stream.of("realm", "fullPath").forEach(name -> Optional.ofNullable(realm(name, object)).
+                ifPresent(value -> jexlContext.set(name, value)));
 
         return this;
     }
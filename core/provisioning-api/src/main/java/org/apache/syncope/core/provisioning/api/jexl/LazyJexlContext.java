@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.api.jexl;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.apache.commons.jexl3.JexlContext;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link JexlContext} resolving variables only when first read by an expression, then remembering them; it can be
+ * shared among several expressions evaluated against the same object.
+ *
+ * Variables are looked up, in order, among the ones explicitly set, the object fields, its plain attributes and
+ * finally its derived attributes, which are computed only if needed.
+ */
+public class LazyJexlContext implements JexlContext {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(LazyJexlContext.class);
+
+    protected final Map<String, Object> resolved = new HashMap<>();
+
+    protected Object object;
+
+    protected Map<String, JexlContextBuilder.Property> properties = Map.of();
+
+    protected final Map<String, PlainAttr> plainAttrs = new HashMap<>();
+
+    protected Supplier<Map<String, String>> derAttrsSupplier;
+
+    protected Map<String, String> derAttrs;
+
+    public LazyJexlContext fields(final Object object) {
+        this.object = object;
+        this.properties = object == null ? Map.of() : JexlContextBuilder.properties(object.getClass());
+        return this;
+    }
+
+    public LazyJexlContext plainAttrs(final Collection<PlainAttr> attrs) {
+        attrs.stream().filter(attr -> attr.getSchema() != null).forEach(attr -> plainAttrs.put(attr.getSchema(), attr));
+        return this;
+    }
+
+    public LazyJexlContext derAttrs(final Supplier<Map<String, String>> derAttrs) {
+        this.derAttrsSupplier = derAttrs;
+        return this;
+    }
+
+    protected Object field(final String name) {
+        if (object == null) {
+            return null;
+        }
+
+        Object value = JexlContextBuilder.realm(name, object);
+        if (value == null) {
+            JexlContextBuilder.Property property = properties.get(name);
+            if (property != null) {
+                value = JexlContextBuilder.value(name, property, object);
+            }
+        }
+        return value;
+    }
+
+    protected Object plainAttr(final String name) {
+        PlainAttr attr = plainAttrs.get(name);
+        if (attr == null) {
+            return null;
+        }
+
+        List<String> values = attr.getValuesAsStrings();
+        Object value = values.isEmpty()
+                ? StringUtils.EMPTY
+                : values.size() == 1 ? values.getFirst() : values;
+
+        LOG.debug("Add attribute {} with value {}", name, value);
+        return value;
+    }
+
+    protected Object derAttr(final String name) {
+        if (derAttrsSupplier == null) {
+            return null;
+        }
+
+        if (derAttrs == null) {
+            derAttrs = derAttrsSupplier.get();
+        }
+        return derAttrs.get(name);
+    }
+
+    protected Object resolve(final String name) {
+        Object value = field(name);
+        if (value == null) {
+            value = plainAttr(name);
+        }
+        if (value == null) {
+            value = derAttr(name);
+        }
+        return value;
+    }
+
+    @Override
+    public Object get(final String name) {
+        if (resolved.containsKey(name)) {
+            return resolved.get(name);
+        }
+
+        Object value = resolve(name);
+        if (value != null) {
+            resolved.put(name, value);
+        }
+        return value;
+    }
+
+    @Override
+    public void set(final String name, final Object value) {
+        resolved.put(name, value);
+    }
+
+    @Override
+    public boolean has(final String name) {
+        return resolved.containsKey(name) || get(name) != null;
+    }
+}
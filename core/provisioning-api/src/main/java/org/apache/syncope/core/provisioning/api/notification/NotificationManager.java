@@ -57,6 +57,13 @@ public interface NotificationManager {
             String subcategory,
             String op);
 
+    /**
+     * Discards what is known about notifications for the given domain, as one of them was just changed.
+     *
+     * @param domain domain
+     */
+    void notificationChanged(String domain);
+
     /**
      * Create notification tasks according to the provided event.
      *
@@ -76,10 +83,10 @@ public interface NotificationManager {
      * @param before object(s) availabile before the event
      * @param output object(s) produced by the event
      * @param input object(s) provided to the event
-     * @return created notification tasks
+     * @return keys of created notification tasks
      */
     @SuppressWarnings("squid:S00107")
-    List<NotificationTask> createTasks(
+    List<String> createTasks(
             String who,
             OpEvent.CategoryType type,
             String category,
@@ -48,7 +48,7 @@ public class PropagationTaskInfo {
 
     private String oldConnObjectKey;
 
-    private final PropagationData propagationData;
+    private PropagationData propagationData;
 
     private Connector connector;
 
@@ -128,6 +128,10 @@ public class PropagationTaskInfo {
         return propagationData;
     }
 
+    public void setPropagationData(final PropagationData propagationData) {
+        this.propagationData = propagationData;
+    }
+
     public Connector getConnector() {
         return connector;
     }
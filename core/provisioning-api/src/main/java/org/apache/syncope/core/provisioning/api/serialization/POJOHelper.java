@@ -18,6 +18,8 @@
  */
 package org.apache.syncope.core.provisioning.api.serialization;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.identityconnectors.common.security.GuardedString;
 import org.identityconnectors.framework.common.objects.Attribute;
@@ -28,7 +30,9 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import tools.jackson.core.Version;
 import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.MappingIterator;
 import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.module.SimpleModule;
 
@@ -112,6 +116,37 @@ public final class POJOHelper {
         return result;
     }
 
+    /**
+     * Reads the elements of the given JSON array as trees, without binding them to any class: each can be later
+     * deserialized via {@link #deserialize(JsonNode, Class)}.
+     *
+     * @param serialized JSON array
+     * @return trees of the array elements
+     */
+    public static List<JsonNode> readElements(final String serialized) {
+        List<JsonNode> result = new ArrayList<>();
+
+        try (MappingIterator<JsonNode> elements = MAPPER.readerFor(JsonNode.class).readValues(serialized)) {
+            elements.forEachRemaining(result::add);
+        } catch (Exception e) {
+            LOG.error("During deserialization", e);
+        }
+
+        return result;
+    }
+
+    public static <T extends Object> T deserialize(final JsonNode tree, final Class<T> reference) {
+        T result = null;
+
+        try {
+            result = MAPPER.treeToValue(tree, reference);
+        } catch (Exception e) {
+            LOG.error("During deserialization", e);
+        }
+
+        return result;
+    }
+
     private POJOHelper() {
     }
 }
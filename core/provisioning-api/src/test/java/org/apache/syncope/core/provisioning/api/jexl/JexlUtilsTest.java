@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -32,7 +33,9 @@ import java.util.ArrayList;
 import java.util.Base64;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.StringUtils;
@@ -83,7 +86,7 @@ public class JexlUtilsTest extends AbstractTest {
         ReflectionTestUtils.setField(builder, "jexlContext", context);
 
         builder.fields(new Exception());
-        verify(context, times(2)).set(eq("cause"), any());
+        verify(context).set(eq("cause"), any());
 
         String testFullPath = "testFullPath";
         when(any.getRealm()).thenReturn(realm);
@@ -94,7 +97,7 @@ public class JexlUtilsTest extends AbstractTest {
         String testRealm = "testRealm";
         when(anyTO.getRealm()).thenReturn(testRealm);
         builder.fields(anyTO);
-        verify(context, times(3)).set("realm", testRealm);
+        verify(context, times(2)).set("realm", testRealm);
 
         String fullPath = "test/full/path";
         when(realm.getFullPath()).thenReturn(fullPath);
@@ -175,6 +178,43 @@ public class JexlUtilsTest extends AbstractTest {
         assertFalse(jexlTools().evaluateMandatoryCondition("false", any, derAttrHandler));
     }
 
+    @Test
+    void lazyContext(
+            final @Mock Any any,
+            final @Mock Realm realm,
+            final @Mock PlainAttr firstname,
+            final @Mock PlainAttr surname) {
+
+        when(any.getRealm()).thenReturn(realm);
+        when(realm.getFullPath()).thenReturn("/even");
+        when(firstname.getSchema()).thenReturn("firstname");
+        when(firstname.getValuesAsStrings()).thenReturn(List.of("John"));
+        when(surname.getSchema()).thenReturn("surname");
+
+        AtomicInteger derAttrsCalls = new AtomicInteger();
+        JexlContext jexlContext = new LazyJexlContext().
+                fields(any).
+                plainAttrs(List.of(firstname, surname)).
+                derAttrs(() -> {
+                    derAttrsCalls.incrementAndGet();
+                    return Map.of("fullname", "John Doe");
+                });
+
+        // only referenced variables are resolved, then reused
+        assertEquals("John /even", jexlTools().evaluateExpression("firstname + ' ' + realm", jexlContext));
+        assertEquals("John", jexlTools().evaluateExpression("firstname", jexlContext));
+        verify(firstname).getValuesAsStrings();
+        verify(surname, never()).getValuesAsStrings();
+        assertEquals(0, derAttrsCalls.get());
+
+        // derived attributes are computed once, and only if needed
+        assertEquals("John Doe", jexlTools().evaluateExpression("fullname", jexlContext));
+        assertEquals("John Doe!", jexlTools().evaluateExpression("fullname + '!'", jexlContext));
+        assertEquals(1, derAttrsCalls.get());
+
+        assertFalse(jexlContext.has("missing"));
+    }
+
     @Test
     void evaluateTemplate() {
         byte[] byteArray = "a value".getBytes();
@@ -19,9 +19,20 @@
 package org.apache.syncope.core.provisioning.java;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.SerializationUtils;
 import org.apache.syncope.common.lib.request.UserCR;
 import org.apache.syncope.common.lib.request.UserUR;
@@ -40,10 +51,18 @@ import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.task.AsyncTaskExecutor;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-public class DefaultAuditManager implements AuditManager {
+/**
+ * Audit events are first collected into a bounded buffer, then written in batches - by domain - once the configured
+ * batch size is reached or the configured flush interval has elapsed, whichever comes first.
+ * Active audit configurations are looked up from a per-domain, in-memory index, rebuilt when changed on this node or
+ * after the configured refresh interval, in order to also catch up with changes made by other nodes.
+ */
+public class DefaultAuditManager implements AuditManager, DisposableBean {
 
     protected static final Logger LOG = LoggerFactory.getLogger(AuditManager.class);
 
@@ -86,20 +105,108 @@ public class DefaultAuditManager implements AuditManager {
 
     protected final List<AuditEventProcessor> auditEventProcessors;
 
+    protected record PendingAuditEvent(
+            String domain,
+            String who,
+            OpEvent opEvent,
+            OffsetDateTime when,
+            Object before,
+            Object output,
+            Object... input) {
+
+    }
+
+    protected record AuditConfIndex(Set<OpEvent> active, long expiresAt) {
+
+    }
+
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final AuditBufferProperties bufferProperties;
+
+    protected final long auditConfRefreshMillis;
+
+    protected final Map<String, AuditConfIndex> auditConfIndexes = new ConcurrentHashMap<>();
+
+    protected final AtomicLong auditConfVersion = new AtomicLong();
+
+    protected final BlockingQueue<PendingAuditEvent> buffer;
+
+    protected final AtomicBoolean flushing = new AtomicBoolean(false);
+
+    protected final AtomicLong dropped = new AtomicLong();
+
     public DefaultAuditManager(
             final AuditConfDAO auditConfDAO,
             final AuditEventDAO auditEventDAO,
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final AuditBufferProperties bufferProperties,
+            final long auditConfRefreshSeconds) {
 
         this.auditConfDAO = auditConfDAO;
         this.auditEventDAO = auditEventDAO;
         this.entityFactory = entityFactory;
         this.auditEventProcessors = auditEventProcessors;
         this.taskExecutor = taskExecutor;
+        this.bufferProperties = bufferProperties;
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, bufferProperties.getSize()));
+        this.auditConfRefreshMillis = TimeUnit.SECONDS.toMillis(auditConfRefreshSeconds);
+    }
+
+    /**
+     * @return number of audit events currently waiting to be written
+     */
+    public int getBuffered() {
+        return buffer.size();
+    }
+
+    /**
+     * @return number of audit events discarded so far because the buffer was full
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    protected AuditConfIndex auditConfIndex(final String domain) {
+        AuditConfIndex index = auditConfIndexes.get(domain);
+        if (index == null || index.expiresAt() < System.currentTimeMillis()) {
+            long version = auditConfVersion.get();
+
+            AuditConfIndex rebuilt = AuthContextUtils.callAsAdmin(domain, () -> new AuditConfIndex(
+                    auditConfDAO.findAll().stream().
+                            filter(AuditConf::isActive).
+                            map(auditConf -> OpEvent.fromString(auditConf.getKey())).
+                            collect(Collectors.toUnmodifiableSet()),
+                    System.currentTimeMillis() + auditConfRefreshMillis));
+            LOG.debug("Active audit confs for domain {}: {}", domain, rebuilt.active());
+
+            // do not publish the rebuilt index if audit conf was changed meanwhile: checking the version while
+            // holding the entry lock prevents any concurrent change from being missed, as auditConfChanged bumps
+            // the version before removing the entry
+            auditConfIndexes.compute(domain, (d, current) -> version == auditConfVersion.get() ? rebuilt : current);
+            index = rebuilt;
+        }
+        return index;
+    }
+
+    @Override
+    public void auditConfChanged(final String domain) {
+        auditConfVersion.incrementAndGet();
+        auditConfIndexes.remove(domain);
+
+        // discard again after commit, to prevent any index rebuilt meanwhile from missing the change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    auditConfVersion.incrementAndGet();
+                    auditConfIndexes.remove(domain);
+                }
+            });
+        }
     }
 
     @Override
@@ -111,15 +218,9 @@ public class DefaultAuditManager implements AuditManager {
             final String subcategory,
             final String op) {
 
-        return AuthContextUtils.callAsAdmin(domain, () -> {
-            OpEvent opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.SUCCESS);
-            if (auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false)) {
-                return true;
-            }
-
-            opEvent = new OpEvent(type, category, subcategory, op, OpEvent.Outcome.FAILURE);
-            return auditConfDAO.findById(opEvent.toString()).map(AuditConf::isActive).orElse(false);
-        });
+        Set<OpEvent> active = auditConfIndex(domain).active();
+        return active.contains(new OpEvent(type, category, subcategory, op, OpEvent.Outcome.SUCCESS))
+                || active.contains(new OpEvent(type, category, subcategory, op, OpEvent.Outcome.FAILURE));
     }
 
     @Override
@@ -150,50 +251,159 @@ public class DefaultAuditManager implements AuditManager {
             final Object output,
             final Object... input) {
 
-        taskExecutor.submit(() -> AuthContextUtils.runAsAdmin(domain, new Runnable() {
+        PendingAuditEvent event = new PendingAuditEvent(
+                domain,
+                who,
+                new OpEvent(type, category, subcategory, op, outcome),
+                OffsetDateTime.now(),
+                before,
+                output,
+                input);
 
-            @Transactional
-            @Override
-            public void run() {
-                OpEvent opEvent = new OpEvent(type, category, subcategory, op, outcome);
+        if (buffer.offer(event)) {
+            scheduleFlush();
+        } else if (bufferProperties.getOverflowPolicy() == AuditBufferProperties.OverflowPolicy.DIRECT) {
+            LOG.debug("Audit buffer full, writing {} directly", event.opEvent());
+            taskExecutor.submit(() -> write(domain, List.of(event)));
+        } else {
+            dropped.incrementAndGet();
+            LOG.warn("Audit buffer full, discarding {}", event.opEvent());
+        }
+    }
 
-                Optional<? extends AuditConf> auditConf = auditConfDAO.findById(opEvent.toString());
-                if (auditConf.isEmpty()) {
-                    LOG.debug("No audit conf found for {}, skipping", opEvent);
-                    return;
+    protected void scheduleFlush() {
+        if (flushing.compareAndSet(false, true)) {
+            try {
+                taskExecutor.execute(this::flush);
+            } catch (RuntimeException e) {
+                flushing.set(false);
+                LOG.error("Could not schedule audit buffer flush", e);
+            }
+        }
+    }
+
+    protected List<PendingAuditEvent> nextBatch() {
+        List<PendingAuditEvent> batch = new ArrayList<>(bufferProperties.getBatchSize());
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(bufferProperties.getFlushIntervalMillis());
+        try {
+            while (batch.size() < bufferProperties.getBatchSize()) {
+                if (buffer.drainTo(batch, bufferProperties.getBatchSize() - batch.size()) == 0) {
+                    long remaining = deadline - System.nanoTime();
+                    PendingAuditEvent event = remaining > 0 ? buffer.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (event == null) {
+                        break;
+                    }
+                    batch.add(event);
                 }
-                if (!auditConf.get().isActive()) {
-                    LOG.debug("Audit conf found for {} is not active, skipping", opEvent);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        return batch;
+    }
+
+    protected void flush() {
+        try {
+            while (!buffer.isEmpty() && !Thread.currentThread().isInterrupted()) {
+                nextBatch().stream().collect(Collectors.groupingBy(
+                        PendingAuditEvent::domain, LinkedHashMap::new, Collectors.toList())).
+                        forEach(this::write);
+            }
+        } finally {
+            flushing.set(false);
+        }
+
+        // events might have been added after the last check above
+        if (!buffer.isEmpty()) {
+            scheduleFlush();
+        }
+    }
+
+    protected AuditEvent toAuditEvent(final PendingAuditEvent event) {
+        AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
+        auditEvent.setOpEvent(event.opEvent().toString());
+        auditEvent.setWho(event.who());
+        auditEvent.setWhen(event.when());
+        auditEvent.setBefore(POJOHelper.serialize((maskSensitive(event.before()))));
+
+        Optional.ofNullable(event.input()).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
+                map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
+                toList()));
+
+        if (event.output() instanceof Throwable throwable) {
+            auditEvent.setOutput(throwable.getMessage());
+            auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
+        } else {
+            auditEvent.setOutput(POJOHelper.serialize((maskSensitive(event.output()))));
+        }
+
+        return auditEvent;
+    }
+
+    protected void write(final String domain, final List<PendingAuditEvent> events) {
+        AuthContextUtils.runAsAdmin(domain, () -> {
+            Set<OpEvent> active = auditConfIndex(domain).active();
+
+            List<AuditEvent> auditEvents = new ArrayList<>(events.size());
+            events.forEach(event -> {
+                if (!active.contains(event.opEvent())) {
+                    LOG.debug("No active audit conf found for {}, skipping", event.opEvent());
                     return;
                 }
 
                 try {
-                    AuditEvent auditEvent = entityFactory.newEntity(AuditEvent.class);
-                    auditEvent.setOpEvent(opEvent.toString());
-                    auditEvent.setWho(who);
-                    auditEvent.setWhen(OffsetDateTime.now());
-                    auditEvent.setBefore(POJOHelper.serialize((maskSensitive(before))));
-
-                    Optional.ofNullable(input).ifPresent(in -> auditEvent.setInputs(Arrays.stream(in).
-                            map(DefaultAuditManager::maskSensitive).map(POJOHelper::serialize).
-                            toList()));
-
-                    if (output instanceof Throwable throwable) {
-                        auditEvent.setOutput(throwable.getMessage());
-                        auditEvent.setThrowable(ExceptionUtils2.getFullStackTrace(throwable));
-                    } else {
-                        auditEvent.setOutput(POJOHelper.serialize((maskSensitive(output))));
-                    }
-
-                    auditEventDAO.save(auditEvent);
-
-                    auditEventProcessors.stream().
-                            filter(p -> p.getEvents(domain).contains(opEvent)).
-                            forEach(p -> p.process(domain, auditEvent));
+                    auditEvents.add(toAuditEvent(event));
                 } catch (Exception e) {
-                    LOG.error("While processing audit event for conf {}", opEvent, e);
+                    LOG.error("While processing audit event for conf {}", event.opEvent(), e);
                 }
+            });
+            if (auditEvents.isEmpty()) {
+                return;
+            }
+
+            try {
+                auditEventDAO.saveAll(auditEvents);
+            } catch (Exception e) {
+                LOG.error("While saving {} audit events, now attempting one by one", auditEvents.size(), e);
+
+                List<AuditEvent> saved = new ArrayList<>(auditEvents.size());
+                auditEvents.forEach(auditEvent -> {
+                    try {
+                        auditEventDAO.save(auditEvent);
+                        saved.add(auditEvent);
+                    } catch (Exception ex) {
+                        LOG.error("While saving audit event for conf {}", auditEvent.getOpEvent(), ex);
+                    }
+                });
+                auditEvents.retainAll(saved);
             }
-        }));
+
+            auditEvents.forEach(auditEvent -> {
+                OpEvent opEvent = OpEvent.fromString(auditEvent.getOpEvent());
+                auditEventProcessors.stream().
+                        filter(p -> p.getEvents(domain).contains(opEvent)).
+                        forEach(p -> {
+                            try {
+                                p.process(domain, auditEvent);
+                            } catch (Exception e) {
+                                LOG.error("While processing audit event for conf {}", opEvent, e);
+                            }
+                        });
+            });
+        });
+    }
+
+    @Override
+    public void destroy() {
+        List<PendingAuditEvent> pending = new ArrayList<>();
+        buffer.drainTo(pending);
+        if (!pending.isEmpty()) {
+            LOG.info("Writing {} buffered audit events before shutdown", pending.size());
+            pending.stream().collect(Collectors.groupingBy(
+                    PendingAuditEvent::domain, LinkedHashMap::new, Collectors.toList())).
+                    forEach(this::write);
+        }
     }
 }
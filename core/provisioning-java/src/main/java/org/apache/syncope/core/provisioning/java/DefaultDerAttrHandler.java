@@ -34,8 +34,8 @@ import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Relatable;
 import org.apache.syncope.core.persistence.api.entity.Relationship;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
-import org.apache.syncope.core.provisioning.api.jexl.JexlContextBuilder;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -60,14 +60,11 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
 
         Map<String, String> result = new HashMap<>(schemas.size());
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(attributable.getPlainAttrs()).
-                    fields(attributable).
-                    build();
-
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
+        JexlContext jexlContext = new LazyJexlContext().
+                plainAttrs(attributable.getPlainAttrs()).
+                fields(attributable);
+        schemas.forEach(schema -> result.put(
+                schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString()));
 
         return result;
     }
@@ -114,14 +111,11 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
 
         Map<String, String> result = new HashMap<>(schemas.size());
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(groupable.getPlainAttrs(membership)).
-                    fields(groupable).
-                    build();
-
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
+        JexlContext jexlContext = new LazyJexlContext().
+                plainAttrs(groupable.getPlainAttrs(membership)).
+                fields(groupable);
+        schemas.forEach(schema -> result.put(
+                schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString()));
 
         return result;
     }
@@ -153,14 +147,11 @@ public class DefaultDerAttrHandler implements DerAttrHandler {
 
         Map<String, String> result = new HashMap<>(schemas.size());
 
-        schemas.forEach(schema -> {
-            JexlContext jexlContext = new JexlContextBuilder().
-                    plainAttrs(relatable.getPlainAttrs(relationship)).
-                    fields(relatable).
-                    build();
-
-            result.put(schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString());
-        });
+        JexlContext jexlContext = new LazyJexlContext().
+                plainAttrs(relatable.getPlainAttrs(relationship)).
+                fields(relatable);
+        schemas.forEach(schema -> result.put(
+                schema.getKey(), jexlTools.evaluateExpression(schema.getExpression(), jexlContext).toString()));
 
         return result;
     }
@@ -79,8 +79,8 @@ import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
 import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.PlainAttrGetter;
 import org.apache.syncope.core.provisioning.api.data.ItemTransformer;
-import org.apache.syncope.core.provisioning.api.jexl.JexlContextBuilder;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.provisioning.java.utils.MappingUtils;
 import org.identityconnectors.framework.common.FrameworkUtil;
@@ -239,11 +239,10 @@ public class DefaultMappingManager implements MappingManager {
                 orElse(null);
         String evalConnObjectLink = null;
         if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new JexlContextBuilder().
+            JexlContext jexlContext = new LazyJexlContext().
                     fields(any).
                     plainAttrs(any.getPlainAttrs()).
-                    derAttrs(derAttrHandler.getValues(any)).
-                    build();
+                    derAttrs(() -> derAttrHandler.getValues(any));
 
             evalConnObjectLink = jexlTools.evaluateExpression(connObjectLink, jexlContext).toString();
         }
@@ -271,11 +270,10 @@ public class DefaultMappingManager implements MappingManager {
         String connObjectLink = orgUnit.getConnObjectLink();
         String evalConnObjectLink = null;
         if (StringUtils.isNotBlank(connObjectLink)) {
-            JexlContext jexlContext = new JexlContextBuilder().
+            JexlContext jexlContext = new LazyJexlContext().
                     fields(realm).
                     plainAttrs(realm.getPlainAttrs()).
-                    derAttrs(derAttrHandler.getValues(realm)).
-                    build();
+                    derAttrs(() -> derAttrHandler.getValues(realm));
 
             evalConnObjectLink = jexlTools.evaluateExpression(connObjectLink, jexlContext).toString();
         }
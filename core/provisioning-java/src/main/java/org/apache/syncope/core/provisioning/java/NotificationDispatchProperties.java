@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class NotificationDispatchProperties {
+
+    /**
+     * Notification tasks claimed and committed at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum number of concurrent connections to the mail server.
+     */
+    private int maxConnections = 10;
+
+    /**
+     * Messages sent through the same connection before closing it.
+     */
+    private int messagesPerConnection = 50;
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(final int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    public void setMaxConnections(final int maxConnections) {
+        this.maxConnections = maxConnections;
+    }
+
+    public int getMessagesPerConnection() {
+        return messagesPerConnection;
+    }
+
+    public void setMessagesPerConnection(final int messagesPerConnection) {
+        this.messagesPerConnection = messagesPerConnection;
+    }
+}
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+public class PropagationBulkheadProperties {
+
+    public enum Policy {
+        /**
+         * Reject tasks when the queue is full.
+         */
+        REJECT,
+        /**
+         * Wait for room in the queue, up to the configured timeout, then reject.
+         */
+        BLOCK
+
+    }
+
+    private int maxInFlight = 10;
+
+    private int queueDepth = 10000;
+
+    private Policy policy = Policy.BLOCK;
+
+    private long blockTimeoutSeconds = 60;
+
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(final int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(final int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public Policy getPolicy() {
+        return policy;
+    }
+
+    public void setPolicy(final Policy policy) {
+        this.policy = policy;
+    }
+
+    public long getBlockTimeoutSeconds() {
+        return blockTimeoutSeconds;
+    }
+
+    public void setBlockTimeoutSeconds(final long blockTimeoutSeconds) {
+        this.blockTimeoutSeconds = blockTimeoutSeconds;
+    }
+}
@@ -163,6 +163,7 @@ import org.apache.syncope.core.provisioning.java.pushpull.LiveSyncTaskSaver;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.PasswordGenerator;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.apache.syncope.core.spring.security.jws.AccessTokenJWSSigner;
@@ -183,6 +184,7 @@ import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
 
 @EnableAsync
 @EnableConfigurationProperties(ProvisioningProperties.class)
@@ -507,7 +509,8 @@ public class ProvisioningContext {
             final TaskDataBinder taskDataBinder,
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final ProvisioningProperties props) {
 
         return new PriorityPropagationTaskExecutor(
                 connectorManager,
@@ -523,7 +526,10 @@ public class ProvisioningContext {
                 outboundMatcher,
                 validator,
                 publisher,
-                propagationTaskExecutorAsyncExecutor);
+                propagationTaskExecutorAsyncExecutor,
+                props.getPropagationBatchSize(),
+                props.getPropagationBulkhead(),
+                props.isPropagationCoalescing());
     }
 
     @ConditionalOnMissingBean
@@ -586,6 +592,7 @@ public class ProvisioningContext {
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final AnySearchDAO anySearchDAO,
+            final RealmSearchDAO realmSearchDAO,
             final AnyMatchDAO anyMatchDAO,
             final TaskDAO taskDAO,
             final RelationshipTypeDAO relationshipTypeDAO,
@@ -595,7 +602,8 @@ public class ProvisioningContext {
             final ConfParamOps confParamOps,
             final DerAttrHandler derAttrHandler,
             final IntAttrNameParser intAttrNameParser,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final ProvisioningProperties props) {
 
         return new DefaultNotificationManager(
                 derSchemaDAO,
@@ -604,6 +612,7 @@ public class ProvisioningContext {
                 userDAO,
                 groupDAO,
                 anySearchDAO,
+                realmSearchDAO,
                 anyMatchDAO,
                 taskDAO,
                 relationshipTypeDAO,
@@ -615,7 +624,9 @@ public class ProvisioningContext {
                 entityFactory,
                 intAttrNameParser,
                 searchCondVisitor,
-                jexlTools);
+                jexlTools,
+                props.getNotificationRefreshSeconds(),
+                props.getNotificationRecipientsChunkSize());
     }
 
     /**
@@ -639,9 +650,33 @@ public class ProvisioningContext {
             final EntityFactory entityFactory,
             final List<AuditEventProcessor> auditEventProcessors,
             @Qualifier("auditManagerThreadExecutor")
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final ProvisioningProperties props) {
 
-        return new DefaultAuditManager(auditConfDAO, auditEventDAO, entityFactory, auditEventProcessors, taskExecutor);
+        return new DefaultAuditManager(
+                auditConfDAO,
+                auditEventDAO,
+                entityFactory,
+                auditEventProcessors,
+                taskExecutor,
+                props.getAuditBuffer(),
+                props.getAuditConfRefreshSeconds());
+    }
+
+    /**
+     * Used by {@link NotificationJobDelegate} to deliver notifications: its size bounds the connections open at once.
+     *
+     * @param props the provisioning properties
+     * @return the async task executor
+     */
+    @Bean
+    public AsyncTaskExecutor notificationDispatchExecutor(final ProvisioningProperties props) {
+        VirtualThreadPoolTaskExecutor executor = new VirtualThreadPoolTaskExecutor();
+        executor.setPoolSize(Math.max(1, props.getNotificationDispatch().getMaxConnections()));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setThreadNamePrefix("NotificationDispatchExecutor-");
+        executor.initialize();
+        return executor;
     }
 
     @ConditionalOnMissingBean
@@ -653,6 +688,10 @@ public class ProvisioningContext {
             final AuditManager auditManager,
             final NotificationManager notificationManager,
             final ApplicationEventPublisher publisher,
+            @Qualifier("notificationDispatchExecutor")
+            final AsyncTaskExecutor notificationDispatchExecutor,
+            final ProvisioningProperties props,
+            final PlatformTransactionManager transactionManager,
             final JavaMailSender mailSender) {
 
         return new MailNotificationJobDelegate(
@@ -662,6 +701,9 @@ public class ProvisioningContext {
                 auditManager,
                 notificationManager,
                 publisher,
+                notificationDispatchExecutor,
+                props.getNotificationDispatch(),
+                transactionManager,
                 mailSender);
     }
 
@@ -700,7 +742,8 @@ public class ProvisioningContext {
             final AccessTokenJWSSigner jwsSigner,
             final AccessTokenDAO accessTokenDAO,
             final ConfParamOps confParamOps,
-            final DefaultCredentialChecker credentialChecker) {
+            final DefaultCredentialChecker credentialChecker,
+            final JWTAuthCache jwtAuthCache) {
 
         return new AccessTokenDataBinderImpl(
                 securityProperties,
@@ -708,7 +751,8 @@ public class ProvisioningContext {
                 accessTokenDAO,
                 confParamOps,
                 entityFactory,
-                credentialChecker);
+                credentialChecker,
+                jwtAuthCache);
     }
 
     @ConditionalOnMissingBean
@@ -774,7 +818,8 @@ public class ProvisioningContext {
             final EncryptorManager encryptorManager,
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
-            final AccessTokenDAO accessTokenDAO) {
+            final AccessTokenDAO accessTokenDAO,
+            final JWTAuthCache jwtAuthCache) {
 
         return new AnyTypeDataBinderImpl(
                 securityProperties,
@@ -782,7 +827,8 @@ public class ProvisioningContext {
                 anyTypeDAO,
                 anyTypeClassDAO,
                 accessTokenDAO,
-                entityFactory);
+                entityFactory,
+                jwtAuthCache);
     }
 
     @ConditionalOnMissingBean
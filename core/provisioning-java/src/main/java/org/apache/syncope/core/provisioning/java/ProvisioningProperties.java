@@ -31,6 +31,24 @@ public class ProvisioningProperties {
 
     private final ExecutorProperties scheduling = new ExecutorProperties();
 
+    private int propagationBatchSize = 100;
+
+    private final PropagationBulkheadProperties propagationBulkhead = new PropagationBulkheadProperties();
+
+    private boolean propagationCoalescing;
+
+    private final AuditBufferProperties auditBuffer = new AuditBufferProperties();
+
+    private long auditConfRefreshSeconds = 60;
+
+    private long notificationRefreshSeconds = 60;
+
+    private int notificationRecipientsChunkSize = 1000;
+
+    private final NotificationDispatchProperties notificationDispatch = new NotificationDispatchProperties();
+
+    private final ReportOutputProperties reportOutput = new ReportOutputProperties();
+
     private final List<String> connIdLocation = new ArrayList<>();
 
     public ExecutorProperties getAsyncConnectorFacadeExecutor() {
@@ -45,6 +63,62 @@ public class ProvisioningProperties {
         return scheduling;
     }
 
+    public int getPropagationBatchSize() {
+        return propagationBatchSize;
+    }
+
+    public void setPropagationBatchSize(final int propagationBatchSize) {
+        this.propagationBatchSize = propagationBatchSize;
+    }
+
+    public PropagationBulkheadProperties getPropagationBulkhead() {
+        return propagationBulkhead;
+    }
+
+    public boolean isPropagationCoalescing() {
+        return propagationCoalescing;
+    }
+
+    public void setPropagationCoalescing(final boolean propagationCoalescing) {
+        this.propagationCoalescing = propagationCoalescing;
+    }
+
+    public AuditBufferProperties getAuditBuffer() {
+        return auditBuffer;
+    }
+
+    public long getAuditConfRefreshSeconds() {
+        return auditConfRefreshSeconds;
+    }
+
+    public void setAuditConfRefreshSeconds(final long auditConfRefreshSeconds) {
+        this.auditConfRefreshSeconds = auditConfRefreshSeconds;
+    }
+
+    public long getNotificationRefreshSeconds() {
+        return notificationRefreshSeconds;
+    }
+
+    public void setNotificationRefreshSeconds(final long notificationRefreshSeconds) {
+        this.notificationRefreshSeconds = notificationRefreshSeconds;
+    }
+
+    public int getNotificationRecipientsChunkSize() {
+        return notificationRecipientsChunkSize;
+    }
+
+    public void setNotificationRecipientsChunkSize(final int notificationRecipientsChunkSize) {
+        this.notificationRecipientsChunkSize = notificationRecipientsChunkSize;
+    }
+
+    public NotificationDispatchProperties getNotificationDispatch() {
+        return notificationDispatch;
+    }
+
+    public ReportOutputProperties getReportOutput() {
+        return reportOutput;
+    }
+
     public List<String> getConnIdLocation() {
         return connIdLocation;
     }
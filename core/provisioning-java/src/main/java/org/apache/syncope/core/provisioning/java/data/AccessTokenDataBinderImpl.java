@@ -37,6 +37,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.DefaultCredentialChecker;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.SecureRandomUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.apache.syncope.core.spring.security.jws.AccessTokenJWSSigner;
@@ -55,13 +56,16 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
 
     protected final DefaultCredentialChecker credentialChecker;
 
+    protected final JWTAuthCache jwtAuthCache;
+
     public AccessTokenDataBinderImpl(
             final SecurityProperties securityProperties,
             final AccessTokenJWSSigner jwsSigner,
             final AccessTokenDAO accessTokenDAO,
             final ConfParamOps confParamOps,
             final EntityFactory entityFactory,
-            final DefaultCredentialChecker credentialChecker) {
+            final DefaultCredentialChecker credentialChecker,
+            final JWTAuthCache jwtAuthCache) {
 
         this.securityProperties = securityProperties;
         this.jwsSigner = jwsSigner;
@@ -69,6 +73,7 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
         this.confParamOps = confParamOps;
         this.entityFactory = entityFactory;
         this.credentialChecker = credentialChecker;
+        this.jwtAuthCache = jwtAuthCache;
     }
 
     protected AccessTokenInfo generateJWT(
@@ -124,7 +129,9 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
             accessToken.setAuthorities(authorities);
         }
 
-        return accessTokenDAO.save(accessToken);
+        AccessToken saved = accessTokenDAO.save(accessToken);
+        jwtAuthCache.evictToken(AuthContextUtils.getDomain(), saved.getKey());
+        return saved;
     }
 
     @Override
@@ -190,6 +197,7 @@ public class AccessTokenDataBinderImpl implements AccessTokenDataBinder {
         }
 
         accessTokenDAO.save(accessToken);
+        jwtAuthCache.evictToken(AuthContextUtils.getDomain(), accessToken.getKey());
 
         return new AccessTokenInfo(body, expiration);
     }
@@ -39,6 +39,7 @@ import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.provisioning.api.data.AnyTypeDataBinder;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.apache.syncope.core.spring.security.SyncopeGrantedAuthority;
 import org.slf4j.Logger;
@@ -61,13 +62,16 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
 
     protected final EntityFactory entityFactory;
 
+    protected final JWTAuthCache jwtAuthCache;
+
     public AnyTypeDataBinderImpl(
             final SecurityProperties securityProperties,
             final EncryptorManager encryptorManager,
             final AnyTypeDAO anyTypeDAO,
             final AnyTypeClassDAO anyTypeClassDAO,
             final AccessTokenDAO accessTokenDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final JWTAuthCache jwtAuthCache) {
 
         this.securityProperties = securityProperties;
         this.encryptorManager = encryptorManager;
@@ -75,6 +79,7 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
         this.anyTypeClassDAO = anyTypeClassDAO;
         this.accessTokenDAO = accessTokenDAO;
         this.entityFactory = entityFactory;
+        this.jwtAuthCache = jwtAuthCache;
     }
 
     @Override
@@ -99,6 +104,7 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                         encode(POJOHelper.serialize(authorities), CipherAlgorithm.AES));
 
                 accessTokenDAO.save(accessToken);
+                jwtAuthCache.evictToken(AuthContextUtils.getDomain(), accessToken.getKey());
             } catch (Exception e) {
                 LOG.error("Could not fetch or store authorities", e);
             }
@@ -152,6 +158,7 @@ public class AnyTypeDataBinderImpl implements AnyTypeDataBinder {
                         encode(POJOHelper.serialize(authorities), CipherAlgorithm.AES));
 
                 accessTokenDAO.save(accessToken);
+                jwtAuthCache.evictToken(AuthContextUtils.getDomain(), accessToken.getKey());
             } catch (Exception e) {
                 LOG.error("Could not fetch or store authorities", e);
             }
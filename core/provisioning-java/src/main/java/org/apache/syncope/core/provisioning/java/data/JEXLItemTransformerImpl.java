@@ -36,6 +36,7 @@ import org.apache.syncope.core.provisioning.api.MappingManager;
 import org.apache.syncope.core.provisioning.api.data.JEXLItemTransformer;
 import org.apache.syncope.core.provisioning.api.jexl.JexlContextBuilder;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -66,13 +67,12 @@ public class JEXLItemTransformerImpl implements JEXLItemTransformer {
             final AttrSchemaType schemaType,
             final PlainAttrValue value) {
 
-        JexlContextBuilder builder = new JexlContextBuilder();
+        LazyJexlContext jexlContext = new LazyJexlContext();
         if (attributable != null) {
-            builder.fields(attributable).
+            jexlContext.fields(attributable).
                     plainAttrs(attributable.getPlainAttrs()).
-                    derAttrs(jexlTools.derAttrs(attributable, derAttrHandler));
+                    derAttrs(() -> jexlTools.derAttrs(attributable, derAttrHandler));
         }
-        JexlContext jexlContext = builder.build();
 
         Object oValue;
         switch (schemaType) {
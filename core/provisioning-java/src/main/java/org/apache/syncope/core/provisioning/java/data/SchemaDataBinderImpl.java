@@ -119,6 +119,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schema.setReadonly(schemaTO.isReadonly());
         schema.setSecretKey(schemaTO.getSecretKey());
         schema.setUniqueConstraint(schemaTO.isUniqueConstraint());
+        schema.setIndexed(schemaTO.isIndexed());
 
         schema.getLabels().clear();
         schema.getLabels().putAll(schemaTO.getLabels());
@@ -210,6 +211,7 @@ public class SchemaDataBinderImpl implements SchemaDataBinder {
         schemaTO.setReadonly(schema.isReadonly());
         schemaTO.setSecretKey(schema.getSecretKey());
         schemaTO.setUniqueConstraint(schema.isUniqueConstraint());
+        schemaTO.setIndexed(schema.isIndexed());
         schemaTO.getLabels().putAll(schema.getLabels());
         Optional.ofNullable(schema.getAnyTypeClass()).
                 ifPresent(v -> schemaTO.setAnyTypeClass(v.getKey()));
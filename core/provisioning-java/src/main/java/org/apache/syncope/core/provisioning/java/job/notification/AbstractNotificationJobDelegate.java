@@ -19,7 +19,13 @@
 package org.apache.syncope.core.provisioning.java.job.notification;
 
 import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.SyncopeConstants;
@@ -36,16 +42,44 @@ import org.apache.syncope.core.provisioning.api.event.JobStatusEvent;
 import org.apache.syncope.core.provisioning.api.job.JobManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.NotificationDispatchProperties;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+/**
+ * Notification tasks are claimed in batches, each committed on its own; deliveries are performed concurrently by the
+ * dispatch executor, whose size bounds the connections open at once, while their outcomes are recorded by the calling
+ * thread.
+ */
 public abstract class AbstractNotificationJobDelegate implements NotificationJobDelegate {
 
     protected static final Logger LOG = LoggerFactory.getLogger(NotificationJobDelegate.class);
 
+    /**
+     * Contents of a notification task, detached from persistence so that it can be delivered by other threads.
+     *
+     * @param sender sender
+     * @param subject subject
+     * @param textBody text body
+     * @param htmlBody HTML body
+     */
+    protected record Envelope(String sender, String subject, String textBody, String htmlBody) {
+
+        static Envelope of(final NotificationTask task) {
+            return new Envelope(task.getSender(), task.getSubject(), task.getTextBody(), task.getHtmlBody());
+        }
+    }
+
+    protected record Delivery(List<String> recipients, Future<Map<String, Exception>> failures) {
+
+    }
+
     protected final ConfParamOps confParamOps;
 
     protected final TaskDAO taskDAO;
@@ -58,13 +92,22 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
 
     protected final ApplicationEventPublisher publisher;
 
+    protected final AsyncTaskExecutor dispatchExecutor;
+
+    protected final NotificationDispatchProperties dispatchProperties;
+
+    protected final TransactionTemplate transactionTemplate;
+
     protected AbstractNotificationJobDelegate(
             final ConfParamOps confParamOps,
             final TaskDAO taskDAO,
             final TaskUtilsFactory taskUtilsFactory,
             final AuditManager auditManager,
             final NotificationManager notificationManager,
-            final ApplicationEventPublisher publisher) {
+            final ApplicationEventPublisher publisher,
+            final AsyncTaskExecutor dispatchExecutor,
+            final NotificationDispatchProperties dispatchProperties,
+            final PlatformTransactionManager transactionManager) {
 
         this.confParamOps = confParamOps;
         this.taskDAO = taskDAO;
@@ -72,6 +115,9 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
         this.auditManager = auditManager;
         this.notificationManager = notificationManager;
         this.publisher = publisher;
+        this.dispatchExecutor = dispatchExecutor;
+        this.dispatchProperties = dispatchProperties;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     protected void setStatus(final String status) {
@@ -79,21 +125,88 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
                 this, AuthContextUtils.getDomain(), JobManager.NOTIFICATION_JOB, status));
     }
 
-    protected abstract void notify(String to, NotificationTask task, TaskExec<NotificationTask> execution)
-            throws Exception;
+    /**
+     * Delivers the given envelope to each of the given recipients, through a single connection where possible.
+     * Invoked concurrently, hence not allowed to access any persistent state.
+     *
+     * @param envelope contents to deliver
+     * @param recipients recipients to deliver to
+     * @return failure cause by recipient, for the recipients which could not be notified
+     */
+    protected abstract Map<String, Exception> deliver(Envelope envelope, List<String> recipients);
+
+    protected boolean isComplete(final NotificationTask task) {
+        return StringUtils.isNotBlank(task.getSubject()) && !task.getRecipients().isEmpty()
+                && StringUtils.isNotBlank(task.getHtmlBody()) && StringUtils.isNotBlank(task.getTextBody());
+    }
+
+    protected List<Delivery> submit(final NotificationTask task) {
+        LOG.debug("About to send notifications:\nFrom: {}\nTo: {}\nSubject: {}\nHTML body:\n{}\nText body:\n{}\n",
+                task.getSender(), task.getRecipients(), task.getSubject(), task.getHtmlBody(), task.getTextBody());
+
+        Envelope envelope = Envelope.of(task);
+        List<String> recipients = List.copyOf(task.getRecipients());
+        int size = Math.max(1, dispatchProperties.getMessagesPerConnection());
+
+        List<Delivery> deliveries = new ArrayList<>();
+        for (int i = 0; i < recipients.size(); i += size) {
+            List<String> chunk = recipients.subList(i, Math.min(i + size, recipients.size()));
+            deliveries.add(new Delivery(chunk, dispatchExecutor.submit(() -> deliver(envelope, chunk))));
+        }
+        return deliveries;
+    }
+
+    protected Map<String, Exception> await(final List<Delivery> deliveries) {
+        Map<String, Exception> failures = new LinkedHashMap<>();
+        deliveries.forEach(delivery -> {
+            try {
+                failures.putAll(delivery.failures().get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                delivery.recipients().forEach(to -> failures.put(to, e));
+            } catch (ExecutionException e) {
+                Exception cause = e.getCause() instanceof Exception ex ? ex : e;
+                delivery.recipients().forEach(to -> failures.put(to, cause));
+            }
+        });
+        return failures;
+    }
+
+    protected String report(final NotificationTask task, final List<String> notified) {
+        StringBuilder report = new StringBuilder();
+        switch (task.getTraceLevel()) {
+            case ALL:
+                report.append("FROM: ").append(task.getSender()).append('\n').
+                        append("TO: ").append(String.join(", ", notified)).append('\n').
+                        append("SUBJECT: ").append(task.getSubject()).append('\n').append('\n').
+                        append(task.getTextBody()).append('\n').append('\n').
+                        append(task.getHtmlBody()).append('\n');
+                break;
+
+            case SUMMARY:
+                notified.forEach(to -> report.append("E-mail sent to ").append(to).append('\n'));
+                break;
+
+            case FAILURES:
+            case NONE:
+            default:
+        }
+        return report.toString();
+    }
+
+    protected TaskExec<NotificationTask> record(
+            final NotificationTask task,
+            final String executor,
+            final OffsetDateTime start,
+            final List<Delivery> deliveries) {
 
-    @Transactional
-    @Override
-    public TaskExec<NotificationTask> executeSingle(final NotificationTask task, final String executor) {
         TaskExec<NotificationTask> execution = taskUtilsFactory.getInstance(TaskType.NOTIFICATION).newTaskExec();
         execution.setTask(task);
-        execution.setStart(OffsetDateTime.now());
+        execution.setStart(start);
         execution.setExecutor(executor);
         boolean retryPossible = true;
 
-        if (StringUtils.isBlank(task.getSubject()) || task.getRecipients().isEmpty()
-                || StringUtils.isBlank(task.getHtmlBody()) || StringUtils.isBlank(task.getTextBody())) {
-
+        if (deliveries == null) {
             String message = "Could not fetch all required information for sending out notifications:"
                     + "\nFrom: " + task.getSender()
                     + "\nTo: " + task.getRecipients()
@@ -110,14 +223,13 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
                 execution.setMessage(message);
             }
         } else {
-            LOG.debug("About to send notifications:\nFrom: {}\nTo: {}\nSubject: {}\nHTML body:\n{}\nText body:\n{}\n",
-                    task.getSender(), task.getRecipients(), task.getSubject(), task.getHtmlBody(), task.getTextBody());
-
-            setStatus("Sending notifications to " + task.getRecipients());
+            Map<String, Exception> failures = await(deliveries);
 
+            List<String> notified = new ArrayList<>();
             for (String to : task.getRecipients()) {
-                try {
-                    notify(to, task, execution);
+                Exception failure = failures.get(to);
+                if (failure == null) {
+                    notified.add(to);
 
                     notificationManager.createTasks(
                             AuthContextUtils.getWho(),
@@ -130,13 +242,8 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
                             null,
                             task,
                             "Successfully sent notification to " + to);
-                } catch (Exception e) {
-                    LOG.error("Could not send out notification", e);
-
-                    execution.setStatus(NotificationJob.Status.NOT_SENT.name());
-                    if (task.getTraceLevel().ordinal() >= TraceLevel.FAILURES.ordinal()) {
-                        execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
-                    }
+                } else {
+                    LOG.error("Could not send out notification to {}", to, failure);
 
                     notificationManager.createTasks(
                             AuthContextUtils.getWho(),
@@ -148,12 +255,26 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
                             null,
                             null,
                             task,
-                            "Could not send notification to " + to, e);
+                            "Could not send notification to " + to, failure);
                 }
+            }
 
-                execution.setEnd(OffsetDateTime.now());
+            if (failures.isEmpty()) {
+                execution.setStatus(NotificationJob.Status.SENT.name());
+                String report = report(task, notified);
+                if (!report.isEmpty()) {
+                    execution.setMessage(report);
+                }
+            } else {
+                execution.setStatus(NotificationJob.Status.NOT_SENT.name());
+                if (task.getTraceLevel().ordinal() >= TraceLevel.FAILURES.ordinal()) {
+                    execution.setMessage("Could not send notification to " + failures.keySet() + "\n"
+                            + failures.values().stream().map(ExceptionUtils2::getFullStackTrace).
+                                    distinct().collect(Collectors.joining("\n")));
+                }
             }
         }
+        execution.setEnd(OffsetDateTime.now());
 
         if (hasToBeRegistered(execution)) {
             execution = notificationManager.storeExec(execution);
@@ -169,18 +290,60 @@ public abstract class AbstractNotificationJobDelegate implements NotificationJob
         return execution;
     }
 
+    /**
+     * Delivers the given tasks concurrently, then records their executions.
+     *
+     * @param tasks notification tasks
+     * @param executor executor
+     * @return executions, in the same order as the given tasks
+     */
+    protected List<TaskExec<NotificationTask>> dispatch(final List<NotificationTask> tasks, final String executor) {
+        OffsetDateTime start = OffsetDateTime.now();
+
+        List<List<Delivery>> deliveries = tasks.stream().
+                map(task -> isComplete(task) ? submit(task) : null).
+                toList();
+
+        List<TaskExec<NotificationTask>> executions = new ArrayList<>(tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            executions.add(record(tasks.get(i), executor, start, deliveries.get(i)));
+            LOG.debug("Notification task {} executed", tasks.get(i));
+        }
+        return executions;
+    }
+
     @Transactional
     @Override
-    public void execute(final String executor) {
-        List<NotificationTask> tasks = taskDAO.findToExec(TaskType.NOTIFICATION);
+    public TaskExec<NotificationTask> executeSingle(final NotificationTask task, final String executor) {
+        setStatus("Sending notifications to " + task.getRecipients());
 
-        setStatus("Sending out " + tasks.size() + " notifications");
+        return dispatch(List.of(task), executor).getFirst();
+    }
 
-        for (int i = 0; i < tasks.size(); i++) {
-            LOG.debug("Found notification task {} to be executed: starting...", tasks.get(i));
-            executeSingle(tasks.get(i), executor);
-            LOG.debug("Notification task {} executed", tasks.get(i));
-        }
+    @Override
+    public void execute(final String executor) {
+        int batchSize = Math.max(1, dispatchProperties.getBatchSize());
+
+        String after = null;
+        int processed = 0;
+        List<String> claimed;
+        do {
+            String from = after;
+            claimed = transactionTemplate.execute(status -> {
+                List<NotificationTask> tasks = taskDAO.findToExec(TaskType.NOTIFICATION, from, batchSize);
+                if (!tasks.isEmpty()) {
+                    LOG.debug("Found {} notification tasks to be executed", tasks.size());
+                    dispatch(tasks, executor);
+                }
+                return tasks.stream().map(NotificationTask::getKey).toList();
+            });
+
+            if (!claimed.isEmpty()) {
+                processed += claimed.size();
+                setStatus("Processed " + processed + " notification tasks");
+                after = claimed.getLast();
+            }
+        } while (claimed.size() == batchSize);
     }
 
     protected boolean hasToBeRegistered(final TaskExec<NotificationTask> execution) {
@@ -18,17 +18,26 @@
  */
 package org.apache.syncope.core.provisioning.java.job.notification;
 
+import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
-import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
-import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
 import org.apache.syncope.core.provisioning.api.AuditManager;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.NotificationDispatchProperties;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.transaction.PlatformTransactionManager;
 
 public class MailNotificationJobDelegate extends AbstractNotificationJobDelegate {
 
@@ -41,49 +50,56 @@ public class MailNotificationJobDelegate extends AbstractNotificationJobDelegate
             final AuditManager auditManager,
             final NotificationManager notificationManager,
             final ApplicationEventPublisher publisher,
+            final AsyncTaskExecutor dispatchExecutor,
+            final NotificationDispatchProperties dispatchProperties,
+            final PlatformTransactionManager transactionManager,
             final JavaMailSender mailSender) {
 
-        super(confParamOps, taskDAO, taskUtilsFactory, auditManager, notificationManager, publisher);
+        super(confParamOps, taskDAO, taskUtilsFactory, auditManager, notificationManager, publisher,
+                dispatchExecutor, dispatchProperties, transactionManager);
         this.mailSender = mailSender;
     }
 
-    @Override
-    protected void notify(
-            final String to,
-            final NotificationTask task,
-            final TaskExec<NotificationTask> execution) throws Exception {
-
+    protected MimeMessage message(final Envelope envelope, final String to) throws MessagingException {
         MimeMessage message = mailSender.createMimeMessage();
         MimeMessageHelper helper = new MimeMessageHelper(message, true);
         helper.setTo(to);
-        helper.setFrom(task.getSender());
-        helper.setSubject(task.getSubject());
-        helper.setText(task.getTextBody(), task.getHtmlBody());
-
-        mailSender.send(message);
-
-        execution.setStatus(NotificationJob.Status.SENT.name());
-
-        StringBuilder report = new StringBuilder();
-        switch (task.getTraceLevel()) {
-            case ALL:
-                report.append("FROM: ").append(task.getSender()).append('\n').
-                        append("TO: ").append(to).append('\n').
-                        append("SUBJECT: ").append(task.getSubject()).append('\n').append('\n').
-                        append(task.getTextBody()).append('\n').append('\n').
-                        append(task.getHtmlBody()).append('\n');
-                break;
+        helper.setFrom(envelope.sender());
+        helper.setSubject(envelope.subject());
+        helper.setText(envelope.textBody(), envelope.htmlBody());
+        return message;
+    }
 
-            case SUMMARY:
-                report.append("E-mail sent to ").append(to).append('\n');
-                break;
+    @Override
+    protected Map<String, Exception> deliver(final Envelope envelope, final List<String> recipients) {
+        Map<String, Exception> failures = new HashMap<>();
 
-            case FAILURES:
-            case NONE:
-            default:
+        Map<MimeMessage, String> messages = new IdentityHashMap<>();
+        for (String to : recipients) {
+            try {
+                messages.put(message(envelope, to), to);
+            } catch (MessagingException e) {
+                failures.put(to, e);
+            }
         }
-        if (report.length() > 0) {
-            execution.setMessage(report.toString());
+        if (messages.isEmpty()) {
+            return failures;
         }
+
+        try {
+            // all messages are sent through the same connection
+            mailSender.send(messages.keySet().toArray(MimeMessage[]::new));
+        } catch (MailSendException e) {
+            if (e.getFailedMessages().isEmpty()) {
+                messages.values().forEach(to -> failures.put(to, e));
+            } else {
+                e.getFailedMessages().forEach((message, cause) -> Optional.ofNullable(messages.get(message)).
+                        ifPresent(to -> failures.put(to, cause)));
+            }
+        } catch (MailException e) {
+            messages.values().forEach(to -> failures.put(to, e));
+        }
+
+        return failures;
     }
 }
@@ -18,17 +18,20 @@
  */
 package org.apache.syncope.core.provisioning.java.job.report;
 
+import java.io.BufferedOutputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.time.OffsetDateTime;
 import java.util.Optional;
 import java.util.zip.Deflater;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
 import org.apache.syncope.common.lib.report.ReportConf;
 import org.apache.syncope.common.lib.types.OpEvent;
 import org.apache.syncope.core.persistence.api.dao.ReportDAO;
+import org.apache.syncope.core.persistence.api.dao.ReportExecDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Report;
 import org.apache.syncope.core.persistence.api.entity.ReportExec;
@@ -41,6 +44,7 @@ import org.apache.syncope.core.provisioning.api.job.JobNamer;
 import org.apache.syncope.core.provisioning.api.job.StoppableJobDelegate;
 import org.apache.syncope.core.provisioning.api.job.report.ReportJobDelegate;
 import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.ProvisioningProperties;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.SecurityProperties;
 import org.slf4j.Logger;
@@ -69,9 +73,15 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate, St
     @Autowired
     protected ReportDAO reportDAO;
 
+    @Autowired
+    protected ReportExecDAO reportExecDAO;
+
     @Autowired
     protected EntityFactory entityFactory;
 
+    @Autowired
+    protected ProvisioningProperties provisioningProperties;
+
     /**
      * Notification manager.
      */
@@ -128,39 +138,51 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate, St
 
         OpEvent.Outcome result;
 
-        ByteArrayOutputStream baos = new ByteArrayOutputStream();
-        ZipOutputStream zos = new ZipOutputStream(baos);
-        zos.setLevel(Deflater.BEST_COMPRESSION);
+        // report output is spilled to disk rather than held in memory, then stored by chunks
+        String spillDirectory = provisioningProperties.getReportOutput().getSpillDirectory();
+        Path output;
         try {
-            // a single ZipEntry in the ZipOutputStream
-            zos.putNextEntry(new ZipEntry(report.getName()));
+            output = spillDirectory == null
+                    ? Files.createTempFile(report.getKey(), ".report")
+                    : Files.createTempFile(Path.of(spillDirectory), report.getKey(), ".report");
         } catch (IOException e) {
             throw new JobExecutionException("While configuring for output", e);
         }
 
-        setStatus("Starting");
         try {
-            execution.setMessage(doExecute(zos, context));
-            execution.setStatus(ReportJob.Status.SUCCESS.name());
+            setStatus("Starting");
+            try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(output))) {
+                execution.setMessage(doExecute(os, context));
+                execution.setStatus(ReportJob.Status.SUCCESS.name());
 
-            result = OpEvent.Outcome.SUCCESS;
-        } catch (JobExecutionException e) {
-            LOG.error("While executing report {}", reportKey, e);
-            result = OpEvent.Outcome.FAILURE;
+                result = OpEvent.Outcome.SUCCESS;
+            } catch (JobExecutionException | IOException e) {
+                LOG.error("While executing report {}", reportKey, e);
+                result = OpEvent.Outcome.FAILURE;
 
-            execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
-            execution.setStatus(ReportJob.Status.FAILURE.name());
+                execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
+                execution.setStatus(ReportJob.Status.FAILURE.name());
+            }
+
+            if (result == OpEvent.Outcome.SUCCESS) {
+                try {
+                    storeResult(execution, output);
+                } catch (IOException e) {
+                    LOG.error("While storing output of report {}", reportKey, e);
+                    result = OpEvent.Outcome.FAILURE;
+
+                    reportExecDAO.deleteResultChunks(execution);
+                    execution.setMessage(ExceptionUtils2.getFullStackTrace(e));
+                    execution.setStatus(ReportJob.Status.FAILURE.name());
+                }
+            }
         } finally {
             try {
-                zos.closeEntry();
-                zos.close();
+                Files.deleteIfExists(output);
             } catch (IOException e) {
-                LOG.error("While closing output", e);
+                LOG.error("While deleting {}", output, e);
             }
         }
-        if (result == OpEvent.Outcome.SUCCESS) {
-            execution.setExecResult(baos.toByteArray());
-        }
         execution.setEnd(OffsetDateTime.now());
 
         report.add(execution);
@@ -188,6 +210,42 @@ public abstract class AbstractReportJobDelegate implements ReportJobDelegate, St
                 null);
     }
 
+    /**
+     * Stores the given report output as a sequence of chunks, each deflated on its own so that any byte range
+     * can be later read back without inflating the whole result.
+     *
+     * @param execution report execution
+     * @param output report output
+     * @throws IOException if output cannot be read
+     */
+    protected void storeResult(final ReportExec execution, final Path output) throws IOException {
+        byte[] chunk = new byte[provisioningProperties.getReportOutput().getChunkSize()];
+        byte[] buffer = new byte[8192];
+        Deflater deflater = new Deflater(provisioningProperties.getReportOutput().getCompressionLevel());
+        try (InputStream is = Files.newInputStream(output)) {
+            int seq = 0;
+            int read;
+            do {
+                read = is.readNBytes(chunk, 0, chunk.length);
+                // empty output is stored as a single empty chunk
+                if (read > 0 || seq == 0) {
+                    deflater.reset();
+                    deflater.setInput(chunk, 0, read);
+                    deflater.finish();
+
+                    ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+                    while (!deflater.finished()) {
+                        compressed.write(buffer, 0, deflater.deflate(buffer));
+                    }
+
+                    reportExecDAO.saveResultChunk(execution, seq++, read, compressed.toByteArray());
+                }
+            } while (read == chunk.length);
+        } finally {
+            deflater.end();
+        }
+    }
+
     /**
      * The actual execution, delegated to child classes.
      *
@@ -22,23 +22,31 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
 import org.apache.commons.jexl3.JexlContext;
 import org.apache.commons.jexl3.MapContext;
+import org.apache.commons.lang3.SerializationUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.mutable.Mutable;
 import org.apache.commons.lang3.mutable.MutableObject;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.common.lib.to.UserTO;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
 import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.common.lib.types.SchemaType;
 import org.apache.syncope.common.lib.types.TaskType;
 import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
@@ -47,15 +55,18 @@ import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
 import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
 import org.apache.syncope.core.persistence.api.dao.TaskDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AnyType;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.Groupable;
 import org.apache.syncope.core.persistence.api.entity.Notification;
 import org.apache.syncope.core.persistence.api.entity.PlainAttr;
+import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.persistence.api.entity.Relatable;
 import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
 import org.apache.syncope.core.persistence.api.entity.group.Group;
@@ -64,7 +75,9 @@ import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
 import org.apache.syncope.core.persistence.api.entity.user.UMembership;
 import org.apache.syncope.core.persistence.api.entity.user.URelationship;
 import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
 import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
 import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
 import org.apache.syncope.core.provisioning.api.IntAttrName;
@@ -81,7 +94,14 @@ import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+/**
+ * Active notifications are looked up from a per-domain, in-memory index by event, with their about conditions
+ * already parsed; such index is rebuilt when changed on this node or after the configured refresh interval, in order
+ * to also catch up with changes made by other nodes.
+ */
 @Transactional(rollbackFor = { Throwable.class })
 public class DefaultNotificationManager implements NotificationManager {
 
@@ -99,6 +119,8 @@ public class DefaultNotificationManager implements NotificationManager {
 
     protected final AnySearchDAO anySearchDAO;
 
+    protected final RealmSearchDAO realmSearchDAO;
+
     protected final AnyMatchDAO anyMatchDAO;
 
     protected final TaskDAO taskDAO;
@@ -123,6 +145,22 @@ public class DefaultNotificationManager implements NotificationManager {
 
     protected final JexlTools jexlTools;
 
+    protected record IndexedNotification(String key, Map<String, SearchCond> abouts) {
+
+    }
+
+    protected record NotificationIndex(Map<String, List<IndexedNotification>> byEvent, long expiresAt) {
+
+    }
+
+    protected final long notificationRefreshMillis;
+
+    protected final int recipientsChunkSize;
+
+    protected final Map<String, NotificationIndex> notificationIndexes = new ConcurrentHashMap<>();
+
+    protected final AtomicLong notificationVersion = new AtomicLong();
+
     protected Optional<RecipientsProvider> perContextRecipientsProvider = Optional.empty();
 
     public DefaultNotificationManager(
@@ -132,6 +170,7 @@ public class DefaultNotificationManager implements NotificationManager {
             final UserDAO userDAO,
             final GroupDAO groupDAO,
             final AnySearchDAO anySearchDAO,
+            final RealmSearchDAO realmSearchDAO,
             final AnyMatchDAO anyMatchDAO,
             final TaskDAO taskDAO,
             final RelationshipTypeDAO relationshipTypeDAO,
@@ -143,7 +182,9 @@ public class DefaultNotificationManager implements NotificationManager {
             final EntityFactory entityFactory,
             final IntAttrNameParser intAttrNameParser,
             final AnySearchCondVisitor searchCondVisitor,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final long notificationRefreshSeconds,
+            final int recipientsChunkSize) {
 
         this.derSchemaDAO = derSchemaDAO;
         this.notificationDAO = notificationDAO;
@@ -151,6 +192,7 @@ public class DefaultNotificationManager implements NotificationManager {
         this.userDAO = userDAO;
         this.groupDAO = groupDAO;
         this.anySearchDAO = anySearchDAO;
+        this.realmSearchDAO = realmSearchDAO;
         this.anyMatchDAO = anyMatchDAO;
         this.taskDAO = taskDAO;
         this.relationshipTypeDAO = relationshipTypeDAO;
@@ -163,17 +205,175 @@ public class DefaultNotificationManager implements NotificationManager {
         this.intAttrNameParser = intAttrNameParser;
         this.searchCondVisitor = searchCondVisitor;
         this.jexlTools = jexlTools;
+        this.notificationRefreshMillis = TimeUnit.SECONDS.toMillis(notificationRefreshSeconds);
+        this.recipientsChunkSize = Math.max(1, recipientsChunkSize);
+    }
+
+    protected NotificationIndex buildNotificationIndex() {
+        Map<String, List<IndexedNotification>> byEvent = new HashMap<>();
+        notificationDAO.findAll().stream().filter(Notification::isActive).forEach(notification -> {
+            Map<String, SearchCond> abouts = new HashMap<>();
+            try {
+                notification.getAbouts().forEach(about -> abouts.put(
+                        about.getAnyType().getKey(), SearchCondConverter.convert(searchCondVisitor, about.get())));
+            } catch (Exception e) {
+                LOG.error("Invalid about condition for Notification {}, ignoring", notification.getKey(), e);
+                return;
+            }
+
+            IndexedNotification indexed = new IndexedNotification(notification.getKey(), Map.copyOf(abouts));
+            notification.getEvents().forEach(event -> byEvent.computeIfAbsent(event, k -> new ArrayList<>()).
+                    add(indexed));
+        });
+
+        Map<String, List<IndexedNotification>> index = new HashMap<>(byEvent.size());
+        byEvent.forEach((event, notifications) -> index.put(event, List.copyOf(notifications)));
+        return new NotificationIndex(Map.copyOf(index), System.currentTimeMillis() + notificationRefreshMillis);
+    }
+
+    protected NotificationIndex notificationIndex(final String domain) {
+        NotificationIndex index = notificationIndexes.get(domain);
+        if (index == null || index.expiresAt() < System.currentTimeMillis()) {
+            long version = notificationVersion.get();
+
+            NotificationIndex rebuilt = AuthContextUtils.callAsAdmin(domain, this::buildNotificationIndex);
+            LOG.debug("Active notifications for domain {}: {}", domain, rebuilt.byEvent());
+
+            // do not publish the rebuilt index if any notification was changed meanwhile: checking the version
+            // while holding the entry lock prevents any concurrent change from being missed, as notificationChanged
+            // bumps the version before removing the entry
+            notificationIndexes.compute(
+                    domain, (d, current) -> version == notificationVersion.get() ? rebuilt : current);
+            index = rebuilt;
+        }
+        return index;
+    }
+
+    @Override
+    public void notificationChanged(final String domain) {
+        notificationVersion.incrementAndGet();
+        notificationIndexes.remove(domain);
+
+        // discard again after commit, to prevent any index rebuilt meanwhile from missing the change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    notificationVersion.incrementAndGet();
+                    notificationIndexes.remove(domain);
+                }
+            });
+        }
     }
 
     /**
-     * Create a notification task.
+     * Checks whether subject or templates of the given notification reference the given JEXL variable.
+     *
+     * @param notification notification
+     * @param variable JEXL variable name
+     * @return whether the given variable is referenced
+     */
+    protected boolean references(final Notification notification, final String variable) {
+        return StringUtils.contains(notification.getSubject(), variable)
+                || StringUtils.contains(notification.getTemplate().getTextTemplate(), variable)
+                || StringUtils.contains(notification.getTemplate().getHTMLTemplate(), variable);
+    }
+
+    /**
+     * Pages through the users matching the given condition by key, reporting their e-mail addresses; users are not
+     * loaded at all, unless their representation is required or the e-mail address cannot be read via projection.
+     *
+     * @param recipientAttrName attribute holding e-mail addresses
+     * @param cond recipients search condition
+     * @param withUserTOs whether recipient representations are required
+     * @param recipient callback for each recipient found
+     */
+    protected void resolveRecipients(
+            final String recipientAttrName,
+            final SearchCond cond,
+            final boolean withUserTOs,
+            final BiConsumer<String, UserTO> recipient) {
+
+        Realm root = realmSearchDAO.findByFullPath(SyncopeConstants.ROOT_REALM).orElse(null);
+
+        IntAttrName intAttrName = null;
+        try {
+            intAttrName = intAttrNameParser.parse(recipientAttrName, AnyTypeKind.USER);
+        } catch (ParseException e) {
+            LOG.error("Invalid intAttrName '{}' specified as recipient, ignoring", recipientAttrName, e);
+        }
+
+        boolean projectable = !withUserTOs && intAttrName != null
+                && intAttrName.getMembership() == null && intAttrName.getRelationshipInfo() == null
+                && ("username".equals(intAttrName.getField())
+                || (intAttrName.getSchemaInfo() != null
+                && intAttrName.getSchemaInfo().type() == SchemaType.PLAIN));
+
+        String after = null;
+        int found;
+        do {
+            if (projectable) {
+                List<AnyProjection> page = anySearchDAO.project(
+                        root,
+                        true,
+                        SyncopeConstants.FULL_ADMIN_REALMS,
+                        cond,
+                        KeysetPageRequest.of(after, recipientsChunkSize),
+                        AnyTypeKind.USER,
+                        intAttrName.getField() == null ? List.of() : List.of(intAttrName.getField()),
+                        intAttrName.getSchemaInfo() == null
+                        ? List.of() : List.of(intAttrName.getSchemaInfo().schema().getKey()));
+
+                for (AnyProjection projection : page) {
+                    String email = intAttrName.getField() == null
+                            ? Optional.ofNullable(projection.plainAttrs().get(
+                                    intAttrName.getSchemaInfo().schema().getKey())).
+                                    filter(values -> !values.isEmpty()).map(List::getFirst).orElse(null)
+                            : Optional.ofNullable(projection.fields().get(intAttrName.getField())).
+                                    map(Object::toString).orElse(null);
+                    if (email == null) {
+                        LOG.warn("User {} cannot be notified: {} not found", projection.key(), recipientAttrName);
+                    } else {
+                        recipient.accept(email, null);
+                    }
+                }
+
+                found = page.size();
+                after = page.isEmpty() ? null : page.getLast().key();
+            } else {
+                List<User> page = anySearchDAO.search(
+                        root,
+                        true,
+                        SyncopeConstants.FULL_ADMIN_REALMS,
+                        cond,
+                        after,
+                        recipientsChunkSize,
+                        AnyTypeKind.USER);
+
+                for (User user : page) {
+                    Optional.ofNullable(getRecipientEmail(recipientAttrName, user)).ifPresentOrElse(
+                            email -> recipient.accept(email, withUserTOs ? userDataBinder.getUserTO(user, true) : null),
+                            () -> LOG.warn("{} cannot be notified: {} not found", user, recipientAttrName));
+                }
+
+                found = page.size();
+                after = page.isEmpty() ? null : page.getLast().getKey();
+            }
+        } while (found == recipientsChunkSize);
+    }
+
+    /**
+     * Create notification tasks: recipients are split into chunks of the configured size, each delivered by its own
+     * task, saved as soon as its chunk is complete; the {@code recipients} JEXL variable, only populated when
+     * referenced by subject or templates, reports the users notified by the given task.
      *
      * @param notification notification to take as model
      * @param any the any object this task is about
      * @param jexlVars JEXL variables
-     * @return notification task, fully populated
+     * @return keys of the notification tasks created
      */
-    protected NotificationTask getNotificationTask(
+    protected List<String> createNotificationTasks(
             final Notification notification,
             final Any any,
             final Map<String, Object> jexlVars) {
@@ -181,29 +381,38 @@ public class DefaultNotificationManager implements NotificationManager {
         jexlVars.put("syncopeConf", confParamOps.list(AuthContextUtils.getDomain()));
         jexlVars.put("events", notification.getEvents());
 
-        List<User> recipients = new ArrayList<>();
+        boolean withUserTOs = references(notification, "recipients");
+
+        List<String> tasks = new ArrayList<>();
+        Set<String> notified = new HashSet<>();
+        Set<String> recipientEmails = new LinkedHashSet<>();
+        List<UserTO> recipientTOs = new ArrayList<>();
+        Runnable flush = () -> {
+            tasks.add(taskDAO.save(
+                    getNotificationTask(notification, any, jexlVars, recipientEmails, recipientTOs, withUserTOs)).
+                    getKey());
+            recipientEmails.clear();
+            recipientTOs.clear();
+        };
+        BiConsumer<String, UserTO> recipient = (email, userTO) -> {
+            if (notified.add(email)) {
+                recipientEmails.add(email);
+                Optional.ofNullable(userTO).ifPresent(recipientTOs::add);
+            }
 
-        Optional.ofNullable(notification.getRecipientsFIQL()).
-                ifPresent(fiql -> recipients.addAll(anySearchDAO.search(
-                SearchCondConverter.convert(searchCondVisitor, fiql), List.of(), AnyTypeKind.USER)));
+            if (recipientEmails.size() >= recipientsChunkSize) {
+                flush.run();
+            }
+        };
 
         if (notification.isSelfAsRecipient() && any instanceof final User user) {
-            recipients.add(user);
+            Optional.ofNullable(getRecipientEmail(notification.getRecipientAttrName(), user)).ifPresentOrElse(
+                    email -> recipient.accept(email, withUserTOs ? userDataBinder.getUserTO(user, true) : null),
+                    () -> LOG.warn("{} cannot be notified: {} not found", user, notification.getRecipientAttrName()));
         }
 
-        Set<String> recipientEmails = new HashSet<>();
-        List<UserTO> recipientTOs = new ArrayList<>(recipients.size());
-        recipients.forEach(recipient -> Optional.ofNullable(
-                getRecipientEmail(notification.getRecipientAttrName(), recipient)).ifPresentOrElse(
-                email -> {
-                    recipientEmails.add(email);
-                    recipientTOs.add(userDataBinder.getUserTO(recipient, true));
-                },
-                () -> LOG.warn("{} cannot be notified: {} not found",
-                        recipient, notification.getRecipientAttrName())));
-        jexlVars.put("recipients", recipientTOs);
-
-        Optional.ofNullable(notification.getStaticRecipients()).ifPresent(recipientEmails::addAll);
+        Optional.ofNullable(notification.getStaticRecipients()).ifPresent(emails -> emails.forEach(
+                email -> recipient.accept(email, null)));
 
         Optional.ofNullable(notification.getRecipientsProvider()).ifPresent(impl -> {
             try {
@@ -212,13 +421,49 @@ public class DefaultNotificationManager implements NotificationManager {
                         () -> perContextRecipientsProvider.orElse(null),
                         instance -> perContextRecipientsProvider = Optional.of(instance));
 
-                recipientEmails.addAll(recipientsProvider.provideRecipients(notification, any, jexlVars));
+                recipientsProvider.provideRecipients(notification, any, jexlVars).
+                        forEach(email -> recipient.accept(email, null));
             } catch (Exception e) {
                 LOG.error("While building {}", notification.getRecipientsProvider(), e);
             }
         });
 
-        JexlContext ctx = new MapContext(jexlVars);
+        Optional.ofNullable(notification.getRecipientsFIQL()).ifPresent(fiql -> resolveRecipients(
+                notification.getRecipientAttrName(),
+                SearchCondConverter.convert(searchCondVisitor, fiql),
+                withUserTOs,
+                recipient));
+
+        if (tasks.isEmpty() || !recipientEmails.isEmpty()) {
+            flush.run();
+        }
+        return tasks;
+    }
+
+    /**
+     * Create a notification task.
+     *
+     * @param notification notification to take as model
+     * @param any the any object this task is about
+     * @param jexlVars JEXL variables
+     * @param recipientEmails e-mail addresses to deliver to
+     * @param recipientTOs users to deliver to
+     * @param withUserTOs whether {@code recipients} JEXL variable shall be populated
+     * @return notification task, fully populated
+     */
+    protected NotificationTask getNotificationTask(
+            final Notification notification,
+            final Any any,
+            final Map<String, Object> jexlVars,
+            final Set<String> recipientEmails,
+            final List<UserTO> recipientTOs,
+            final boolean withUserTOs) {
+
+        Map<String, Object> vars = new HashMap<>(jexlVars);
+        if (withUserTOs) {
+            vars.put("recipients", new ArrayList<>(recipientTOs));
+        }
+        JexlContext ctx = new MapContext(vars);
 
         NotificationTask task = entityFactory.newEntity(NotificationTask.class);
         task.setNotification(notification);
@@ -250,12 +495,9 @@ public class DefaultNotificationManager implements NotificationManager {
             final String subcategory,
             final String op) {
 
-        String successEvent = OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.SUCCESS);
-        String failureEvent = OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.FAILURE);
-        return AuthContextUtils.callAsAdmin(domain, () -> notificationDAO.findAll().stream().
-                anyMatch(notification -> notification.isActive()
-                && (notification.getEvents().contains(successEvent)
-                || notification.getEvents().contains(failureEvent))));
+        Map<String, List<IndexedNotification>> byEvent = notificationIndex(domain).byEvent();
+        return byEvent.containsKey(OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.SUCCESS))
+                || byEvent.containsKey(OpEvent.toString(type, category, subcategory, op, OpEvent.Outcome.FAILURE));
     }
 
     @Override
@@ -273,7 +515,7 @@ public class DefaultNotificationManager implements NotificationManager {
     }
 
     @Override
-    public List<NotificationTask> createTasks(
+    public List<String> createTasks(
             final String who,
             final OpEvent.CategoryType type,
             final String category,
@@ -284,6 +526,14 @@ public class DefaultNotificationManager implements NotificationManager {
             final Object output,
             final Object... input) {
 
+        String currentEvent = OpEvent.toString(type, category, subcategory, op, outcome);
+        List<IndexedNotification> candidates = notificationIndex(AuthContextUtils.getDomain()).byEvent().
+                getOrDefault(currentEvent, List.of());
+        if (candidates.isEmpty()) {
+            LOG.debug("No active notifications found for event {}", currentEvent);
+            return List.of();
+        }
+
         Optional<? extends Any> any = Optional.empty();
 
         if (before instanceof UserTO userTO) {
@@ -311,55 +561,50 @@ public class DefaultNotificationManager implements NotificationManager {
         AnyType anyType = any.map(Any::getType).orElse(null);
         LOG.debug("Search notification for [{}]{}", anyType, any);
 
-        List<NotificationTask> notifications = new ArrayList<>();
-        for (Notification notification : notificationDAO.findAll()) {
+        List<String> notifications = new ArrayList<>();
+        for (IndexedNotification candidate : candidates) {
+            Optional<? extends Notification> notification = notificationDAO.findById(candidate.key());
+            if (notification.isEmpty() || !notification.get().isActive()) {
+                LOG.debug("Notification {} is no longer active, task will not be created", candidate.key());
+                continue;
+            }
+
             if (LOG.isDebugEnabled()) {
-                notification.getAbouts().
-                        forEach(a -> LOG.debug("Notification about {} defined: {}", a.getAnyType(), a.get()));
+                candidate.abouts().forEach((k, v) -> LOG.debug("Notification about {} defined: {}", k, v));
             }
 
-            if (notification.isActive()) {
-                String currentEvent = OpEvent.toString(type, category, subcategory, op, outcome);
-
-                if (!notification.getEvents().contains(currentEvent)) {
-                    LOG.debug("No events found about {}", any);
-                } else if (anyType == null || any.isEmpty()
-                        || notification.getAbout(anyType).isEmpty()
-                        || anyMatchDAO.matches(any.get(), SearchCondConverter.convert(
-                                searchCondVisitor, notification.getAbout(anyType).get().get()))) {
-
-                    LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
-
-                    Map<String, Object> jexlVars = new HashMap<>();
-                    jexlVars.put("who", who);
-                    jexlVars.put("type", type);
-                    jexlVars.put("category", category);
-                    jexlVars.put("subcategory", subcategory);
-                    jexlVars.put("event", op);
-                    jexlVars.put("condition", outcome);
-                    jexlVars.put("before", before);
-                    jexlVars.put("output", output);
-                    jexlVars.put("input", input);
-
-                    any.ifPresent(a -> {
-                        switch (a) {
-                            case User user ->
-                                jexlVars.put("user", userDataBinder.getUserTO(user, true));
-                            case Group group ->
-                                jexlVars.put("group", groupDataBinder.getGroupTO(group, true));
-                            case AnyObject anyObject ->
-                                jexlVars.put("anyObject", anyObjectDataBinder.getAnyObjectTO(anyObject, true));
-                            default -> {
-                            }
+            SearchCond about = Optional.ofNullable(anyType).map(t -> candidate.abouts().get(t.getKey())).orElse(null);
+            if (any.isEmpty() || about == null
+                    // matching might alter the condition, hence the copy
+                    || anyMatchDAO.matches(any.get(), SerializationUtils.clone(about))) {
+
+                LOG.debug("Creating notification task for event {} about {}", currentEvent, any);
+
+                Map<String, Object> jexlVars = new HashMap<>();
+                jexlVars.put("who", who);
+                jexlVars.put("type", type);
+                jexlVars.put("category", category);
+                jexlVars.put("subcategory", subcategory);
+                jexlVars.put("event", op);
+                jexlVars.put("condition", outcome);
+                jexlVars.put("before", before);
+                jexlVars.put("output", output);
+                jexlVars.put("input", input);
+
+                any.ifPresent(a -> {
+                    switch (a) {
+                        case User user ->
+                            jexlVars.put("user", userDataBinder.getUserTO(user, true));
+                        case Group group ->
+                            jexlVars.put("group", groupDataBinder.getGroupTO(group, true));
+                        case AnyObject anyObject ->
+                            jexlVars.put("anyObject", anyObjectDataBinder.getAnyObjectTO(anyObject, true));
+                        default -> {
                         }
-                    });
+                    }
+                });
 
-                    NotificationTask notificationTask = getNotificationTask(notification, any.orElse(null), jexlVars);
-                    notificationTask = taskDAO.save(notificationTask);
-                    notifications.add(notificationTask);
-                }
-            } else {
-                LOG.debug("Notification {} is not active, task will not be created", notification.getKey());
+                notifications.addAll(createNotificationTasks(notification.get(), any.orElse(null), jexlVars));
             }
         }
         return notifications;
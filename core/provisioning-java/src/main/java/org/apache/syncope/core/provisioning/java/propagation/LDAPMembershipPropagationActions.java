@@ -40,8 +40,8 @@ import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
 import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.DerAttrHandler;
-import org.apache.syncope.core.provisioning.api.jexl.JexlContextBuilder;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
+import org.apache.syncope.core.provisioning.api.jexl.LazyJexlContext;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationActions;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
 import org.apache.syncope.core.spring.implementation.InstanceScope;
@@ -90,11 +90,10 @@ public class LDAPMembershipPropagationActions implements PropagationActions {
     protected String evaluateGroupConnObjectLink(final String connObjectLinkTemplate, final Group group) {
         LOG.debug("Evaluating connObjectLink for {}", group);
 
-        JexlContext jexlContext = new JexlContextBuilder().
+        JexlContext jexlContext = new LazyJexlContext().
                 fields(group).
                 plainAttrs(group.getPlainAttrs()).
-                derAttrs(derAttrHandler.getValues(group)).
-                build();
+                derAttrs(() -> derAttrHandler.getValues(group));
 
         return jexlTools.evaluateExpression(connObjectLinkTemplate, jexlContext).toString();
     }
@@ -21,13 +21,15 @@ package org.apache.syncope.core.provisioning.java.propagation;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.Callable;
-import java.util.concurrent.CompletionService;
-import java.util.concurrent.ExecutorCompletionService;
-import java.util.concurrent.Future;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.ExecStatus;
 import org.apache.syncope.core.persistence.api.attrvalue.PlainAttrValidationManager;
@@ -46,6 +48,7 @@ import org.apache.syncope.core.provisioning.api.notification.NotificationManager
 import org.apache.syncope.core.provisioning.api.propagation.PropagationException;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
 import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
 import org.apache.syncope.core.provisioning.java.pushpull.OutboundMatcher;
 import org.apache.syncope.core.provisioning.java.utils.ConnObjectUtils;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
@@ -57,7 +60,14 @@ import org.springframework.security.core.context.SecurityContextHolder;
 /**
  * Sorts the tasks to be executed according to related
  * {@link org.apache.syncope.core.persistence.api.entity.ExternalResource}'s priority, then execute.
- * Tasks related to resources with NULL priority are executed after other tasks, concurrently.
+ * Tasks related to resources with NULL priority are executed after other tasks, concurrently: such tasks are grouped
+ * by resource into batches of bounded size, each executed sequentially, in order to avoid flooding the executor when
+ * large amounts of tasks are generated at once; tasks for each resource are spread across as many batches as can run
+ * at the same time, keeping tasks for the same entity in the same batch. Moreover, the number of batches running at
+ * the same time for each resource is bounded by a {@link PropagationBulkhead}, so that a slow resource cannot starve the
+ * others.
+ * When coalescing is enabled, asynchronous update tasks still waiting to be executed absorb later update tasks for the
+ * same entity and resource, via {@link PropagationTaskCoalescer}.
  * Failure during execution of a task related to resource with non-NULL priority are treated as fatal and will interrupt
  * the whole process, resulting in a global failure.
  */
@@ -65,6 +75,16 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
 
     protected final AsyncTaskExecutor taskExecutor;
 
+    protected final int batchSize;
+
+    protected final PropagationBulkheadProperties bulkheadProperties;
+
+    protected final boolean coalescing;
+
+    protected final Map<String, Map<String, PropagationBulkhead>> bulkheads = new ConcurrentHashMap<>();
+
+    protected final Map<String, PropagationTaskInfo> coalescable = new ConcurrentHashMap<>();
+
     public PriorityPropagationTaskExecutor(
             final ConnectorManager connectorManager,
             final ConnObjectUtils connObjectUtils,
@@ -79,7 +99,10 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
             final OutboundMatcher outboundMatcher,
             final PlainAttrValidationManager validator,
             final ApplicationEventPublisher publisher,
-            final AsyncTaskExecutor taskExecutor) {
+            final AsyncTaskExecutor taskExecutor,
+            final int batchSize,
+            final PropagationBulkheadProperties bulkheadProperties,
+            final boolean coalescing) {
 
         super(connectorManager,
                 connObjectUtils,
@@ -95,6 +118,25 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 validator,
                 publisher);
         this.taskExecutor = taskExecutor;
+        this.batchSize = batchSize;
+        this.bulkheadProperties = bulkheadProperties;
+        this.coalescing = coalescing;
+    }
+
+    protected PropagationBulkhead newBulkhead(final String domain, final String resource) {
+        return new PropagationBulkhead(resource, bulkheadProperties);
+    }
+
+    /**
+     * Gets the bulkhead for the given resource in the current domain, creating it if not existing yet.
+     *
+     * @param resource resource key
+     * @return bulkhead for the given resource
+     */
+    public PropagationBulkhead getBulkhead(final String resource) {
+        String domain = AuthContextUtils.getDomain();
+        return bulkheads.computeIfAbsent(domain, k -> new ConcurrentHashMap<>()).
+                computeIfAbsent(resource, k -> newBulkhead(domain, k));
     }
 
     /**
@@ -123,6 +165,148 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
         });
     }
 
+    /**
+     * Creates new instances of {@link Callable} for usage with{@link java.util.concurrent.CompletionService}, executing
+     * the given tasks one after the other; the outcome of each task is reported independently, and one execution is
+     * returned for each task.
+     *
+     * @param taskInfos to be executed
+     * @param reporter to report propagation execution status
+     * @param executor user that triggered the propagation execution
+     * @return new {@link Callable} instance for usage with {@link java.util.concurrent.CompletionService}
+     */
+    protected Callable<List<TaskExec<PropagationTask>>> newPropagationBatchCallable(
+            final List<PropagationTaskInfo> taskInfos, final PropagationReporter reporter, final String executor) {
+
+        String domain = AuthContextUtils.getDomain();
+        Set<String> authorities = SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream().
+                map(GrantedAuthority::getAuthority).collect(Collectors.toSet());
+
+        return () -> AuthContextUtils.callAs(domain, executor, authorities, () -> {
+            List<TaskExec<PropagationTask>> executions = new ArrayList<>(taskInfos.size());
+            taskInfos.forEach(taskInfo -> {
+                // from now on, later tasks cannot be merged into this one
+                if (coalescing) {
+                    coalescable.remove(PropagationTaskCoalescer.key(domain, taskInfo), taskInfo);
+                }
+
+                LOG.debug("Execution started for {}", taskInfo);
+                try {
+                    TaskExec<PropagationTask> execution = this.execute(taskInfo, reporter, executor);
+                    LOG.debug("Execution completed for {} with results {}", taskInfo, execution);
+
+                    executions.add(execution);
+                } catch (Exception e) {
+                    LOG.error("Unexpected exception while executing {}", taskInfo, e);
+
+                    // still report an outcome for this task, without affecting the rest of the batch
+                    executions.add(rejected(taskInfo, e.getMessage(), reporter, executor));
+                }
+            });
+            return executions;
+        });
+    }
+
+    /**
+     * Groups the given tasks by resource, then spreads each group across as many batches as can run at the same time
+     * for the resource - as bounded by {@link PropagationBulkheadProperties#getMaxInFlight()} - and anyway across
+     * batches not larger than the configured size, where possible. Tasks for the same entity are kept in the same
+     * batch, preserving their order, so that they are still executed one after the other.
+     *
+     * @param taskInfos tasks to group
+     * @return batches of tasks, each related to a single resource
+     */
+    protected List<List<PropagationTaskInfo>> batches(final List<PropagationTaskInfo> taskInfos) {
+        Map<String, List<PropagationTaskInfo>> byResource = new LinkedHashMap<>();
+        taskInfos.forEach(taskInfo -> byResource.
+                computeIfAbsent(taskInfo.getResource().getKey(), k -> new ArrayList<>()).add(taskInfo));
+
+        List<List<PropagationTaskInfo>> batches = new ArrayList<>();
+        byResource.values().forEach(tasks -> {
+            List<List<PropagationTaskInfo>> byEntity = new ArrayList<>();
+            Map<String, List<PropagationTaskInfo>> entities = new HashMap<>();
+            tasks.forEach(taskInfo -> {
+                if (taskInfo.getEntityKey() == null) {
+                    byEntity.add(List.of(taskInfo));
+                } else {
+                    entities.computeIfAbsent(taskInfo.getEntityKey(), k -> {
+                        List<PropagationTaskInfo> entityTasks = new ArrayList<>();
+                        byEntity.add(entityTasks);
+                        return entityTasks;
+                    }).add(taskInfo);
+                }
+            });
+
+            int size = Math.max(1, batchSize);
+            int slots = Math.max(
+                    (tasks.size() + size - 1) / size,
+                    Math.min(Math.max(1, bulkheadProperties.getMaxInFlight()), byEntity.size()));
+
+            List<List<PropagationTaskInfo>> resourceBatches = new ArrayList<>(slots);
+            for (int i = 0; i < slots; i++) {
+                resourceBatches.add(new ArrayList<>());
+            }
+            byEntity.forEach(entityTasks -> resourceBatches.stream().
+                    min(Comparator.comparingInt(List::size)).orElseThrow().
+                    addAll(entityTasks));
+
+            resourceBatches.stream().filter(batch -> !batch.isEmpty()).forEach(batches::add);
+        });
+        return batches;
+    }
+
+    /**
+     * Merges the given tasks into equivalent tasks still waiting to be executed, where possible.
+     *
+     * @param taskInfos tasks to coalesce
+     * @param reporter to report propagation execution status
+     * @return tasks which could not be merged, hence still needing to be executed
+     */
+    protected List<PropagationTaskInfo> coalesce(
+            final List<PropagationTaskInfo> taskInfos, final PropagationReporter reporter) {
+
+        String domain = AuthContextUtils.getDomain();
+
+        List<PropagationTaskInfo> toExecute = new ArrayList<>(taskInfos.size());
+        taskInfos.forEach(taskInfo -> {
+            if (PropagationTaskCoalescer.isCoalescable(taskInfo)) {
+                PropagationTaskInfo registered = coalescable.compute(
+                        PropagationTaskCoalescer.key(domain, taskInfo),
+                        (key, pending) -> pending != null && PropagationTaskCoalescer.merge(pending, taskInfo)
+                        ? pending : taskInfo);
+                if (registered == taskInfo) {
+                    toExecute.add(taskInfo);
+                } else {
+                    LOG.debug("{} merged into {}", taskInfo, registered);
+                    reporter.onSuccessOrNonPriorityResourceFailures(
+                            taskInfo, ExecStatus.CREATED, null, null, null, null);
+                }
+            } else {
+                // later tasks for the same entity and resource must not be merged into any pending task, otherwise
+                // they would be executed before this one
+                if (taskInfo.getEntityKey() != null) {
+                    coalescable.remove(PropagationTaskCoalescer.key(domain, taskInfo));
+                }
+                toExecute.add(taskInfo);
+            }
+        });
+        return toExecute;
+    }
+
+    protected void rejected(
+            final List<PropagationTaskInfo> batch,
+            final Exception e,
+            final PropagationReporter reporter,
+            final String executor) {
+
+        LOG.error("While submitting tasks for async execution: {}", batch, e);
+        if (coalescing) {
+            batch.forEach(taskInfo -> coalescable.remove(
+                    PropagationTaskCoalescer.key(AuthContextUtils.getDomain(), taskInfo), taskInfo));
+        }
+        batch.forEach(taskInfo -> rejected(taskInfo, e.getMessage(), reporter, executor));
+    }
+
     protected boolean failed(
             final PropagationTaskInfo taskInfpo,
             final TaskExec<PropagationTask> exec,
@@ -170,23 +354,40 @@ public class PriorityPropagationTaskExecutor extends AbstractPropagationTaskExec
                 }
             });
 
-            // then process non-priority resources concurrently...
+            // then process non-priority resources concurrently, in batches...
             if (!concurrentTasks.isEmpty()) {
-                CompletionService<TaskExec<PropagationTask>> completionService =
-                        new ExecutorCompletionService<>(taskExecutor);
-                List<Future<TaskExec<PropagationTask>>> futures = new ArrayList<>();
+                List<CompletableFuture<List<TaskExec<PropagationTask>>>> futures = new ArrayList<>();
 
-                concurrentTasks.forEach(taskInfo -> {
+                batches(coalescing && nullPriorityAsync
+                        ? coalesce(concurrentTasks, reporter)
+                        : concurrentTasks).forEach(batch -> {
+                    Callable<List<TaskExec<PropagationTask>>> callable =
+                            newPropagationBatchCallable(batch, reporter, executor);
+                    CompletableFuture<List<TaskExec<PropagationTask>>> future = new CompletableFuture<>();
                     try {
-                        futures.add(completionService.submit(newPropagationTaskCallable(taskInfo, reporter, executor)));
+                        String domain = AuthContextUtils.getDomain();
+                        getBulkhead(batch.getFirst().getResource().getKey()).submit(() -> {
+                            try {
+                                future.complete(callable.call());
+                            } catch (Exception e) {
+                                future.completeExceptionally(e);
+                            }
+                        }, batch.size(), taskExecutor, e -> {
+                            // the batch was queued but could not be handed over to the executor
+                            try {
+                                AuthContextUtils.runAsAdmin(domain, () -> rejected(batch, e, reporter, executor));
+                            } finally {
+                                future.completeExceptionally(e);
+                            }
+                        });
+                        futures.add(future);
 
                         if (nullPriorityAsync) {
-                            reporter.onSuccessOrNonPriorityResourceFailures(
-                                    taskInfo, ExecStatus.CREATED, null, null, null, null);
+                            batch.forEach(taskInfo -> reporter.onSuccessOrNonPriorityResourceFailures(
+                                    taskInfo, ExecStatus.CREATED, null, null, null, null));
                         }
                     } catch (Exception e) {
-                        LOG.error("While submitting task for async execution: {}", taskInfo, e);
-                        rejected(taskInfo, e.getMessage(), reporter, executor);
+                        rejected(batch, e, reporter, executor);
                     }
                 });
 
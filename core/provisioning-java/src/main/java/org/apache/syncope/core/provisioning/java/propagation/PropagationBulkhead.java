@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Limits the number of propagation batches running at the same time for a given resource: batches exceeding such
+ * limit are queued here, rather than in the shared executor, so that a slow resource cannot take all of its workers.
+ * Each worker, once completed its batch, takes the next one queued for the same resource, if any.
+ */
+public class PropagationBulkhead {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(PropagationBulkhead.class);
+
+    protected record Pending(Runnable batch, int size, Consumer<RuntimeException> onRejected) {
+
+    }
+
+    protected final String resource;
+
+    protected final PropagationBulkheadProperties props;
+
+    protected final Deque<Pending> pending = new ArrayDeque<>();
+
+    protected int inFlight;
+
+    protected int queued;
+
+    public PropagationBulkhead(final String resource, final PropagationBulkheadProperties props) {
+        this.resource = resource;
+        this.props = props;
+    }
+
+    /**
+     * @return number of batches currently running
+     */
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * @return number of tasks currently waiting to be executed
+     */
+    public synchronized int getQueued() {
+        return queued;
+    }
+
+    protected boolean hasRoom(final int size) {
+        // always accept a single batch larger than the queue depth, when nothing else is waiting
+        return queued == 0 || queued + size <= props.getQueueDepth();
+    }
+
+    protected void awaitRoom(final int size) {
+        if (hasRoom(size)) {
+            return;
+        }
+
+        if (props.getPolicy() == PropagationBulkheadProperties.Policy.REJECT) {
+            throw new RejectedExecutionException("Propagation queue full for resource " + resource);
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(props.getBlockTimeoutSeconds());
+        try {
+            while (inFlight >= props.getMaxInFlight() && !hasRoom(size)) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    throw new RejectedExecutionException(
+                            "Timeout while waiting for room in propagation queue for resource " + resource);
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RejectedExecutionException("Interrupted while waiting for room in propagation queue", e);
+        }
+    }
+
+    /**
+     * Runs the given batch via the provided executor as soon as allowed by the maximum number of in-flight batches.
+     *
+     * @param batch batch to run
+     * @param size number of tasks in the given batch
+     * @param executor shared executor
+     * @throws RejectedExecutionException if the batch could not be queued or submitted
+     */
+    public void submit(final Runnable batch, final int size, final Executor executor) {
+        submit(batch, size, executor, e -> LOG.error("Propagation batch for resource {} was not run", resource, e));
+    }
+
+    /**
+     * Runs the given batch via the provided executor as soon as allowed by the maximum number of in-flight batches.
+     *
+     * @param batch batch to run
+     * @param size number of tasks in the given batch
+     * @param executor shared executor
+     * @param onRejected invoked if the batch, once queued, could not be handed over to the executor
+     * @throws RejectedExecutionException if the batch could not be queued or submitted
+     */
+    public void submit(
+            final Runnable batch,
+            final int size,
+            final Executor executor,
+            final Consumer<RuntimeException> onRejected) {
+
+        synchronized (this) {
+            if (inFlight >= props.getMaxInFlight()) {
+                awaitRoom(size);
+            }
+
+            // while waiting for room, workers might have drained the queue and released their slots
+            if (inFlight >= props.getMaxInFlight()) {
+                pending.add(new Pending(batch, size, onRejected));
+                queued += size;
+                return;
+            }
+
+            inFlight++;
+        }
+
+        start(batch, executor);
+    }
+
+    protected void start(final Runnable batch, final Executor executor) {
+        try {
+            executor.execute(() -> drain(batch, executor));
+        } catch (RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    protected synchronized void release() {
+        inFlight--;
+        notifyAll();
+    }
+
+    protected void drain(final Runnable first, final Executor executor) {
+        Runnable next = first;
+        boolean released = false;
+        try {
+            while (next != null) {
+                try {
+                    next.run();
+                } catch (Exception e) {
+                    LOG.error("While running propagation batch for resource {}", resource, e);
+                }
+
+                synchronized (this) {
+                    Pending polled = pending.poll();
+                    if (polled == null) {
+                        next = null;
+                        release();
+                        released = true;
+                    } else {
+                        queued -= polled.size();
+                        next = polled.batch();
+                        notifyAll();
+                    }
+                }
+            }
+        } finally {
+            // an Error was thrown: hand queued batches over to another worker, or release the slot
+            while (!released) {
+                Pending polled;
+                synchronized (this) {
+                    polled = pending.poll();
+                    if (polled == null) {
+                        release();
+                        released = true;
+                    } else {
+                        queued -= polled.size();
+                        notifyAll();
+                    }
+                }
+
+                if (polled != null) {
+                    try {
+                        executor.execute(() -> drain(polled.batch(), executor));
+                        released = true;
+                    } catch (RuntimeException e) {
+                        LOG.error("While handing over propagation batch for resource {}", resource, e);
+
+                        // the slot is still held: let the owner of the batch know, then try with the next one
+                        try {
+                            polled.onRejected().accept(e);
+                        } catch (RuntimeException re) {
+                            LOG.error("While rejecting propagation batch for resource {}", resource, re);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+
+/**
+ * Merges update propagation tasks, still waiting to be executed, with later update propagation tasks for the same
+ * entity and resource, so that only the net result is sent to the connector.
+ */
+public final class PropagationTaskCoalescer {
+
+    /**
+     * Tells whether the given task can take part to coalescing: only update tasks not bound to an existing
+     * {@link org.apache.syncope.core.persistence.api.entity.task.PropagationTask} are considered.
+     *
+     * @param taskInfo propagation task
+     * @return whether the given task can take part to coalescing
+     */
+    public static boolean isCoalescable(final PropagationTaskInfo taskInfo) {
+        return taskInfo.getKey() == null
+                && taskInfo.getOperation() == ResourceOperation.UPDATE
+                && taskInfo.getEntityKey() != null;
+    }
+
+    /**
+     * Key identifying tasks which can be merged together, for the given domain.
+     *
+     * @param domain domain
+     * @param taskInfo propagation task
+     * @return coalescing key
+     */
+    public static String key(final String domain, final PropagationTaskInfo taskInfo) {
+        return domain + '/' + taskInfo.getResource().getKey() + '/' + taskInfo.getAnyTypeKind()
+                + '/' + taskInfo.getEntityKey();
+    }
+
+    private static List<Object> values(final List<Object> values) {
+        return Optional.ofNullable(values).orElseGet(List::of);
+    }
+
+    private static AttributeDelta merge(final AttributeDelta pending, final AttributeDelta next) {
+        if (next.getValuesToReplace() != null) {
+            return next;
+        }
+
+        List<Object> toAdd = new ArrayList<>(values(next.getValuesToAdd()));
+        List<Object> toRemove = new ArrayList<>(values(next.getValuesToRemove()));
+
+        if (pending.getValuesToReplace() != null) {
+            List<Object> toReplace = new ArrayList<>(pending.getValuesToReplace());
+            toReplace.removeAll(toRemove);
+            toAdd.stream().filter(value -> !toReplace.contains(value)).forEach(toReplace::add);
+            return AttributeDeltaBuilder.build(pending.getName(), toReplace);
+        }
+
+        values(pending.getValuesToAdd()).stream().
+                filter(value -> !toRemove.contains(value) && !toAdd.contains(value)).
+                forEach(toAdd::add);
+        values(pending.getValuesToRemove()).stream().
+                filter(value -> !toAdd.contains(value) && !toRemove.contains(value)).
+                forEach(toRemove::add);
+        return AttributeDeltaBuilder.build(pending.getName(), toAdd, toRemove);
+    }
+
+    /**
+     * Merges the given next task into the given pending task, if possible.
+     *
+     * @param pending task waiting to be executed, updated in place on successful merge
+     * @param next later task for the same entity and resource
+     * @return whether merge was performed, hence the next task does not need to be executed
+     */
+    public static boolean merge(final PropagationTaskInfo pending, final PropagationTaskInfo next) {
+        if (!isCoalescable(pending) || !isCoalescable(next)
+                || !pending.getResource().getKey().equals(next.getResource().getKey())
+                || !pending.getEntityKey().equals(next.getEntityKey())
+                || !Objects.equals(pending.getObjectClass(), next.getObjectClass())
+                || !Objects.equals(pending.getConnObjectKey(), next.getConnObjectKey())
+                || next.getOldConnObjectKey() != null) {
+
+            return false;
+        }
+
+        PropagationData pendingData = pending.getPropagationData();
+        PropagationData nextData = next.getPropagationData();
+
+        if (pendingData.getAttributeDeltas() == null && nextData.getAttributeDeltas() == null) {
+            // full attribute sets: values from the next task prevail
+            Map<String, Attribute> attrs = new LinkedHashMap<>();
+            Optional.ofNullable(pendingData.getAttributes()).
+                    ifPresent(a -> a.forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr)));
+            Optional.ofNullable(nextData.getAttributes()).
+                    ifPresent(a -> a.forEach(attr -> attrs.put(attr.getName().toUpperCase(), attr)));
+
+            pending.setPropagationData(new PropagationData(new HashSet<>(attrs.values())));
+            pending.setUpdateRequest(next.getUpdateRequest());
+            return true;
+        }
+
+        // attribute deltas can be reduced only when no propagation action is going to inspect the update request
+        if (pendingData.getAttributeDeltas() != null && nextData.getAttributeDeltas() != null
+                && pending.getResource().getPropagationActions().isEmpty()) {
+
+            Map<String, AttributeDelta> deltas = new LinkedHashMap<>();
+            pendingData.getAttributeDeltas().forEach(delta -> deltas.put(delta.getName().toUpperCase(), delta));
+            nextData.getAttributeDeltas().forEach(delta -> deltas.merge(
+                    delta.getName().toUpperCase(), delta, PropagationTaskCoalescer::merge));
+
+            PropagationData merged = new PropagationData(nextData.getAttributes());
+            merged.setAttributeDeltas(Set.copyOf(deltas.values()));
+            pending.setPropagationData(merged);
+            pending.setUpdateRequest(next.getUpdateRequest());
+            return true;
+        }
+
+        return false;
+    }
+
+    private PropagationTaskCoalescer() {
+        // private constructor for static utility class
+    }
+}
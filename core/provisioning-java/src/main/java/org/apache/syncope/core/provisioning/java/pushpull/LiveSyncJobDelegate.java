@@ -346,6 +346,9 @@ public class LiveSyncJobDelegate
         }
 
         if (!profile.isDryRun()) {
+            // sync tokens are advanced as deltas are handled: wait for all submitted deltas
+            dispatcher.awaitCompletion();
+
             boolean anySyncTokenChanged = false;
             for (int i = 0; i < infos.size() && !anySyncTokenChanged; i++) {
                 if (infos.get(i).provision() != null) {
@@ -230,6 +230,9 @@ public class PullJobDelegate
                 throw new JobExecutionException("While pulling from connector", t);
             } finally {
                 if (setSyncTokens) {
+                    // sync tokens are advanced as deltas are handled: wait for all submitted deltas
+                    dispatcher.awaitCompletion();
+
                     latestSyncTokens.forEach((objectClass, syncToken) -> {
                         task.getResource().getProvisionByObjectClass(objectClass).
                                 ifPresent(p -> p.setSyncToken(ConnObjectUtils.toString(syncToken)));
@@ -18,6 +18,10 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
+import java.util.HashSet;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.RejectedExecutionException;
 import org.apache.syncope.core.persistence.api.entity.task.PullTask;
 import org.apache.syncope.core.provisioning.api.pushpull.InboundActions;
@@ -26,13 +30,29 @@ import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
 import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
 import org.identityconnectors.framework.common.objects.SyncDelta;
 import org.identityconnectors.framework.common.objects.SyncResultsHandler;
+import org.identityconnectors.framework.common.objects.SyncToken;
 
 public class PullResultHandlerDispatcher
         extends SyncopeResultHandlerDispatcher<PullTask, InboundActions, SyncopePullResultHandler>
         implements SyncResultsHandler {
 
+    protected record PendingSyncToken(String objectClass, SyncToken syncToken) {
+
+    }
+
     protected SyncopePullExecutor executor;
 
+    protected long sequence;
+
+    /**
+     * Sync tokens of the deltas submitted but not yet handled, by submission order.
+     */
+    protected final NavigableMap<Long, PendingSyncToken> pendingSyncTokens = new TreeMap<>();
+
+    protected final Set<Long> handled = new HashSet<>();
+
+    protected boolean syncTokenStalled;
+
     public PullResultHandlerDispatcher init(
             final ProvisioningProfile<PullTask, InboundActions> profile,
             final SyncopePullExecutor executor) {
@@ -43,6 +63,44 @@ public class PullResultHandlerDispatcher
         return this;
     }
 
+    protected synchronized long submitted(final SyncDelta delta) {
+        long seq = ++sequence;
+        pendingSyncTokens.put(
+                seq, new PendingSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken()));
+        return seq;
+    }
+
+    /**
+     * Advances the latest sync token up to the last delta which was handled together with all deltas submitted before.
+     *
+     * @param seq submission sequence of the delta just handled
+     * @param success whether the delta was successfully handled
+     */
+    protected synchronized void handled(final long seq, final boolean success) {
+        if (!success) {
+            LOG.error("Could not handle delta #{}, sync token will not be advanced further", seq);
+            syncTokenStalled = true;
+        }
+
+        handled.add(seq);
+        while (!pendingSyncTokens.isEmpty() && handled.remove(pendingSyncTokens.firstKey())) {
+            PendingSyncToken pending = pendingSyncTokens.pollFirstEntry().getValue();
+            if (!syncTokenStalled) {
+                executor.setLatestSyncToken(pending.objectClass(), pending.syncToken());
+            }
+        }
+    }
+
+    @Override
+    protected void awaitCompletion() {
+        super.awaitCompletion();
+
+        // all deltas were handled: next ones can advance again from the latest sync token successfully reached
+        synchronized (this) {
+            syncTokenStalled = false;
+        }
+    }
+
     @Override
     public boolean handle(final SyncDelta delta) {
         if (tpte.isEmpty()) {
@@ -56,16 +114,24 @@ public class PullResultHandlerDispatcher
             return result;
         }
 
+        long seq = submitted(delta);
         try {
-            submit(() -> {
-                executor.setLatestSyncToken(delta.getObjectClass().getObjectClassValue(), delta.getToken());
+            submit(delta.getUid().getUidValue(), () -> {
+                boolean success = false;
+                try {
+                    success = suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
 
-                suppliers.get(delta.getObjectClass().getObjectClassValue()).get().handle(delta);
-
-                executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+                    executor.reportHandled(delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
+                } finally {
+                    handled(seq, success);
+                }
             });
             return true;
         } catch (RejectedExecutionException e) {
+            synchronized (this) {
+                pendingSyncTokens.remove(seq);
+                syncTokenStalled = true;
+            }
             LOG.error("Could not submit pull handler for {} {}",
                     delta.getObjectClass().getObjectClassValue(), delta.getObject().getName());
             return false;
@@ -57,7 +57,7 @@ public class PushResultHandlerDispatcher
         }
 
         try {
-            submit(() -> {
+            submit(any.getKey(), () -> {
                 ((AnyPushResultHandler) suppliers.get(any.getType().getKey()).get()).handle(any);
 
                 executor.reportHandled(any.getType().getKey(), any.getKey());
@@ -81,7 +81,7 @@ public class PushResultHandlerDispatcher
         }
 
         try {
-            submit(() -> {
+            submit(realm.getKey(), () -> {
                 ((RealmPushResultHandler) suppliers.get(SyncopeConstants.REALM_ANYTYPE).get()).handle(realm);
 
                 executor.reportHandled(SyncopeConstants.REALM_ANYTYPE, realm.getKey());
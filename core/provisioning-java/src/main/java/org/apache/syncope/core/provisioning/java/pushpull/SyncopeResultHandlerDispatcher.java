@@ -18,14 +18,15 @@
  */
 package org.apache.syncope.core.provisioning.java.pushpull;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.ArrayDeque;
+import java.util.Deque;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.function.Supplier;
 import org.apache.syncope.core.persistence.api.entity.task.ProvisioningTask;
@@ -42,6 +43,12 @@ import org.springframework.security.authentication.UsernamePasswordAuthenticatio
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.User;
 
+/**
+ * Dispatches items to the configured result handlers.
+ * When concurrent settings are provided, items are partitioned by key into lanes, each executing its own items one
+ * after the other, so that items with the same key are handled in the same order as submitted; the number of items
+ * submitted but not yet handled is bounded, and submission blocks until room is available.
+ */
 public abstract class SyncopeResultHandlerDispatcher<
         T extends ProvisioningTask<?>, A extends ProvisioningActions, RA extends SyncopeResultHandler<T, A>> {
 
@@ -49,13 +56,28 @@ public abstract class SyncopeResultHandlerDispatcher<
 
     private static final String PLACEHOLDER_PWD = "PLACEHOLDER_PWD";
 
+    protected static final int MAX_LANES = 256;
+
+    protected static final int IN_FLIGHT_PER_LANE = 4;
+
+    protected static class Lane {
+
+        protected final Deque<Runnable> queue = new ArrayDeque<>();
+
+        protected boolean running;
+    }
+
     protected Optional<VirtualThreadPoolTaskExecutor> tpte;
 
     protected final Map<String, Supplier<RA>> suppliers = new ConcurrentHashMap<>();
 
     protected final Map<String, RA> handlers = new ConcurrentHashMap<>();
 
-    protected final List<Future<?>> futures = new ArrayList<>();
+    protected Lane[] lanes;
+
+    protected int window;
+
+    protected Semaphore inFlight;
 
     protected void init(final ProvisioningProfile<T, A> profile) {
         if (profile.getTask().getConcurrentSettings() == null) {
@@ -83,6 +105,13 @@ public abstract class SyncopeResultHandlerDispatcher<
             t.initialize();
 
             tpte = Optional.of(t);
+
+            lanes = new Lane[Math.max(1, Math.min(profile.getTask().getConcurrentSettings().getPoolSize(), MAX_LANES))];
+            for (int i = 0; i < lanes.length; i++) {
+                lanes[i] = new Lane();
+            }
+            window = lanes.length * IN_FLIGHT_PER_LANE;
+            inFlight = new Semaphore(window);
         }
     }
 
@@ -94,22 +123,89 @@ public abstract class SyncopeResultHandlerDispatcher<
         return handlers.computeIfAbsent(key, k -> suppliers.get(k).get());
     }
 
-    protected void submit(final Runnable runnable) {
-        tpte.ifPresent(executor -> futures.add(executor.submit(runnable)));
+    protected void drain(final Lane lane) {
+        while (true) {
+            Runnable runnable;
+            synchronized (lane) {
+                runnable = lane.queue.poll();
+                if (runnable == null) {
+                    lane.running = false;
+                    return;
+                }
+            }
+
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                LOG.error("While handling", t);
+            } finally {
+                inFlight.release();
+            }
+        }
     }
 
-    public void stop() {
-        handlers.values().forEach(SyncopeResultHandler::stop);
+    /**
+     * Submits the given runnable for execution after any other runnable previously submitted with the same key,
+     * waiting for room if the maximum number of items in flight was reached.
+     *
+     * @param key partitioning key
+     * @param runnable runnable to execute
+     * @throws RejectedExecutionException if the runnable could not be submitted
+     */
+    protected void submit(final String key, final Runnable runnable) {
+        tpte.ifPresent(executor -> {
+            try {
+                inFlight.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RejectedExecutionException("Interrupted while waiting for room", e);
+            }
+
+            Lane lane = lanes[Math.floorMod(Objects.hashCode(key), lanes.length)];
+            boolean start;
+            synchronized (lane) {
+                lane.queue.add(runnable);
+                start = !lane.running;
+                lane.running = true;
+            }
+
+            if (start) {
+                try {
+                    executor.execute(() -> drain(lane));
+                } catch (RuntimeException e) {
+                    // lane was idle, hence the given runnable was the only one queued
+                    synchronized (lane) {
+                        lane.queue.remove(runnable);
+                        lane.running = false;
+                    }
+                    inFlight.release();
+                    throw e instanceof RejectedExecutionException ree ? ree : new RejectedExecutionException(e);
+                }
+            }
+        });
     }
 
-    protected void shutdown() {
-        for (Future<?> f : this.futures) {
+    /**
+     * Waits until all submitted runnables have been executed.
+     */
+    protected void awaitCompletion() {
+        if (tpte.isPresent()) {
             try {
-                f.get();
-            } catch (ExecutionException | InterruptedException e) {
+                inFlight.acquire(window);
+                inFlight.release(window);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
                 LOG.error("Unexpected error when waiting for completion", e);
             }
         }
+    }
+
+    public void stop() {
+        handlers.values().forEach(SyncopeResultHandler::stop);
+    }
+
+    protected void shutdown() {
+        awaitCompletion();
 
         tpte.ifPresent(VirtualThreadPoolTaskExecutor::shutdown);
     }
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.core.persistence.api.dao.AuditConfDAO;
+import org.apache.syncope.core.persistence.api.dao.AuditEventDAO;
+import org.apache.syncope.core.persistence.api.entity.AuditConf;
+import org.apache.syncope.core.persistence.api.entity.AuditEvent;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.AsyncTaskExecutor;
+
+public class DefaultAuditManagerTest extends AbstractTest {
+
+    private static final OpEvent EVENT = new OpEvent(
+            OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS);
+
+    @Mock
+    private AuditConfDAO auditConfDAO;
+
+    @Mock
+    private AuditEventDAO auditEventDAO;
+
+    @Mock
+    private AsyncTaskExecutor taskExecutor;
+
+    @Captor
+    private ArgumentCaptor<Runnable> task;
+
+    @Captor
+    private ArgumentCaptor<List<AuditEvent>> saved;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    private DefaultAuditManager auditManager(
+            final int size,
+            final int batchSize,
+            final long flushIntervalMillis,
+            final AuditBufferProperties.OverflowPolicy overflowPolicy) {
+
+        AuditBufferProperties bufferProperties = new AuditBufferProperties();
+        bufferProperties.setSize(size);
+        bufferProperties.setBatchSize(batchSize);
+        bufferProperties.setFlushIntervalMillis(flushIntervalMillis);
+        bufferProperties.setOverflowPolicy(overflowPolicy);
+
+        return new DefaultAuditManager(
+                auditConfDAO, auditEventDAO, entityFactory, List.of(), taskExecutor, bufferProperties, 60);
+    }
+
+    private void activate() {
+        AuditConf auditConf = entityFactory.newEntity(AuditConf.class);
+        auditConf.setKey(EVENT.toString());
+        auditConf.setActive(true);
+        when(auditConfDAO.findAll()).thenReturn(List.of(auditConf));
+    }
+
+    private static void audit(final DefaultAuditManager auditManager, final int times) {
+        for (int i = 0; i < times; i++) {
+            auditManager.audit(
+                    SyncopeConstants.MASTER_DOMAIN,
+                    "admin",
+                    EVENT.getType(),
+                    EVENT.getCategory(),
+                    EVENT.getSubcategory(),
+                    EVENT.getOp(),
+                    EVENT.getOutcome(),
+                    null,
+                    "output" + i);
+        }
+    }
+
+    private static boolean requested(final DefaultAuditManager auditManager) {
+        return auditManager.auditRequested(
+                SyncopeConstants.MASTER_DOMAIN,
+                "admin",
+                EVENT.getType(),
+                EVENT.getCategory(),
+                EVENT.getSubcategory(),
+                EVENT.getOp());
+    }
+
+    private List<Integer> savedBatchSizes(final int times) {
+        verify(auditEventDAO, times(times)).saveAll(saved.capture());
+        return saved.getAllValues().stream().map(List::size).toList();
+    }
+
+    @Test
+    public void buffering() {
+        DefaultAuditManager auditManager = auditManager(10, 5, 60000, AuditBufferProperties.OverflowPolicy.DIRECT);
+
+        audit(auditManager, 3);
+
+        // events are buffered, with a single flush scheduled...
+        assertEquals(3, auditManager.getBuffered());
+        verify(taskExecutor).execute(any());
+        verifyNoInteractions(auditEventDAO);
+
+        // ...and written when shutting down, if not flushed before
+        activate();
+        auditManager.destroy();
+        assertEquals(0, auditManager.getBuffered());
+        assertEquals(List.of(3), savedBatchSizes(1));
+    }
+
+    @Test
+    public void flushOnSize() {
+        activate();
+        DefaultAuditManager auditManager = auditManager(10, 2, 60000, AuditBufferProperties.OverflowPolicy.DIRECT);
+
+        audit(auditManager, 4);
+        verify(taskExecutor).execute(task.capture());
+
+        // full batches are written without waiting for the flush interval
+        long start = System.currentTimeMillis();
+        task.getValue().run();
+        assertTrue(System.currentTimeMillis() - start < TimeUnit.SECONDS.toMillis(10));
+
+        assertEquals(0, auditManager.getBuffered());
+        assertEquals(List.of(2, 2), savedBatchSizes(2));
+    }
+
+    @Test
+    public void flushOnTime() {
+        activate();
+        DefaultAuditManager auditManager = auditManager(10, 100, 200, AuditBufferProperties.OverflowPolicy.DIRECT);
+
+        audit(auditManager, 1);
+        verify(taskExecutor).execute(task.capture());
+
+        // partial batches are written once the flush interval has elapsed
+        long start = System.nanoTime();
+        task.getValue().run();
+        assertTrue(System.nanoTime() - start >= TimeUnit.MILLISECONDS.toNanos(200));
+
+        assertEquals(0, auditManager.getBuffered());
+        assertEquals(List.of(1), savedBatchSizes(1));
+    }
+
+    @Test
+    public void overflowDrop() {
+        DefaultAuditManager auditManager = auditManager(2, 5, 60000, AuditBufferProperties.OverflowPolicy.DROP);
+
+        audit(auditManager, 3);
+
+        assertEquals(2, auditManager.getBuffered());
+        assertEquals(1, auditManager.getDropped());
+        verify(taskExecutor, never()).submit(any(Runnable.class));
+    }
+
+    @Test
+    public void overflowDirect() {
+        activate();
+        DefaultAuditManager auditManager = auditManager(2, 5, 60000, AuditBufferProperties.OverflowPolicy.DIRECT);
+
+        audit(auditManager, 3);
+
+        assertEquals(2, auditManager.getBuffered());
+        assertEquals(0, auditManager.getDropped());
+
+        // the event not fitting into the buffer is written on its own
+        verify(taskExecutor).submit(task.capture());
+        task.getValue().run();
+        assertEquals(List.of(1), savedBatchSizes(1));
+    }
+
+    @Test
+    public void auditConfIndexNotInstalledWhenChangedMeanwhile() {
+        DefaultAuditManager auditManager = auditManager(10, 5, 60000, AuditBufferProperties.OverflowPolicy.DIRECT);
+
+        AuditConf auditConf = entityFactory.newEntity(AuditConf.class);
+        auditConf.setKey(EVENT.toString());
+        auditConf.setActive(true);
+        AtomicBoolean changed = new AtomicBoolean();
+        when(auditConfDAO.findAll()).thenAnswer(ic -> {
+            // audit conf is changed while the index is being rebuilt
+            if (changed.compareAndSet(false, true)) {
+                auditManager.auditConfChanged(SyncopeConstants.MASTER_DOMAIN);
+                return List.of();
+            }
+            return List.of(auditConf);
+        });
+
+        // the index rebuilt meanwhile is returned but not installed...
+        assertFalse(requested(auditManager));
+        assertFalse(auditManager.auditConfIndexes.containsKey(SyncopeConstants.MASTER_DOMAIN));
+
+        // ...hence the next lookup catches up with the change, and installs its result
+        assertTrue(requested(auditManager));
+        assertTrue(requested(auditManager));
+        assertTrue(auditManager.auditConfIndexes.containsKey(SyncopeConstants.MASTER_DOMAIN));
+        verify(auditConfDAO, times(2)).findAll();
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.job.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
+import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
+import org.apache.syncope.core.persistence.api.entity.task.TaskUtilsFactory;
+import org.apache.syncope.core.provisioning.api.AuditManager;
+import org.apache.syncope.core.provisioning.api.notification.NotificationManager;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.apache.syncope.core.provisioning.java.NotificationDispatchProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class MailNotificationJobDelegateTest extends AbstractTest {
+
+    private static final String ROSSINI = "rossini@syncope.apache.org";
+
+    private static final String VERDI = "verdi@syncope.apache.org";
+
+    private static final String BELLINI = "bellini@syncope.apache.org";
+
+    @Mock
+    private ConfParamOps confParamOps;
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private AuditManager auditManager;
+
+    @Mock
+    private NotificationManager notificationManager;
+
+    @Mock
+    private ApplicationEventPublisher publisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private JavaMailSender mailSender;
+
+    @Autowired
+    private TaskUtilsFactory taskUtilsFactory;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    private MailNotificationJobDelegate delegate;
+
+    @BeforeEach
+    public void setUp() {
+        delegate = new MailNotificationJobDelegate(
+                confParamOps,
+                taskDAO,
+                taskUtilsFactory,
+                auditManager,
+                notificationManager,
+                publisher,
+                new SimpleAsyncTaskExecutor(),
+                new NotificationDispatchProperties(),
+                transactionManager,
+                mailSender);
+
+        Session session = Session.getInstance(new Properties());
+        when(mailSender.createMimeMessage()).thenAnswer(ic -> new MimeMessage(session));
+        when(notificationManager.storeExec(any())).thenAnswer(ic -> ic.getArgument(0));
+    }
+
+    private NotificationTask task() {
+        NotificationTask task = entityFactory.newEntity(NotificationTask.class);
+        task.setSender("admin@syncope.apache.org");
+        task.getRecipients().addAll(Arrays.asList(ROSSINI, VERDI, BELLINI));
+        task.setSubject("Test");
+        task.setTextBody("Test text");
+        task.setHtmlBody("<p>Test HTML</p>");
+        task.setTraceLevel(TraceLevel.ALL);
+        return task;
+    }
+
+    private static String to(final MimeMessage message) {
+        try {
+            return message.getAllRecipients()[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void verifyOutcome(final NotificationTask task, final String to, final OpEvent.Outcome outcome) {
+        if (outcome == OpEvent.Outcome.SUCCESS) {
+            verify(notificationManager).createTasks(
+                    any(), eq(OpEvent.CategoryType.TASK), eq("notification"), isNull(), eq("send"), eq(outcome),
+                    isNull(), isNull(), eq(task), eq("Successfully sent notification to " + to));
+        } else {
+            verify(notificationManager).createTasks(
+                    any(), eq(OpEvent.CategoryType.TASK), eq("notification"), isNull(), eq("send"), eq(outcome),
+                    isNull(), isNull(), eq(task), eq("Could not send notification to " + to), any(Exception.class));
+        }
+    }
+
+    @Test
+    public void sent() {
+        NotificationTask task = task();
+
+        TaskExec<NotificationTask> execution = delegate.executeSingle(task, "admin");
+
+        assertEquals(NotificationJob.Status.SENT.name(), execution.getStatus());
+        assertTrue(execution.getMessage().startsWith("FROM: admin@syncope.apache.org"));
+        task.getRecipients().forEach(to -> verifyOutcome(task, to, OpEvent.Outcome.SUCCESS));
+
+        // all messages are sent through the same connection
+        verify(mailSender).send(any(MimeMessage[].class));
+    }
+
+    @Test
+    public void partiallySent() {
+        doAnswer(ic -> {
+            MimeMessage[] messages = (MimeMessage[]) ic.getRawArguments()[0];
+            assertEquals(3, messages.length);
+
+            Map<Object, Exception> failedMessages = new HashMap<>();
+            Arrays.stream(messages).filter(message -> VERDI.equals(to(message))).
+                    forEach(message -> failedMessages.put(message, new SendFailedException("Invalid address")));
+            throw new MailSendException(failedMessages);
+        }).when(mailSender).send(any(MimeMessage[].class));
+        when(confParamOps.get(SyncopeConstants.MASTER_DOMAIN, "notification.maxRetries", 0L, Long.class)).
+                thenReturn(0L);
+
+        NotificationTask task = task();
+
+        TaskExec<NotificationTask> execution = delegate.executeSingle(task, "admin");
+
+        // only the recipient reported by the mail sender as failed is not notified
+        assertEquals(NotificationJob.Status.NOT_SENT.name(), execution.getStatus());
+        assertTrue(execution.getMessage().startsWith("Could not send notification to [" + VERDI + "]"));
+        assertTrue(execution.getMessage().contains("Invalid address"));
+        assertFalse(execution.getMessage().contains(ROSSINI));
+        assertFalse(execution.getMessage().contains(BELLINI));
+
+        verifyOutcome(task, ROSSINI, OpEvent.Outcome.SUCCESS);
+        verifyOutcome(task, BELLINI, OpEvent.Outcome.SUCCESS);
+        verifyOutcome(task, VERDI, OpEvent.Outcome.FAILURE);
+    }
+
+    @Test
+    public void notSent() {
+        doThrow(new MailSendException("Connection refused")).when(mailSender).send(any(MimeMessage[].class));
+        when(confParamOps.get(SyncopeConstants.MASTER_DOMAIN, "notification.maxRetries", 0L, Long.class)).
+                thenReturn(0L);
+
+        NotificationTask task = task();
+
+        TaskExec<NotificationTask> execution = delegate.executeSingle(task, "admin");
+
+        // no failed message is reported, hence no recipient is considered as notified
+        assertEquals(NotificationJob.Status.NOT_SENT.name(), execution.getStatus());
+        assertTrue(execution.getMessage().contains("Connection refused"));
+        task.getRecipients().forEach(to -> verifyOutcome(task, to, OpEvent.Outcome.FAILURE));
+        verify(notificationManager, never()).createTasks(
+                any(), any(), anyString(), any(), anyString(), eq(OpEvent.Outcome.SUCCESS),
+                any(), any(), any(), any());
+        verify(notificationManager, times(1)).storeExec(any());
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.notification;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.commons.lang3.SerializationUtils;
+import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.common.lib.to.UserTO;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.OpEvent;
+import org.apache.syncope.common.lib.types.TraceLevel;
+import org.apache.syncope.core.persistence.api.dao.AnyMatchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.AnySearchDAO;
+import org.apache.syncope.core.persistence.api.dao.AnyTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.DerSchemaDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.NotificationDAO;
+import org.apache.syncope.core.persistence.api.dao.RealmSearchDAO;
+import org.apache.syncope.core.persistence.api.dao.RelationshipTypeDAO;
+import org.apache.syncope.core.persistence.api.dao.TaskDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.dao.search.AttrCond;
+import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.entity.AnyAbout;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.MailTemplate;
+import org.apache.syncope.core.persistence.api.entity.Notification;
+import org.apache.syncope.core.persistence.api.entity.task.NotificationTask;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.persistence.api.search.AnyProjection;
+import org.apache.syncope.core.persistence.api.search.AnySearchCondVisitor;
+import org.apache.syncope.core.persistence.api.search.KeysetPageRequest;
+import org.apache.syncope.core.persistence.api.search.SearchCondConverter;
+import org.apache.syncope.core.provisioning.api.DerAttrHandler;
+import org.apache.syncope.core.provisioning.api.IntAttrNameParser;
+import org.apache.syncope.core.provisioning.api.data.AnyObjectDataBinder;
+import org.apache.syncope.core.provisioning.api.data.GroupDataBinder;
+import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
+import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
+import org.apache.syncope.core.provisioning.java.AbstractTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Transactional;
+
+@Transactional
+public class DefaultNotificationManagerTest extends AbstractTest {
+
+    private static final String EVENT = OpEvent.toString(
+            OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS);
+
+    @Mock
+    private NotificationDAO notificationDAO;
+
+    @Mock
+    private UserDAO userDAO;
+
+    @Mock
+    private AnySearchDAO anySearchDAO;
+
+    @Mock
+    private AnyMatchDAO anyMatchDAO;
+
+    @Mock
+    private TaskDAO taskDAO;
+
+    @Mock
+    private UserDataBinder userDataBinder;
+
+    @Autowired
+    private AnyTypeDAO anyTypeDAO;
+
+    @Autowired
+    private DerSchemaDAO derSchemaDAO;
+
+    @Autowired
+    private AnyObjectDAO anyObjectDAO;
+
+    @Autowired
+    private GroupDAO groupDAO;
+
+    @Autowired
+    private RealmSearchDAO realmSearchDAO;
+
+    @Autowired
+    private RelationshipTypeDAO relationshipTypeDAO;
+
+    @Autowired
+    private DerAttrHandler derAttrHandler;
+
+    @Autowired
+    private GroupDataBinder groupDataBinder;
+
+    @Autowired
+    private AnyObjectDataBinder anyObjectDataBinder;
+
+    @Autowired
+    private ConfParamOps confParamOps;
+
+    @Autowired
+    private EntityFactory entityFactory;
+
+    @Autowired
+    private IntAttrNameParser intAttrNameParser;
+
+    @Autowired
+    private AnySearchCondVisitor searchCondVisitor;
+
+    @Autowired
+    private JexlTools jexlTools;
+
+    private DefaultNotificationManager notificationManager;
+
+    @BeforeEach
+    public void setUp() {
+        notificationManager = new DefaultNotificationManager(
+                derSchemaDAO,
+                notificationDAO,
+                anyObjectDAO,
+                userDAO,
+                groupDAO,
+                anySearchDAO,
+                realmSearchDAO,
+                anyMatchDAO,
+                taskDAO,
+                relationshipTypeDAO,
+                derAttrHandler,
+                userDataBinder,
+                groupDataBinder,
+                anyObjectDataBinder,
+                confParamOps,
+                entityFactory,
+                intAttrNameParser,
+                searchCondVisitor,
+                jexlTools,
+                60,
+                2);
+    }
+
+    private Notification notification(final String textTemplate) {
+        MailTemplate template = entityFactory.newEntity(MailTemplate.class);
+        template.setKey("test");
+        template.setTextTemplate(textTemplate);
+
+        Notification notification = entityFactory.newEntity(Notification.class);
+        notification.setActive(true);
+        notification.getEvents().add(EVENT);
+        notification.setRecipientAttrName("username");
+        notification.setSender("admin@syncope.org");
+        notification.setSubject("Test");
+        notification.setTemplate(template);
+        notification.setTraceLevel(TraceLevel.ALL);
+        return notification;
+    }
+
+    private static AnyProjection recipient(final String username) {
+        return new AnyProjection(username + "-key", Map.of("username", username), Map.of());
+    }
+
+    @Test
+    public void createTasksByChunk() {
+        Notification notification = notification("Event: ${event}");
+        notification.getStaticRecipients().add("verdi");
+        notification.setRecipientsFIQL("username==*");
+
+        when(notificationDAO.findAll()).thenAnswer(ic -> List.of(notification));
+        when(notificationDAO.findById(notification.getKey())).thenAnswer(ic -> Optional.of(notification));
+
+        // recipients are paged through by key, via projection: the same users are reported more than once
+        when(anySearchDAO.project(
+                any(), eq(true), anySet(), any(SearchCond.class), eq(KeysetPageRequest.of(null, 2)),
+                eq(AnyTypeKind.USER), eq(List.of("username")), eq(List.of()))).
+                thenReturn(List.of(recipient("rossini"), recipient("verdi")));
+        when(anySearchDAO.project(
+                any(), eq(true), anySet(), any(SearchCond.class), eq(KeysetPageRequest.of("verdi-key", 2)),
+                eq(AnyTypeKind.USER), eq(List.of("username")), eq(List.of()))).
+                thenReturn(List.of(recipient("rossini"), recipient("bellini")));
+        when(anySearchDAO.project(
+                any(), eq(true), anySet(), any(SearchCond.class), eq(KeysetPageRequest.of("bellini-key", 2)),
+                eq(AnyTypeKind.USER), eq(List.of("username")), eq(List.of()))).
+                thenReturn(List.of());
+
+        when(taskDAO.save(any(NotificationTask.class))).thenAnswer(ic -> ic.getArgument(0));
+
+        List<String> keys = notificationManager.createTasks(
+                "admin", OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS,
+                null, null);
+
+        // each chunk is saved as soon as complete, and no recipient is notified twice
+        InOrder inOrder = inOrder(anySearchDAO, taskDAO);
+        inOrder.verify(anySearchDAO).project(
+                any(), eq(true), anySet(), any(SearchCond.class), eq(KeysetPageRequest.of(null, 2)),
+                eq(AnyTypeKind.USER), anyCollection(), anyCollection());
+        inOrder.verify(taskDAO).save(any(NotificationTask.class));
+        inOrder.verify(anySearchDAO).project(
+                any(), eq(true), anySet(), any(SearchCond.class), eq(KeysetPageRequest.of("verdi-key", 2)),
+                eq(AnyTypeKind.USER), anyCollection(), anyCollection());
+
+        ArgumentCaptor<NotificationTask> saved = ArgumentCaptor.forClass(NotificationTask.class);
+        verify(taskDAO, times(2)).save(saved.capture());
+        assertEquals(2, keys.size());
+        assertEquals(keys, saved.getAllValues().stream().map(NotificationTask::getKey).toList());
+        assertEquals(Set.of("verdi", "rossini"), saved.getAllValues().getFirst().getRecipients());
+        assertEquals(Set.of("bellini"), saved.getAllValues().getLast().getRecipients());
+        saved.getAllValues().forEach(task -> assertEquals("Event: create", task.getTextBody()));
+
+        // recipients are not referenced by templates, hence users are neither loaded nor represented
+        verify(anySearchDAO, never()).search(
+                any(), eq(true), anySet(), any(SearchCond.class), nullable(String.class), anyInt(),
+                eq(AnyTypeKind.USER));
+        verify(anySearchDAO, times(3)).project(
+                any(), eq(true), anySet(), any(SearchCond.class), any(KeysetPageRequest.class),
+                eq(AnyTypeKind.USER), anyCollection(), anyCollection());
+        verifyNoInteractions(userDataBinder);
+    }
+
+    @Test
+    public void recipientsNotDuplicated(final @Mock User rossini, final @Mock User verdi) {
+        Notification notification = notification("Recipients: ${recipients.size()}");
+        notification.setSelfAsRecipient(true);
+        notification.setRecipientsFIQL("username==*");
+
+        when(rossini.getKey()).thenReturn("rossini-key");
+        when(rossini.getUsername()).thenReturn("rossini");
+        when(rossini.getType()).thenAnswer(ic -> anyTypeDAO.getUser());
+        when(verdi.getKey()).thenReturn("verdi-key");
+        when(verdi.getUsername()).thenReturn("verdi");
+        when(userDataBinder.getUserTO(any(User.class), eq(true))).thenAnswer(ic -> {
+            UserTO userTO = new UserTO();
+            userTO.setUsername(ic.getArgument(0, User.class).getUsername());
+            return userTO;
+        });
+
+        // the user this notification is about is also found among recipients
+        when(anySearchDAO.search(
+                any(), eq(true), anySet(), any(SearchCond.class), nullable(String.class), eq(2),
+                eq(AnyTypeKind.USER))).
+                thenReturn(List.of(rossini, verdi), List.of());
+        when(taskDAO.save(any(NotificationTask.class))).thenAnswer(ic -> ic.getArgument(0));
+
+        List<String> keys = notificationManager.createNotificationTasks(notification, rossini, new HashMap<>());
+
+        // each recipient is reported once, also to templates
+        ArgumentCaptor<NotificationTask> saved = ArgumentCaptor.forClass(NotificationTask.class);
+        verify(taskDAO).save(saved.capture());
+        assertEquals(1, keys.size());
+        assertEquals(Set.of("rossini", "verdi"), saved.getValue().getRecipients());
+        assertEquals("Recipients: 2", saved.getValue().getTextBody());
+    }
+
+    @Test
+    public void unrelatedEvent() {
+        Notification notification = notification("Event: ${event}");
+        notification.getStaticRecipients().add("verdi");
+        when(notificationDAO.findAll()).thenAnswer(ic -> List.of(notification));
+
+        for (int i = 0; i < 2; i++) {
+            assertTrue(notificationManager.createTasks(
+                    "admin", OpEvent.CategoryType.LOGIC, "UserLogic", null, "delete", OpEvent.Outcome.SUCCESS,
+                    null, null).isEmpty());
+        }
+
+        // the index is built once, then unrelated events are discarded without further access
+        verify(notificationDAO).findAll();
+        verify(notificationDAO, never()).findById(anyString());
+        verifyNoInteractions(userDAO, anySearchDAO, anyMatchDAO, taskDAO, userDataBinder);
+    }
+
+    @Test
+    public void notificationChanged() {
+        Notification notification = notification("Event: ${event}");
+        notification.getStaticRecipients().add("verdi");
+        when(notificationDAO.findAll()).thenAnswer(ic -> List.of(notification));
+
+        assertTrue(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+
+        // changes are only picked up once notified
+        notification.getEvents().clear();
+        notification.getEvents().add(OpEvent.toString(
+                OpEvent.CategoryType.LOGIC, "UserLogic", null, "update", OpEvent.Outcome.SUCCESS));
+        assertTrue(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+
+        notificationManager.notificationChanged(SyncopeConstants.MASTER_DOMAIN);
+        assertFalse(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+        assertTrue(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "update"));
+
+        // deactivation
+        notification.setActive(false);
+        notificationManager.notificationChanged(SyncopeConstants.MASTER_DOMAIN);
+        assertFalse(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "update"));
+
+        verify(notificationDAO, times(3)).findAll();
+    }
+
+    @Test
+    public void notificationChangedWhileRebuilding() {
+        Notification notification = notification("Event: ${event}");
+        notification.getStaticRecipients().add("verdi");
+        AtomicBoolean changed = new AtomicBoolean();
+        when(notificationDAO.findAll()).thenAnswer(ic -> {
+            // notification is changed while the index is being rebuilt
+            if (changed.compareAndSet(false, true)) {
+                notificationManager.notificationChanged(SyncopeConstants.MASTER_DOMAIN);
+                return List.of();
+            }
+            return List.of(notification);
+        });
+
+        // the index rebuilt meanwhile is returned but not installed...
+        assertFalse(notificationManager.notificationsAvailable(
+                SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+        assertFalse(notificationManager.notificationIndexes.containsKey(SyncopeConstants.MASTER_DOMAIN));
+
+        // ...hence the next lookup catches up with the change, and installs its result
+        for (int i = 0; i < 2; i++) {
+            assertTrue(notificationManager.notificationsAvailable(
+                    SyncopeConstants.MASTER_DOMAIN, OpEvent.CategoryType.LOGIC, "UserLogic", null, "create"));
+        }
+        assertTrue(notificationManager.notificationIndexes.containsKey(SyncopeConstants.MASTER_DOMAIN));
+        verify(notificationDAO, times(2)).findAll();
+    }
+
+    private static void alter(final SearchCond cond) {
+        cond.asLeaf(AttrCond.class).ifPresent(leaf -> leaf.setExpression("verdi"));
+        Optional.ofNullable(cond.getLeft()).ifPresent(DefaultNotificationManagerTest::alter);
+        Optional.ofNullable(cond.getRight()).ifPresent(DefaultNotificationManagerTest::alter);
+    }
+
+    @Test
+    public void matchLeavesIndexUntouched(final @Mock User user) {
+        Notification notification = notification("Event: ${event}");
+        notification.getStaticRecipients().add("verdi");
+
+        AnyAbout about = entityFactory.newEntity(AnyAbout.class);
+        about.setNotification(notification);
+        about.setAnyType(anyTypeDAO.getUser());
+        about.set("username==rossini");
+        notification.add(about);
+
+        when(notificationDAO.findAll()).thenAnswer(ic -> List.of(notification));
+        when(notificationDAO.findById(notification.getKey())).thenAnswer(ic -> Optional.of(notification));
+
+        UserTO userTO = new UserTO();
+        userTO.setKey("1417acbe-cbf6-4277-9372-e75e04f97000");
+        when(user.getKey()).thenReturn(userTO.getKey());
+        when(user.getType()).thenAnswer(ic -> anyTypeDAO.getUser());
+        when(userDAO.findById(userTO.getKey())).thenAnswer(ic -> Optional.of(user));
+
+        // matching alters the condition it is given
+        SearchCond expected = SearchCondConverter.convert(searchCondVisitor, "username==rossini");
+        List<SearchCond> matched = new ArrayList<>();
+        when(anyMatchDAO.matches(eq(user), any(SearchCond.class))).thenAnswer(ic -> {
+            SearchCond cond = ic.getArgument(1);
+            matched.add(SerializationUtils.clone(cond));
+            alter(cond);
+            return true;
+        });
+        when(taskDAO.save(any(NotificationTask.class))).thenAnswer(ic -> ic.getArgument(0));
+
+        for (int i = 0; i < 2; i++) {
+            assertEquals(1, notificationManager.createTasks(
+                    "admin", OpEvent.CategoryType.LOGIC, "UserLogic", null, "create", OpEvent.Outcome.SUCCESS,
+                    null, userTO).size());
+        }
+
+        assertEquals(List.of(expected, expected), matched);
+        assertEquals(expected, notificationManager.notificationIndex(SyncopeConstants.MASTER_DOMAIN).
+                byEvent().get(EVENT).getFirst().abouts().get(anyTypeDAO.getUser().getKey()));
+        verify(notificationDAO).findAll();
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ExecStatus;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationReporter;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class PriorityPropagationTaskExecutorTest {
+
+    private static PriorityPropagationTaskExecutor executor(final int batchSize, final int maxInFlight) {
+        PropagationBulkheadProperties bulkheadProperties = new PropagationBulkheadProperties();
+        bulkheadProperties.setMaxInFlight(maxInFlight);
+
+        return new PriorityPropagationTaskExecutor(
+                null, null, null, null, null, null, null, null, null, null, null, null, null, null,
+                batchSize, bulkheadProperties, true);
+    }
+
+    private static PriorityPropagationTaskExecutor executor() {
+        return executor(100, new PropagationBulkheadProperties().getMaxInFlight());
+    }
+
+    private static PropagationTaskInfo taskInfo(
+            final ExternalResource resource,
+            final ResourceOperation operation,
+            final String entityKey,
+            final String surname) {
+
+        return new PropagationTaskInfo(
+                resource, operation, ObjectClass.ACCOUNT, AnyTypeKind.USER, AnyTypeKind.USER.name(),
+                entityKey, "rossini",
+                new PropagationData(new HashSet<>(Set.of(AttributeBuilder.build("surname", surname)))));
+    }
+
+    private static PropagationTaskInfo taskInfo(
+            final ExternalResource resource, final ResourceOperation operation, final String surname) {
+
+        return taskInfo(resource, operation, "1417acbe-cbf6-4277-9372-e75e04f97000", surname);
+    }
+
+    private static String surname(final PropagationTaskInfo taskInfo) {
+        return AttributeUtil.getAsStringValue(
+                AttributeUtil.find("surname", taskInfo.getPropagationData().getAttributes()));
+    }
+
+    @Test
+    public void coalesceUpdates() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-testdb");
+        PropagationReporter reporter = mock(PropagationReporter.class);
+
+        PriorityPropagationTaskExecutor executor = executor();
+
+        PropagationTaskInfo update1 = taskInfo(resource, ResourceOperation.UPDATE, "R");
+        PropagationTaskInfo update2 = taskInfo(resource, ResourceOperation.UPDATE, "Rossini");
+
+        assertEquals(List.of(update1), executor.coalesce(List.of(update1, update2), reporter));
+        assertEquals("Rossini", surname(update1));
+        verify(reporter).onSuccessOrNonPriorityResourceFailures(
+                eq(update2), eq(ExecStatus.CREATED), any(), any(), any(), any());
+    }
+
+    @Test
+    public void doNotCoalesceAcrossOtherOperations() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-testdb");
+        PropagationReporter reporter = mock(PropagationReporter.class);
+
+        PriorityPropagationTaskExecutor executor = executor();
+
+        PropagationTaskInfo update1 = taskInfo(resource, ResourceOperation.UPDATE, "R");
+        PropagationTaskInfo delete = taskInfo(resource, ResourceOperation.DELETE, "R");
+        PropagationTaskInfo create = taskInfo(resource, ResourceOperation.CREATE, "Rossini");
+        PropagationTaskInfo update2 = taskInfo(resource, ResourceOperation.UPDATE, "Verdi");
+
+        // within the same propagation...
+        assertEquals(
+                List.of(update1, delete, create, update2),
+                executor.coalesce(List.of(update1, delete, create, update2), reporter));
+        assertEquals("R", surname(update1));
+
+        // ...and across propagations, while the first update is still waiting to be executed
+        executor = executor();
+        PropagationTaskInfo update3 = taskInfo(resource, ResourceOperation.UPDATE, "R");
+        assertEquals(List.of(update3), executor.coalesce(List.of(update3), reporter));
+        PropagationTaskInfo update4 = taskInfo(resource, ResourceOperation.UPDATE, "Verdi");
+        assertEquals(
+                List.of(delete, create, update4),
+                executor.coalesce(List.of(delete, create, update4), reporter));
+        assertEquals("R", surname(update3));
+
+        verifyNoInteractions(reporter);
+    }
+
+    @Test
+    public void spreadBatchesAcrossWorkers() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-testdb");
+
+        List<PropagationTaskInfo> taskInfos = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            taskInfos.add(taskInfo(resource, ResourceOperation.UPDATE, "entity" + (i % 15), "surname" + i));
+        }
+
+        // small amounts of tasks are spread across as many batches as can run at the same time...
+        List<List<PropagationTaskInfo>> batches = executor(100, 10).batches(taskInfos);
+        assertEquals(10, batches.size());
+        assertEquals(30, batches.stream().mapToInt(List::size).sum());
+
+        // ...keeping the tasks for the same entity in the same batch, in order
+        for (int i = 0; i < 15; i++) {
+            String entityKey = "entity" + i;
+            List<List<PropagationTaskInfo>> entityBatches = batches.stream().
+                    filter(batch -> batch.stream().anyMatch(taskInfo -> entityKey.equals(taskInfo.getEntityKey()))).
+                    toList();
+            assertEquals(1, entityBatches.size());
+            assertEquals(
+                    List.of("surname" + i, "surname" + (i + 15)),
+                    entityBatches.getFirst().stream().
+                            filter(taskInfo -> entityKey.equals(taskInfo.getEntityKey())).
+                            map(PriorityPropagationTaskExecutorTest::surname).toList());
+        }
+
+        // larger amounts of tasks are still split into batches not larger than the configured size
+        batches = executor(4, 2).batches(taskInfos);
+        assertEquals(8, batches.size());
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 4));
+
+        // tasks for a single entity cannot be spread
+        List<PropagationTaskInfo> entityTaskInfos = List.of(taskInfos.get(0), taskInfos.get(15));
+        assertEquals(List.of(entityTaskInfos), executor(100, 10).batches(entityTaskInfos));
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.core.provisioning.java.PropagationBulkheadProperties;
+import org.junit.jupiter.api.Test;
+
+public class PropagationBulkheadTest {
+
+    @Test
+    public void limitInFlightAndQueue() throws InterruptedException {
+        PropagationBulkheadProperties props = new PropagationBulkheadProperties();
+        props.setMaxInFlight(2);
+        props.setQueueDepth(3);
+        props.setPolicy(PropagationBulkheadProperties.Policy.REJECT);
+
+        PropagationBulkhead bulkhead = new PropagationBulkhead("resource", props);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger completed = new AtomicInteger();
+            Runnable batch = () -> {
+                try {
+                    latch.await();
+                    completed.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+
+            bulkhead.submit(batch, 1, executor);
+            bulkhead.submit(batch, 1, executor);
+            assertEquals(2, bulkhead.getInFlight());
+            assertEquals(0, bulkhead.getQueued());
+
+            bulkhead.submit(batch, 2, executor);
+            bulkhead.submit(batch, 1, executor);
+            assertEquals(2, bulkhead.getInFlight());
+            assertEquals(3, bulkhead.getQueued());
+
+            assertThrows(RejectedExecutionException.class, () -> bulkhead.submit(batch, 1, executor));
+
+            latch.countDown();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> completed.get() == 4);
+            await().atMost(10, TimeUnit.SECONDS).until(() -> bulkhead.getInFlight() == 0);
+            assertEquals(0, bulkhead.getQueued());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void blockUntilTimeout() {
+        PropagationBulkheadProperties props = new PropagationBulkheadProperties();
+        props.setMaxInFlight(1);
+        props.setQueueDepth(1);
+        props.setPolicy(PropagationBulkheadProperties.Policy.BLOCK);
+        props.setBlockTimeoutSeconds(1);
+
+        PropagationBulkhead bulkhead = new PropagationBulkhead("resource", props);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            Runnable batch = () -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+
+            bulkhead.submit(batch, 1, executor);
+            bulkhead.submit(batch, 1, executor);
+
+            assertThrows(RejectedExecutionException.class, () -> bulkhead.submit(batch, 1, executor));
+
+            latch.countDown();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> bulkhead.getInFlight() == 0);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void runAllWhenBlockingOnFullQueue() throws InterruptedException {
+        PropagationBulkheadProperties props = new PropagationBulkheadProperties();
+        props.setMaxInFlight(2);
+        props.setQueueDepth(3);
+        props.setPolicy(PropagationBulkheadProperties.Policy.BLOCK);
+        props.setBlockTimeoutSeconds(30);
+
+        PropagationBulkhead bulkhead = new PropagationBulkhead("resource", props);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        ExecutorService submitters = Executors.newFixedThreadPool(8);
+        try {
+            int count = 2000;
+            AtomicInteger completed = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+
+            // submitters keep the queue at its depth, hence block while workers drain it and release their slots
+            for (int i = 0; i < count; i++) {
+                submitters.execute(() -> {
+                    try {
+                        bulkhead.submit(completed::incrementAndGet, 1, executor);
+                    } catch (RejectedExecutionException e) {
+                        rejected.incrementAndGet();
+                    }
+                });
+            }
+
+            submitters.shutdown();
+            assertTrue(submitters.awaitTermination(60, TimeUnit.SECONDS));
+            assertEquals(0, rejected.get());
+
+            await().atMost(30, TimeUnit.SECONDS).until(() -> completed.get() == count);
+            await().atMost(10, TimeUnit.SECONDS).until(() -> bulkhead.getInFlight() == 0);
+            assertEquals(0, bulkhead.getQueued());
+        } finally {
+            submitters.shutdownNow();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void releaseOnError() {
+        PropagationBulkheadProperties props = new PropagationBulkheadProperties();
+        props.setMaxInFlight(1);
+        props.setQueueDepth(3);
+        props.setPolicy(PropagationBulkheadProperties.Policy.REJECT);
+
+        PropagationBulkhead bulkhead = new PropagationBulkhead("resource", props);
+
+        ExecutorService executor = Executors.newCachedThreadPool();
+        try {
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger completed = new AtomicInteger();
+
+            bulkhead.submit(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new StackOverflowError();
+            }, 1, executor);
+            bulkhead.submit(completed::incrementAndGet, 1, executor);
+            bulkhead.submit(completed::incrementAndGet, 1, executor);
+            assertEquals(2, bulkhead.getQueued());
+
+            latch.countDown();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> completed.get() == 2);
+            await().atMost(10, TimeUnit.SECONDS).until(() -> bulkhead.getInFlight() == 0);
+            assertEquals(0, bulkhead.getQueued());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void rejectOnHandOverFailure() {
+        PropagationBulkheadProperties props = new PropagationBulkheadProperties();
+        props.setMaxInFlight(1);
+        props.setQueueDepth(3);
+        props.setPolicy(PropagationBulkheadProperties.Policy.REJECT);
+
+        PropagationBulkhead bulkhead = new PropagationBulkhead("resource", props);
+
+        ExecutorService delegate = Executors.newCachedThreadPool();
+        try {
+            // accepts the first batch only
+            AtomicInteger executions = new AtomicInteger();
+            Executor executor = command -> {
+                if (executions.incrementAndGet() > 1) {
+                    throw new RejectedExecutionException("Executor saturated");
+                }
+                delegate.execute(command);
+            };
+
+            CountDownLatch latch = new CountDownLatch(1);
+            AtomicInteger completed = new AtomicInteger();
+            List<RuntimeException> rejected = new CopyOnWriteArrayList<>();
+
+            bulkhead.submit(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new StackOverflowError();
+            }, 1, executor, rejected::add);
+            bulkhead.submit(completed::incrementAndGet, 1, executor, rejected::add);
+            bulkhead.submit(completed::incrementAndGet, 1, executor, rejected::add);
+            assertEquals(2, bulkhead.getQueued());
+
+            latch.countDown();
+            await().atMost(10, TimeUnit.SECONDS).until(() -> rejected.size() == 2);
+            await().atMost(10, TimeUnit.SECONDS).until(() -> bulkhead.getInFlight() == 0);
+            assertEquals(0, bulkhead.getQueued());
+            assertEquals(0, completed.get());
+            assertTrue(rejected.stream().allMatch(RejectedExecutionException.class::isInstance));
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.propagation;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.common.lib.types.ResourceOperation;
+import org.apache.syncope.core.persistence.api.entity.ExternalResource;
+import org.apache.syncope.core.persistence.api.entity.task.PropagationData;
+import org.apache.syncope.core.provisioning.api.propagation.PropagationTaskInfo;
+import org.identityconnectors.framework.common.objects.Attribute;
+import org.identityconnectors.framework.common.objects.AttributeBuilder;
+import org.identityconnectors.framework.common.objects.AttributeDelta;
+import org.identityconnectors.framework.common.objects.AttributeDeltaBuilder;
+import org.identityconnectors.framework.common.objects.AttributeUtil;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.junit.jupiter.api.Test;
+
+public class PropagationTaskCoalescerTest {
+
+    private static PropagationTaskInfo taskInfo(
+            final ExternalResource resource, final ResourceOperation operation, final PropagationData data) {
+
+        return new PropagationTaskInfo(
+                resource, operation, ObjectClass.ACCOUNT, AnyTypeKind.USER, AnyTypeKind.USER.name(),
+                "1417acbe-cbf6-4277-9372-e75e04f97000", "rossini", data);
+    }
+
+    @Test
+    public void mergeAttributes() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-testdb");
+
+        PropagationTaskInfo pending = taskInfo(resource, ResourceOperation.UPDATE, new PropagationData(new HashSet<>(
+                Set.of(AttributeBuilder.build("firstname", "Gioacchino"), AttributeBuilder.build("surname", "R")))));
+        PropagationTaskInfo next = taskInfo(resource, ResourceOperation.UPDATE, new PropagationData(new HashSet<>(
+                Set.of(AttributeBuilder.build("surname", "Rossini")))));
+
+        assertTrue(PropagationTaskCoalescer.merge(pending, next));
+
+        Set<Attribute> attrs = pending.getPropagationData().getAttributes();
+        assertEquals(2, attrs.size());
+        assertEquals("Gioacchino", AttributeUtil.getAsStringValue(AttributeUtil.find("firstname", attrs)));
+        assertEquals("Rossini", AttributeUtil.getAsStringValue(AttributeUtil.find("surname", attrs)));
+
+        assertFalse(PropagationTaskCoalescer.merge(
+                pending, taskInfo(resource, ResourceOperation.DELETE, new PropagationData(Set.of()))));
+    }
+
+    @Test
+    public void mergeDeltas() {
+        ExternalResource resource = mock(ExternalResource.class);
+        when(resource.getKey()).thenReturn("resource-ldap");
+        when(resource.getPropagationActions()).thenReturn(List.of());
+
+        PropagationData pendingData = new PropagationData(Set.of());
+        pendingData.setAttributeDeltas(Set.of(
+                AttributeDeltaBuilder.build("groups", List.of("a", "b"), List.of("c")),
+                AttributeDeltaBuilder.build("mail", "r@syncope.org")));
+        PropagationTaskInfo pending = taskInfo(resource, ResourceOperation.UPDATE, pendingData);
+
+        PropagationData nextData = new PropagationData(Set.of());
+        nextData.setAttributeDeltas(Set.of(AttributeDeltaBuilder.build("groups", List.of("c"), List.of("b"))));
+        PropagationTaskInfo next = taskInfo(resource, ResourceOperation.UPDATE, nextData);
+
+        assertTrue(PropagationTaskCoalescer.merge(pending, next));
+
+        Set<AttributeDelta> deltas = pending.getPropagationData().getAttributeDeltas();
+        assertEquals(2, deltas.size());
+        AttributeDelta groups = deltas.stream().filter(delta -> delta.is("groups")).findFirst().orElseThrow();
+        assertEquals(Set.of("c", "a"), new HashSet<>(groups.getValuesToAdd()));
+        assertEquals(Set.of("b"), new HashSet<>(groups.getValuesToRemove()));
+    }
+}
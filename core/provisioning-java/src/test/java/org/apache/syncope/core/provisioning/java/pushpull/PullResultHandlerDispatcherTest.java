@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.provisioning.java.pushpull;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.syncope.common.lib.types.ConflictResolutionAction;
+import org.apache.syncope.common.lib.types.TaskType;
+import org.apache.syncope.common.lib.types.ThreadPoolSettings;
+import org.apache.syncope.core.persistence.api.entity.task.PullTask;
+import org.apache.syncope.core.provisioning.api.pushpull.ProvisioningProfile;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullExecutor;
+import org.apache.syncope.core.provisioning.api.pushpull.SyncopePullResultHandler;
+import org.identityconnectors.framework.common.objects.ConnectorObjectBuilder;
+import org.identityconnectors.framework.common.objects.ObjectClass;
+import org.identityconnectors.framework.common.objects.SyncDelta;
+import org.identityconnectors.framework.common.objects.SyncDeltaBuilder;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.identityconnectors.framework.common.objects.SyncToken;
+import org.identityconnectors.framework.common.objects.Uid;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+public class PullResultHandlerDispatcherTest {
+
+    private static PullResultHandlerDispatcher dispatcher(
+            final int poolSize,
+            final SyncopePullExecutor executor,
+            final SyncopePullResultHandler handler) {
+
+        ThreadPoolSettings concurrentSettings = new ThreadPoolSettings();
+        concurrentSettings.setPoolSize(poolSize);
+
+        PullTask task = mock(PullTask.class);
+        when(task.getKey()).thenReturn("pullTask");
+        when(task.getConcurrentSettings()).thenReturn(concurrentSettings);
+
+        PullResultHandlerDispatcher dispatcher = new PullResultHandlerDispatcher().init(
+                new ProvisioningProfile<>(
+                        null, TaskType.PULL, task, ConflictResolutionAction.IGNORE, List.of(), "admin", false),
+                executor);
+        dispatcher.addHandlerSupplier(ObjectClass.ACCOUNT_NAME, () -> handler);
+        return dispatcher;
+    }
+
+    private static SyncDelta delta(final String uid, final int token) {
+        return new SyncDeltaBuilder().
+                setToken(new SyncToken(token)).
+                setDeltaType(SyncDeltaType.CREATE_OR_UPDATE).
+                setUid(new Uid(uid)).
+                setObject(new ConnectorObjectBuilder().
+                        setObjectClass(ObjectClass.ACCOUNT).setUid(uid).setName(uid + token).build()).
+                build();
+    }
+
+    private static List<Object> latestSyncTokens(final SyncopePullExecutor executor, final int times) {
+        ArgumentCaptor<SyncToken> syncToken = ArgumentCaptor.forClass(SyncToken.class);
+        verify(executor, times(times)).setLatestSyncToken(eq(ObjectClass.ACCOUNT_NAME), syncToken.capture());
+        return syncToken.getAllValues().stream().map(SyncToken::getValue).toList();
+    }
+
+    @Test
+    public void keyOrdering() {
+        Map<String, List<Integer>> handled = new ConcurrentHashMap<>();
+        SyncopePullResultHandler handler = mock(SyncopePullResultHandler.class);
+        when(handler.handle(any())).thenAnswer(ic -> {
+            SyncDelta delta = ic.getArgument(0);
+            Thread.sleep(delta.getToken().getValue().hashCode() % 3);
+            handled.computeIfAbsent(delta.getUid().getUidValue(), k -> new CopyOnWriteArrayList<>()).
+                    add((Integer) delta.getToken().getValue());
+            return true;
+        });
+        SyncopePullExecutor executor = mock(SyncopePullExecutor.class);
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(4, executor, handler);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int token = 1; token <= 60; token++) {
+            assertTrue(dispatcher.handle(delta("uid" + (token % 6), token)));
+            expected.add(token);
+        }
+        dispatcher.shutdown();
+
+        // deltas with the same key are handled in submission order...
+        assertEquals(6, handled.size());
+        handled.forEach((uid, tokens) -> assertEquals(tokens.stream().sorted().toList(), tokens));
+
+        // ...and the sync token is advanced in submission order, up to the last delta
+        assertEquals(expected, latestSyncTokens(executor, 60));
+        verify(executor, times(60)).reportHandled(eq(ObjectClass.ACCOUNT_NAME), any());
+    }
+
+    @Test
+    public void windowBackPressure() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(1);
+        SyncopePullResultHandler handler = mock(SyncopePullResultHandler.class);
+        when(handler.handle(any())).thenAnswer(ic -> {
+            latch.await();
+            return true;
+        });
+        SyncopePullExecutor executor = mock(SyncopePullExecutor.class);
+
+        // a single lane, hence a window of 4 deltas in flight
+        PullResultHandlerDispatcher dispatcher = dispatcher(1, executor, handler);
+
+        AtomicInteger submitted = new AtomicInteger();
+        Thread submitter = new Thread(() -> {
+            for (int token = 1; token <= 6; token++) {
+                dispatcher.handle(delta("uid" + token, token));
+                submitted.incrementAndGet();
+            }
+        });
+        submitter.start();
+
+        // submission blocks until room is available...
+        await().atMost(10, TimeUnit.SECONDS).until(() -> submitted.get() == 4
+                && submitter.getState() == Thread.State.WAITING);
+        assertEquals(0, dispatcher.inFlight.availablePermits());
+        verify(executor, never()).setLatestSyncToken(any(), any());
+
+        // ...then resumes as soon as deltas are handled
+        latch.countDown();
+        submitter.join(TimeUnit.SECONDS.toMillis(10));
+        assertEquals(6, submitted.get());
+
+        dispatcher.shutdown();
+        assertEquals(List.of(1, 2, 3, 4, 5, 6), latestSyncTokens(executor, 6));
+    }
+
+    @Test
+    public void errorPropagation() {
+        SyncopePullResultHandler handler = mock(SyncopePullResultHandler.class);
+        when(handler.handle(any())).thenAnswer(ic -> {
+            SyncDelta delta = ic.getArgument(0);
+            return switch ((Integer) delta.getToken().getValue()) {
+                case 2 ->
+                    throw new IllegalStateException("Unexpected failure");
+                case 3 ->
+                    false;
+                default ->
+                    true;
+            };
+        });
+        SyncopePullExecutor executor = mock(SyncopePullExecutor.class);
+
+        PullResultHandlerDispatcher dispatcher = dispatcher(2, executor, handler);
+
+        // failures are not reported to the caller, as deltas are handled asynchronously...
+        for (int token = 1; token <= 4; token++) {
+            assertTrue(dispatcher.handle(delta("uid", token)));
+        }
+        dispatcher.awaitCompletion();
+
+        // ...but the sync token is not advanced past the first failure
+        assertEquals(List.of(1), latestSyncTokens(executor, 1));
+
+        // once all deltas were handled, the sync token can advance again
+        assertTrue(dispatcher.handle(delta("uid", 5)));
+        dispatcher.shutdown();
+        assertEquals(List.of(1, 5), latestSyncTokens(executor, 2));
+
+        // deltas which cannot be submitted are reported to the caller
+        assertFalse(dispatcher.handle(delta("uid", 6)));
+        assertTrue(dispatcher.pendingSyncTokens.isEmpty());
+        verify(handler, times(5)).handle(any());
+    }
+}
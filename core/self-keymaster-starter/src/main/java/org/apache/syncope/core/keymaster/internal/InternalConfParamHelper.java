@@ -20,14 +20,18 @@ package org.apache.syncope.core.keymaster.internal;
 
 import java.util.Map;
 import java.util.TreeMap;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.keymaster.ConfParamDAO;
 import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.apache.syncope.core.persistence.api.entity.keymaster.ConfParam;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import tools.jackson.core.JacksonException;
 import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.json.JsonMapper;
@@ -42,9 +46,32 @@ public class InternalConfParamHelper {
 
     protected final EntityFactory entityFactory;
 
-    public InternalConfParamHelper(final ConfParamDAO confParamDAO, final EntityFactory entityFactory) {
+    protected final ConfParamCache cache;
+
+    public InternalConfParamHelper(
+            final ConfParamDAO confParamDAO,
+            final EntityFactory entityFactory,
+            final ConfParamCache cache) {
+
         this.confParamDAO = confParamDAO;
         this.entityFactory = entityFactory;
+        this.cache = cache;
+    }
+
+    protected void invalidate(final String key) {
+        String domain = AuthContextUtils.getDomain();
+        cache.invalidate(domain, key);
+
+        // invalidate again after commit, to prevent any value read meanwhile from missing the change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(domain, key);
+                }
+            });
+        }
     }
 
     @Transactional(readOnly = true)
@@ -78,10 +105,12 @@ public class InternalConfParamHelper {
         }
         param.setValue(value);
         confParamDAO.save(param);
+        invalidate(key);
     }
 
     @Transactional
     public void remove(final String key) {
         confParamDAO.deleteById(key);
+        invalidate(key);
     }
 }
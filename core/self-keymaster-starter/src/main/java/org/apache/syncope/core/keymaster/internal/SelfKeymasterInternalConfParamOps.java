@@ -19,8 +19,11 @@
 package org.apache.syncope.core.keymaster.internal;
 
 import java.util.Map;
+import java.util.Optional;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.lib.jackson.SyncopeJsonMapper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.transaction.annotation.Transactional;
@@ -36,8 +39,11 @@ public class SelfKeymasterInternalConfParamOps implements ConfParamOps {
 
     protected final InternalConfParamHelper helper;
 
-    public SelfKeymasterInternalConfParamOps(final InternalConfParamHelper helper) {
+    protected final ConfParamCache cache;
+
+    public SelfKeymasterInternalConfParamOps(final InternalConfParamHelper helper, final ConfParamCache cache) {
         this.helper = helper;
+        this.cache = cache;
     }
 
     @Transactional(readOnly = true)
@@ -46,10 +52,10 @@ public class SelfKeymasterInternalConfParamOps implements ConfParamOps {
         return helper.list();
     }
 
-    @Transactional(readOnly = true)
     @Override
     public <T> T get(final String domain, final String key, final T defaultValue, final Class<T> reference) {
-        JsonNode valueNode = helper.get(key);
+        // values are read from the current domain, regardless of the given one
+        JsonNode valueNode = cache.get(AuthContextUtils.getDomain(), key, () -> helper.get(key));
         if (valueNode == null) {
             return defaultValue;
         }
@@ -77,4 +83,9 @@ public class SelfKeymasterInternalConfParamOps implements ConfParamOps {
     public void remove(final String domain, final String key) {
         helper.remove(key);
     }
+
+    @Override
+    public Optional<ConfParamCache> getCache() {
+        return Optional.of(cache);
+    }
 }
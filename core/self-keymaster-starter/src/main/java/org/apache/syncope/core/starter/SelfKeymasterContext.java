@@ -41,6 +41,7 @@ import org.apache.cxf.jaxrs.utils.JAXRSUtils;
 import org.apache.cxf.jaxrs.validation.JAXRSBeanValidationInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPInInterceptor;
 import org.apache.cxf.transport.common.gzip.GZIPOutInterceptor;
+import org.apache.syncope.common.keymaster.client.api.ConfParamCache;
 import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.common.keymaster.client.api.DomainOps;
 import org.apache.syncope.common.keymaster.client.api.DomainWatcher;
@@ -236,17 +237,26 @@ public class SelfKeymasterContext {
                 encryptorManager);
     }
 
+    @Bean
+    public ConfParamCache internalConfParamCache(final KeymasterProperties keymasterProperties) {
+        return new ConfParamCache(keymasterProperties.getConfParamCacheSeconds());
+    }
+
     @Bean
     public InternalConfParamHelper internalConfParamHelper(
             final ConfParamDAO confParamDAO,
-            final EntityFactory entityFactory) {
+            final EntityFactory entityFactory,
+            final ConfParamCache internalConfParamCache) {
 
-        return new InternalConfParamHelper(confParamDAO, entityFactory);
+        return new InternalConfParamHelper(confParamDAO, entityFactory, internalConfParamCache);
     }
 
     @Bean
-    public ConfParamOps internalConfParamOps(final InternalConfParamHelper helper) {
-        return new SelfKeymasterInternalConfParamOps(helper);
+    public ConfParamOps internalConfParamOps(
+            final InternalConfParamHelper helper,
+            final ConfParamCache internalConfParamCache) {
+
+        return new SelfKeymasterInternalConfParamOps(helper, internalConfParamCache);
     }
 
     @Bean
@@ -167,6 +167,8 @@ public class AuthDataAccessor {
 
     protected final MappingManager mappingManager;
 
+    protected final JWTAuthCache jwtAuthCache;
+
     private final List<JWTSSOProvider> jwtSSOProviders;
 
     public AuthDataAccessor(
@@ -184,6 +186,7 @@ public class AuthDataAccessor {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final JWTAuthCache jwtAuthCache,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         this.securityProperties = securityProperties;
@@ -200,6 +203,7 @@ public class AuthDataAccessor {
         this.connectorManager = connectorManager;
         this.auditManager = auditManager;
         this.mappingManager = mappingManager;
+        this.jwtAuthCache = jwtAuthCache;
         this.jwtSSOProviders = jwtSSOProviders;
     }
 
@@ -464,9 +468,34 @@ public class AuthDataAccessor {
         return authorities;
     }
 
+    protected static boolean isCacheable(final JWTAuthentication authentication) {
+        return authentication.getDetails().getDelegatedBy() == null
+                && authentication.getClaims().getJWTID() != null
+                && authentication.getClaims().getExpirationTime() != null;
+    }
+
+    /**
+     * Looks up the given JWT among the ones recently resolved by {@link #authenticate(JWTAuthentication)}, without
+     * accessing the persistence layer.
+     *
+     * @param authentication JWT authentication
+     * @return cached authentication result, if available
+     */
+    public Optional<JWTAuthResult> authenticateCached(final JWTAuthentication authentication) {
+        return isCacheable(authentication)
+                ? jwtAuthCache.get(
+                        authentication.getDetails().getDomain(),
+                        authentication.getClaims().getIssuer(),
+                        authentication.getClaims().getJWTID())
+                : Optional.empty();
+    }
+
     @Transactional
     public JWTAuthResult authenticate(final JWTAuthentication authentication) {
+        long cacheVersion = jwtAuthCache.version();
+
         String username;
+        String userKey = null;
         Set<SyncopeGrantedAuthority> authorities;
 
         if (securityProperties.getAdminUser().equals(authentication.getClaims().getSubject())) {
@@ -484,6 +513,7 @@ public class AuthDataAccessor {
                     + " for JWT " + authentication.getClaims().getJWTID()));
 
             User user = resolved.user();
+            userKey = user.getKey();
             String delegationKey = getDelegationKey(authentication.getDetails(), user.getKey());
             username = user.getUsername();
             authorities = resolved.authorities() == null
@@ -514,12 +544,24 @@ public class AuthDataAccessor {
             }
         }
 
-        return new JWTAuthResult(username, authorities);
+        JWTAuthResult result = new JWTAuthResult(username, authorities);
+        if (isCacheable(authentication)) {
+            jwtAuthCache.put(
+                    cacheVersion,
+                    authentication.getDetails().getDomain(),
+                    authentication.getClaims().getIssuer(),
+                    authentication.getClaims().getJWTID(),
+                    authentication.getClaims().getExpirationTime().getTime(),
+                    userKey,
+                    result);
+        }
+        return result;
     }
 
     @Transactional
     public void removeExpired(final String tokenKey) {
         accessTokenDAO.deleteById(tokenKey);
+        jwtAuthCache.evictToken(AuthContextUtils.getDomain(), tokenKey);
     }
 
     @Transactional(readOnly = true)
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Node-local, bounded cache of resolved JWT authentications, keyed by domain and JWT id.
+ * Entries are used until the earliest between token expiration and the configured max age, and are evicted as soon as
+ * the owning user or the access token change.
+ */
+public class JWTAuthCache {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(JWTAuthCache.class);
+
+    protected record Key(String domain, String jwtId) {
+
+    }
+
+    protected record UserRef(String domain, String userKey) {
+
+    }
+
+    protected record Entry(String issuer, AuthDataAccessor.JWTAuthResult result, UserRef user, long expiresAt) {
+
+    }
+
+    protected final int size;
+
+    protected final long maxAgeMillis;
+
+    protected final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    protected final Map<UserRef, Set<String>> jwtIdsByUser = new ConcurrentHashMap<>();
+
+    protected final AtomicLong version = new AtomicLong();
+
+    public JWTAuthCache(final SecurityProperties.JWTAuthCacheProperties props) {
+        this.size = props.getSize();
+        this.maxAgeMillis = props.getMaxAgeSeconds() * 1000;
+    }
+
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    /**
+     * To be read before resolving a JWT authentication, then passed to {@link #put}: any eviction occurring in the
+     * meantime prevents the resolved value from being cached.
+     *
+     * @return current version
+     */
+    public long version() {
+        return version.get();
+    }
+
+    public Optional<AuthDataAccessor.JWTAuthResult> get(final String domain, final String issuer, final String jwtId) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+
+        Key key = new Key(domain, jwtId);
+        Entry entry = entries.get(key);
+        if (entry == null || !entry.issuer().equals(issuer)) {
+            return Optional.empty();
+        }
+        if (entry.expiresAt() < System.currentTimeMillis()) {
+            discard(key, entry);
+            return Optional.empty();
+        }
+        return Optional.of(entry.result());
+    }
+
+    public void put(
+            final long version,
+            final String domain,
+            final String issuer,
+            final String jwtId,
+            final long expiresAt,
+            final String userKey,
+            final AuthDataAccessor.JWTAuthResult result) {
+
+        if (!isEnabled()) {
+            return;
+        }
+
+        if (entries.size() >= size) {
+            long now = System.currentTimeMillis();
+            entries.entrySet().stream().filter(e -> e.getValue().expiresAt() < now).toList().
+                    forEach(e -> discard(e.getKey(), e.getValue()));
+            if (entries.size() >= size) {
+                LOG.debug("Cache full, not caching JWT {}", jwtId);
+                return;
+            }
+        }
+
+        UserRef user = Optional.ofNullable(userKey).map(k -> new UserRef(domain, k)).orElse(null);
+        if (user != null) {
+            jwtIdsByUser.compute(user, (k, jwtIds) -> {
+                Set<String> ids = jwtIds == null ? ConcurrentHashMap.newKeySet() : jwtIds;
+                ids.add(jwtId);
+                return ids;
+            });
+        }
+        entries.put(
+                new Key(domain, jwtId),
+                new Entry(issuer, result, user, Math.min(expiresAt, System.currentTimeMillis() + maxAgeMillis)));
+
+        // do not keep what was resolved if anything was evicted meanwhile
+        if (version != this.version.get()) {
+            Key key = new Key(domain, jwtId);
+            Optional.ofNullable(entries.get(key)).ifPresent(entry -> discard(key, entry));
+        }
+    }
+
+    protected void discard(final Key key, final Entry entry) {
+        if (entries.remove(key, entry) && entry.user() != null) {
+            jwtIdsByUser.computeIfPresent(entry.user(), (user, jwtIds) -> {
+                jwtIds.remove(key.jwtId());
+                return jwtIds.isEmpty() ? null : jwtIds;
+            });
+        }
+    }
+
+    protected void doEvictToken(final String domain, final String jwtId) {
+        version.incrementAndGet();
+        Key key = new Key(domain, jwtId);
+        Optional.ofNullable(entries.get(key)).ifPresent(entry -> discard(key, entry));
+    }
+
+    protected void doEvictUser(final String domain, final String userKey) {
+        version.incrementAndGet();
+        Optional.ofNullable(jwtIdsByUser.remove(new UserRef(domain, userKey))).
+                ifPresent(ids -> ids.forEach(jwtId -> entries.remove(new Key(domain, jwtId))));
+    }
+
+    protected void afterCommit(final Runnable eviction) {
+        eviction.run();
+
+        // evict again after commit, to prevent any value resolved meanwhile from missing the change
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+                @Override
+                public void afterCommit() {
+                    eviction.run();
+                }
+            });
+        }
+    }
+
+    /**
+     * Evicts the cached authentication for the given access token, if any; to be invoked whenever an access token is
+     * updated or removed.
+     *
+     * @param domain domain
+     * @param jwtId access token key
+     */
+    public void evictToken(final String domain, final String jwtId) {
+        if (isEnabled()) {
+            afterCommit(() -> doEvictToken(domain, jwtId));
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void entity(final EntityLifecycleEvent<Entity> event) {
+        if (isEnabled() && event.getEntity() instanceof User user) {
+            LOG.debug("Evicting cached JWT authentications for User {}", user.getKey());
+            doEvictUser(event.getDomain(), user.getKey());
+        }
+    }
+}
@@ -120,7 +120,8 @@ public class JWTAuthenticationFilter extends BasicAuthenticationFilter {
                     new JWTAuthentication(claims, authenticationDetailsSource.buildDetails(request));
             jwtAuthentication.setAuthenticated(true);
             AuthContextUtils.runAsAdmin(jwtAuthentication.getDetails().getDomain(), () -> {
-                AuthDataAccessor.JWTAuthResult authResult = dataAccessor.authenticate(jwtAuthentication);
+                AuthDataAccessor.JWTAuthResult authResult = dataAccessor.authenticateCached(jwtAuthentication).
+                        orElseGet(() -> dataAccessor.authenticate(jwtAuthentication));
                 jwtAuthentication.setUsername(authResult.username());
                 jwtAuthentication.getAuthorities().addAll(authResult.authorities());
             });
@@ -139,6 +139,12 @@ public class SecurityContext {
         return new SyncopeJWTSSOProvider(props, encryptorManager, accessTokenJWSVerifier, userDAO, accessTokenDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public JWTAuthCache jwtAuthCache(final SecurityProperties props) {
+        return new JWTAuthCache(props.getJwtAuthCache());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public PasswordGenerator passwordGenerator() {
@@ -82,6 +82,36 @@ public class SecurityProperties {
         }
     }
 
+    public static class JWTAuthCacheProperties {
+
+        /**
+         * Maximum number of resolved JWT authentications to keep in memory, per node; 0 disables caching.
+         */
+        private int size = 10000;
+
+        /**
+         * Maximum time, in seconds, a cached JWT authentication is used before being resolved again, regardless of
+         * token expiration; bounds staleness of changes made on other nodes.
+         */
+        private long maxAgeSeconds = 60;
+
+        public int getSize() {
+            return size;
+        }
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+
+        public long getMaxAgeSeconds() {
+            return maxAgeSeconds;
+        }
+
+        public void setMaxAgeSeconds(final long maxAgeSeconds) {
+            this.maxAgeSeconds = maxAgeSeconds;
+        }
+    }
+
     private String adminUser;
 
     private String adminPassword;
@@ -104,6 +134,8 @@ public class SecurityProperties {
 
     private final DigesterProperties digester = new DigesterProperties();
 
+    private final JWTAuthCacheProperties jwtAuthCache = new JWTAuthCacheProperties();
+
     public String getAdminUser() {
         return adminUser;
     }
@@ -187,4 +219,8 @@ public class SecurityProperties {
     public DigesterProperties getDigester() {
         return digester;
     }
+
+    public JWTAuthCacheProperties getJwtAuthCache() {
+        return jwtAuthCache;
+    }
 }
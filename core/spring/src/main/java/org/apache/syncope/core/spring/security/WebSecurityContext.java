@@ -159,6 +159,7 @@ public class WebSecurityContext {
             final ConnectorManager connectorManager,
             final AuditManager auditManager,
             final MappingManager mappingManager,
+            final JWTAuthCache jwtAuthCache,
             final List<JWTSSOProvider> jwtSSOProviders) {
 
         return new AuthDataAccessor(
@@ -176,6 +177,7 @@ public class WebSecurityContext {
                 connectorManager,
                 auditManager,
                 mappingManager,
+                jwtAuthCache,
                 jwtSSOProviders);
     }
 }
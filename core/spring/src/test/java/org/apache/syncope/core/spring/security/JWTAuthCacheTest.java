@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.core.spring.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Set;
+import org.apache.syncope.common.lib.SyncopeConstants;
+import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.user.User;
+import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.identityconnectors.framework.common.objects.SyncDeltaType;
+import org.junit.jupiter.api.Test;
+
+public class JWTAuthCacheTest {
+
+    private static final String ISSUER = "ApacheSyncope";
+
+    private static final AuthDataAccessor.JWTAuthResult RESULT = new AuthDataAccessor.JWTAuthResult(
+            "rossini", Set.of(new SyncopeGrantedAuthority("USER_READ", SyncopeConstants.ROOT_REALM)));
+
+    private static JWTAuthCache cache(final int size) {
+        SecurityProperties.JWTAuthCacheProperties props = new SecurityProperties.JWTAuthCacheProperties();
+        props.setSize(size);
+        return new JWTAuthCache(props);
+    }
+
+    private static long inOneHour() {
+        return System.currentTimeMillis() + 3600000L;
+    }
+
+    @Test
+    public void putAndGet() {
+        JWTAuthCache cache = cache(10);
+
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1", inOneHour(), "user1", RESULT);
+        assertEquals(RESULT, cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1").orElseThrow());
+
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, "other", "jwt1").isEmpty());
+        assertTrue(cache.get("Two", ISSUER, "jwt1").isEmpty());
+
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2",
+                System.currentTimeMillis() - 1, "user1", RESULT);
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2").isEmpty());
+    }
+
+    @Test
+    public void evict() {
+        JWTAuthCache cache = cache(10);
+
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1", inOneHour(), "user1", RESULT);
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2", inOneHour(), "user2", RESULT);
+
+        cache.evictToken(SyncopeConstants.MASTER_DOMAIN, "jwt1");
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1").isEmpty());
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2").isPresent());
+
+        User user = mock(User.class);
+        when(user.getKey()).thenReturn("user2");
+        cache.entity(new EntityLifecycleEvent<Entity>(
+                this, SyncDeltaType.UPDATE, user, SyncopeConstants.MASTER_DOMAIN));
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2").isEmpty());
+    }
+
+    @Test
+    public void staleVersion() {
+        JWTAuthCache cache = cache(10);
+
+        long version = cache.version();
+        cache.evictToken(SyncopeConstants.MASTER_DOMAIN, "jwt0");
+        cache.put(version, SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1", inOneHour(), "user1", RESULT);
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1").isEmpty());
+    }
+
+    @Test
+    public void bounded() {
+        JWTAuthCache cache = cache(1);
+
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1", inOneHour(), "user1", RESULT);
+        cache.put(cache.version(), SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2", inOneHour(), "user2", RESULT);
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt1").isPresent());
+        assertTrue(cache.get(SyncopeConstants.MASTER_DOMAIN, ISSUER, "jwt2").isEmpty());
+    }
+}
@@ -24,7 +24,9 @@ import java.util.Objects;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.identityconnectors.common.CollectionUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -65,24 +67,48 @@ public class ElasticsearchClientContext {
         return new ElasticsearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public ElasticsearchIndexOutboxProcessor elasticsearchIndexOutboxProcessor(
+            final ElasticsearchProperties props,
+            final ElasticsearchClient client,
+            final @Lazy IndexOutboxDAO indexOutboxDAO) {
+
+        return new ElasticsearchIndexOutboxProcessor(
+                client,
+                indexOutboxDAO,
+                props.getOutboxBatchSize(),
+                props.getOutboxPollInterval(),
+                props.getOutboxMaxAttempts());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public ElasticsearchIndexManager elasticsearchIndexManager(
             final ElasticsearchProperties props,
             final ElasticsearchClient client,
-            final ElasticsearchUtils elasticsearchUtils) {
+            final ElasticsearchUtils elasticsearchUtils,
+            final @Lazy IndexOutboxDAO indexOutboxDAO,
+            final @Lazy EntityFactory entityFactory,
+            final ElasticsearchIndexOutboxProcessor outboxProcessor) {
 
         return new ElasticsearchIndexManager(
                 client,
                 elasticsearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                indexOutboxDAO,
+                entityFactory,
+                outboxProcessor);
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public ElasticsearchIndexLoader elasticsearchIndexLoader(final ElasticsearchIndexManager indexManager) {
-        return new ElasticsearchIndexLoader(indexManager);
+    public ElasticsearchIndexLoader elasticsearchIndexLoader(
+            final ElasticsearchIndexManager indexManager,
+            final ElasticsearchIndexOutboxProcessor outboxProcessor) {
+
+        return new ElasticsearchIndexLoader(indexManager, outboxProcessor);
     }
 
     @ConditionalOnMissingBean(name = "syncopeElasticsearchHealthContributor")
@@ -30,8 +30,14 @@ public class ElasticsearchIndexLoader implements SyncopeCoreLoader {
 
     protected final ElasticsearchIndexManager indexManager;
 
-    public ElasticsearchIndexLoader(final ElasticsearchIndexManager indexManager) {
+    protected final ElasticsearchIndexOutboxProcessor outboxProcessor;
+
+    public ElasticsearchIndexLoader(
+            final ElasticsearchIndexManager indexManager,
+            final ElasticsearchIndexOutboxProcessor outboxProcessor) {
+
         this.indexManager = indexManager;
+        this.outboxProcessor = outboxProcessor;
     }
 
     @Override
@@ -67,5 +73,12 @@ public class ElasticsearchIndexLoader implements SyncopeCoreLoader {
         } catch (Exception e) {
             LOG.error("While creating indexes for domain {}", domain, e);
         }
+
+        outboxProcessor.register(domain);
+    }
+
+    @Override
+    public void unload(final String domain) {
+        outboxProcessor.unregister(domain);
     }
 }
@@ -26,34 +26,51 @@ import co.elastic.clients.elasticsearch._types.mapping.KeywordProperty;
 import co.elastic.clients.elasticsearch._types.mapping.Property;
 import co.elastic.clients.elasticsearch._types.mapping.TextProperty;
 import co.elastic.clients.elasticsearch._types.mapping.TypeMapping;
+import co.elastic.clients.elasticsearch.core.BulkRequest;
+import co.elastic.clients.elasticsearch.core.BulkResponse;
 import co.elastic.clients.elasticsearch.core.DeleteRequest;
 import co.elastic.clients.elasticsearch.core.DeleteResponse;
 import co.elastic.clients.elasticsearch.core.IndexRequest;
 import co.elastic.clients.elasticsearch.core.IndexResponse;
+import co.elastic.clients.elasticsearch.core.bulk.BulkResponseItem;
 import co.elastic.clients.elasticsearch.indices.CreateIndexRequest;
 import co.elastic.clients.elasticsearch.indices.CreateIndexResponse;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexRequest;
 import co.elastic.clients.elasticsearch.indices.DeleteIndexResponse;
+import co.elastic.clients.elasticsearch.indices.ExistsAliasRequest;
 import co.elastic.clients.elasticsearch.indices.ExistsRequest;
+import co.elastic.clients.elasticsearch.indices.GetAliasRequest;
 import co.elastic.clients.elasticsearch.indices.IndexSettings;
 import co.elastic.clients.elasticsearch.indices.IndexSettingsAnalysis;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesRequest;
+import co.elastic.clients.elasticsearch.indices.UpdateAliasesResponse;
 import co.elastic.clients.util.NamedValue;
 import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent.
+ * Listen to any create / update and delete in order to keep the Elasticsearch indexes consistent: any changes are
+ * recorded in the outbox and sent asynchronously by {@link ElasticsearchIndexOutboxProcessor}, realm changes are sent
+ * synchronously after commit.
  */
 public class ElasticsearchIndexManager {
 
@@ -67,16 +84,28 @@ public class ElasticsearchIndexManager {
 
     protected final String numberOfReplicas;
 
+    protected final IndexOutboxDAO indexOutboxDAO;
+
+    protected final EntityFactory entityFactory;
+
+    protected final ElasticsearchIndexOutboxProcessor outboxProcessor;
+
     public ElasticsearchIndexManager(
             final ElasticsearchClient client,
             final ElasticsearchUtils elasticsearchUtils,
             final String numberOfShards,
-            final String numberOfReplicas) {
+            final String numberOfReplicas,
+            final IndexOutboxDAO indexOutboxDAO,
+            final EntityFactory entityFactory,
+            final ElasticsearchIndexOutboxProcessor outboxProcessor) {
 
         this.client = client;
         this.elasticsearchUtils = elasticsearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.indexOutboxDAO = indexOutboxDAO;
+        this.entityFactory = entityFactory;
+        this.outboxProcessor = outboxProcessor;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -97,6 +126,59 @@ public class ElasticsearchIndexManager {
                 value();
     }
 
+    /**
+     * Returns the indexes behind the given name, which is either an alias or an index.
+     *
+     * @param name alias or index name
+     * @return the indexes behind the given alias, or the given name itself
+     * @throws IOException in case of communication errors
+     */
+    public List<String> resolve(final String name) throws IOException {
+        if (client.indices().existsAlias(new ExistsAliasRequest.Builder().name(name).build()).value()) {
+            return List.copyOf(client.indices().getAlias(new GetAliasRequest.Builder().name(name).build()).
+                    result().keySet());
+        }
+        return List.of(name);
+    }
+
+    public void createIndex(final String index, final IndexSettings settings, final TypeMapping mappings)
+            throws IOException {
+
+        CreateIndexResponse response = client.indices().create(
+                new CreateIndexRequest.Builder().
+                        index(index).
+                        settings(settings).
+                        mappings(mappings).
+                        build());
+        LOG.debug("Successfully created {}: {}", index, response);
+    }
+
+    public void removeIndex(final String index) throws IOException {
+        DeleteIndexResponse response = client.indices().delete(
+                new DeleteIndexRequest.Builder().index(index).build());
+        LOG.debug("Successfully removed {}: {}", index, response);
+    }
+
+    /**
+     * Atomically makes the given alias point to the given index, removing the indexes previously available under
+     * the same name, either as alias or index.
+     *
+     * @param alias alias
+     * @param index index
+     * @throws IOException in case of communication errors
+     */
+    public void swapAlias(final String alias, final String index) throws IOException {
+        UpdateAliasesRequest.Builder request = new UpdateAliasesRequest.Builder();
+        if (client.indices().exists(new ExistsRequest.Builder().index(alias).build()).value()) {
+            resolve(alias).forEach(previous -> request.actions(action -> action.removeIndex(remove -> remove.
+                    index(previous))));
+        }
+        request.actions(action -> action.add(add -> add.index(index).alias(alias)));
+
+        UpdateAliasesResponse response = client.indices().updateAliases(request.build());
+        LOG.debug("Successfully made {} point to {}: {}", alias, index, response);
+    }
+
     public IndexSettings defaultSettings() {
         return new IndexSettings.Builder().
                 analysis(new IndexSettingsAnalysis.Builder().build()).
@@ -201,7 +283,7 @@ public class ElasticsearchIndexManager {
 
     public void removeAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(ElasticsearchUtils.getAnyIndex(domain, kind)).build());
+                new DeleteIndexRequest.Builder().index(resolve(ElasticsearchUtils.getAnyIndex(domain, kind))).build());
         LOG.debug("Successfully removed {}: {}", ElasticsearchUtils.getAnyIndex(domain, kind), response);
     }
 
@@ -240,7 +322,7 @@ public class ElasticsearchIndexManager {
 
     public void removeRealmIndex(final String domain) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(ElasticsearchUtils.getRealmIndex(domain)).build());
+                new DeleteIndexRequest.Builder().index(resolve(ElasticsearchUtils.getRealmIndex(domain))).build());
         LOG.debug("Successfully removed {}: {}", ElasticsearchUtils.getRealmIndex(domain), response);
     }
 
@@ -279,38 +361,44 @@ public class ElasticsearchIndexManager {
 
     public void removeAuditIndex(final String domain) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(ElasticsearchUtils.getAuditIndex(domain)).build());
+                new DeleteIndexRequest.Builder().index(resolve(ElasticsearchUtils.getAuditIndex(domain))).build());
         LOG.debug("Successfully removed {}: {}", ElasticsearchUtils.getAuditIndex(domain), response);
     }
 
+    /**
+     * Records the index operation for the given any in the outbox, within the same transaction.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void enqueue(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof final Any any) {
+            LOG.debug("About to enqueue {} index for {}", event.getType().name(), any);
+
+            IndexOutboxEntry entry = entityFactory.newEntity(IndexOutboxEntry.class);
+            entry.setIndex(ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind()));
+            entry.setDocumentKey(any.getKey());
+            entry.setDeletion(event.getType() == SyncDeltaType.DELETE);
+            if (!entry.isDeletion()) {
+                entry.setDocument(POJOHelper.serialize(elasticsearchUtils.document(any)));
+            }
+            entry.setCreationDate(OffsetDateTime.now());
+            indexOutboxDAO.save(entry);
+        }
+    }
+
     @TransactionalEventListener
     public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
-            if (event.getType() == SyncDeltaType.DELETE) {
-                DeleteRequest request = new DeleteRequest.Builder().index(
-                        ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        build();
-                DeleteResponse response = client.delete(request);
-                LOG.debug("Index successfully deleted for {}[{}]: {}",
-                        any.getType().getKind(), any.getKey(), response);
-            } else {
-                IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                        index(ElasticsearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        document(elasticsearchUtils.document(any)).
-                        build();
-                IndexResponse response = client.index(request);
-                LOG.debug("Index successfully created or updated for {}: {}", any, response);
-            }
+        if (event.getEntity() instanceof Any) {
+            outboxProcessor.wakeUp();
         } else if (event.getEntity() instanceof Realm realm) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().
                         index(ElasticsearchUtils.getRealmIndex(event.getDomain())).
                         id(realm.getKey()).
-                        refresh(Refresh.True).
+                        refresh(Refresh.WaitFor).
                         build();
                 DeleteResponse response = client.delete(request);
                 LOG.debug("Index successfully deleted for {}: {}", realm, response);
@@ -319,7 +407,7 @@ public class ElasticsearchIndexManager {
                         index(ElasticsearchUtils.getRealmIndex(event.getDomain())).
                         id(realm.getKey()).
                         document(elasticsearchUtils.document(realm)).
-                        refresh(Refresh.True).
+                        refresh(Refresh.WaitFor).
                         build();
                 IndexResponse response = client.index(request);
                 LOG.debug("Index successfully created or updated for {}: {}", realm, response);
@@ -338,4 +426,25 @@ public class ElasticsearchIndexManager {
 
         LOG.debug("Audit successfully created: {}", response);
     }
+
+    public void audit(final String domain, final List<AuditEvent> auditEvents) throws IOException {
+        LOG.debug("About to audit {} events", auditEvents.size());
+
+        String index = ElasticsearchUtils.getAuditIndex(domain);
+
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        auditEvents.forEach(auditEvent -> {
+            Map<String, Object> document = elasticsearchUtils.document(auditEvent);
+            request.operations(op -> op.index(idx -> idx.index(index).document(document)));
+        });
+        BulkResponse response = client.bulk(request.build());
+
+        if (response.errors()) {
+            LOG.error("Errors found while auditing: {}", response.items().stream().
+                    map(BulkResponseItem::error).filter(Objects::nonNull).map(Object::toString).
+                    collect(Collectors.joining(", ")));
+        } else {
+            LOG.debug("{} audit events successfully created", response.items().size());
+        }
+    }
 }
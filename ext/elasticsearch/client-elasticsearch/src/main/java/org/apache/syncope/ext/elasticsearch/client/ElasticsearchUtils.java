@@ -22,12 +22,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
@@ -201,6 +203,30 @@ public class ElasticsearchUtils {
         return builder;
     }
 
+    /**
+     * Returns the documents for the users, groups or any objects with the given keys, all read in the same
+     * transaction.
+     *
+     * @param kind any type kind
+     * @param keys keys of users, groups or any objects to index
+     * @return documents, by key
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Map<String, Object>> documents(final AnyTypeKind kind, final List<String> keys) {
+        AnyDAO<?> anyDAO = switch (kind) {
+            case USER ->
+                userDAO;
+            case GROUP ->
+                groupDAO;
+            default ->
+                anyObjectDAO;
+        };
+
+        Map<String, Map<String, Object>> documents = new LinkedHashMap<>();
+        anyDAO.findByKeys(keys).forEach(any -> documents.put(any.getKey(), document(any)));
+        return documents;
+    }
+
     protected void customizeDocument(final Map<String, Object> builder, final AnyObject anyObject) {
     }
 
@@ -79,6 +79,15 @@ public class ElasticsearchAuditEventDAO implements AuditEventDAO {
         return auditEvent;
     }
 
+    @Override
+    public void saveAll(final List<AuditEvent> auditEvents) {
+        try {
+            indexManager.audit(AuthContextUtils.getDomain(), auditEvents);
+        } catch (Exception e) {
+            throw new IllegalStateException("Could not index audit events", e);
+        }
+    }
+
     protected Query getQuery(
             final String entityKey,
             final OpEvent.CategoryType type,
@@ -52,6 +52,7 @@ import org.apache.syncope.core.provisioning.api.data.AccessTokenDataBinder;
 import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.core.spring.security.AuthDataAccessor;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.pac4j.core.context.CallContext;
 import org.pac4j.core.context.WebContext;
 import org.pac4j.core.credentials.Credentials;
@@ -87,6 +88,8 @@ public class OIDCC4UILogic extends AbstractTransactionalLogic<EntityTO> {
 
     protected final EncryptorManager encryptorManager;
 
+    protected final JWTAuthCache jwtAuthCache;
+
     public OIDCC4UILogic(
             final OIDCClientCache oidcClientCacheLogin,
             final OIDCClientCache oidcClientCacheLogout,
@@ -95,7 +98,8 @@ public class OIDCC4UILogic extends AbstractTransactionalLogic<EntityTO> {
             final OIDCC4UIProviderDAO opDAO,
             final AccessTokenDAO accessTokenDAO,
             final OIDCUserManager userManager,
-            final EncryptorManager encryptorManager) {
+            final EncryptorManager encryptorManager,
+            final JWTAuthCache jwtAuthCache) {
 
         this.oidcClientCacheLogin = oidcClientCacheLogin;
         this.oidcClientCacheLogout = oidcClientCacheLogout;
@@ -105,6 +109,7 @@ public class OIDCC4UILogic extends AbstractTransactionalLogic<EntityTO> {
         this.accessTokenDAO = accessTokenDAO;
         this.userManager = userManager;
         this.encryptorManager = encryptorManager;
+        this.jwtAuthCache = jwtAuthCache;
     }
 
     protected OidcClient getOidcClient(
@@ -360,7 +365,9 @@ public class OIDCC4UILogic extends AbstractTransactionalLogic<EntityTO> {
         });
 
         // 3. delete the JWT
-        accessTokenDAO.deleteById(((SessionKeyCredentials) credentials).getSessionKey());
+        String sessionKey = ((SessionKeyCredentials) credentials).getSessionKey();
+        accessTokenDAO.deleteById(sessionKey);
+        jwtAuthCache.evictToken(AuthContextUtils.getDomain(), sessionKey);
     }
 
     @Override
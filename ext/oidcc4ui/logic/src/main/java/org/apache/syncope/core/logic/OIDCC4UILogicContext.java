@@ -34,6 +34,7 @@ import org.apache.syncope.core.provisioning.api.data.UserDataBinder;
 import org.apache.syncope.core.provisioning.api.jexl.TemplateUtils;
 import org.apache.syncope.core.provisioning.java.pushpull.InboundMatcher;
 import org.apache.syncope.core.spring.security.AuthDataAccessor;
+import org.apache.syncope.core.spring.security.JWTAuthCache;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.context.annotation.Bean;
@@ -93,7 +94,8 @@ public class OIDCC4UILogicContext {
             final OIDCC4UIProviderDAO opDAO,
             final AccessTokenDAO accessTokenDAO,
             final OIDCUserManager userManager,
-            final EncryptorManager encryptorManager) {
+            final EncryptorManager encryptorManager,
+            final JWTAuthCache jwtAuthCache) {
 
         return new OIDCC4UILogic(
                 oidcClientCacheLogin,
@@ -103,7 +105,8 @@ public class OIDCC4UILogicContext {
                 opDAO,
                 accessTokenDAO,
                 userManager,
-                encryptorManager);
+                encryptorManager,
+                jwtAuthCache);
     }
 
     @ConditionalOnMissingBean
@@ -23,7 +23,9 @@ import java.util.Objects;
 import org.apache.hc.core5.http.HttpHost;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
 import org.identityconnectors.common.CollectionUtil;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.slf4j.Logger;
@@ -65,24 +67,48 @@ public class OpenSearchClientContext {
         return new OpenSearchUtils(userDAO, groupDAO, anyObjectDAO);
     }
 
+    @ConditionalOnMissingBean
+    @Bean
+    public OpenSearchIndexOutboxProcessor openSearchIndexOutboxProcessor(
+            final OpenSearchProperties props,
+            final OpenSearchClient client,
+            final @Lazy IndexOutboxDAO indexOutboxDAO) {
+
+        return new OpenSearchIndexOutboxProcessor(
+                client,
+                indexOutboxDAO,
+                props.getOutboxBatchSize(),
+                props.getOutboxPollInterval(),
+                props.getOutboxMaxAttempts());
+    }
+
     @ConditionalOnMissingBean
     @Bean
     public OpenSearchIndexManager openSearchIndexManager(
             final OpenSearchProperties props,
             final OpenSearchClient client,
-            final OpenSearchUtils openSearchUtils) {
+            final OpenSearchUtils openSearchUtils,
+            final @Lazy IndexOutboxDAO indexOutboxDAO,
+            final @Lazy EntityFactory entityFactory,
+            final OpenSearchIndexOutboxProcessor outboxProcessor) {
 
         return new OpenSearchIndexManager(
                 client,
                 openSearchUtils,
                 props.getNumberOfShards(),
-                props.getNumberOfReplicas());
+                props.getNumberOfReplicas(),
+                indexOutboxDAO,
+                entityFactory,
+                outboxProcessor);
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public OpenSearchIndexLoader openSearchIndexLoader(final OpenSearchIndexManager indexManager) {
-        return new OpenSearchIndexLoader(indexManager);
+    public OpenSearchIndexLoader openSearchIndexLoader(
+            final OpenSearchIndexManager indexManager,
+            final OpenSearchIndexOutboxProcessor outboxProcessor) {
+
+        return new OpenSearchIndexLoader(indexManager, outboxProcessor);
     }
 
     @ConditionalOnMissingBean(name = "syncopeOpenSearchHealthContributor")
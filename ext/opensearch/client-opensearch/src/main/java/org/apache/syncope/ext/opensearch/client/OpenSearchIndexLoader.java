@@ -30,8 +30,14 @@ public class OpenSearchIndexLoader implements SyncopeCoreLoader {
 
     protected final OpenSearchIndexManager indexManager;
 
-    public OpenSearchIndexLoader(final OpenSearchIndexManager indexManager) {
+    protected final OpenSearchIndexOutboxProcessor outboxProcessor;
+
+    public OpenSearchIndexLoader(
+            final OpenSearchIndexManager indexManager,
+            final OpenSearchIndexOutboxProcessor outboxProcessor) {
+
         this.indexManager = indexManager;
+        this.outboxProcessor = outboxProcessor;
     }
 
     @Override
@@ -67,5 +73,12 @@ public class OpenSearchIndexLoader implements SyncopeCoreLoader {
         } catch (Exception e) {
             LOG.error("While creating indexes for domain {}", domain, e);
         }
+
+        outboxProcessor.register(domain);
+    }
+
+    @Override
+    public void unload(final String domain) {
+        outboxProcessor.unregister(domain);
     }
 }
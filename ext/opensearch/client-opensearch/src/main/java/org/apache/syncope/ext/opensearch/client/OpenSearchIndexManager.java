@@ -19,14 +19,21 @@
 package org.apache.syncope.ext.opensearch.client;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
 import org.apache.syncope.core.persistence.api.entity.Any;
 import org.apache.syncope.core.persistence.api.entity.AuditEvent;
 import org.apache.syncope.core.persistence.api.entity.Entity;
+import org.apache.syncope.core.persistence.api.entity.EntityFactory;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
 import org.apache.syncope.core.persistence.api.entity.Realm;
 import org.apache.syncope.core.provisioning.api.event.EntityLifecycleEvent;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
 import org.identityconnectors.framework.common.objects.SyncDeltaType;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._types.OpenSearchException;
@@ -36,23 +43,33 @@ import org.opensearch.client.opensearch._types.mapping.KeywordProperty;
 import org.opensearch.client.opensearch._types.mapping.Property;
 import org.opensearch.client.opensearch._types.mapping.TextProperty;
 import org.opensearch.client.opensearch._types.mapping.TypeMapping;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.DeleteRequest;
 import org.opensearch.client.opensearch.core.DeleteResponse;
 import org.opensearch.client.opensearch.core.IndexRequest;
 import org.opensearch.client.opensearch.core.IndexResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.indices.CreateIndexRequest;
 import org.opensearch.client.opensearch.indices.CreateIndexResponse;
 import org.opensearch.client.opensearch.indices.DeleteIndexRequest;
 import org.opensearch.client.opensearch.indices.DeleteIndexResponse;
+import org.opensearch.client.opensearch.indices.ExistsAliasRequest;
 import org.opensearch.client.opensearch.indices.ExistsRequest;
+import org.opensearch.client.opensearch.indices.GetAliasRequest;
 import org.opensearch.client.opensearch.indices.IndexSettings;
 import org.opensearch.client.opensearch.indices.IndexSettingsAnalysis;
+import org.opensearch.client.opensearch.indices.UpdateAliasesRequest;
+import org.opensearch.client.opensearch.indices.UpdateAliasesResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
- * Listen to any create / update and delete in order to keep the OpenSearch indexes consistent.
+ * Listen to any create / update and delete in order to keep the OpenSearch indexes consistent: any changes are
+ * recorded in the outbox and sent asynchronously by {@link OpenSearchIndexOutboxProcessor}, realm changes are sent
+ * synchronously after commit.
  */
 public class OpenSearchIndexManager {
 
@@ -66,16 +83,28 @@ public class OpenSearchIndexManager {
 
     protected final Integer numberOfReplicas;
 
+    protected final IndexOutboxDAO indexOutboxDAO;
+
+    protected final EntityFactory entityFactory;
+
+    protected final OpenSearchIndexOutboxProcessor outboxProcessor;
+
     public OpenSearchIndexManager(
             final OpenSearchClient client,
             final OpenSearchUtils ppenSearchUtils,
             final Integer numberOfShards,
-            final Integer numberOfReplicas) {
+            final Integer numberOfReplicas,
+            final IndexOutboxDAO indexOutboxDAO,
+            final EntityFactory entityFactory,
+            final OpenSearchIndexOutboxProcessor outboxProcessor) {
 
         this.client = client;
         this.openSearchUtils = ppenSearchUtils;
         this.numberOfShards = numberOfShards;
         this.numberOfReplicas = numberOfReplicas;
+        this.indexOutboxDAO = indexOutboxDAO;
+        this.entityFactory = entityFactory;
+        this.outboxProcessor = outboxProcessor;
     }
 
     public boolean existsAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
@@ -96,6 +125,59 @@ public class OpenSearchIndexManager {
                 value();
     }
 
+    /**
+     * Returns the indexes behind the given name, which is either an alias or an index.
+     *
+     * @param name alias or index name
+     * @return the indexes behind the given alias, or the given name itself
+     * @throws IOException in case of communication errors
+     */
+    public List<String> resolve(final String name) throws IOException {
+        if (client.indices().existsAlias(new ExistsAliasRequest.Builder().name(name).build()).value()) {
+            return List.copyOf(client.indices().getAlias(new GetAliasRequest.Builder().name(name).build()).
+                    result().keySet());
+        }
+        return List.of(name);
+    }
+
+    public void createIndex(final String index, final IndexSettings settings, final TypeMapping mappings)
+            throws IOException {
+
+        CreateIndexResponse response = client.indices().create(
+                new CreateIndexRequest.Builder().
+                        index(index).
+                        settings(settings).
+                        mappings(mappings).
+                        build());
+        LOG.debug("Successfully created {}: {}", index, response);
+    }
+
+    public void removeIndex(final String index) throws IOException {
+        DeleteIndexResponse response = client.indices().delete(
+                new DeleteIndexRequest.Builder().index(index).build());
+        LOG.debug("Successfully removed {}: {}", index, response);
+    }
+
+    /**
+     * Atomically makes the given alias point to the given index, removing the indexes previously available under
+     * the same name, either as alias or index.
+     *
+     * @param alias alias
+     * @param index index
+     * @throws IOException in case of communication errors
+     */
+    public void swapAlias(final String alias, final String index) throws IOException {
+        UpdateAliasesRequest.Builder request = new UpdateAliasesRequest.Builder();
+        if (client.indices().exists(new ExistsRequest.Builder().index(alias).build()).value()) {
+            resolve(alias).forEach(previous -> request.actions(action -> action.removeIndex(remove -> remove.
+                    index(previous))));
+        }
+        request.actions(action -> action.add(add -> add.index(index).alias(alias)));
+
+        UpdateAliasesResponse response = client.indices().updateAliases(request.build());
+        LOG.debug("Successfully made {} point to {}: {}", alias, index, response);
+    }
+
     public IndexSettings defaultSettings() {
         return new IndexSettings.Builder().
                 analysis(new IndexSettingsAnalysis.Builder().build()).
@@ -200,7 +282,7 @@ public class OpenSearchIndexManager {
 
     public void removeAnyIndex(final String domain, final AnyTypeKind kind) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(OpenSearchUtils.getAnyIndex(domain, kind)).build());
+                new DeleteIndexRequest.Builder().index(resolve(OpenSearchUtils.getAnyIndex(domain, kind))).build());
         LOG.debug("Successfully removed {}: {}", OpenSearchUtils.getAnyIndex(domain, kind), response);
     }
 
@@ -239,7 +321,7 @@ public class OpenSearchIndexManager {
 
     public void removeRealmIndex(final String domain) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(OpenSearchUtils.getRealmIndex(domain)).build());
+                new DeleteIndexRequest.Builder().index(resolve(OpenSearchUtils.getRealmIndex(domain))).build());
         LOG.debug("Successfully removed {}: {}", OpenSearchUtils.getRealmIndex(domain), response);
     }
 
@@ -278,38 +360,44 @@ public class OpenSearchIndexManager {
 
     public void removeAuditIndex(final String domain) throws IOException {
         DeleteIndexResponse response = client.indices().delete(
-                new DeleteIndexRequest.Builder().index(OpenSearchUtils.getAuditIndex(domain)).build());
+                new DeleteIndexRequest.Builder().index(resolve(OpenSearchUtils.getAuditIndex(domain))).build());
         LOG.debug("Successfully removed {}: {}", OpenSearchUtils.getAuditIndex(domain), response);
     }
 
+    /**
+     * Records the index operation for the given any in the outbox, within the same transaction.
+     *
+     * @param event entity lifecycle event
+     */
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void enqueue(final EntityLifecycleEvent<Entity> event) {
+        if (event.getEntity() instanceof final Any any) {
+            LOG.debug("About to enqueue {} index for {}", event.getType().name(), any);
+
+            IndexOutboxEntry entry = entityFactory.newEntity(IndexOutboxEntry.class);
+            entry.setIndex(OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind()));
+            entry.setDocumentKey(any.getKey());
+            entry.setDeletion(event.getType() == SyncDeltaType.DELETE);
+            if (!entry.isDeletion()) {
+                entry.setDocument(POJOHelper.serialize(openSearchUtils.document(any)));
+            }
+            entry.setCreationDate(OffsetDateTime.now());
+            indexOutboxDAO.save(entry);
+        }
+    }
+
     @TransactionalEventListener
     public void entity(final EntityLifecycleEvent<Entity> event) throws IOException {
         LOG.debug("About to {} index for {}", event.getType().name(), event.getEntity());
 
-        if (event.getEntity() instanceof final Any any) {
-            if (event.getType() == SyncDeltaType.DELETE) {
-                DeleteRequest request = new DeleteRequest.Builder().index(
-                        OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        build();
-                DeleteResponse response = client.delete(request);
-                LOG.debug("Index successfully deleted for {}[{}]: {}",
-                        any.getType().getKind(), any.getKey(), response);
-            } else {
-                IndexRequest<Map<String, Object>> request = new IndexRequest.Builder<Map<String, Object>>().
-                        index(OpenSearchUtils.getAnyIndex(event.getDomain(), any.getType().getKind())).
-                        id(any.getKey()).
-                        document(openSearchUtils.document(any)).
-                        build();
-                IndexResponse response = client.index(request);
-                LOG.debug("Index successfully created or updated for {}: {}", any, response);
-            }
+        if (event.getEntity() instanceof Any) {
+            outboxProcessor.wakeUp();
         } else if (event.getEntity() instanceof Realm realm) {
             if (event.getType() == SyncDeltaType.DELETE) {
                 DeleteRequest request = new DeleteRequest.Builder().
                         index(OpenSearchUtils.getRealmIndex(event.getDomain())).
                         id(realm.getKey()).
-                        refresh(Refresh.True).
+                        refresh(Refresh.WaitFor).
                         build();
                 DeleteResponse response = client.delete(request);
                 LOG.debug("Index successfully deleted for {}: {}", realm, response);
@@ -318,7 +406,7 @@ public class OpenSearchIndexManager {
                         index(OpenSearchUtils.getRealmIndex(event.getDomain())).
                         id(realm.getKey()).
                         document(openSearchUtils.document(realm)).
-                        refresh(Refresh.True).
+                        refresh(Refresh.WaitFor).
                         build();
                 IndexResponse response = client.index(request);
                 LOG.debug("Index successfully created or updated for {}: {}", realm, response);
@@ -337,4 +425,25 @@ public class OpenSearchIndexManager {
 
         LOG.debug("Audit successfully created: {}", response);
     }
+
+    public void audit(final String domain, final List<AuditEvent> auditEvents) throws IOException {
+        LOG.debug("About to audit {} events", auditEvents.size());
+
+        String index = OpenSearchUtils.getAuditIndex(domain);
+
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        auditEvents.forEach(auditEvent -> {
+            Map<String, Object> document = openSearchUtils.document(auditEvent);
+            request.operations(op -> op.index(idx -> idx.index(index).document(document)));
+        });
+        BulkResponse response = client.bulk(request.build());
+
+        if (response.errors()) {
+            LOG.error("Errors found while auditing: {}", response.items().stream().
+                    map(BulkResponseItem::error).filter(Objects::nonNull).map(Object::toString).
+                    collect(Collectors.joining(", ")));
+        } else {
+            LOG.debug("{} audit events successfully created", response.items().size());
+        }
+    }
 }
@@ -0,0 +1,310 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.opensearch.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.apache.syncope.core.provisioning.api.serialization.POJOHelper;
+import org.apache.syncope.core.spring.security.AuthContextUtils;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.VersionType;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.scheduling.concurrent.SimpleAsyncTaskScheduler;
+import tools.jackson.core.type.TypeReference;
+
+/**
+ * Sends the index operations recorded in the outbox of each loaded domain to OpenSearch, via bulk requests.
+ * Operations on the same document found in the same batch are coalesced, so that only the latest is sent; operations
+ * rejected by OpenSearch are retried until the configured maximum number of attempts, while the whole domain is
+ * retried with exponential backoff when OpenSearch cannot be reached.
+ *
+ * Outbox entries are not claimed, so several nodes might send the same operations concurrently: each operation
+ * carries the sequence number of its entry as external version, so that OpenSearch rejects any operation older than the
+ * one already applied to the same document.
+ */
+public class OpenSearchIndexOutboxProcessor implements InitializingBean, DisposableBean {
+
+    protected static final Logger LOG = LoggerFactory.getLogger(OpenSearchIndexOutboxProcessor.class);
+
+    protected static final TypeReference<Map<String, Object>> TYPEREF = new TypeReference<Map<String, Object>>() {
+    };
+
+    protected static final long MAX_BACKOFF = 60000L;
+
+    protected static final int VERSION_CONFLICT = 409;
+
+    /**
+     * Returns the external version of the operation recorded by the given entry, e.g. its sequence number, as
+     * allocated by the database: unlike creation time, it does not depend on the clock of the node which saved the
+     * entry, and no two entries share the same.
+     *
+     * @param entry outbox entry
+     * @return external version
+     */
+    protected static long version(final IndexOutboxEntry entry) {
+        return entry.getSequence();
+    }
+
+    protected record DocumentRef(String index, String key) {
+
+    }
+
+    protected record Backoff(long delay, long until) {
+
+    }
+
+    protected final OpenSearchClient client;
+
+    protected final IndexOutboxDAO indexOutboxDAO;
+
+    protected final int batchSize;
+
+    protected final long pollInterval;
+
+    protected final int maxAttempts;
+
+    protected final SimpleAsyncTaskScheduler scheduler = new SimpleAsyncTaskScheduler();
+
+    protected final Set<String> domains = ConcurrentHashMap.newKeySet();
+
+    protected final Map<String, Backoff> backoffs = new ConcurrentHashMap<>();
+
+    protected final Map<String, String> shadows = new ConcurrentHashMap<>();
+
+    protected final AtomicBoolean processing = new AtomicBoolean(false);
+
+    protected final AtomicBoolean wakeUpRequested = new AtomicBoolean(false);
+
+    public OpenSearchIndexOutboxProcessor(
+            final OpenSearchClient client,
+            final IndexOutboxDAO indexOutboxDAO,
+            final int batchSize,
+            final long pollInterval,
+            final int maxAttempts) {
+
+        this.client = client;
+        this.indexOutboxDAO = indexOutboxDAO;
+        this.batchSize = batchSize;
+        this.pollInterval = pollInterval;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        scheduler.setVirtualThreads(true);
+        scheduler.setThreadNamePrefix("OpenSearchIndexOutbox-");
+        scheduler.scheduleWithFixedDelay(this::process, Duration.ofMillis(pollInterval));
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.close();
+    }
+
+    public void register(final String domain) {
+        domains.add(domain);
+    }
+
+    public void unregister(final String domain) {
+        domains.remove(domain);
+        backoffs.remove(domain);
+    }
+
+    /**
+     * While an index is being rebuilt, operations on the alias it is going to replace are sent to both.
+     *
+     * @param alias alias currently in use
+     * @param index index being rebuilt
+     */
+    public void shadow(final String alias, final String index) {
+        shadows.put(alias, index);
+    }
+
+    public void unshadow(final String alias) {
+        shadows.remove(alias);
+    }
+
+    /**
+     * Requests to process pending operations as soon as possible, rather than waiting for the next poll.
+     */
+    public void wakeUp() {
+        if (wakeUpRequested.compareAndSet(false, true)) {
+            scheduler.execute(this::process);
+        }
+    }
+
+    protected boolean isBackingOff(final String domain) {
+        return Optional.ofNullable(backoffs.get(domain)).
+                map(backoff -> backoff.until() > System.currentTimeMillis()).
+                orElse(false);
+    }
+
+    protected void process() {
+        wakeUpRequested.set(false);
+        if (!processing.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            domains.stream().filter(domain -> !isBackingOff(domain)).forEach(domain -> {
+                try {
+                    AuthContextUtils.callAsAdmin(domain, () -> {
+                        process(domain);
+                        return null;
+                    });
+                    backoffs.remove(domain);
+                } catch (Exception e) {
+                    long delay = Math.min(MAX_BACKOFF, Math.max(pollInterval,
+                            Optional.ofNullable(backoffs.get(domain)).map(Backoff::delay).orElse(0L) * 2));
+                    backoffs.put(domain, new Backoff(delay, System.currentTimeMillis() + delay));
+
+                    LOG.error("While sending pending index operations for domain {}, retrying in {} ms",
+                            domain, delay, e);
+                }
+            });
+        } finally {
+            processing.set(false);
+        }
+    }
+
+    protected void process(final String domain) throws IOException {
+        boolean proceed = true;
+        while (proceed && !Thread.currentThread().isInterrupted()) {
+            List<? extends IndexOutboxEntry> entries = indexOutboxDAO.findOldest(batchSize);
+            if (entries.isEmpty()) {
+                proceed = false;
+            } else {
+                LOG.debug("Sending {} pending index operations for domain {}, lag is {} ms",
+                        entries.size(), domain,
+                        entries.getFirst().getCreationDate().until(OffsetDateTime.now(), ChronoUnit.MILLIS));
+
+                // rejected operations are retried with next poll
+                proceed = send(entries) && entries.size() == batchSize;
+            }
+        }
+    }
+
+    protected boolean send(final List<? extends IndexOutboxEntry> entries) throws IOException {
+        // coalesce: only the latest operation for each document is sent, the others are just discarded
+        Map<DocumentRef, List<IndexOutboxEntry>> byDocument = new LinkedHashMap<>();
+        entries.forEach(entry -> byDocument.computeIfAbsent(
+                new DocumentRef(entry.getIndex(), entry.getDocumentKey()), k -> new ArrayList<>()).add(entry));
+
+        List<String> processed = new ArrayList<>();
+        List<IndexOutboxEntry> latest = new ArrayList<>();
+        byDocument.values().forEach(operations -> {
+            operations.subList(0, operations.size() - 1).forEach(operation -> processed.add(operation.getKey()));
+            latest.add(operations.getLast());
+        });
+
+        BulkRequest.Builder request = new BulkRequest.Builder();
+        List<IndexOutboxEntry> sent = new ArrayList<>();
+        latest.forEach(entry -> {
+            Map<String, Object> document = entry.isDeletion()
+                    ? null
+                    : POJOHelper.deserialize(entry.getDocument(), TYPEREF);
+
+            operation(request, entry, entry.getIndex(), document);
+            sent.add(entry);
+
+            Optional.ofNullable(shadows.get(entry.getIndex())).ifPresent(shadow -> {
+                operation(request, entry, shadow, document);
+                sent.add(entry);
+            });
+        });
+        BulkResponse response = client.bulk(request.build());
+
+        Map<String, ErrorCause> errors = new HashMap<>();
+        for (int i = 0; i < sent.size(); i++) {
+            BulkResponseItem item = response.items().get(i);
+            if (item.status() == VERSION_CONFLICT) {
+                // a more recent operation was already applied, possibly by another node
+                LOG.debug("Discarding stale operation on {}[{}]", item.index(), item.id());
+            } else if (item.error() != null) {
+                errors.putIfAbsent(sent.get(i).getKey(), item.error());
+            }
+        }
+
+        boolean allSent = true;
+        for (IndexOutboxEntry entry : latest) {
+            ErrorCause error = errors.get(entry.getKey());
+            if (error == null) {
+                processed.add(entry.getKey());
+            } else if (entry.getAttempts() + 1 >= maxAttempts) {
+                LOG.error("Giving up {} of {}[{}] after {} attempts: {}",
+                        entry.isDeletion() ? "deletion" : "indexing",
+                        entry.getIndex(), entry.getDocumentKey(), maxAttempts, error);
+                processed.add(entry.getKey());
+            } else {
+                LOG.warn("Could not {} {}[{}], will retry: {}",
+                        entry.isDeletion() ? "delete" : "index",
+                        entry.getIndex(), entry.getDocumentKey(), error);
+                entry.setAttempts(entry.getAttempts() + 1);
+                indexOutboxDAO.save(entry);
+                allSent = false;
+            }
+        }
+
+        indexOutboxDAO.deleteAll(processed);
+
+        return allSent;
+    }
+
+    protected void operation(
+            final BulkRequest.Builder request,
+            final IndexOutboxEntry entry,
+            final String index,
+            final Map<String, Object> document) {
+
+        if (entry.isDeletion()) {
+            request.operations(op -> op.delete(del -> del.
+                    index(index).
+                    id(entry.getDocumentKey()).
+                    version(version(entry)).
+                    versionType(VersionType.External)));
+        } else {
+            request.operations(op -> op.index(idx -> idx.
+                    index(index).
+                    id(entry.getDocumentKey()).
+                    version(version(entry)).
+                    versionType(VersionType.External).
+                    document(document)));
+        }
+    }
+}
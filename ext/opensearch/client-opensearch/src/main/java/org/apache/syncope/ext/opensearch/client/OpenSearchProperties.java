@@ -33,6 +33,14 @@ public class OpenSearchProperties {
 
     private int numberOfReplicas = 1;
 
+    private int outboxBatchSize = 500;
+
+    private long outboxPollInterval = 1000L;
+
+    private int outboxMaxAttempts = 10;
+
+    private int reindexSlices = 4;
+
     public List<String> getHosts() {
         return hosts;
     }
@@ -64,4 +72,36 @@ public class OpenSearchProperties {
     public void setNumberOfReplicas(final int numberOfReplicas) {
         this.numberOfReplicas = numberOfReplicas;
     }
+
+    public int getOutboxBatchSize() {
+        return outboxBatchSize;
+    }
+
+    public void setOutboxBatchSize(final int outboxBatchSize) {
+        this.outboxBatchSize = outboxBatchSize;
+    }
+
+    public long getOutboxPollInterval() {
+        return outboxPollInterval;
+    }
+
+    public void setOutboxPollInterval(final long outboxPollInterval) {
+        this.outboxPollInterval = outboxPollInterval;
+    }
+
+    public int getOutboxMaxAttempts() {
+        return outboxMaxAttempts;
+    }
+
+    public void setOutboxMaxAttempts(final int outboxMaxAttempts) {
+        this.outboxMaxAttempts = outboxMaxAttempts;
+    }
+
+    public int getReindexSlices() {
+        return reindexSlices;
+    }
+
+    public void setReindexSlices(final int reindexSlices) {
+        this.reindexSlices = reindexSlices;
+    }
 }
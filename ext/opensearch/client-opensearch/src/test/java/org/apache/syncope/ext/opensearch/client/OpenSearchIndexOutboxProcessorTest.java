@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.opensearch.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.syncope.core.persistence.api.dao.IndexOutboxDAO;
+import org.apache.syncope.core.persistence.api.entity.IndexOutboxEntry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.quality.Strictness;
+import org.opensearch.client.opensearch.OpenSearchClient;
+import org.opensearch.client.opensearch._types.ErrorCause;
+import org.opensearch.client.opensearch._types.VersionType;
+import org.opensearch.client.opensearch.core.BulkRequest;
+import org.opensearch.client.opensearch.core.BulkResponse;
+import org.opensearch.client.opensearch.core.bulk.BulkOperation;
+import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
+import org.opensearch.client.opensearch.core.bulk.OperationType;
+
+@ExtendWith(MockitoExtension.class)
+public class OpenSearchIndexOutboxProcessorTest {
+
+    private static final String INDEX = "master_user";
+
+    @Mock
+    private OpenSearchClient client;
+
+    @Mock
+    private IndexOutboxDAO indexOutboxDAO;
+
+    @Captor
+    private ArgumentCaptor<BulkRequest> request;
+
+    @Captor
+    private ArgumentCaptor<List<String>> deleted;
+
+    private OpenSearchIndexOutboxProcessor processor;
+
+    @BeforeEach
+    public void setUp() {
+        processor = new OpenSearchIndexOutboxProcessor(client, indexOutboxDAO, 10, 1000L, 2);
+    }
+
+    private static IndexOutboxEntry entry(
+            final long sequence, final String documentKey, final boolean deletion, final int attempts) {
+
+        IndexOutboxEntry entry = mock(IndexOutboxEntry.class, withSettings().strictness(Strictness.LENIENT));
+        when(entry.getKey()).thenReturn(String.valueOf(sequence));
+        when(entry.getSequence()).thenReturn(sequence);
+        when(entry.getIndex()).thenReturn(INDEX);
+        when(entry.getDocumentKey()).thenReturn(documentKey);
+        when(entry.isDeletion()).thenReturn(deletion);
+        when(entry.getDocument()).thenReturn(deletion ? null : "{\"username\":\"" + documentKey + "\"}");
+        when(entry.getAttempts()).thenReturn(attempts);
+        return entry;
+    }
+
+    private static BulkResponseItem item(final int status, final String error) {
+        return BulkResponseItem.of(i -> {
+            i.operationType(OperationType.Index).index(INDEX).status(status);
+            if (error != null) {
+                i.error(ErrorCause.of(e -> e.type(error).reason(error)));
+            }
+            return i;
+        });
+    }
+
+    private void respond(final BulkResponseItem... items) throws IOException {
+        when(client.bulk(any(BulkRequest.class))).thenReturn(BulkResponse.of(r -> r.
+                errors(Arrays.stream(items).anyMatch(i -> i.error() != null)).
+                took(1).
+                items(List.of(items))));
+    }
+
+    private Set<String> deleted() {
+        verify(indexOutboxDAO).deleteAll(deleted.capture());
+        return Set.copyOf(deleted.getValue());
+    }
+
+    @Test
+    public void sendLatestWithSequenceAsVersion() throws IOException {
+        respond(item(200, null), item(201, null));
+
+        assertTrue(processor.send(List.of(
+                entry(1, "rossini", false, 0),
+                entry(2, "verdi", false, 0),
+                entry(3, "rossini", true, 0))));
+
+        verify(client).bulk(request.capture());
+        List<BulkOperation> operations = request.getValue().operations();
+        assertEquals(2, operations.size());
+
+        // only the latest operation on rossini is sent...
+        assertTrue(operations.getFirst().isDelete());
+        assertEquals("rossini", operations.getFirst().delete().id());
+        assertEquals(3L, operations.getFirst().delete().version());
+        assertEquals(VersionType.External, operations.getFirst().delete().versionType());
+
+        assertTrue(operations.getLast().isIndex());
+        assertEquals("verdi", operations.getLast().index().id());
+        assertEquals(2L, operations.getLast().index().version());
+        assertEquals(VersionType.External, operations.getLast().index().versionType());
+
+        // ...but all are processed
+        assertEquals(Set.of("1", "2", "3"), deleted());
+        verify(indexOutboxDAO, never()).save(any());
+    }
+
+    @Test
+    public void sendToShadow() throws IOException {
+        respond(item(201, null), item(201, null));
+
+        processor.shadow(INDEX, INDEX + "_new");
+        assertTrue(processor.send(List.of(entry(4, "verdi", false, 0))));
+
+        verify(client).bulk(request.capture());
+        List<BulkOperation> operations = request.getValue().operations();
+        assertEquals(
+                List.of(INDEX, INDEX + "_new"),
+                operations.stream().map(op -> op.index().index()).toList());
+        assertEquals(
+                Set.of(4L),
+                operations.stream().map(op -> op.index().version()).collect(Collectors.toSet()));
+        assertEquals(Set.of("4"), deleted());
+    }
+
+    @Test
+    public void discardStale() throws IOException {
+        respond(item(409, "version_conflict_engine_exception"));
+
+        assertTrue(processor.send(List.of(entry(5, "rossini", false, 0))));
+
+        // a more recent operation was already applied: nothing to retry
+        assertEquals(Set.of("5"), deleted());
+        verify(indexOutboxDAO, never()).save(any());
+    }
+
+    @Test
+    public void retry() throws IOException {
+        respond(item(429, "es_rejected_execution_exception"));
+
+        IndexOutboxEntry entry = entry(6, "rossini", false, 0);
+        assertFalse(processor.send(List.of(entry)));
+
+        verify(entry).setAttempts(1);
+        verify(indexOutboxDAO).save(entry);
+        assertTrue(deleted().isEmpty());
+    }
+
+    @Test
+    public void giveUp() throws IOException {
+        respond(item(429, "es_rejected_execution_exception"));
+
+        // maximum number of attempts reached
+        assertTrue(processor.send(List.of(entry(7, "rossini", false, 1))));
+
+        assertEquals(Set.of("7"), deleted());
+        verify(indexOutboxDAO, never()).save(any());
+    }
+}
@@ -19,8 +19,15 @@
 package org.apache.syncope.core.provisioning.java.job;
 
 import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.syncope.common.lib.types.AnyTypeKind;
@@ -31,15 +38,14 @@ import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.RealmDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.entity.Realm;
-import org.apache.syncope.core.persistence.api.entity.anyobject.AnyObject;
-import org.apache.syncope.core.persistence.api.entity.group.Group;
 import org.apache.syncope.core.persistence.api.entity.task.SchedTask;
 import org.apache.syncope.core.persistence.api.entity.task.TaskExec;
-import org.apache.syncope.core.persistence.api.entity.user.User;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionContext;
 import org.apache.syncope.core.provisioning.api.job.JobExecutionException;
 import org.apache.syncope.core.spring.security.AuthContextUtils;
 import org.apache.syncope.ext.opensearch.client.OpenSearchIndexManager;
+import org.apache.syncope.ext.opensearch.client.OpenSearchIndexOutboxProcessor;
+import org.apache.syncope.ext.opensearch.client.OpenSearchProperties;
 import org.apache.syncope.ext.opensearch.client.OpenSearchUtils;
 import org.opensearch.client.opensearch.OpenSearchClient;
 import org.opensearch.client.opensearch._helpers.bulk.BulkIngester;
@@ -51,17 +57,20 @@ import org.opensearch.client.opensearch.core.BulkResponse;
 import org.opensearch.client.opensearch.core.bulk.BulkResponseItem;
 import org.opensearch.client.opensearch.indices.IndexSettings;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 
 /**
- * Remove and rebuild all OpenSearch indexes with information from existing users, groups and any objects.
+ * Rebuild all OpenSearch indexes with information from existing realms, users, groups and any objects.
+ * Each index is built under a new name while the current one keeps serving requests, then atomically replaces it by
+ * moving the alias used by Syncope; users, groups and any objects are read in parallel, disjoint key slices.
  */
 public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
 
     protected static class ErrorLoggingBulkListener implements BulkListener<Void> {
 
-        protected static final ErrorLoggingBulkListener INSTANCE = new ErrorLoggingBulkListener();
+        protected final AtomicLong failures = new AtomicLong();
 
         @Override
         public void beforeBulk(
@@ -80,9 +89,12 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 final BulkResponse response) {
 
             if (response.errors()) {
-                String details = response.items().stream().map(BulkResponseItem::error).
-                        filter(Objects::nonNull).map(ErrorCause::toString).collect(Collectors.joining(", "));
-                LOG.error("Errors found for request {}; details: {}", executionId, details);
+                List<ErrorCause> errors = response.items().stream().
+                        map(BulkResponseItem::error).filter(Objects::nonNull).toList();
+                failures.addAndGet(errors.size());
+
+                LOG.error("Errors found for request {}; details: {}", executionId,
+                        errors.stream().map(ErrorCause::toString).collect(Collectors.joining(", ")));
             }
         }
 
@@ -93,16 +105,30 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                 final List<Void> contexts,
                 final Throwable failure) {
 
+            failures.addAndGet(request.operations().size());
+
             LOG.error("Bulk request {} failed", executionId, failure);
         }
+
+        public long getFailures() {
+            return failures.get();
+        }
     }
 
+    protected static final long STATUS_INTERVAL = 5;
+
     @Autowired
     protected OpenSearchClient client;
 
     @Autowired
     protected OpenSearchIndexManager indexManager;
 
+    @Autowired
+    protected OpenSearchIndexOutboxProcessor outboxProcessor;
+
+    @Autowired
+    protected OpenSearchProperties props;
+
     @Autowired
     protected OpenSearchUtils utils;
 
@@ -158,15 +184,62 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
         return indexManager.defaultAuditMapping();
     }
 
+    protected static String versioned(final String alias) {
+        return alias + '_' + System.currentTimeMillis();
+    }
+
+    /**
+     * Splits the existing keys in at most the given number of contiguous ranges of about the same size, by looking up
+     * the keys found at evenly spaced positions: each range is returned as lower and upper bound (both exclusive, null
+     * meaning unbounded).
+     * The upper bound of each range and the lower bound of the next one are adjacent keys, read together: hence no key
+     * can fall between two ranges, even when keys are added or removed meanwhile.
+     *
+     * @param anyDAO DAO for the keys to split
+     * @param count number of existing keys
+     * @param slices number of slices
+     * @return key ranges
+     */
+    protected static List<Pair<String, String>> slices(final AnyDAO<?> anyDAO, final long count, final int slices) {
+        List<Pair<String, String>> ranges = new ArrayList<>();
+
+        String lower = null;
+        long previous = 0;
+        for (int i = 1; i < slices; i++) {
+            long position = i * count / slices;
+            if (position > previous) {
+                List<String> adjacent = anyDAO.findKeysAt(Math.toIntExact(position - 1), 2);
+                if (adjacent.size() == 2) {
+                    ranges.add(Pair.of(lower, adjacent.getLast()));
+                    lower = adjacent.getFirst();
+                    previous = position;
+                }
+            }
+        }
+        ranges.add(Pair.of(lower, null));
+
+        return ranges;
+    }
+
+    protected void ensureNoFailures(final ErrorLoggingBulkListener listener, final String index) throws IOException {
+        if (listener.getFailures() > 0) {
+            indexManager.removeIndex(index);
+            throw new IllegalStateException(
+                    listener.getFailures() + " documents could not be indexed under " + index + ", discarded");
+        }
+    }
+
     protected Pair<String, Long> reindexRealms() throws IOException {
-        indexManager.createRealmIndex(AuthContextUtils.getDomain(), realmSettings(), realmMapping());
+        String alias = OpenSearchUtils.getRealmIndex(AuthContextUtils.getDomain());
+        String index = versioned(alias);
+        indexManager.createIndex(index, realmSettings(), realmMapping());
 
         long count = realmDAO.count();
-        String index = OpenSearchUtils.getRealmIndex(AuthContextUtils.getDomain());
         setStatus("Indexing " + count + " realms under " + index + "...");
 
+        ErrorLoggingBulkListener listener = new ErrorLoggingBulkListener();
         try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
+                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(listener))) {
 
             for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
                 Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
@@ -177,90 +250,151 @@ public class OpenSearchReindex extends AbstractSchedTaskJobDelegate<SchedTask> {
                             document(utils.document(realm))));
                 }
             }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
         }
 
+        ensureNoFailures(listener, index);
+        indexManager.swapAlias(alias, index);
+
         return Pair.of(index, count);
     }
 
-    protected Pair<String, Long> reindexUsers() throws IOException {
-        indexManager.createAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER, userSettings(), userMapping());
-
-        long count = userDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.USER);
-        setStatus("Indexing " + count + " users under " + index + "...");
+    protected void reindexSlice(
+            final AnyTypeKind kind,
+            final AnyDAO<?> anyDAO,
+            final String index,
+            final Pair<String, String> range,
+            final BulkIngester<Void> ingester,
+            final AtomicLong done) {
+
+        String after = range.getLeft();
+        List<String> keys;
+        do {
+            keys = anyDAO.findKeys(after, range.getRight(), AnyDAO.DEFAULT_PAGE_SIZE);
+            if (!keys.isEmpty()) {
+                utils.documents(kind, keys).forEach((key, document) -> ingester.add(op -> op.index(idx -> idx.
+                        index(index).
+                        id(key).
+                        document(document))));
+
+                done.addAndGet(keys.size());
+                after = keys.getLast();
+            }
+        } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
+    }
 
+    /**
+     * Indexes again under the given alias the users, groups or any objects changed while rebuilding, as they might
+     * have been read before such changes.
+     *
+     * @param kind any type kind
+     * @param anyDAO DAO for the given any type kind
+     * @param alias alias now pointing to the rebuilt index
+     * @param since when rebuilding started
+     * @return the number of users, groups or any objects indexed again
+     */
+    protected long catchUp(
+            final AnyTypeKind kind,
+            final AnyDAO<?> anyDAO,
+            final String alias,
+            final OffsetDateTime since) {
+
+        long count = 0;
         try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
-
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (User user : userDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
-                            index(index).
-                            id(user.getKey()).
-                            document(utils.document(user))));
+                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(new ErrorLoggingBulkListener()))) {
+
+            String after = null;
+            List<String> keys;
+            do {
+                keys = anyDAO.findKeysChangedSince(since, after, AnyDAO.DEFAULT_PAGE_SIZE);
+                if (!keys.isEmpty()) {
+                    utils.documents(kind, keys).forEach((key, document) -> ingester.add(op -> op.index(idx -> idx.
+                            index(alias).
+                            id(key).
+                            document(document))));
+
+                    count += keys.size();
+                    after = keys.getLast();
                 }
-            }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
+            } while (keys.size() == AnyDAO.DEFAULT_PAGE_SIZE);
         }
-
-        return Pair.of(index, count);
+        return count;
     }
 
-    protected Pair<String, Long> reindexGroups() throws IOException {
-        indexManager.createAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP, groupSettings(), groupMapping());
-
-        long count = groupDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.GROUP);
-        setStatus("Indexing " + count + " groups under " + index + "...");
-
-        try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
-
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (Group group : groupDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
-                            index(index).
-                            id(group.getKey()).
-                            document(utils.document(group))));
+    protected Pair<String, Long> reindexAnys(
+            final AnyTypeKind kind,
+            final AnyDAO<?> anyDAO,
+            final IndexSettings settings,
+            final TypeMapping mapping)
+            throws IOException, InterruptedException, ExecutionException {
+
+        String domain = AuthContextUtils.getDomain();
+        String alias = OpenSearchUtils.getAnyIndex(domain, kind);
+        String index = versioned(alias);
+        indexManager.createIndex(index, settings, mapping);
+
+        OffsetDateTime since = OffsetDateTime.now();
+        outboxProcessor.shadow(alias, index);
+        try {
+            long count = anyDAO.count();
+            AtomicLong done = new AtomicLong();
+            long start = System.currentTimeMillis();
+
+            List<Pair<String, String>> ranges = slices(anyDAO, count, Math.max(1, props.getReindexSlices()));
+            setStatus("Indexing " + count + " " + kind + " under " + index + " in " + ranges.size() + " slices...");
+
+            ErrorLoggingBulkListener listener = new ErrorLoggingBulkListener();
+            try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
+                    maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).maxConcurrentRequests(ranges.size()).listener(listener));
+                    SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("OpenSearchReindex-")) {
+
+                executor.setVirtualThreads(true);
+
+                List<Future<?>> futures = ranges.stream().<Future<?>>map(range -> executor.submit(
+                        () -> AuthContextUtils.runAsAdmin(
+                                domain, () -> reindexSlice(kind, anyDAO, index, range, ingester, done)))).
+                        toList();
+
+                for (Future<?> future : futures) {
+                    boolean completed = false;
+                    while (!completed) {
+                        try {
+                            future.get(STATUS_INTERVAL, TimeUnit.SECONDS);
+                            completed = true;
+                        } catch (TimeoutException e) {
+                            long elapsed = Math.max(1, System.currentTimeMillis() - start);
+                            setStatus("Indexing " + count + " " + kind + " under " + index + ": "
+                                    + done.get() + " read, " + (done.get() * 1000 / elapsed) + " per second");
+                        }
+                    }
                 }
+            } catch (InterruptedException | ExecutionException e) {
+                indexManager.removeIndex(index);
+                throw e;
             }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
-        }
 
-        return Pair.of(index, count);
-    }
+            ensureNoFailures(listener, index);
+            indexManager.swapAlias(alias, index);
+            outboxProcessor.unshadow(alias);
 
-    protected Pair<String, Long> reindexAnyObjects() throws IOException {
-        indexManager.createAnyIndex(
-                AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT, anyObjectSettings(), anyObjectMapping());
+            long caughtUp = catchUp(kind, anyDAO, alias, since);
+            LOG.debug("{} {} changed while rebuilding {}, indexed again", caughtUp, kind, index);
 
-        long count = anyObjectDAO.count();
-        String index = OpenSearchUtils.getAnyIndex(AuthContextUtils.getDomain(), AnyTypeKind.ANY_OBJECT);
-        setStatus("Indexing " + count + " any objects under " + index + "...");
+            return Pair.of(index, count);
+        } finally {
+            outboxProcessor.unshadow(alias);
+        }
+    }
 
-        try (BulkIngester<Void> ingester = BulkIngester.of(b -> b.client(client).
-                maxOperations(AnyDAO.DEFAULT_PAGE_SIZE).listener(ErrorLoggingBulkListener.INSTANCE))) {
+    protected Pair<String, Long> reindexUsers() throws IOException, InterruptedException, ExecutionException {
+        return reindexAnys(AnyTypeKind.USER, userDAO, userSettings(), userMapping());
+    }
 
-            for (int page = 0; page <= (count / AnyDAO.DEFAULT_PAGE_SIZE); page++) {
-                Pageable pageable = PageRequest.of(page, AnyDAO.DEFAULT_PAGE_SIZE, DAO.DEFAULT_SORT);
-                for (AnyObject anyObject : anyObjectDAO.findAll(pageable)) {
-                    ingester.add(op -> op.index(idx -> idx.
-                            index(index).
-                            id(anyObject.getKey()).
-                            document(utils.document(anyObject))));
-                }
-            }
-        } catch (Exception e) {
-            LOG.error("Errors while ingesting index {}", index, e);
-        }
+    protected Pair<String, Long> reindexGroups() throws IOException, InterruptedException, ExecutionException {
+        return reindexAnys(AnyTypeKind.GROUP, groupDAO, groupSettings(), groupMapping());
+    }
 
-        return Pair.of(index, count);
+    protected Pair<String, Long> reindexAnyObjects() throws IOException, InterruptedException, ExecutionException {
+        return reindexAnys(AnyTypeKind.ANY_OBJECT, anyObjectDAO, anyObjectSettings(), anyObjectMapping());
     }
 
     protected String reindexAudit() throws IOException {
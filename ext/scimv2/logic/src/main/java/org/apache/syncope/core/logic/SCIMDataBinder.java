@@ -24,8 +24,10 @@ import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.stream.Stream;
 import org.apache.commons.jexl3.MapContext;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
@@ -54,6 +56,7 @@ import org.apache.syncope.common.lib.scim.SCIMEnterpriseUserConf;
 import org.apache.syncope.common.lib.scim.SCIMExtensionAnyObjectConf;
 import org.apache.syncope.common.lib.scim.SCIMManagerConf;
 import org.apache.syncope.common.lib.scim.SCIMUserAddressConf;
+import org.apache.syncope.common.lib.scim.SCIMUserConf;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
 import org.apache.syncope.common.lib.to.GroupTO;
 import org.apache.syncope.common.lib.to.MembershipTO;
@@ -65,6 +68,7 @@ import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.NotFoundException;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
@@ -142,18 +146,22 @@ public class SCIMDataBinder {
 
     protected final JexlTools jexlTools;
 
+    protected final PlainSchemaDAO plainSchemaDAO;
+
     public SCIMDataBinder(
             final SCIMConfManager confManager,
             final UserLogic userLogic,
             final AuthDataAccessor authDataAccessor,
             final GroupDAO groupDAO,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final PlainSchemaDAO plainSchemaDAO) {
 
         this.confManager = confManager;
         this.userLogic = userLogic;
         this.authDataAccessor = authDataAccessor;
         this.groupDAO = groupDAO;
         this.jexlTools = jexlTools;
+        this.plainSchemaDAO = plainSchemaDAO;
     }
 
     protected <E extends Enum<?>> void fill(
@@ -202,6 +210,120 @@ public class SCIMDataBinder {
                 : null;
     }
 
+    protected void require(
+            final Set<String> required,
+            final List<String> attributes,
+            final List<String> excludedAttributes,
+            final String schema,
+            final String... syncopeAttrs) {
+
+        if (output(attributes, excludedAttributes, schema)) {
+            Stream.of(syncopeAttrs).filter(Objects::nonNull).forEach(required::add);
+        }
+    }
+
+    protected <E extends Enum<?>> String[] complex(final List<SCIMComplexConf<E>> confs) {
+        return confs.stream().flatMap(conf -> Stream.of(conf.getValue(), conf.getDisplay())).toArray(String[]::new);
+    }
+
+    /**
+     * Computes which fields and plain attributes need to be read in order to build the SCIM representations, limited
+     * to the given attributes, of the Users, Groups or Any Objects of the given type.
+     *
+     * @param type SCIM resource type, or any type key for Any Objects
+     * @param attributes SCIM attributes to return
+     * @param excludedAttributes SCIM attributes not to return
+     * @return fields and plain schemas to project, or empty if complete TOs are needed
+     */
+    public Optional<Pair<Set<String>, Set<String>>> projection(
+            final String type,
+            final List<String> attributes,
+            final List<String> excludedAttributes) {
+
+        SCIMConf conf = confManager.get();
+
+        Set<String> fields = new HashSet<>(Set.of("key", "creationDate", "lastChangeDate"));
+        Set<String> required = new HashSet<>();
+        if (Resource.User.name().equals(type)) {
+            // memberships and roles are only available from complete TOs
+            if (output(attributes, excludedAttributes, "groups") || output(attributes, excludedAttributes, "roles")) {
+                return Optional.empty();
+            }
+
+            fields.add("username");
+            fields.add("suspended");
+
+            SCIMUserConf userConf = conf.getUserConf();
+            if (userConf != null) {
+                require(required, attributes, excludedAttributes, "externalId", userConf.getExternalId());
+                Optional.ofNullable(userConf.getName()).ifPresent(name -> require(
+                        required, attributes, excludedAttributes, "name",
+                        name.getFamilyName(), name.getFormatted(), name.getGivenName(),
+                        name.getHonorificPrefix(), name.getHonorificSuffix(), name.getMiddleName()));
+                require(required, attributes, excludedAttributes, "displayName", userConf.getDisplayName());
+                require(required, attributes, excludedAttributes, "nickName", userConf.getNickName());
+                require(required, attributes, excludedAttributes, "profileUrl", userConf.getProfileUrl());
+                require(required, attributes, excludedAttributes, "title", userConf.getTitle());
+                require(required, attributes, excludedAttributes, "userType", userConf.getUserType());
+                require(required, attributes, excludedAttributes, "preferredLanguage",
+                        userConf.getPreferredLanguage());
+                require(required, attributes, excludedAttributes, "locale", userConf.getLocale());
+                require(required, attributes, excludedAttributes, "timezone", userConf.getTimezone());
+                require(required, attributes, excludedAttributes, "emails", complex(userConf.getEmails()));
+                require(required, attributes, excludedAttributes, "phoneNumbers", complex(userConf.getPhoneNumbers()));
+                require(required, attributes, excludedAttributes, "ims", complex(userConf.getIms()));
+                require(required, attributes, excludedAttributes, "photos", complex(userConf.getPhotos()));
+                require(required, attributes, excludedAttributes, "addresses", userConf.getAddresses().stream().
+                        flatMap(address -> Stream.of(
+                        address.getFormatted(), address.getStreetAddress(), address.getLocality(),
+                        address.getRegion(), address.getCountry())).
+                        toArray(String[]::new));
+                require(required, attributes, excludedAttributes, "x509Certificates",
+                        userConf.getX509Certificates().toArray(String[]::new));
+            }
+
+            SCIMEnterpriseUserConf enterpriseConf = conf.getEnterpriseUserConf();
+            if (enterpriseConf != null) {
+                require(required, attributes, excludedAttributes, "employeeNumber", enterpriseConf.getEmployeeNumber());
+                require(required, attributes, excludedAttributes, "costCenter", enterpriseConf.getCostCenter());
+                require(required, attributes, excludedAttributes, "organization", enterpriseConf.getOrganization());
+                require(required, attributes, excludedAttributes, "division", enterpriseConf.getDivision());
+                require(required, attributes, excludedAttributes, "department", enterpriseConf.getDepartment());
+                Optional.ofNullable(enterpriseConf.getManager()).ifPresent(manager -> require(
+                        required, attributes, excludedAttributes, "manager", manager.getKey()));
+            }
+
+            Optional.ofNullable(conf.getExtensionUserConf()).ifPresent(extConf -> extConf.asMap().forEach(
+                    (scimAttr, syncopeAttr) -> require(
+                            required, attributes, excludedAttributes, scimAttr, syncopeAttr)));
+
+            // username is a field, not a plain attribute
+            required.remove("username");
+        } else if (Resource.Group.name().equals(type)) {
+            fields.add("name");
+
+            Optional.ofNullable(conf.getGroupConf()).ifPresent(groupConf -> require(
+                    required, attributes, excludedAttributes, "externalId", groupConf.getExternalId()));
+            Optional.ofNullable(conf.getExtensionGroupConf()).ifPresent(extConf -> extConf.asMap().forEach(
+                    (scimAttr, syncopeAttr) -> require(
+                            required, attributes, excludedAttributes, scimAttr, syncopeAttr)));
+        } else {
+            fields.add("name");
+
+            conf.getExtensionAnyObjectsConf().stream().filter(extConf -> type.equals(extConf.getType())).
+                    forEach(extConf -> {
+                        require(required, attributes, excludedAttributes, "externalId", extConf.getExternalId());
+                        extConf.asMap().forEach((scimAttr, syncopeAttr) -> require(
+                                required, attributes, excludedAttributes, scimAttr, syncopeAttr));
+                    });
+        }
+
+        // derived attributes, for example, can only be found in complete TOs
+        return required.stream().allMatch(plainSchemaDAO::existsById)
+                ? Optional.of(Pair.of(fields, required))
+                : Optional.empty();
+    }
+
     public SCIMUser toSCIMUser(
             final UserTO userTO,
             final String location,
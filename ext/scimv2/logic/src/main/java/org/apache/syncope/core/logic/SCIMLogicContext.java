@@ -22,6 +22,7 @@ import org.apache.syncope.common.keymaster.client.api.ConfParamOps;
 import org.apache.syncope.core.logic.init.SCIMLoader;
 import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
 import org.apache.syncope.core.spring.security.AuthDataAccessor;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -50,9 +51,10 @@ public class SCIMLogicContext {
             final UserLogic userLogic,
             final AuthDataAccessor authDataAccessor,
             final GroupDAO groupDAO,
-            final JexlTools jexlTools) {
+            final JexlTools jexlTools,
+            final PlainSchemaDAO plainSchemaDAO) {
 
-        return new SCIMDataBinder(confManager, userLogic, authDataAccessor, groupDAO, jexlTools);
+        return new SCIMDataBinder(confManager, userLogic, authDataAccessor, groupDAO, jexlTools, plainSchemaDAO);
     }
 
     @ConditionalOnMissingBean
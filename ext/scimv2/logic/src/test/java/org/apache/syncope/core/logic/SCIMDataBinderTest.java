@@ -19,6 +19,7 @@
 package org.apache.syncope.core.logic;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -27,6 +28,7 @@ import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Stream;
 import org.apache.commons.jexl3.JexlBuilder;
@@ -47,6 +49,7 @@ import org.apache.syncope.common.lib.types.PatchOperation;
 import org.apache.syncope.common.lib.types.StatusRType;
 import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.PlainSchemaDAO;
 import org.apache.syncope.core.persistence.api.entity.ExternalResource;
 import org.apache.syncope.core.provisioning.api.jexl.EmptyClassLoader;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
@@ -85,10 +88,14 @@ class SCIMDataBinderTest {
         conf.getUserConf().setName(new SCIMUserNameConf());
         conf.getUserConf().getName().setGivenName("firstname");
         conf.getUserConf().getName().setFamilyName("surname");
+        conf.getUserConf().setDisplayName("cn");
         when(scimConfManager.get()).thenReturn(conf);
         UserLogic userLogic = mock(UserLogic.class);
         AuthDataAccessor authDataAccessor = mock(AuthDataAccessor.class);
         groupDAO = mock(GroupDAO.class);
+        PlainSchemaDAO plainSchemaDAO = mock(PlainSchemaDAO.class);
+        when(plainSchemaDAO.existsById("firstname")).thenReturn(true);
+        when(plainSchemaDAO.existsById("surname")).thenReturn(true);
 
         JexlEngine jexlEngine = new JexlBuilder().
                 loader(new EmptyClassLoader()).
@@ -99,7 +106,8 @@ class SCIMDataBinderTest {
                 create();
         JexlTools jexlTools = new JexlTools(jexlEngine);
 
-        dataBinder = new SCIMDataBinder(scimConfManager, userLogic, authDataAccessor, groupDAO, jexlTools);
+        dataBinder = new SCIMDataBinder(
+                scimConfManager, userLogic, authDataAccessor, groupDAO, jexlTools, plainSchemaDAO);
     }
 
     private static SCIMPatchOperation operation(
@@ -346,4 +354,28 @@ class SCIMDataBinderTest {
                 membershipUR -> PatchOperation.ADD_REPLACE.equals(membershipUR.getOperation())
                 && membershipUR.getGroup().equals("f779c0d4-633b-4be5-8f57-32eb478a3ca5")));
     }
+
+    @Test
+    void projection() {
+        // groups and roles are returned by default, complete TOs are needed
+        assertFalse(dataBinder.projection(Resource.User.name(), List.of(), List.of()).isPresent());
+
+        Pair<Set<String>, Set<String>> projection = dataBinder.projection(
+                Resource.User.name(), List.of("userName"), List.of()).orElseThrow();
+        assertTrue(projection.getLeft().containsAll(Set.of("key", "username", "suspended")));
+        assertTrue(projection.getRight().isEmpty());
+
+        projection = dataBinder.projection(
+                Resource.User.name(), List.of("userName", "name"), List.of()).orElseThrow();
+        assertEquals(Set.of("firstname", "surname"), projection.getRight());
+
+        // cn is not a plain schema
+        assertFalse(dataBinder.projection(
+                Resource.User.name(), List.of("displayName"), List.of()).isPresent());
+        assertFalse(dataBinder.projection(
+                Resource.User.name(), List.of(), List.of("groups", "roles")).isPresent());
+        projection = dataBinder.projection(
+                Resource.User.name(), List.of(), List.of("groups", "roles", "displayName")).orElseThrow();
+        assertEquals(Set.of("firstname", "surname"), projection.getRight());
+    }
 }
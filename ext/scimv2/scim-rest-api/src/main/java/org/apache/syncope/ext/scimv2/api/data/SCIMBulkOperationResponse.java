@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.api.data;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonFormat.Shape;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+
+@JsonPropertyOrder({ "location", "method", "bulkId", "version", "status", "response" })
+public class SCIMBulkOperationResponse extends SCIMBean {
+
+    private static final long serialVersionUID = -1742382751432547619L;
+
+    private final String location;
+
+    private final String method;
+
+    private final String bulkId;
+
+    private final String version;
+
+    @JsonFormat(shape = Shape.STRING)
+    private final int status;
+
+    private final SCIMError response;
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public SCIMBulkOperationResponse(
+            @JsonProperty("location") final String location,
+            @JsonProperty("method") final String method,
+            @JsonProperty("bulkId") final String bulkId,
+            @JsonProperty("version") final String version,
+            @JsonProperty("status") final int status,
+            @JsonProperty("response") final SCIMError response) {
+
+        this.location = location;
+        this.method = method;
+        this.bulkId = bulkId;
+        this.version = version;
+        this.status = status;
+        this.response = response;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getBulkId() {
+        return bulkId;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public SCIMError getResponse() {
+        return response;
+    }
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.api.data;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.syncope.ext.scimv2.api.type.Resource;
+
+public class SCIMBulkRequest extends SCIMBean {
+
+    private static final long serialVersionUID = -6217924783626528714L;
+
+    @JsonIgnore
+    private final List<String> schemas = List.of(Resource.BulkRequest.schema());
+
+    private final Integer failOnErrors;
+
+    @JsonProperty("Operations")
+    private final List<SCIMBulkOperation> operations = new ArrayList<>();
+
+    @JsonCreator(mode = JsonCreator.Mode.PROPERTIES)
+    public SCIMBulkRequest(@JsonProperty("failOnErrors") final Integer failOnErrors) {
+        this.failOnErrors = failOnErrors;
+    }
+
+    public List<String> getSchemas() {
+        return schemas;
+    }
+
+    public Integer getFailOnErrors() {
+        return failOnErrors;
+    }
+
+    public List<SCIMBulkOperation> getOperations() {
+        return operations;
+    }
+}
@@ -31,6 +31,8 @@ public enum Resource {
     SearchRequest("urn:ietf:params:scim:api:messages:2.0:SearchRequest"),
     ListResponse("urn:ietf:params:scim:api:messages:2.0:ListResponse"),
     PatchOp("urn:ietf:params:scim:api:messages:2.0:PatchOp"),
+    BulkRequest("urn:ietf:params:scim:api:messages:2.0:BulkRequest"),
+    BulkResponse("urn:ietf:params:scim:api:messages:2.0:BulkResponse"),
     Error("urn:ietf:params:scim:api:messages:2.0:Error");
 
     private final String schema;
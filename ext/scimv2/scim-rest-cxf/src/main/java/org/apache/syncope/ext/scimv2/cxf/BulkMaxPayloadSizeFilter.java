@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf;
+
+import jakarta.ws.rs.HttpMethod;
+import jakarta.ws.rs.container.ContainerRequestContext;
+import jakarta.ws.rs.container.ContainerRequestFilter;
+import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.ext.Provider;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.syncope.core.logic.scim.SCIMConfManager;
+import org.apache.syncope.ext.scimv2.api.data.SCIMError;
+
+/**
+ * Enforces the configured maxPayloadSize on bulk requests, by counting the bytes actually read: Content-Length is not
+ * available for chunked request bodies.
+ */
+@Provider
+public class BulkMaxPayloadSizeFilter implements ContainerRequestFilter {
+
+    protected static final String BULK_PATH = "v2/Bulk";
+
+    protected final SCIMConfManager confManager;
+
+    public BulkMaxPayloadSizeFilter(final SCIMConfManager confManager) {
+        this.confManager = confManager;
+    }
+
+    @Override
+    public void filter(final ContainerRequestContext reqCtx) throws IOException {
+        if (!HttpMethod.POST.equals(reqCtx.getMethod()) || !BULK_PATH.equals(StringUtils.strip(reqCtx.getUriInfo().getPath(), "/"))) {
+            return;
+        }
+
+        int maxPayloadSize = confManager.get().getGeneralConf().getBulkMaxPayloadSize();
+        if (reqCtx.getLength() > maxPayloadSize) {
+            abort(reqCtx, maxPayloadSize);
+            return;
+        }
+
+        // read no more than one byte past the limit, then hand over what was read
+        byte[] payload;
+        try (InputStream in = reqCtx.getEntityStream()) {
+            payload = in.readNBytes((int) Math.min((long) maxPayloadSize + 1, Integer.MAX_VALUE));
+        }
+        if (payload.length > maxPayloadSize) {
+            abort(reqCtx, maxPayloadSize);
+        } else {
+            reqCtx.setEntityStream(new ByteArrayInputStream(payload));
+        }
+    }
+
+    protected void abort(final ContainerRequestContext reqCtx, final int maxPayloadSize) {
+        reqCtx.abortWith(Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).
+                entity(new SCIMError(
+                        null,
+                        Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(),
+                        "The size of the bulk operation exceeds the maxPayloadSize (" + maxPayloadSize + ")")).
+                build());
+    }
+}
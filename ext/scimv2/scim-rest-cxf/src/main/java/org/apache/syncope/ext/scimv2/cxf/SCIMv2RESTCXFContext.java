@@ -74,6 +74,12 @@ public class SCIMv2RESTCXFContext {
         return new AddETagFilter();
     }
 
+    @ConditionalOnMissingBean(name = "scimBulkMaxPayloadSizeFilter")
+    @Bean
+    public BulkMaxPayloadSizeFilter scimBulkMaxPayloadSizeFilter(final SCIMConfManager confManager) {
+        return new BulkMaxPayloadSizeFilter(confManager);
+    }
+
     @ConditionalOnMissingBean(name = "scimv2Container")
     @Bean
     public Server scimv2Container(
@@ -87,6 +93,7 @@ public class SCIMv2RESTCXFContext {
             final JacksonJsonProvider scimJacksonJsonProvider,
             final SCIMExceptionMapper scimExceptionMapper,
             final AddETagFilter scimAddETagFilter,
+            final BulkMaxPayloadSizeFilter scimBulkMaxPayloadSizeFilter,
             final Bus bus,
             final ApplicationContext ctx) {
 
@@ -104,7 +111,8 @@ public class SCIMv2RESTCXFContext {
 
         scimv2Container.setOutInterceptors(List.of(gzipOutInterceptor));
 
-        scimv2Container.setProviders(List.of(scimJacksonJsonProvider, scimExceptionMapper, scimAddETagFilter));
+        scimv2Container.setProviders(List.of(
+                scimJacksonJsonProvider, scimExceptionMapper, scimAddETagFilter, scimBulkMaxPayloadSizeFilter));
 
         scimv2Container.setApplicationContext(ctx);
         return scimv2Container.create();
@@ -121,7 +129,11 @@ public class SCIMv2RESTCXFContext {
             final AnyObjectLogic anyObjectLogic,
             final SCIMDataBinder binder,
             final SCIMConfManager confManager,
-            final SCIMLogic scimLogic) {
+            final SCIMLogic scimLogic,
+            final SCIMUserService scimv2UserService,
+            final SCIMGroupService scimv2GroupService,
+            final SCIMAnyObjectService scimv2AnyObjectService,
+            final SCIMExceptionMapper scimExceptionMapper) {
 
         return new SCIMServiceImpl(
                 userDAO,
@@ -132,7 +144,11 @@ public class SCIMv2RESTCXFContext {
                 anyObjectLogic,
                 binder,
                 confManager,
-                scimLogic);
+                scimLogic,
+                scimv2UserService,
+                scimv2GroupService,
+                scimv2AnyObjectService,
+                scimExceptionMapper);
     }
 
     @ConditionalOnMissingBean
@@ -0,0 +1,68 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.ext.scimv2.cxf.service;
+
+import org.apache.syncope.common.lib.to.AnyTO;
+import org.apache.syncope.core.logic.AnyObjectLogic;
+import org.apache.syncope.core.logic.GroupLogic;
+import org.apache.syncope.core.logic.SCIMDataBinder;
+import org.apache.syncope.core.logic.UserLogic;
+import org.apache.syncope.core.logic.scim.SCIMConfManager;
+import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
+import org.apache.syncope.core.persistence.api.dao.GroupDAO;
+import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
+import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
+
+/**
+ * Base class for services managing a given type of SCIM resources, e.g. Users, Groups and AnyObjects.
+ *
+ * @param <R> SCIM resource type
+ */
+public abstract class AbstractSCIMResourceService<R extends SCIMResource> extends AbstractSCIMService<R> {
+
+    protected final Class<R> reference;
+
+    protected AbstractSCIMResourceService(
+            final UserDAO userDAO,
+            final GroupDAO groupDAO,
+            final AnyObjectDAO anyObjectDAO,
+            final UserLogic userLogic,
+            final GroupLogic groupLogic,
+            final AnyObjectLogic anyObjectLogic,
+            final SCIMDataBinder binder,
+            final SCIMConfManager confManager,
+            final Class<R> reference) {
+
+        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager);
+        this.reference = reference;
+    }
+
+    /*
+     * The following do* methods perform the actual changes without relying on any request-bound context,
+     * so that they can be invoked from bulk operations running off the request thread.
+     */
+    protected abstract AnyTO doCreate(R resource);
+
+    protected abstract void doUpdate(String key, SCIMPatchOp patch);
+
+    protected abstract AnyTO doReplace(String key, R resource);
+
+    protected abstract void doDelete(String key);
+}
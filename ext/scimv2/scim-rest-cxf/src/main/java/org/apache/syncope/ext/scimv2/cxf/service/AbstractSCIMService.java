@@ -25,7 +25,10 @@ import jakarta.ws.rs.core.Response.ResponseBuilder;
 import jakarta.ws.rs.core.UriInfo;
 import java.time.OffsetDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.cxf.jaxrs.ext.MessageContext;
 import org.apache.syncope.common.lib.SyncopeConstants;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
@@ -49,6 +52,7 @@ import org.apache.syncope.core.persistence.api.dao.NotFoundException;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.AnyTypeCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
+import org.apache.syncope.core.persistence.api.search.CountedPageRequest;
 import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ListResponse;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
@@ -59,7 +63,6 @@ import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 public abstract class AbstractSCIMService<R extends SCIMResource> {
@@ -173,6 +176,12 @@ public abstract class AbstractSCIMService<R extends SCIMResource> {
 
     protected abstract SCIMResource getResource(String key);
 
+    protected void checkId(final String key, final SCIMResource resource) {
+        if (!key.equals(resource.getId())) {
+            throw new BadRequestException(ErrorType.invalidPath, "Expected " + key + ", found " + resource.getId());
+        }
+    }
+
     protected ResponseBuilder checkETag(final String resource, final String key) {
         OffsetDateTime lastChange = anyDAO(resource).findLastChange(key).
                 orElseThrow(() -> new NotFoundException("Resource" + key + " not found"));
@@ -239,16 +248,31 @@ public abstract class AbstractSCIMService<R extends SCIMResource> {
                     ? filterCond
                     : SearchCond.and(filterCond, searchCond);
         }
-        Page<? extends AnyTO> result = anyLogic(type).search(
-                searchCond,
-                PageRequest.of(page, itemsPerPage, Sort.by(sort)),
-                SyncopeConstants.ROOT_REALM,
-                true,
-                true);
-
-        if (result.getTotalElements() > confManager.get().getGeneralConf().getFilterMaxResults()) {
+        // count first, no need to read any match if there are too many of them
+        long total = anyLogic(type).count(searchCond, SyncopeConstants.ROOT_REALM, true);
+        if (total > confManager.get().getGeneralConf().getFilterMaxResults()) {
             throw new BadRequestException(ErrorType.tooMany, "Too many results found");
         }
+        // the page request carries the total, not to count again
+        CountedPageRequest pageRequest = CountedPageRequest.of(page, itemsPerPage, Sort.by(sort), total);
+
+        // only read what is needed to return the requested attributes, if possible
+        Optional<Pair<Set<String>, Set<String>>> projection =
+                binder.projection(type, request.getAttributes(), request.getExcludedAttributes());
+        Page<? extends AnyTO> result = projection.isPresent()
+                ? anyLogic(type).project(
+                        searchCond,
+                        pageRequest,
+                        SyncopeConstants.ROOT_REALM,
+                        true,
+                        projection.get().getLeft(),
+                        projection.get().getRight())
+                : anyLogic(type).search(
+                        searchCond,
+                        pageRequest,
+                        SyncopeConstants.ROOT_REALM,
+                        true,
+                        true);
 
         ListResponse<R> response = new ListResponse<>(result.getTotalElements(), startIndex, itemsPerPage);
 
@@ -27,7 +27,6 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.common.lib.AnyOperations;
 import org.apache.syncope.common.lib.request.AnyObjectUR;
 import org.apache.syncope.common.lib.to.AnyObjectTO;
-import org.apache.syncope.common.lib.to.ProvisioningResult;
 import org.apache.syncope.core.logic.AnyObjectLogic;
 import org.apache.syncope.core.logic.GroupLogic;
 import org.apache.syncope.core.logic.SCIMDataBinder;
@@ -36,17 +35,16 @@ import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ListResponse;
 import org.apache.syncope.ext.scimv2.api.data.SCIMAnyObject;
 import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
 import org.apache.syncope.ext.scimv2.api.data.SCIMSearchRequest;
 import org.apache.syncope.ext.scimv2.api.service.SCIMAnyObjectService;
-import org.apache.syncope.ext.scimv2.api.type.ErrorType;
 import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 
-public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject> implements SCIMAnyObjectService {
+public class SCIMAnyObjectServiceImpl
+        extends AbstractSCIMResourceService<SCIMAnyObject> implements SCIMAnyObjectService {
 
     public SCIMAnyObjectServiceImpl(
             final UserDAO userDAO,
@@ -58,7 +56,8 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
             final SCIMDataBinder binder,
             final SCIMConfManager confManager) {
 
-        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager);
+        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager,
+                SCIMAnyObject.class);
     }
 
     @Override
@@ -103,18 +102,31 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
         }
     }
 
+    @Override
+    protected AnyObjectTO doCreate(final SCIMAnyObject anyObject) {
+        return anyObjectLogic.create(binder.toAnyObjectCR(anyObject), false).getEntity();
+    }
+
     @Override
     public Response create(final SCIMAnyObject anyObject) {
-        ProvisioningResult<AnyObjectTO> result = anyObjectLogic.create(binder.toAnyObjectCR(anyObject), false);
+        AnyObjectTO created = doCreate(anyObject);
         return createResponse(
-                result.getEntity().getKey(),
+                created.getKey(),
                 binder.toSCIMAnyObject(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        created,
+                        uriInfo.getAbsolutePathBuilder().path(created.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()));
     }
 
+    @Override
+    protected void doUpdate(final String id, final SCIMPatchOp patch) {
+        patch.getOperations().forEach(op -> {
+            AnyObjectUR update = binder.toAnyObjectUR(anyObjectLogic.read(id), op);
+            anyObjectLogic.update(update, false);
+        });
+    }
+
     @Override
     public Response update(final String id, final SCIMPatchOp patch) {
         SCIMResource resource = getResource(id);
@@ -124,10 +136,7 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
             return builder.build();
         }
 
-        patch.getOperations().forEach(op -> {
-            AnyObjectUR update = binder.toAnyObjectUR(anyObjectLogic.read(id), op);
-            anyObjectLogic.update(update, false);
-        });
+        doUpdate(id, patch);
 
         return updateResponse(
                 id,
@@ -135,11 +144,20 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
                 true);
     }
 
+    @Override
+    protected AnyObjectTO doReplace(final String id, final SCIMAnyObject anyObject) {
+        AnyObjectTO before = anyObjectLogic.read(id);
+
+        AnyObjectUR req = AnyOperations.diff(binder.toAnyObjectTO(anyObject, true), before, false);
+        req.getResources().clear();
+        req.getAuxClasses().clear();
+        req.getRelationships().clear();
+        return anyObjectLogic.update(req, false).getEntity();
+    }
+
     @Override
     public Response replace(final String id, final SCIMAnyObject anyObject) {
-        if (!id.equals(anyObject.getId())) {
-            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + anyObject.getId());
-        }
+        checkId(id, anyObject);
 
         SCIMResource resource = getResource(id);
         Response.ResponseBuilder builder = checkETag(
@@ -148,19 +166,13 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
             return builder.build();
         }
 
-        AnyObjectTO before = anyObjectLogic.read(id);
-
-        AnyObjectUR req = AnyOperations.diff(binder.toAnyObjectTO(anyObject, true), before, false);
-        req.getResources().clear();
-        req.getAuxClasses().clear();
-        req.getRelationships().clear();
-        ProvisioningResult<AnyObjectTO> result = anyObjectLogic.update(req, false);
+        AnyObjectTO replaced = doReplace(id, anyObject);
 
         return updateResponse(
-                result.getEntity().getKey(),
+                replaced.getKey(),
                 binder.toSCIMAnyObject(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        replaced,
+                        uriInfo.getAbsolutePathBuilder().path(replaced.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()),
                 false);
@@ -175,10 +187,15 @@ public class SCIMAnyObjectServiceImpl extends AbstractSCIMService<SCIMAnyObject>
             return builder.build();
         }
 
-        anyObjectLogic.delete(id, false);
+        doDelete(id);
         return Response.noContent().build();
     }
 
+    @Override
+    protected void doDelete(final String id) {
+        anyObjectLogic.delete(id, false);
+    }
+
     @Override
     protected SCIMResource getResource(final String key) {
         return binder.toSCIMAnyObject(
@@ -51,7 +51,6 @@ import org.apache.syncope.core.persistence.api.dao.UserDAO;
 import org.apache.syncope.core.persistence.api.dao.search.MembershipCond;
 import org.apache.syncope.core.persistence.api.dao.search.SearchCond;
 import org.apache.syncope.core.provisioning.api.jexl.JexlTools;
-import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ListResponse;
 import org.apache.syncope.ext.scimv2.api.data.Member;
 import org.apache.syncope.ext.scimv2.api.data.SCIMGroup;
@@ -59,14 +58,13 @@ import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
 import org.apache.syncope.ext.scimv2.api.data.SCIMSearchRequest;
 import org.apache.syncope.ext.scimv2.api.service.SCIMGroupService;
-import org.apache.syncope.ext.scimv2.api.type.ErrorType;
 import org.apache.syncope.ext.scimv2.api.type.PatchOp;
 import org.apache.syncope.ext.scimv2.api.type.Resource;
 import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.util.CollectionUtils;
 
-public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> implements SCIMGroupService {
+public class SCIMGroupServiceImpl extends AbstractSCIMResourceService<SCIMGroup> implements SCIMGroupService {
 
     protected final JexlTools jexlTools;
 
@@ -81,7 +79,8 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
             final SCIMConfManager confManager,
             final JexlTools jexlTools) {
 
-        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager);
+        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager,
+                SCIMGroup.class);
         this.jexlTools = jexlTools;
     }
 
@@ -98,7 +97,7 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
     }
 
     @Override
-    public Response create(final SCIMGroup group) {
+    protected GroupTO doCreate(final SCIMGroup group) {
         // first create group, no members assigned
         ProvisioningResult<GroupTO> result = groupLogic.create(binder.toGroupCR(group), false);
 
@@ -106,11 +105,17 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         group.getMembers().forEach(member -> changeMembership(
                 member.getValue(), result.getEntity().getKey(), PatchOp.add));
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response create(final SCIMGroup group) {
+        GroupTO created = doCreate(group);
         return createResponse(
-                result.getEntity().getKey(),
+                created.getKey(),
                 binder.toSCIMGroup(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        created,
+                        uriInfo.getAbsolutePathBuilder().path(created.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()));
     }
@@ -150,12 +155,7 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
     }
 
     @Override
-    public Response update(final String id, final SCIMPatchOp patch) {
-        ResponseBuilder builder = checkETag(Resource.Group.schema(), id);
-        if (builder != null) {
-            return builder.build();
-        }
-
+    protected void doUpdate(final String id, final SCIMPatchOp patch) {
         patch.getOperations().forEach(op -> {
             if (op.getPath() != null && "members".equals(op.getPath().getAttribute())) {
                 if (CollectionUtils.isEmpty(op.getValue())) {
@@ -173,24 +173,25 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
                 groupLogic.update(binder.toGroupUR(groupLogic.read(id), op), false);
             }
         });
-
-        return updateResponse(
-                id,
-                null,
-                true);
     }
 
     @Override
-    public Response replace(final String id, final SCIMGroup group) {
-        if (!id.equals(group.getId())) {
-            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + group.getId());
-        }
-
+    public Response update(final String id, final SCIMPatchOp patch) {
         ResponseBuilder builder = checkETag(Resource.Group.schema(), id);
         if (builder != null) {
             return builder.build();
         }
 
+        doUpdate(id, patch);
+
+        return updateResponse(
+                id,
+                null,
+                true);
+    }
+
+    @Override
+    protected GroupTO doReplace(final String id, final SCIMGroup group) {
         // save current group members
         Set<String> beforeMembers = members(id);
 
@@ -213,11 +214,25 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
         beforeMembers.stream().filter(member -> !afterMembers.contains(member)).forEach(user -> changeMembership(
                 user, result.getEntity().getKey(), PatchOp.remove));
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response replace(final String id, final SCIMGroup group) {
+        checkId(id, group);
+
+        ResponseBuilder builder = checkETag(Resource.Group.schema(), id);
+        if (builder != null) {
+            return builder.build();
+        }
+
+        GroupTO replaced = doReplace(id, group);
+
         return updateResponse(
-                result.getEntity().getKey(),
+                replaced.getKey(),
                 binder.toSCIMGroup(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        replaced,
+                        uriInfo.getAbsolutePathBuilder().path(replaced.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()),
                 false);
@@ -239,10 +254,15 @@ public class SCIMGroupServiceImpl extends AbstractSCIMService<SCIMGroup> impleme
             return builder.build();
         }
 
-        anyLogic(Resource.Group.name()).delete(id, false);
+        doDelete(id);
         return Response.noContent().build();
     }
 
+    @Override
+    protected void doDelete(final String id) {
+        anyLogic(Resource.Group.name()).delete(id, false);
+    }
+
     @Override
     public ListResponse<SCIMGroup> search(
             final String attributes,
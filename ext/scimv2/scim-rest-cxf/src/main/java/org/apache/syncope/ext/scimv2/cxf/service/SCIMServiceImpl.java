@@ -18,26 +18,129 @@
  */
 package org.apache.syncope.ext.scimv2.cxf.service;
 
+import jakarta.ws.rs.HttpMethod;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.UriBuilder;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.syncope.common.lib.scim.SCIMGeneralConf;
 import org.apache.syncope.core.logic.AnyObjectLogic;
 import org.apache.syncope.core.logic.GroupLogic;
 import org.apache.syncope.core.logic.SCIMDataBinder;
 import org.apache.syncope.core.logic.SCIMLogic;
 import org.apache.syncope.core.logic.UserLogic;
 import org.apache.syncope.core.logic.scim.SCIMConfManager;
+import org.apache.syncope.core.persistence.api.dao.AnyDAO;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
+import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ResourceType;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperation;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperationResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMError;
+import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
 import org.apache.syncope.ext.scimv2.api.data.ServiceProviderConfig;
+import org.apache.syncope.ext.scimv2.api.service.SCIMAnyObjectService;
+import org.apache.syncope.ext.scimv2.api.service.SCIMGroupService;
 import org.apache.syncope.ext.scimv2.api.service.SCIMService;
+import org.apache.syncope.ext.scimv2.api.service.SCIMUserService;
+import org.apache.syncope.ext.scimv2.api.type.ErrorType;
+import org.apache.syncope.ext.scimv2.cxf.SCIMExceptionMapper;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.context.SecurityContextHolder;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.json.JsonMapper;
 
 public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implements SCIMService {
 
+    protected static final Pattern BULK_ID = Pattern.compile("bulkId:([\\w\\-]+)");
+
+    protected static final int BULK_CONCURRENCY = 10;
+
+    protected static final JsonMapper MAPPER = JsonMapper.builder().
+            findAndAddModules().enable(MapperFeature.USE_GETTERS_AS_SETTERS).build();
+
+    protected static Set<String> references(final String... values) {
+        Set<String> references = new HashSet<>();
+        for (String value : values) {
+            if (value != null) {
+                Matcher matcher = BULK_ID.matcher(value);
+                while (matcher.find()) {
+                    references.add(matcher.group(1));
+                }
+            }
+        }
+        return references;
+    }
+
+    protected static BulkEndpoint<?> bulkEndpoint(final Object service, final AnyDAO<?> anyDAO) {
+        if (service instanceof AbstractSCIMResourceService<?> resourceService) {
+            return new BulkEndpoint<>(resourceService, anyDAO);
+        }
+        throw new IllegalArgumentException(
+                service.getClass().getName() + " does not extend " + AbstractSCIMResourceService.class.getName());
+    }
+
+    protected record BulkEndpoint<R extends SCIMResource>(AbstractSCIMResourceService<R> service, AnyDAO<?> anyDAO) {
+
+        private static String data(final String payload) {
+            if (payload == null) {
+                throw new BadRequestException(ErrorType.invalidSyntax, "Missing data");
+            }
+            return payload;
+        }
+
+        String create(final String payload) {
+            return service.doCreate(MAPPER.readValue(data(payload), service.reference)).getKey();
+        }
+
+        void update(final String key, final String payload) {
+            service.doUpdate(key, MAPPER.readValue(data(payload), SCIMPatchOp.class));
+        }
+
+        void replace(final String key, final String payload) {
+            R resource = MAPPER.readValue(data(payload), service.reference);
+            service.checkId(key, resource);
+            service.doReplace(key, resource);
+        }
+
+        void delete(final String key) {
+            service.doDelete(key);
+        }
+
+        Optional<String> version(final String key) {
+            return anyDAO.findLastChange(key).map(lastChange -> String.valueOf(lastChange.toInstant().toEpochMilli()));
+        }
+    }
+
     protected final SCIMLogic scimLogic;
 
+    protected final SCIMExceptionMapper exceptionMapper;
+
+    protected final Map<String, BulkEndpoint<?>> bulkEndpoints;
+
     public SCIMServiceImpl(
             final UserDAO userDAO,
             final GroupDAO groupDAO,
@@ -47,10 +150,19 @@ public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implement
             final AnyObjectLogic anyObjectLogic,
             final SCIMDataBinder binder,
             final SCIMConfManager confManager,
-            final SCIMLogic scimLogic) {
+            final SCIMLogic scimLogic,
+            final SCIMUserService userService,
+            final SCIMGroupService groupService,
+            final SCIMAnyObjectService anyObjectService,
+            final SCIMExceptionMapper exceptionMapper) {
 
         super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager);
         this.scimLogic = scimLogic;
+        this.exceptionMapper = exceptionMapper;
+        this.bulkEndpoints = Map.of(
+                "Users", bulkEndpoint(userService, userDAO),
+                "Groups", bulkEndpoint(groupService, groupDAO),
+                "AnyObjects", bulkEndpoint(anyObjectService, anyObjectDAO));
     }
 
     @Override
@@ -78,6 +190,213 @@ public class SCIMServiceImpl extends AbstractSCIMService<SCIMResource> implement
         return Response.ok(scimLogic.schema(schema)).build();
     }
 
+    @Override
+    public Response bulk(final SCIMBulkRequest request) {
+        // the payload size was already checked while reading, see BulkMaxPayloadSizeFilter
+        SCIMGeneralConf conf = confManager.get().getGeneralConf();
+        if (request.getOperations().size() > conf.getBulkMaxOperations()) {
+            return Response.status(Response.Status.REQUEST_ENTITY_TOO_LARGE).
+                    entity(new SCIMError(
+                            null,
+                            Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(),
+                            "The number of operations exceeds the maxOperations ("
+                            + conf.getBulkMaxOperations() + ")")).
+                    build();
+        }
+
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("scimBulk-");
+        executor.setVirtualThreads(true);
+        try {
+            SCIMBulkResponse response = new SCIMBulkResponse();
+            response.getOperations().addAll(new BulkExecution(
+                    request,
+                    uriInfo.getBaseUriBuilder().path("v2"),
+                    new DelegatingSecurityContextExecutor(executor, SecurityContextHolder.getContext())).run());
+            return Response.ok(response).build();
+        } finally {
+            executor.close();
+        }
+    }
+
+    /**
+     * Runs the operations of a bulk request: each operation waits only for the operations whose {@code bulkId} it
+     * references, so that independent operations run concurrently.
+     */
+    protected class BulkExecution {
+
+        protected final List<SCIMBulkOperation> operations;
+
+        protected final Integer failOnErrors;
+
+        protected final UriBuilder base;
+
+        protected final Executor executor;
+
+        protected final Map<String, Integer> bulkIds = new HashMap<>();
+
+        protected final Map<String, String> resolved = new ConcurrentHashMap<>();
+
+        protected final List<CompletableFuture<Optional<SCIMBulkOperationResponse>>> scheduled;
+
+        protected final Set<Integer> visiting = new HashSet<>();
+
+        protected final AtomicInteger errors = new AtomicInteger();
+
+        protected final Semaphore permits = new Semaphore(BULK_CONCURRENCY);
+
+        protected BulkExecution(final SCIMBulkRequest request, final UriBuilder base, final Executor executor) {
+            this.operations = request.getOperations();
+            this.failOnErrors = request.getFailOnErrors();
+            this.base = base;
+            this.executor = executor;
+
+            for (int i = 0; i < operations.size(); i++) {
+                String bulkId = operations.get(i).getBulkId();
+                if (bulkId != null && bulkIds.putIfAbsent(bulkId, i) != null) {
+                    throw new BadRequestException(ErrorType.invalidValue, "Duplicate bulkId: " + bulkId);
+                }
+            }
+            this.scheduled = new ArrayList<>(Collections.nCopies(operations.size(), null));
+        }
+
+        protected List<SCIMBulkOperationResponse> run() {
+            IntStream.range(0, operations.size()).forEach(this::schedule);
+            return scheduled.stream().map(CompletableFuture::join).flatMap(Optional::stream).toList();
+        }
+
+        protected CompletableFuture<?> schedule(final int index) {
+            if (visiting.contains(index)) {
+                // circular reference: won't wait, the bulkId will be reported as unresolved
+                return CompletableFuture.completedFuture(null);
+            }
+
+            CompletableFuture<Optional<SCIMBulkOperationResponse>> future = scheduled.get(index);
+            if (future == null) {
+                SCIMBulkOperation op = operations.get(index);
+
+                visiting.add(index);
+                CompletableFuture<?>[] dependencies = references(op.getPath(), payload(op)).stream().
+                        map(bulkIds::get).filter(Objects::nonNull).map(this::schedule).
+                        toArray(CompletableFuture[]::new);
+                visiting.remove(index);
+
+                future = CompletableFuture.allOf(dependencies).thenApplyAsync(ignore -> execute(op), executor);
+                scheduled.set(index, future);
+            }
+            return future;
+        }
+
+        protected String payload(final SCIMBulkOperation op) {
+            return Optional.ofNullable(op.getData()).map(MAPPER::writeValueAsString).orElse(null);
+        }
+
+        protected String resolve(final String value) {
+            return value == null
+                    ? null
+                    : BULK_ID.matcher(value).replaceAll(ref -> Matcher.quoteReplacement(resolved.get(ref.group(1))));
+        }
+
+        protected Optional<SCIMBulkOperationResponse> execute(final SCIMBulkOperation op) {
+            if (failOnErrors != null && errors.get() >= failOnErrors) {
+                return Optional.empty();
+            }
+
+            String payload = payload(op);
+            Set<String> unresolved = references(op.getPath(), payload);
+            unresolved.removeAll(resolved.keySet());
+            if (!unresolved.isEmpty()) {
+                return Optional.of(error(op, null, new SCIMError(
+                        ErrorType.invalidValue,
+                        Response.Status.CONFLICT.getStatusCode(),
+                        "Unable to resolve bulkId(s) " + unresolved)));
+            }
+
+            String[] segments = StringUtils.split(resolve(op.getPath()), '/');
+            BulkEndpoint<?> endpoint = segments == null || segments.length == 0 || segments.length > 2
+                    ? null
+                    : bulkEndpoints.get(segments[0]);
+            String key = endpoint == null || segments.length == 1 ? null : segments[1];
+            String location = key == null ? null : base.clone().path(segments[0]).path(key).build().toASCIIString();
+
+            permits.acquireUninterruptibly();
+            try {
+                if (endpoint == null) {
+                    throw new BadRequestException(ErrorType.invalidPath, "Unsupported path: " + op.getPath());
+                }
+                if (key == null ^ HttpMethod.POST.equals(op.getMethod())) {
+                    throw new BadRequestException(
+                            ErrorType.invalidPath, "Unexpected path for " + op.getMethod() + ": " + op.getPath());
+                }
+
+                if (key != null && op.getVersion() != null) {
+                    String version = StringUtils.strip(StringUtils.removeStart(op.getVersion(), "W/"), "\"");
+                    if (endpoint.version(key).filter(current -> !current.equals(version)).isPresent()) {
+                        return Optional.of(error(op, location, new SCIMError(
+                                null,
+                                Response.Status.PRECONDITION_FAILED.getStatusCode(),
+                                "Resource " + key + " was modified since version " + op.getVersion())));
+                    }
+                }
+
+                Response.Status status;
+                switch (StringUtils.defaultString(op.getMethod())) {
+                    case HttpMethod.POST -> {
+                        key = endpoint.create(resolve(payload));
+                        location = base.clone().path(segments[0]).path(key).build().toASCIIString();
+                        if (op.getBulkId() != null) {
+                            resolved.put(op.getBulkId(), key);
+                        }
+                        status = Response.Status.CREATED;
+                    }
+
+                    case HttpMethod.PUT -> {
+                        endpoint.replace(key, resolve(payload));
+                        status = Response.Status.OK;
+                    }
+
+                    case HttpMethod.PATCH -> {
+                        endpoint.update(key, resolve(payload));
+                        status = Response.Status.OK;
+                    }
+
+                    case HttpMethod.DELETE -> {
+                        endpoint.delete(key);
+                        status = Response.Status.NO_CONTENT;
+                    }
+
+                    default ->
+                        throw new BadRequestException(ErrorType.invalidSyntax, "Unsupported method: " + op.getMethod());
+                }
+
+                return Optional.of(new SCIMBulkOperationResponse(
+                        location,
+                        op.getMethod(),
+                        op.getBulkId(),
+                        status == Response.Status.NO_CONTENT
+                        ? null
+                        : endpoint.version(key).map(version -> "W/\"" + version + "\"").orElse(null),
+                        status.getStatusCode(),
+                        null));
+            } catch (Exception e) {
+                Response mapped = exceptionMapper.toResponse(e);
+                int status = mapped == null ? Response.Status.FORBIDDEN.getStatusCode() : mapped.getStatus();
+                return Optional.of(error(op, location, mapped != null && mapped.getEntity() instanceof SCIMError error
+                        ? error
+                        : new SCIMError(null, status, ExceptionUtils.getRootCauseMessage(e))));
+            } finally {
+                permits.release();
+            }
+        }
+
+        protected SCIMBulkOperationResponse error(
+                final SCIMBulkOperation op, final String location, final SCIMError error) {
+
+            errors.incrementAndGet();
+            return new SCIMBulkOperationResponse(
+                    location, op.getMethod(), op.getBulkId(), null, error.getStatus(), error);
+        }
+    }
+
     @Override
     protected SCIMResource getResource(final String key) {
         return null;
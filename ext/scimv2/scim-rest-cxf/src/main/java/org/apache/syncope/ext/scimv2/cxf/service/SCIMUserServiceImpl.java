@@ -39,18 +39,16 @@ import org.apache.syncope.core.logic.scim.SCIMConfManager;
 import org.apache.syncope.core.persistence.api.dao.AnyObjectDAO;
 import org.apache.syncope.core.persistence.api.dao.GroupDAO;
 import org.apache.syncope.core.persistence.api.dao.UserDAO;
-import org.apache.syncope.ext.scimv2.api.BadRequestException;
 import org.apache.syncope.ext.scimv2.api.data.ListResponse;
 import org.apache.syncope.ext.scimv2.api.data.SCIMPatchOp;
 import org.apache.syncope.ext.scimv2.api.data.SCIMResource;
 import org.apache.syncope.ext.scimv2.api.data.SCIMSearchRequest;
 import org.apache.syncope.ext.scimv2.api.data.SCIMUser;
 import org.apache.syncope.ext.scimv2.api.service.SCIMUserService;
-import org.apache.syncope.ext.scimv2.api.type.ErrorType;
 import org.apache.syncope.ext.scimv2.api.type.Resource;
 import org.apache.syncope.ext.scimv2.api.type.SortOrder;
 
-public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implements SCIMUserService {
+public class SCIMUserServiceImpl extends AbstractSCIMResourceService<SCIMUser> implements SCIMUserService {
 
     public SCIMUserServiceImpl(
             final UserDAO userDAO,
@@ -62,17 +60,23 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             final SCIMDataBinder binder,
             final SCIMConfManager confManager) {
 
-        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager);
+        super(userDAO, groupDAO, anyObjectDAO, userLogic, groupLogic, anyObjectLogic, binder, confManager,
+                SCIMUser.class);
+    }
+
+    @Override
+    protected UserTO doCreate(final SCIMUser user) {
+        return userLogic.create(binder.toUserCR(user), false).getEntity();
     }
 
     @Override
     public Response create(final SCIMUser user) {
-        ProvisioningResult<UserTO> result = userLogic.create(binder.toUserCR(user), false);
+        UserTO created = doCreate(user);
         return createResponse(
-                result.getEntity().getKey(),
+                created.getKey(),
                 binder.toSCIMUser(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        created,
+                        uriInfo.getAbsolutePathBuilder().path(created.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()));
     }
@@ -89,6 +93,15 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
                 List.of(ArrayUtils.nullToEmpty(StringUtils.split(excludedAttributes, ','))));
     }
 
+    @Override
+    protected void doUpdate(final String id, final SCIMPatchOp patch) {
+        Pair<List<UserUR>, StatusR> update = binder.toUserUpdate(
+                userLogic.read(id),
+                patch);
+        update.getLeft().forEach(userUR -> userLogic.update(userUR, false));
+        Optional.ofNullable(update.getRight()).ifPresent(statusR -> userLogic.status(statusR, false));
+    }
+
     @Override
     public Response update(final String id, final SCIMPatchOp patch) {
         ResponseBuilder builder = checkETag(Resource.User.schema(), id);
@@ -96,11 +109,7 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             return builder.build();
         }
 
-        Pair<List<UserUR>, StatusR> update = binder.toUserUpdate(
-                userLogic.read(id),
-                patch);
-        update.getLeft().forEach(userUR -> userLogic.update(userUR, false));
-        Optional.ofNullable(update.getRight()).ifPresent(statusR -> userLogic.status(statusR, false));
+        doUpdate(id, patch);
 
         return updateResponse(
                 id,
@@ -109,16 +118,7 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
     }
 
     @Override
-    public Response replace(final String id, final SCIMUser user) {
-        if (!id.equals(user.getId())) {
-            throw new BadRequestException(ErrorType.invalidPath, "Expected " + id + ", found " + user.getId());
-        }
-
-        ResponseBuilder builder = checkETag(Resource.User.schema(), id);
-        if (builder != null) {
-            return builder.build();
-        }
-
+    protected UserTO doReplace(final String id, final SCIMUser user) {
         UserTO before = userLogic.read(id);
 
         UserUR req = AnyOperations.diff(binder.toUserTO(user, true), before, false);
@@ -137,11 +137,25 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             userLogic.status(statusR, false);
         }
 
+        return result.getEntity();
+    }
+
+    @Override
+    public Response replace(final String id, final SCIMUser user) {
+        checkId(id, user);
+
+        ResponseBuilder builder = checkETag(Resource.User.schema(), id);
+        if (builder != null) {
+            return builder.build();
+        }
+
+        UserTO replaced = doReplace(id, user);
+
         return updateResponse(
-                result.getEntity().getKey(),
+                replaced.getKey(),
                 binder.toSCIMUser(
-                        result.getEntity(),
-                        uriInfo.getAbsolutePathBuilder().path(result.getEntity().getKey()).build().toASCIIString(),
+                        replaced,
+                        uriInfo.getAbsolutePathBuilder().path(replaced.getKey()).build().toASCIIString(),
                         List.of(),
                         List.of()),
                 false);
@@ -163,10 +177,15 @@ public class SCIMUserServiceImpl extends AbstractSCIMService<SCIMUser> implement
             return builder.build();
         }
 
-        anyLogic(Resource.User.name()).delete(id, false);
+        doDelete(id);
         return Response.noContent().build();
     }
 
+    @Override
+    protected void doDelete(final String id) {
+        anyLogic(Resource.User.name()).delete(id, false);
+    }
+
     @Override
     public ListResponse<SCIMUser> search(
             final String attributes,
@@ -68,6 +68,10 @@ import org.apache.syncope.ext.scimv2.api.data.ListResponse;
 import org.apache.syncope.ext.scimv2.api.data.Member;
 import org.apache.syncope.ext.scimv2.api.data.ResourceType;
 import org.apache.syncope.ext.scimv2.api.data.SCIMAnyObject;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperation;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkOperationResponse;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkRequest;
+import org.apache.syncope.ext.scimv2.api.data.SCIMBulkResponse;
 import org.apache.syncope.ext.scimv2.api.data.SCIMComplexValue;
 import org.apache.syncope.ext.scimv2.api.data.SCIMError;
 import org.apache.syncope.ext.scimv2.api.data.SCIMExtensionInfo;
@@ -203,7 +207,7 @@ public class SCIMITCase extends AbstractITCase {
         ServiceProviderConfig serviceProviderConfig = response.readEntity(ServiceProviderConfig.class);
         assertNotNull(serviceProviderConfig);
         assertTrue(serviceProviderConfig.getPatch().isSupported());
-        assertFalse(serviceProviderConfig.getBulk().isSupported());
+        assertTrue(serviceProviderConfig.getBulk().isSupported());
         assertTrue(serviceProviderConfig.getChangePassword().isSupported());
         assertTrue(serviceProviderConfig.getEtag().isSupported());
         assertTrue(serviceProviderConfig.getSort().isSupported());
@@ -1225,4 +1229,73 @@ public class SCIMITCase extends AbstractITCase {
         response = webClient().path("AnyObjects").path(printer.getId()).get();
         assertEquals(Response.Status.NOT_FOUND.getStatusCode(), response.getStatus());
     }
+
+    @Test
+    void bulk() {
+        SCIM_CONF_SERVICE.set(CONF);
+
+        JsonMapper mapper = JsonMapper.builder().findAndAddModules().
+                enable(MapperFeature.USE_GETTERS_AS_SETTERS).build();
+
+        SCIMUser user = getSampleUser(UUID.randomUUID().toString(), List.of(Resource.User.schema()));
+        SCIMGroup group = getSampleGroup(UUID.randomUUID().toString(), List.of(Resource.Group.schema()));
+        group.getMembers().add(new Member("bulkId:user", null, null));
+
+        SCIMBulkRequest request = new SCIMBulkRequest(null);
+        // listed before the user it depends on, will wait for it anyway
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.POST, "group", null, "/Groups", mapper.valueToTree(group)));
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.POST, "user", null, "/Users", mapper.valueToTree(user)));
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.DELETE, null, null, "/Users/" + UUID.randomUUID(), null));
+        SCIMGroup unresolved = getSampleGroup(UUID.randomUUID().toString(), List.of(Resource.Group.schema()));
+        unresolved.getMembers().add(new Member("bulkId:missing", null, null));
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.POST, null, null, "/Groups", mapper.valueToTree(unresolved)));
+
+        Response response = webClient().path("Bulk").post(request);
+        assertEquals(Response.Status.OK.getStatusCode(), response.getStatus());
+
+        SCIMBulkResponse bulkResponse = response.readEntity(SCIMBulkResponse.class);
+        assertEquals(4, bulkResponse.getOperations().size());
+
+        SCIMBulkOperationResponse groupResult = bulkResponse.getOperations().get(0);
+        assertEquals(Response.Status.CREATED.getStatusCode(), groupResult.getStatus());
+        assertNotNull(groupResult.getVersion());
+        SCIMBulkOperationResponse userResult = bulkResponse.getOperations().get(1);
+        assertEquals(Response.Status.CREATED.getStatusCode(), userResult.getStatus());
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), bulkResponse.getOperations().get(2).getStatus());
+        assertEquals(Response.Status.CONFLICT.getStatusCode(), bulkResponse.getOperations().get(3).getStatus());
+        assertEquals(ErrorType.invalidValue, bulkResponse.getOperations().get(3).getResponse().getScimType());
+
+        String userKey = StringUtils.substringAfterLast(userResult.getLocation(), "/");
+        group = webClient().path("Groups").path(StringUtils.substringAfterLast(groupResult.getLocation(), "/")).
+                get(SCIMGroup.class);
+        assertEquals(1, group.getMembers().size());
+        assertEquals(userKey, group.getMembers().getFirst().getValue());
+
+        // stop processing after the first error
+        request = new SCIMBulkRequest(1);
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.DELETE, "first", null, "/Users/" + UUID.randomUUID(), null));
+        request.getOperations().add(new SCIMBulkOperation(
+                HttpMethod.DELETE, null, null, "/Users/bulkId:first", null));
+
+        bulkResponse = webClient().path("Bulk").post(request).readEntity(SCIMBulkResponse.class);
+        assertEquals(1, bulkResponse.getOperations().size());
+        assertEquals(Response.Status.NOT_FOUND.getStatusCode(), bulkResponse.getOperations().getFirst().getStatus());
+
+        // too many operations
+        SCIMConf conf = SCIM_CONF_SERVICE.get();
+        conf.getGeneralConf().setBulkMaxOperations(1);
+        SCIM_CONF_SERVICE.set(conf);
+        try {
+            response = webClient().path("Bulk").post(request);
+            assertEquals(Response.Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode(), response.getStatus());
+        } finally {
+            conf.getGeneralConf().setBulkMaxOperations(1000);
+            SCIM_CONF_SERVICE.set(conf);
+        }
+    }
 }
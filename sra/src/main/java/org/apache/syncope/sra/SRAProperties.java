@@ -366,6 +366,41 @@ public class SRAProperties extends SyncopeProperties {
         }
     }
 
+    public static class Session implements Serializable {
+
+        private static final long serialVersionUID = 3587349578212478364L;
+
+        private long maxEntries = 10000;
+
+        private long maxIdleTime = 1800;
+
+        private long maxLifetime = 28800;
+
+        public long getMaxEntries() {
+            return maxEntries;
+        }
+
+        public void setMaxEntries(final long maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        public long getMaxIdleTime() {
+            return maxIdleTime;
+        }
+
+        public void setMaxIdleTime(final long maxIdleTime) {
+            this.maxIdleTime = maxIdleTime;
+        }
+
+        public long getMaxLifetime() {
+            return maxLifetime;
+        }
+
+        public void setMaxLifetime(final long maxLifetime) {
+            this.maxLifetime = maxLifetime;
+        }
+    }
+
     private final Global global = new Global();
 
     private AMType amType = AMType.OIDC;
@@ -378,6 +413,8 @@ public class SRAProperties extends SyncopeProperties {
 
     private final CAS cas = new CAS();
 
+    private final Session session = new Session();
+
     public Global getGlobal() {
         return global;
     }
@@ -405,4 +442,8 @@ public class SRAProperties extends SyncopeProperties {
     public CAS getCas() {
         return cas;
     }
+
+    public Session getSession() {
+        return session;
+    }
 }
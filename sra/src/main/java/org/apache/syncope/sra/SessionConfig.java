@@ -18,12 +18,15 @@
  */
 package org.apache.syncope.sra;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
 import java.util.List;
 import org.apache.syncope.sra.session.CacheManagerReactiveSessionRepository;
+import org.apache.syncope.sra.session.SessionExpiry;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.caffeine.CaffeineCache;
 import org.springframework.cache.support.SimpleCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -40,15 +43,41 @@ public class SessionConfig {
 
     @ConditionalOnMissingBean
     @Bean
-    public ReactiveSessionRepository<MapSession> reactiveSessionRepository() {
-        return new CacheManagerReactiveSessionRepository();
+    public SessionExpiry sessionExpiry(final SRAProperties props) {
+        return new SessionExpiry(
+                Duration.ofSeconds(props.getSession().getMaxIdleTime()),
+                Duration.ofSeconds(props.getSession().getMaxLifetime()));
     }
 
     @ConditionalOnMissingBean
     @Bean
-    public CacheManager cacheManager() {
+    public ReactiveSessionRepository<MapSession> reactiveSessionRepository(
+            final CacheManager cacheManager,
+            final SessionExpiry sessionExpiry) {
+
+        return new CacheManagerReactiveSessionRepository(cacheManager, sessionExpiry);
+    }
+
+    /**
+     * Local, bounded session store; define a {@link CacheManager} bean providing the {@link #DEFAULT_CACHE} cache
+     * to share sessions among SRA instances via a distributed backend.
+     *
+     * @param props SRA properties
+     * @param sessionExpiry session expiration policy
+     * @return cache manager
+     */
+    @ConditionalOnMissingBean
+    @Bean
+    public CacheManager cacheManager(final SRAProperties props, final SessionExpiry sessionExpiry) {
         SimpleCacheManager cacheManager = new SimpleCacheManager();
-        cacheManager.setCaches(List.of(new ConcurrentMapCache(DEFAULT_CACHE)));
+        cacheManager.setCaches(List.of(new CaffeineCache(
+                DEFAULT_CACHE,
+                Caffeine.newBuilder().
+                        maximumSize(props.getSession().getMaxEntries()).
+                        expireAfter(sessionExpiry).
+                        recordStats().
+                        build(),
+                false)));
         return cacheManager;
     }
 }
@@ -18,14 +18,18 @@
  */
 package org.apache.syncope.sra.actuate;
 
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.time.OffsetDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.concurrent.ConcurrentMap;
+import java.util.Optional;
 import org.apache.syncope.common.lib.AMSession;
 import org.apache.syncope.sra.SessionConfig;
 import org.apache.syncope.sra.security.cas.CASAuthenticationToken;
 import org.apache.syncope.sra.security.saml2.SAML2AuthenticationToken;
+import org.apache.syncope.sra.session.SessionCodec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
@@ -43,6 +47,19 @@ import tools.jackson.databind.json.JsonMapper;
 @Endpoint(id = "sraSessions")
 public class SRASessions {
 
+    /**
+     * Session store statistics, available only with the default, local store.
+     *
+     * @param size estimated number of sessions
+     * @param hitCount number of lookups finding a session
+     * @param missCount number of lookups not finding any session
+     * @param evictionCount number of sessions removed because expired or exceeding the maximum size
+     */
+    public record Stats(long size, long hitCount, long missCount, long evictionCount) {
+    }
+
+    public static final String STATS = "stats";
+
     protected static final Logger LOG = LoggerFactory.getLogger(SRASessions.class);
 
     protected static final JsonMapper MAPPER = JsonMapper.builder().findAndAddModules().build();
@@ -85,26 +102,55 @@ public class SRASessions {
         return session;
     }
 
+    protected Cache cache() {
+        return cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+    }
+
     @ReadOperation
-    @SuppressWarnings("unchecked")
     public List<AMSession> list() {
-        return ((ConcurrentMap<Object, Object>) cacheManager.getCache(SessionConfig.DEFAULT_CACHE).getNativeCache()).
-                values().stream().map(MapSession.class::cast).map(SRASessions::map).
-                filter(Objects::nonNull).toList();
+        Collection<?> values = switch (cache().getNativeCache()) {
+            case com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine ->
+                caffeine.asMap().values();
+            case Map<?, ?> map ->
+                map.values();
+            default -> {
+                LOG.debug("Listing is not supported by the configured session store");
+                yield List.of();
+            }
+        };
+
+        return values.stream().map(SessionCodec::toSession).flatMap(Optional::stream).
+                map(SRASessions::map).filter(Objects::nonNull).toList();
     }
 
+    protected Stats stats() {
+        if (cache().getNativeCache() instanceof final com.github.benmanes.caffeine.cache.Cache<?, ?> caffeine) {
+            CacheStats stats = caffeine.stats();
+            return new Stats(caffeine.estimatedSize(), stats.hitCount(), stats.missCount(), stats.evictionCount());
+        }
+        return null;
+    }
+
+    /**
+     * Reads the session with given id, or the session store statistics when {@link #STATS} is given.
+     *
+     * @param id session id or {@link #STATS}
+     * @return session or statistics
+     */
     @ReadOperation
-    public AMSession read(@Selector final String id) {
-        Cache.ValueWrapper value = cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(id);
-        if (value == null || !(value.get() instanceof final MapSession mapSession)) {
-            return null;
+    public Object read(@Selector final String id) {
+        if (STATS.equals(id)) {
+            return stats();
         }
 
-        return map(mapSession);
+        return Optional.ofNullable(cache().get(id)).
+                flatMap(value -> SessionCodec.toSession(value.get())).
+                map(SRASessions::map).
+                orElse(null);
     }
 
     @DeleteOperation
     public void delete(@Selector final String id) {
-        cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evict(id);
+        cache().evict(id);
     }
 }
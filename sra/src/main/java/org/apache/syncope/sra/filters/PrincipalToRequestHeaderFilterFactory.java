@@ -22,6 +22,7 @@ import java.util.Objects;
 import java.util.Optional;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.syncope.sra.SessionConfig;
+import org.apache.syncope.sra.session.SessionCodec;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.CacheManager;
 import org.springframework.cloud.gateway.filter.GatewayFilter;
@@ -32,7 +33,6 @@ import org.springframework.security.oauth2.core.oidc.StandardClaimNames;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
-import org.springframework.session.Session;
 import reactor.core.publisher.Mono;
 
 public class PrincipalToRequestHeaderFilterFactory extends AbstractGatewayFilterFactory<NameConfig> {
@@ -48,7 +48,8 @@ public class PrincipalToRequestHeaderFilterFactory extends AbstractGatewayFilter
     public GatewayFilter apply(final NameConfig config) {
         return (exchange, chain) -> exchange.getSession().
                 flatMap(session -> Mono.justOrEmpty(Optional.ofNullable(
-                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(session.getId(), Session.class)).
+                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(session.getId())).
+                flatMap(value -> SessionCodec.toSession(value.get())).
                 map(cachedSession -> {
                     String principal = null;
 
@@ -18,43 +18,111 @@
  */
 package org.apache.syncope.sra.session;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.syncope.sra.SessionConfig;
-import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveSessionRepository;
 import reactor.core.publisher.Mono;
 
+/**
+ * Keeps sessions in the {@link SessionConfig#DEFAULT_CACHE} cache: as they are when such cache is local (Caffeine),
+ * or encoded via {@link SessionCodec} otherwise, e.g. with distributed backends.
+ * Distributed backends are expected to provide an {@link ExpiringCache}, so that each session entry is evicted once its
+ * maximum inactive interval has elapsed since last saved.
+ */
 public class CacheManagerReactiveSessionRepository implements ReactiveSessionRepository<MapSession> {
 
-    @Autowired
-    private CacheManager cacheManager;
+    protected static final Logger LOG = LoggerFactory.getLogger(CacheManagerReactiveSessionRepository.class);
+
+    protected static boolean isLocal(final Cache cache) {
+        return cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache;
+    }
+
+    protected final CacheManager cacheManager;
+
+    protected final SessionExpiry sessionExpiry;
+
+    protected final AtomicBoolean ttlUnsupportedWarned = new AtomicBoolean(false);
+
+    public CacheManagerReactiveSessionRepository(final CacheManager cacheManager, final SessionExpiry sessionExpiry) {
+        this.cacheManager = cacheManager;
+        this.sessionExpiry = sessionExpiry;
+    }
+
+    protected Cache cache() {
+        return cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+    }
 
     @Override
     public Mono<MapSession> createSession() {
-        return Mono.just(new MapSession());
+        return Mono.fromSupplier(() -> {
+            MapSession session = new MapSession();
+            session.setMaxInactiveInterval(sessionExpiry.getMaxIdleTime());
+            return session;
+        });
     }
 
     @Override
     public Mono<Void> save(final MapSession session) {
         return Mono.fromRunnable(() -> {
+            Cache cache = cache();
             if (!session.getId().equals(session.getOriginalId())) {
-                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evictIfPresent(session.getOriginalId());
+                cache.evictIfPresent(session.getOriginalId());
+            }
+            if (isLocal(cache)) {
+                cache.put(session.getId(), session);
+            } else {
+                put(cache, session);
             }
-            cacheManager.getCache(SessionConfig.DEFAULT_CACHE).put(session.getId(), session);
         });
     }
 
+    protected void put(final Cache cache, final MapSession session) {
+        if (cache instanceof final ExpiringCache expiringCache) {
+            // maximum inactive interval since last access, but no longer than the remaining lifetime
+            Duration ttl = sessionExpiry.remaining(session, Instant.now());
+            if (ttl.isZero()) {
+                cache.evictIfPresent(session.getId());
+            } else {
+                expiringCache.put(session.getId(), SessionCodec.encode(session), ttl);
+            }
+        } else {
+            if (ttlUnsupportedWarned.compareAndSet(false, true)) {
+                LOG.warn("Cache {} does not support per-entry expiration: abandoned sessions will not be evicted",
+                        cache.getName());
+            }
+            cache.put(session.getId(), SessionCodec.encode(session));
+        }
+    }
+
     @Override
     public Mono<MapSession> findById(final String id) {
-        return Mono.defer(() -> Mono.justOrEmpty(
-                cacheManager.getCache(SessionConfig.DEFAULT_CACHE).get(id, MapSession.class)).
-                map(MapSession::new).
-                switchIfEmpty(deleteById(id).then(Mono.empty())));
+        return Mono.defer(() -> {
+            Cache cache = cache();
+            Cache.ValueWrapper value = cache.get(id);
+            MapSession session = value == null ? null : SessionCodec.toSession(value.get()).orElse(null);
+            if (session == null) {
+                return Mono.empty();
+            }
+
+            // distributed backends might not enforce expiration as the local cache does
+            if (sessionExpiry.isExpired(session, Instant.now())) {
+                cache.evictIfPresent(id);
+                return Mono.empty();
+            }
+
+            return Mono.just(new MapSession(session));
+        });
     }
 
     @Override
     public Mono<Void> deleteById(final String id) {
-        return Mono.fromRunnable(() -> cacheManager.getCache(SessionConfig.DEFAULT_CACHE).evictIfPresent(id));
+        return Mono.fromRunnable(() -> cache().evictIfPresent(id));
     }
 }
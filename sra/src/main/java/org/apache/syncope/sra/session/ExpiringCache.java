@@ -0,0 +1,38 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.time.Duration;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} able to evict each entry after its own time to live, as distributed backends shall do in order to
+ * prevent abandoned sessions from piling up.
+ */
+public interface ExpiringCache extends Cache {
+
+    /**
+     * Associate the given value with the given key, for no longer than the given time to live.
+     *
+     * @param key key with which the given value is to be associated
+     * @param value value to be associated with the given key
+     * @param ttl time to live of the entry
+     */
+    void put(Object key, Object value, Duration ttl);
+}
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import org.springframework.session.MapSession;
+
+/**
+ * Compact binary form of sessions, used when these are not kept in the local memory: only id, timestamps and
+ * attributes are written, deflated.
+ */
+public final class SessionCodec {
+
+    /**
+     * Only the types expected as session attribute values, such as security contexts and the authentication
+     * tokens they hold, can be read back; anything else is rejected.
+     */
+    private static final ObjectInputFilter FILTER = ObjectInputFilter.Config.createFilter(
+            "maxdepth=32;"
+            + "java.lang.*;java.math.*;java.net.*;java.time.*;java.util.*;"
+            + "org.springframework.security.**;org.springframework.session.**;org.springframework.util.*;"
+            + "org.pac4j.**;org.apache.syncope.**;"
+            + "!*");
+
+    public static byte[] encode(final MapSession session) {
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(new DeflaterOutputStream(baos))) {
+            out.writeUTF(session.getId());
+            out.writeLong(session.getCreationTime().toEpochMilli());
+            out.writeLong(session.getLastAccessedTime().toEpochMilli());
+            out.writeLong(session.getMaxInactiveInterval().toSeconds());
+
+            out.writeInt(session.getAttributeNames().size());
+            for (String name : session.getAttributeNames()) {
+                out.writeUTF(name);
+                out.writeObject(session.getAttribute(name));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("While encoding session " + session.getId(), e);
+        }
+        return baos.toByteArray();
+    }
+
+    public static MapSession decode(final byte[] encoded) {
+        try (ObjectInputStream in = new ObjectInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(encoded)))) {
+
+            in.setObjectInputFilter(FILTER);
+
+            MapSession session = new MapSession(in.readUTF());
+            session.setCreationTime(Instant.ofEpochMilli(in.readLong()));
+            session.setLastAccessedTime(Instant.ofEpochMilli(in.readLong()));
+            session.setMaxInactiveInterval(Duration.ofSeconds(in.readLong()));
+
+            int attributes = in.readInt();
+            for (int i = 0; i < attributes; i++) {
+                session.setAttribute(in.readUTF(), in.readObject());
+            }
+            return session;
+        } catch (IOException e) {
+            throw new UncheckedIOException("While decoding session", e);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("While decoding session", e);
+        }
+    }
+
+    /**
+     * Reads the session out of the given cached value, either stored as-is or encoded.
+     *
+     * @param value cached value
+     * @return session, if the given value holds one
+     */
+    public static Optional<MapSession> toSession(final Object value) {
+        return switch (value) {
+            case MapSession session ->
+                Optional.of(session);
+            case byte[] encoded ->
+                Optional.of(decode(encoded));
+            case null, default ->
+                Optional.empty();
+        };
+    }
+
+    private SessionCodec() {
+        // private constructor for static utility class
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.time.Duration;
+import java.time.Instant;
+import org.springframework.session.MapSession;
+
+/**
+ * Expires sessions after the smaller of their idle timeout and their remaining absolute lifetime.
+ */
+public class SessionExpiry implements Expiry<Object, Object> {
+
+    protected final Duration maxIdleTime;
+
+    protected final Duration maxLifetime;
+
+    public SessionExpiry(final Duration maxIdleTime, final Duration maxLifetime) {
+        this.maxIdleTime = maxIdleTime;
+        this.maxLifetime = maxLifetime;
+    }
+
+    public Duration getMaxIdleTime() {
+        return maxIdleTime;
+    }
+
+    public Duration remaining(final MapSession session, final Instant now) {
+        Duration idleTime = session.getMaxInactiveInterval().isNegative()
+                || session.getMaxInactiveInterval().compareTo(maxIdleTime) > 0
+                ? maxIdleTime
+                : session.getMaxInactiveInterval();
+
+        Duration idleLeft = idleTime.minus(Duration.between(session.getLastAccessedTime(), now));
+        Duration lifetimeLeft = maxLifetime.minus(Duration.between(session.getCreationTime(), now));
+        Duration left = idleLeft.compareTo(lifetimeLeft) < 0 ? idleLeft : lifetimeLeft;
+        return left.isNegative() ? Duration.ZERO : left;
+    }
+
+    public boolean isExpired(final MapSession session, final Instant now) {
+        return remaining(session, now).isZero();
+    }
+
+    protected long remaining(final Object value) {
+        return value instanceof final MapSession session
+                ? remaining(session, Instant.now()).toNanos()
+                : maxIdleTime.toNanos();
+    }
+
+    @Override
+    public long expireAfterCreate(final Object key, final Object value, final long currentTime) {
+        return remaining(value);
+    }
+
+    @Override
+    public long expireAfterUpdate(
+            final Object key,
+            final Object value,
+            final long currentTime,
+            final long currentDuration) {
+
+        return remaining(value);
+    }
+
+    @Override
+    public long expireAfterRead(
+            final Object key,
+            final Object value,
+            final long currentTime,
+            final long currentDuration) {
+
+        return currentDuration;
+    }
+}
@@ -19,6 +19,7 @@
 package org.apache.syncope.sra;
 
 import javax.net.ssl.SSLException;
+import org.apache.syncope.sra.actuate.SRASessions;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.actuate.endpoint.ApiVersion;
@@ -52,6 +53,32 @@ public class ActuatorTest extends AbstractTest {
                 exchange().expectStatus().isOk();
     }
 
+    @Test
+    public void sessions() throws SSLException {
+        webClient.get().uri("/actuator/sraSessions").
+                exchange().expectStatus().isUnauthorized();
+
+        webClient.get().uri("/actuator/sraSessions").
+                header(HttpHeaders.AUTHORIZATION, basicAuthHeader()).
+                exchange().expectStatus().isOk();
+    }
+
+    @Test
+    public void sessionStats() throws SSLException {
+        webClient.get().uri("/actuator/sraSessions/" + SRASessions.STATS).
+                exchange().expectStatus().isUnauthorized();
+
+        webClient.get().uri("/actuator/sraSessions/" + SRASessions.STATS).
+                header(HttpHeaders.AUTHORIZATION, basicAuthHeader()).
+                exchange().
+                expectStatus().isOk().
+                expectBody().
+                jsonPath("$.size").isNumber().
+                jsonPath("$.hitCount").isNumber().
+                jsonPath("$.missCount").isNumber().
+                jsonPath("$.evictionCount").isNumber();
+    }
+
     @Test
     public void requests() throws SSLException {
         webClient.get().uri("/actuator/metrics/gateway.requests").
@@ -50,6 +50,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.support.SimpleValueWrapper;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
@@ -58,7 +59,6 @@ import org.springframework.security.oauth2.core.oidc.OidcIdToken;
 import org.springframework.security.oauth2.core.oidc.user.OidcUser;
 import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
 import org.springframework.session.MapSession;
-import org.springframework.session.Session;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.reactive.server.WebTestClient;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -608,7 +608,7 @@ public class RouteProviderTest extends AbstractTest {
                 new SecurityContextImpl(authentication));
 
         Cache cache = mock(Cache.class);
-        when(cache.get(anyString(), eq(Session.class))).thenReturn(session);
+        when(cache.get(anyString())).thenReturn(new SimpleValueWrapper(session));
 
         CacheManager cacheManager = mock(CacheManager.class);
         when(cacheManager.getCache(eq(SessionConfig.DEFAULT_CACHE))).thenReturn(cache);
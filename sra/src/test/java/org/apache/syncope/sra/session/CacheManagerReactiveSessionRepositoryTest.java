@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.syncope.sra.SessionConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.session.MapSession;
+
+public class CacheManagerReactiveSessionRepositoryTest {
+
+    private static final SessionExpiry EXPIRY = new SessionExpiry(Duration.ofMinutes(30), Duration.ofHours(8));
+
+    private static class TestExpiringCache extends ConcurrentMapCache implements ExpiringCache {
+
+        private final Map<Object, Duration> ttls = new ConcurrentHashMap<>();
+
+        TestExpiringCache() {
+            super(SessionConfig.DEFAULT_CACHE, false);
+        }
+
+        @Override
+        public void put(final Object key, final Object value, final Duration ttl) {
+            ttls.put(key, ttl);
+            put(key, value);
+        }
+    }
+
+    @Test
+    public void encodedWhenNotLocal() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(SessionConfig.DEFAULT_CACHE);
+        CacheManagerReactiveSessionRepository repository =
+                new CacheManagerReactiveSessionRepository(cacheManager, EXPIRY);
+
+        MapSession session = repository.createSession().block();
+        assertEquals(EXPIRY.getMaxIdleTime(), session.getMaxInactiveInterval());
+        session.setAttribute("attr", "value");
+        repository.save(session).block();
+
+        Cache cache = cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+        assertInstanceOf(byte[].class, cache.get(session.getId()).get());
+
+        MapSession found = repository.findById(session.getId()).block();
+        assertEquals(session.getId(), found.getId());
+        assertEquals("value", found.getAttribute("attr"));
+
+        repository.deleteById(session.getId()).block();
+        assertNull(repository.findById(session.getId()).block());
+    }
+
+    @Test
+    public void rejectExpiredOnRead() {
+        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(SessionConfig.DEFAULT_CACHE);
+        CacheManagerReactiveSessionRepository repository =
+                new CacheManagerReactiveSessionRepository(cacheManager, EXPIRY);
+
+        // idle for longer than allowed
+        MapSession idle = repository.createSession().block();
+        idle.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        repository.save(idle).block();
+
+        // active, but past the maximum lifetime
+        MapSession old = repository.createSession().block();
+        old.setCreationTime(Instant.now().minus(Duration.ofHours(9)));
+        old.setLastAccessedTime(Instant.now());
+        repository.save(old).block();
+
+        // the backend does not expire anything by itself
+        Cache cache = cacheManager.getCache(SessionConfig.DEFAULT_CACHE);
+        assertInstanceOf(byte[].class, cache.get(idle.getId()).get());
+        assertInstanceOf(byte[].class, cache.get(old.getId()).get());
+
+        assertNull(repository.findById(idle.getId()).block());
+        assertNull(repository.findById(old.getId()).block());
+
+        // expired sessions are also evicted
+        assertNull(cache.get(idle.getId()));
+        assertNull(cache.get(old.getId()));
+    }
+
+    @Test
+    public void expireWhenNotLocal() {
+        TestExpiringCache cache = new TestExpiringCache();
+        SimpleCacheManager cacheManager = new SimpleCacheManager();
+        cacheManager.setCaches(List.of(cache));
+        cacheManager.initializeCaches();
+        CacheManagerReactiveSessionRepository repository =
+                new CacheManagerReactiveSessionRepository(cacheManager, EXPIRY);
+
+        // just accessed: expires after the maximum inactive interval...
+        MapSession session = repository.createSession().block();
+        repository.save(session).block();
+        Duration ttl = cache.ttls.get(session.getId());
+        assertTrue(ttl.compareTo(EXPIRY.getMaxIdleTime()) <= 0);
+        assertTrue(ttl.compareTo(EXPIRY.getMaxIdleTime().minusMinutes(1)) > 0);
+
+        // ...unless the maximum lifetime comes first
+        MapSession old = repository.createSession().block();
+        old.setCreationTime(Instant.now().minus(Duration.ofHours(8)).plus(Duration.ofMinutes(10)));
+        repository.save(old).block();
+        assertTrue(cache.ttls.get(old.getId()).compareTo(Duration.ofMinutes(10)) <= 0);
+
+        // expired sessions are not stored at all
+        MapSession idle = repository.createSession().block();
+        idle.setLastAccessedTime(Instant.now().minus(Duration.ofHours(1)));
+        repository.save(idle).block();
+        assertNull(cache.get(idle.getId()));
+        assertNull(cache.ttls.get(idle.getId()));
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.awt.Point;
+import java.io.InvalidClassException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.web.server.context.WebSessionServerSecurityContextRepository;
+import org.springframework.session.MapSession;
+
+public class SessionCodecTest {
+
+    @Test
+    public void roundTrip() {
+        MapSession session = new MapSession();
+        session.setCreationTime(Instant.now().minus(10, ChronoUnit.MINUTES).truncatedTo(ChronoUnit.MILLIS));
+        session.setLastAccessedTime(Instant.now().truncatedTo(ChronoUnit.MILLIS));
+        session.setMaxInactiveInterval(Duration.ofMinutes(30));
+        session.setAttribute(
+                WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME,
+                new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(
+                        "user", null, List.of(new SimpleGrantedAuthority("ROLE_USER")))));
+        session.setAttribute(SessionUtils.INITIAL_REQUEST_URI, URI.create("https://syncope.apache.org/"));
+
+        MapSession decoded = SessionCodec.decode(SessionCodec.encode(session));
+
+        assertEquals(session.getId(), decoded.getId());
+        assertEquals(session.getCreationTime(), decoded.getCreationTime());
+        assertEquals(session.getLastAccessedTime(), decoded.getLastAccessedTime());
+        assertEquals(session.getMaxInactiveInterval(), decoded.getMaxInactiveInterval());
+        assertEquals(session.getAttributeNames(), decoded.getAttributeNames());
+
+        SecurityContext ctx = decoded.getAttribute(
+                WebSessionServerSecurityContextRepository.DEFAULT_SPRING_SECURITY_CONTEXT_ATTR_NAME);
+        assertEquals("user", ctx.getAuthentication().getName());
+        assertTrue(ctx.getAuthentication().isAuthenticated());
+        assertEquals(
+                URI.create("https://syncope.apache.org/"),
+                decoded.getAttribute(SessionUtils.INITIAL_REQUEST_URI));
+
+        assertEquals(session.getId(), SessionCodec.toSession(SessionCodec.encode(session)).orElseThrow().getId());
+        assertTrue(SessionCodec.toSession("not a session").isEmpty());
+    }
+
+    @Test
+    public void rejectUnexpectedType() {
+        MapSession session = new MapSession();
+        // serializable, but not expected among session attributes
+        session.setAttribute("unexpected", new Point(1, 2));
+
+        byte[] encoded = SessionCodec.encode(session);
+
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> SessionCodec.decode(encoded));
+        assertInstanceOf(InvalidClassException.class, e.getCause());
+    }
+}
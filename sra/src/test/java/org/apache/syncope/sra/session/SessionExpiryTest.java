@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.sra.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+import org.springframework.session.MapSession;
+
+public class SessionExpiryTest {
+
+    private static final SessionExpiry EXPIRY = new SessionExpiry(Duration.ofMinutes(30), Duration.ofHours(8));
+
+    private static MapSession session(final Instant creation, final Instant lastAccess, final Duration maxIdle) {
+        MapSession session = new MapSession();
+        session.setCreationTime(creation);
+        session.setLastAccessedTime(lastAccess);
+        session.setMaxInactiveInterval(maxIdle);
+        return session;
+    }
+
+    @Test
+    public void idleTimeoutWhenSmaller() {
+        Instant now = Instant.now();
+        MapSession session = session(now.minus(Duration.ofHours(1)), now.minus(Duration.ofMinutes(10)),
+                Duration.ofMinutes(30));
+
+        assertEquals(Duration.ofMinutes(20), EXPIRY.remaining(session, now));
+        assertFalse(EXPIRY.isExpired(session, now));
+        assertTrue(EXPIRY.isExpired(session, now.plus(Duration.ofMinutes(20))));
+    }
+
+    @Test
+    public void lifetimeWhenSmaller() {
+        Instant now = Instant.now();
+        MapSession session = session(now.minus(Duration.ofHours(8)).plus(Duration.ofMinutes(5)), now,
+                Duration.ofMinutes(30));
+
+        assertEquals(Duration.ofMinutes(5), EXPIRY.remaining(session, now));
+        assertTrue(EXPIRY.isExpired(session, now.plus(Duration.ofMinutes(5))));
+    }
+
+    @Test
+    public void idleTimeoutBoundedByMaxIdleTime() {
+        Instant now = Instant.now();
+
+        // longer or negative (never expiring) session timeouts are capped to the configured idle time
+        assertEquals(
+                Duration.ofMinutes(30),
+                EXPIRY.remaining(session(now, now, Duration.ofHours(2)), now));
+        assertEquals(
+                Duration.ofMinutes(30),
+                EXPIRY.remaining(session(now, now, Duration.ofSeconds(-1)), now));
+
+        // shorter session timeouts are honored
+        assertEquals(
+                Duration.ofMinutes(5),
+                EXPIRY.remaining(session(now, now, Duration.ofMinutes(5)), now));
+    }
+
+    @Test
+    public void neverNegative() {
+        Instant now = Instant.now();
+        MapSession session = session(now.minus(Duration.ofDays(1)), now.minus(Duration.ofDays(1)),
+                Duration.ofMinutes(30));
+
+        assertEquals(Duration.ZERO, EXPIRY.remaining(session, now));
+        assertTrue(EXPIRY.isExpired(session, now));
+    }
+}
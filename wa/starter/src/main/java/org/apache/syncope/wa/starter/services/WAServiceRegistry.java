@@ -20,7 +20,9 @@ package org.apache.syncope.wa.starter.services;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import org.apache.syncope.common.lib.types.ClientAppType;
 import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
 import org.apache.syncope.wa.bootstrap.WARestClient;
@@ -34,14 +36,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ConfigurableApplicationContext;
 
+/**
+ * Serves registered services from a local index by id and name, rebuilt at every {@link #load()} - either
+ * scheduled or triggered by Core when client applications change; services not found in the index are read from
+ * Core and added.
+ */
 public class WAServiceRegistry extends AbstractServiceRegistry {
 
     private static final Logger LOG = LoggerFactory.getLogger(WAServiceRegistry.class);
 
+    protected record Index(Map<Long, RegisteredService> byId, Map<String, RegisteredService> byName) {
+
+        Index() {
+            this(new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+
+        RegisteredService add(final RegisteredService service) {
+            if (service != null) {
+                byId.put(service.getId(), service);
+                if (service.getName() != null) {
+                    byName.put(service.getName(), service);
+                }
+            }
+            return service;
+        }
+    }
+
     protected final WARestClient waRestClient;
 
     protected final RegisteredServiceMapper registeredServiceMapper;
 
+    protected volatile Index index = new Index();
+
     public WAServiceRegistry(
             final WARestClient restClient,
             final RegisteredServiceMapper registeredServiceMapper,
@@ -76,27 +102,41 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
         }
 
         LOG.info("Loading application definitions");
-        return waRestClient.getService(WAClientAppService.class).list().stream().
+        Index loaded = new Index();
+        List<RegisteredService> services = waRestClient.getService(WAClientAppService.class).list().stream().
                 map(registeredServiceMapper::toRegisteredService).
                 filter(Objects::nonNull).
+                map(loaded::add).
                 toList();
+        index = loaded;
+        return services;
     }
 
     @Override
     public RegisteredService findServiceById(final long id) {
+        RegisteredService cached = index.byId().get(id);
+        if (cached != null) {
+            return cached;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
         LOG.info("Searching for application definition by id {}", id);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, null));
+        return index.add(registeredServiceMapper.toRegisteredService(
+                waRestClient.getService(WAClientAppService.class).read(id, null)));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceById(final long id, final Class<T> clazz) {
+        RegisteredService cached = index.byId().get(id);
+        if (clazz.isInstance(cached)) {
+            return clazz.cast(cached);
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
@@ -104,20 +144,25 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
 
         LOG.info("Searching for application definition by id {} and type {}", id, clazz);
         if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP));
+            return (T) index.add(registeredServiceMapper.toRegisteredService(
+                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.OIDCRP)));
         }
         if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(
-                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP));
+            return (T) index.add(registeredServiceMapper.toRegisteredService(
+                    waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.SAML2SP)));
         }
-        return (T) registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP));
+        return (T) index.add(registeredServiceMapper.toRegisteredService(
+                waRestClient.getService(WAClientAppService.class).read(id, ClientAppType.CASSP)));
     }
 
     @SuppressWarnings("unchecked")
     @Override
     public <T extends RegisteredService> T findServiceByExactServiceName(final String name, final Class<T> clazz) {
+        RegisteredService cached = index.byName().get(name);
+        if (clazz.isInstance(cached)) {
+            return clazz.cast(cached);
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
@@ -125,26 +170,31 @@ public class WAServiceRegistry extends AbstractServiceRegistry {
 
         LOG.info("Searching for application definition by name {} and type {}", name, clazz);
         if (clazz.isInstance(OidcRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP));
+            return (T) index.add(registeredServiceMapper.toRegisteredService(waRestClient.
+                    getService(WAClientAppService.class).read(name, ClientAppType.OIDCRP)));
         }
         if (clazz.isInstance(SamlRegisteredService.class)) {
-            return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP));
+            return (T) index.add(registeredServiceMapper.toRegisteredService(waRestClient.
+                    getService(WAClientAppService.class).read(name, ClientAppType.SAML2SP)));
         }
-        return (T) registeredServiceMapper.toRegisteredService(waRestClient.
-                getService(WAClientAppService.class).read(name, ClientAppType.CASSP));
+        return (T) index.add(registeredServiceMapper.toRegisteredService(waRestClient.
+                getService(WAClientAppService.class).read(name, ClientAppType.CASSP)));
     }
 
     @Override
     public RegisteredService findServiceByExactServiceName(final String name) {
+        RegisteredService cached = index.byName().get(name);
+        if (cached != null) {
+            return cached;
+        }
+
         if (!waRestClient.isReady()) {
             LOG.debug("Syncope client is not yet ready to fetch application definitions");
             return null;
         }
 
         LOG.info("Searching for application definition by name {}", name);
-        return registeredServiceMapper.toRegisteredService(
-                waRestClient.getService(WAClientAppService.class).read(name, null));
+        return index.add(registeredServiceMapper.toRegisteredService(
+                waRestClient.getService(WAClientAppService.class).read(name, null)));
     }
 }
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.syncope.wa.starter.services;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.apache.syncope.common.lib.wa.WAClientApp;
+import org.apache.syncope.common.rest.api.service.wa.WAClientAppService;
+import org.apache.syncope.wa.bootstrap.WARestClient;
+import org.apache.syncope.wa.starter.mapping.RegisteredServiceMapper;
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.RegisteredService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+public class WAServiceRegistryIndexTest {
+
+    private static RegisteredService registeredService(final long id, final String name) {
+        CasRegisteredService service = new CasRegisteredService();
+        service.setId(id);
+        service.setName(name);
+        service.setServiceId("https://" + name + ".syncope.org");
+        return service;
+    }
+
+    private final WAClientApp app1 = new WAClientApp();
+
+    private final WAClientApp app2 = new WAClientApp();
+
+    private final RegisteredService service1 = registeredService(1L, "one");
+
+    private final RegisteredService service2 = registeredService(2L, "two");
+
+    private WAClientAppService clientAppService;
+
+    private WAServiceRegistry registry;
+
+    @BeforeEach
+    public void setUp() {
+        clientAppService = mock(WAClientAppService.class);
+
+        WARestClient waRestClient = mock(WARestClient.class);
+        when(waRestClient.isReady()).thenReturn(true);
+        when(waRestClient.getService(WAClientAppService.class)).thenReturn(clientAppService);
+
+        RegisteredServiceMapper mapper = mock(RegisteredServiceMapper.class);
+        when(mapper.toRegisteredService(app1)).thenReturn(service1);
+        when(mapper.toRegisteredService(app2)).thenReturn(service2);
+
+        registry = new WAServiceRegistry(waRestClient, mapper, mock(ConfigurableApplicationContext.class), List.of());
+    }
+
+    @Test
+    public void hit() {
+        when(clientAppService.list()).thenReturn(List.of(app1));
+        assertEquals(List.of(service1), registry.load());
+
+        assertSame(service1, registry.findServiceById(1L));
+        assertSame(service1, registry.findServiceByExactServiceName("one"));
+        assertSame(service1, registry.findServiceById(1L, CasRegisteredService.class));
+        assertSame(service1, registry.findServiceByExactServiceName("one", CasRegisteredService.class));
+
+        // all served from the index
+        verify(clientAppService, never()).read(anyLong(), any());
+        verify(clientAppService, never()).read(anyString(), any());
+    }
+
+    @Test
+    public void missThenAdd() {
+        when(clientAppService.list()).thenReturn(List.of(app1));
+        registry.load();
+
+        when(clientAppService.read(2L, null)).thenReturn(app2);
+
+        // not in the index: read from Core, then added
+        assertSame(service2, registry.findServiceById(2L));
+        verify(clientAppService).read(2L, null);
+
+        // now served from the index, both by id and by name
+        assertSame(service2, registry.findServiceById(2L));
+        assertSame(service2, registry.findServiceByExactServiceName("two"));
+        verify(clientAppService, times(1)).read(2L, null);
+        verify(clientAppService, never()).read(anyString(), any());
+    }
+
+    @Test
+    public void loadSwapsIndex() {
+        when(clientAppService.list()).thenReturn(List.of(app1));
+        registry.load();
+        assertSame(service1, registry.findServiceById(1L));
+
+        // client app 1 removed and client app 2 added on Core
+        when(clientAppService.list()).thenReturn(List.of(app2));
+        assertEquals(List.of(service2), registry.load());
+
+        assertSame(service2, registry.findServiceById(2L));
+        assertSame(service2, registry.findServiceByExactServiceName("two"));
+        verify(clientAppService, never()).read(anyLong(), any());
+
+        // client app 1 is no longer in the index, and no longer on Core
+        assertNull(registry.findServiceById(1L));
+        assertNull(registry.findServiceByExactServiceName("one"));
+        verify(clientAppService).read(1L, null);
+        verify(clientAppService).read("one", null);
+    }
+}